@@ -0,0 +1,56 @@
+package com.theairebellion.zeus.api.allure;
+
+import com.theairebellion.zeus.api.service.AsyncContextPropagator;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.util.ResultsUtils;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports asynchronous requests in the Allure step of the calling test.
+ *
+ * <p>Allure tracks the current test and step per thread, so steps and attachments created on the worker
+ * thread of an asynchronous request would otherwise be lost or end up in another test. The request runs
+ * in a step nested under the step that was current when the request was issued.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@Component
+public class AllureAsyncContextPropagator implements AsyncContextPropagator {
+
+   private static final String STEP_NAME = "Asynchronous request";
+
+
+   @Override
+   public <T> Supplier<T> propagate(Supplier<T> request) {
+      AllureLifecycle lifecycle = Allure.getLifecycle();
+      Optional<String> parent = lifecycle.getCurrentTestCaseOrStep();
+      if (parent.isEmpty()) {
+         return request;
+      }
+
+      String parentUuid = parent.get();
+      return () -> {
+         String uuid = UUID.randomUUID().toString();
+         lifecycle.startStep(parentUuid, uuid, new StepResult().setName(STEP_NAME));
+         try {
+            T result = request.get();
+            lifecycle.updateStep(uuid, step -> step.setStatus(Status.PASSED));
+            return result;
+         } catch (RuntimeException | Error e) {
+            lifecycle.updateStep(uuid, step -> step
+                  .setStatus(ResultsUtils.getStatus(e).orElse(Status.BROKEN))
+                  .setStatusDetails(ResultsUtils.getStatusDetails(e).orElse(null)));
+            throw e;
+         } finally {
+            lifecycle.stopStep(uuid);
+         }
+      };
+   }
+
+}
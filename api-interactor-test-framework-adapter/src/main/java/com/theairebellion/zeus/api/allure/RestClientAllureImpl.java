@@ -1,8 +1,11 @@
 package com.theairebellion.zeus.api.allure;
 
+import com.theairebellion.zeus.api.client.BodyFormatter;
 import com.theairebellion.zeus.api.client.RestClientImpl;
+import com.theairebellion.zeus.api.client.StreamedResponse;
 import io.qameta.allure.Allure;
 import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
 import org.springframework.stereotype.Component;
 
 /**
@@ -25,6 +28,8 @@ public class RestClientAllureImpl extends RestClientImpl {
    private static final String ATTACHMENT_STATUS_CODE = "Status Code";
    private static final String ATTACHMENT_RESPONSE_HEADERS = "Response Headers";
    private static final String ATTACHMENT_RESPONSE_BODY = "Response Body";
+   private static final String ATTACHMENT_RESPONSE_BODY_SIZE = "Response Body Size (bytes)";
+   private static final String ATTACHMENT_RESPONSE_BODY_SHA256 = "Response Body SHA-256";
    private static final int MAX_BODY_LENGTH = 10_000;
 
    /**
@@ -42,6 +47,24 @@ public class RestClientAllureImpl extends RestClientImpl {
       logRequestDetails(methodName, finalUrl, headers, body);
    }
 
+   /**
+    * Logs API request details and attaches them to Allure reports.
+    *
+    * <p>Headers and body are attached whether or not extended logging is enabled; the body is formatted up to
+    * the attachment limit rather than the log limit.
+    *
+    * @param methodName The HTTP method used for the request.
+    * @param finalUrl   The request URL.
+    * @param spec       The request specification.
+    */
+   @Override
+   protected void printRequest(final String methodName, final String finalUrl,
+                               final FilterableRequestSpecification spec) {
+      super.printRequest(methodName, finalUrl, requestBodyForLog(spec), requestHeadersForLog(spec));
+      logRequestDetails(methodName, finalUrl, requestHeaders(spec),
+            BodyFormatter.format(requestBody(spec), MAX_BODY_LENGTH));
+   }
+
    /**
     * Logs API response details and attaches them to Allure reports.
     *
@@ -57,6 +80,26 @@ public class RestClientAllureImpl extends RestClientImpl {
       logResponseDetails(methodName, finalUrl, response, duration);
    }
 
+   /**
+    * Logs size, digest and head of a streamed response body and attaches them to Allure reports.
+    *
+    * @param methodName The HTTP method used for the request.
+    * @param finalUrl   The request URL.
+    * @param streamed   The streamed response.
+    */
+   @Override
+   protected void printStreamedBody(final String methodName, final String finalUrl,
+                                    final StreamedResponse streamed) {
+      super.printStreamedBody(methodName, finalUrl, streamed);
+      Allure.step(String.format("Streamed response body of %d bytes from %s-%s.", streamed.size(), methodName,
+            finalUrl), () -> {
+               addAttachmentIfPresent(ATTACHMENT_RESPONSE_BODY_SIZE, String.valueOf(streamed.size()));
+               addAttachmentIfPresent(ATTACHMENT_RESPONSE_BODY_SHA256, streamed.sha256());
+               addAttachmentIfPresent(ATTACHMENT_RESPONSE_BODY,
+                     BodyFormatter.format(streamed.head(), MAX_BODY_LENGTH));
+            });
+   }
+
    /**
     * Logs request details as Allure attachments.
     *
@@ -101,10 +144,12 @@ public class RestClientAllureImpl extends RestClientImpl {
          String headers = response.getHeaders() != null ? response.getHeaders().toString() : "";
          addAttachmentIfPresent(ATTACHMENT_RESPONSE_HEADERS, headers);
 
-         // Safely handle null body
+         // Safely handle null body; large and streamed bodies are left unread
          String body = "";
-         if (response.getBody() != null) {
-            body = response.getBody().prettyPrint();
+         if (!isBodyLogged(response)) {
+            body = "<not read, streamed to the caller>";
+         } else if (response.getBody() != null) {
+            body = BodyFormatter.format(response.getBody().asString(), MAX_BODY_LENGTH);
          }
          addAttachmentIfPresent(ATTACHMENT_RESPONSE_BODY, body);
       });
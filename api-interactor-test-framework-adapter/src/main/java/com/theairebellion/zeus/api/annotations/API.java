@@ -1,6 +1,7 @@
 package com.theairebellion.zeus.api.annotations;
 
 import com.theairebellion.zeus.api.extensions.ApiHookExtension;
+import com.theairebellion.zeus.api.extensions.ApiLatencyReportExtension;
 import com.theairebellion.zeus.api.extensions.ApiTestExtension;
 import com.theairebellion.zeus.framework.annotation.FrameworkAdapter;
 import java.lang.annotation.ElementType;
@@ -25,7 +26,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 @Retention(RetentionPolicy.RUNTIME)
 @Target({ElementType.TYPE})
 @FrameworkAdapter(basePackages = {"com.theairebellion.zeus.api"})
-@ExtendWith({ApiTestExtension.class, ApiHookExtension.class})
+@ExtendWith({ApiTestExtension.class, ApiHookExtension.class, ApiLatencyReportExtension.class})
 @SuppressWarnings("checkstyle:AbbreviationAsWordInName")
 public @interface API {
 
@@ -3,6 +3,7 @@ package com.theairebellion.zeus.api.config;
 import com.theairebellion.zeus.api.allure.RestClientAllureImpl;
 import com.theairebellion.zeus.api.allure.RestResponseValidatorAllureImpl;
 import com.theairebellion.zeus.api.client.RestClient;
+import com.theairebellion.zeus.api.client.replay.RecordReplayRestClient;
 import com.theairebellion.zeus.api.validator.RestResponseValidator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
@@ -24,13 +25,16 @@ public class ApiTestFrameworkAutoConfiguration {
    /**
     * Provides a primary bean for REST API interactions.
     *
+    * <p>When {@code api.replay.mode} is {@code RECORD} or {@code REPLAY}, the client is decorated with a
+    * {@link RecordReplayRestClient}.
+    *
     * @param restClientAllure The Allure-integrated REST client.
     * @return The configured {@link RestClient}.
     */
    @Bean
    @Primary
    public RestClient restClient(RestClientAllureImpl restClientAllure) {
-      return restClientAllure;
+      return RecordReplayRestClient.decorate(restClientAllure);
    }
 
    /**
@@ -3,6 +3,7 @@ package com.theairebellion.zeus.api.extensions;
 import com.theairebellion.zeus.api.allure.RestClientAllureImpl;
 import com.theairebellion.zeus.api.allure.RestResponseValidatorAllureImpl;
 import com.theairebellion.zeus.api.annotations.ApiHook;
+import com.theairebellion.zeus.api.client.replay.RecordReplayRestClient;
 import com.theairebellion.zeus.api.hooks.ApiHookFlow;
 import com.theairebellion.zeus.api.service.RestService;
 import com.theairebellion.zeus.framework.exceptions.HookExecutionException;
@@ -118,7 +119,8 @@ public class ApiHookExtension implements BeforeAllCallback, AfterAllCallback {
    @SuppressWarnings("checkstyle:JavadocParagraph")
    private RestService restService() {
       if (restService == null) {
-         restService = new RestService(new RestClientAllureImpl(), new RestResponseValidatorAllureImpl());
+         restService = new RestService(RecordReplayRestClient.decorate(new RestClientAllureImpl()),
+               new RestResponseValidatorAllureImpl());
       }
       return restService;
    }
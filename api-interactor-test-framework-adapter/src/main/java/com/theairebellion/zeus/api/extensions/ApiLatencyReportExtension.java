@@ -0,0 +1,48 @@
+package com.theairebellion.zeus.api.extensions;
+
+import com.theairebellion.zeus.api.metrics.EndpointLatencies;
+import java.nio.file.Path;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import static com.theairebellion.zeus.api.config.ApiConfigHolder.getApiConfig;
+
+/**
+ * Writes the per-endpoint latency report once the whole test run has finished.
+ *
+ * <p>The first API test class registers a resource in the root extension context, which JUnit closes after
+ * the last test of the run. The report is written to {@code api.latency.report.file}, by default into the
+ * {@code allure-results} directory so that it is published together with the Allure results.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public class ApiLatencyReportExtension implements BeforeAllCallback {
+
+   /**
+    * Registers the latency report for the end of the run, once per run.
+    *
+    * @param context The test class context.
+    */
+   @Override
+   public void beforeAll(final ExtensionContext context) {
+      context.getRoot().getStore(ExtensionContext.Namespace.GLOBAL)
+            .getOrComputeIfAbsent(LatencyReport.class, key -> new LatencyReport(), LatencyReport.class);
+   }
+
+
+   /**
+    * Root store resource that writes the report when the run is closed.
+    */
+   static final class LatencyReport implements ExtensionContext.Store.CloseableResource {
+
+      @Override
+      public void close() {
+         String file = getApiConfig().latencyReportFile();
+         if (file != null && !file.isBlank()) {
+            EndpointLatencies.writeReport(Path.of(file));
+         }
+      }
+
+   }
+
+}
@@ -1,6 +1,7 @@
 package com.theairebellion.zeus.api.hooks;
 
 import com.theairebellion.zeus.api.service.RestService;
+import com.theairebellion.zeus.util.reflections.index.IndexedType;
 import java.util.Map;
 import org.apache.logging.log4j.util.TriConsumer;
 
@@ -19,6 +20,7 @@ import org.apache.logging.log4j.util.TriConsumer;
  * @author Cyborg Code Syndicate 💍👨💻
  */
 @SuppressWarnings("java:S1452")
+@IndexedType
 public interface ApiHookFlow<T extends Enum<T>> {
 
    /**
@@ -7,12 +7,14 @@ import com.theairebellion.zeus.framework.annotation.TestService;
 import com.theairebellion.zeus.framework.base.ClassLevelHook;
 import com.theairebellion.zeus.framework.chain.FluentService;
 import com.theairebellion.zeus.framework.retry.RetryCondition;
+import com.theairebellion.zeus.util.reflections.BackoffStrategy;
 import com.theairebellion.zeus.validator.core.Assertion;
 import com.theairebellion.zeus.validator.core.AssertionResult;
 import io.qameta.allure.Step;
 import io.restassured.response.Response;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletionException;
 import java.util.function.Consumer;
 import org.assertj.core.api.SoftAssertions;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -68,6 +70,31 @@ public class RestServiceFluent extends FluentService implements ClassLevelHook {
       return this;
    }
 
+   /**
+    * Executes independent requests to the specified endpoints in parallel.
+    *
+    * <p>The responses are stored once all requests have finished, in the order of the endpoints,
+    * regardless of the order in which they completed.
+    *
+    * @param endpoints The API endpoints.
+    * @return The current {@code RestServiceFluent} instance for method chaining.
+    */
+   public RestServiceFluent requestAll(final List<? extends Endpoint<?>> endpoints) {
+      final List<Response> responses;
+      try {
+         responses = restService.requestAll(endpoints).join();
+      } catch (CompletionException e) {
+         if (e.getCause() instanceof RuntimeException cause) {
+            throw cause;
+         }
+         throw e;
+      }
+      for (int i = 0; i < endpoints.size(); i++) {
+         quest.getStorage().sub(API).put(endpoints.get(i).enumImpl(), responses.get(i));
+      }
+      return this;
+   }
+
    /**
     * Validates an API response against provided assertions.
     *
@@ -171,4 +198,31 @@ public class RestServiceFluent extends FluentService implements ClassLevelHook {
       return (RestServiceFluent) super.retryUntil(retryCondition, maxWait, retryInterval, restService);
    }
 
+   /**
+    * Retries an API operation until the specified condition is met, pacing attempts with a backoff strategy.
+    *
+    * @param retryCondition The retry condition to evaluate.
+    * @param maxWait        The maximum duration to wait.
+    * @param backoff        The strategy determining the delay between attempts.
+    * @param <T>            The type used in the retry condition.
+    * @return The current {@code RestServiceFluent} instance for method chaining.
+    */
+   public <T> RestServiceFluent retryUntil(final RetryCondition<T> retryCondition, final Duration maxWait,
+         final BackoffStrategy backoff) {
+      return (RestServiceFluent) super.retryUntil(retryCondition, maxWait, backoff, restService);
+   }
+
+   /**
+    * Polls several independent retry conditions concurrently until all of them are met.
+    *
+    * @param retryConditions The retry conditions to evaluate.
+    * @param maxWait         The maximum duration to wait for each condition.
+    * @param backoff         The strategy determining the delay between attempts.
+    * @return The current {@code RestServiceFluent} instance for method chaining.
+    */
+   public RestServiceFluent retryUntilAll(final List<? extends RetryCondition<?>> retryConditions,
+         final Duration maxWait, final BackoffStrategy backoff) {
+      return (RestServiceFluent) super.retryUntilAll(retryConditions, maxWait, backoff, restService);
+   }
+
 }
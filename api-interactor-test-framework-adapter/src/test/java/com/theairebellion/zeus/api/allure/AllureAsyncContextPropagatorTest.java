@@ -0,0 +1,92 @@
+package com.theairebellion.zeus.api.allure;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.StepResult;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("AllureAsyncContextPropagator Tests")
+class AllureAsyncContextPropagatorTest {
+
+   private static final String PARENT_UUID = "parent-step";
+
+   private final AllureAsyncContextPropagator propagator = new AllureAsyncContextPropagator();
+
+   @Test
+   @DisplayName("Request on another thread should run in a step under the caller's current step")
+   void shouldRunRequestInStepUnderCallerStep() {
+      AllureLifecycle lifecycle = mock(AllureLifecycle.class);
+      when(lifecycle.getCurrentTestCaseOrStep()).thenReturn(Optional.of(PARENT_UUID));
+
+      try (MockedStatic<Allure> allure = mockStatic(Allure.class)) {
+         // Given
+         allure.when(Allure::getLifecycle).thenReturn(lifecycle);
+         Supplier<String> request = propagator.propagate(() -> "response");
+
+         // When
+         String result = CompletableFuture.supplyAsync(request).join();
+
+         // Then
+         ArgumentCaptor<String> uuid = ArgumentCaptor.forClass(String.class);
+         assertEquals("response", result);
+         verify(lifecycle).startStep(eq(PARENT_UUID), uuid.capture(), any(StepResult.class));
+         verify(lifecycle).stopStep(uuid.getValue());
+      }
+   }
+
+   @Test
+   @DisplayName("Failed request should still close its step")
+   void shouldStopStepWhenRequestFails() {
+      AllureLifecycle lifecycle = mock(AllureLifecycle.class);
+      when(lifecycle.getCurrentTestCaseOrStep()).thenReturn(Optional.of(PARENT_UUID));
+
+      try (MockedStatic<Allure> allure = mockStatic(Allure.class)) {
+         // Given
+         allure.when(Allure::getLifecycle).thenReturn(lifecycle);
+         Supplier<String> request = propagator.propagate(() -> {
+            throw new IllegalStateException("failed");
+         });
+
+         // When / Then
+         ArgumentCaptor<String> uuid = ArgumentCaptor.forClass(String.class);
+         assertThrows(IllegalStateException.class, request::get);
+         verify(lifecycle).startStep(eq(PARENT_UUID), uuid.capture(), any(StepResult.class));
+         verify(lifecycle).stopStep(uuid.getValue());
+      }
+   }
+
+   @Test
+   @DisplayName("Request outside a test should run unchanged")
+   void shouldNotWrapWithoutAllureContext() {
+      AllureLifecycle lifecycle = mock(AllureLifecycle.class);
+      when(lifecycle.getCurrentTestCaseOrStep()).thenReturn(Optional.empty());
+
+      try (MockedStatic<Allure> allure = mockStatic(Allure.class)) {
+         // Given
+         allure.when(Allure::getLifecycle).thenReturn(lifecycle);
+         Supplier<String> request = () -> "response";
+
+         // When / Then
+         assertSame(request, propagator.propagate(request));
+         verify(lifecycle, never()).startStep(any(), any(), any());
+      }
+   }
+
+}
@@ -1,9 +1,15 @@
 package com.theairebellion.zeus.api.allure;
 
+import com.theairebellion.zeus.api.client.StreamedResponse;
+import com.theairebellion.zeus.api.config.ApiConfig;
+import com.theairebellion.zeus.api.config.ApiConfigHolder;
+import com.theairebellion.zeus.logging.LogCore;
 import io.qameta.allure.Allure;
+import io.restassured.http.Header;
 import io.restassured.http.Headers;
 import io.restassured.response.Response;
 import io.restassured.response.ResponseBody;
+import io.restassured.specification.FilterableRequestSpecification;
 import java.util.Collections;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,11 +29,14 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -57,7 +66,7 @@ class RestClientAllureImplTest {
       restClientAllure = new RestClientAllureImpl();
 
       // Setup response mock - keep these minimal, just what's needed
-      when(mockBody.prettyPrint()).thenReturn(SAMPLE_BODY_JSON);
+      when(mockBody.asString()).thenReturn(SAMPLE_BODY_JSON);
       when(mockResponse.getBody()).thenReturn(mockBody);
       when(mockResponse.getHeaders()).thenReturn(new Headers(Collections.emptyList()));
       when(mockResponse.getStatusCode()).thenReturn(STATUS_CODE);
@@ -84,6 +93,33 @@ class RestClientAllureImplTest {
          }
       }
 
+      @Test
+      @DisplayName("printRequest should attach headers and body while extended logging is off")
+      void printRequestShouldAttachHeadersAndBodyWithoutExtendedLogging() {
+         // Arrange
+         Headers headers = new Headers(new Header("X-Header", "val"));
+         FilterableRequestSpecification spec = mock(FilterableRequestSpecification.class);
+         when(spec.getBody()).thenReturn(SAMPLE_BODY);
+         when(spec.getHeaders()).thenReturn(headers);
+
+         try (MockedStatic<LogCore> logCore = mockStatic(LogCore.class);
+              MockedStatic<Allure> mockedAllure = mockStatic(Allure.class)) {
+            logCore.when(LogCore::isExtendedEnabled).thenReturn(false);
+            mockedAllure.when(() -> Allure.step(anyString(), any(Allure.ThrowableRunnableVoid.class)))
+                  .thenAnswer(invocation -> {
+                     invocation.<Allure.ThrowableRunnableVoid>getArgument(1).run();
+                     return null;
+                  });
+
+            // Act
+            restClientAllure.printRequest(GET_METHOD, SAMPLE_URL, spec);
+
+            // Assert
+            mockedAllure.verify(() -> Allure.addAttachment("Headers", headers.toString()));
+            mockedAllure.verify(() -> Allure.addAttachment(eq("Request Body"), contains("\"key\": \"value\"")));
+         }
+      }
+
       @ParameterizedTest
       @NullAndEmptySource
       @ValueSource(strings = {"   "})
@@ -178,6 +214,67 @@ class RestClientAllureImplTest {
             );
          }
       }
+
+      @Test
+      @DisplayName("printResponse should not read a body above the streaming threshold")
+      void printResponseShouldNotReadLargeBody() {
+         // Arrange
+         doReturn(mockBody).when(mockResponse).body();
+         when(mockResponse.getHeader("Content-Length")).thenReturn("2048");
+         ApiConfig config = mock(ApiConfig.class);
+         when(config.responseStreamThresholdBytes()).thenReturn(1024L);
+         when(config.logFullBody()).thenReturn(true);
+
+         try (MockedStatic<ApiConfigHolder> apiConfig = mockStatic(ApiConfigHolder.class);
+              MockedStatic<LogCore> logCore = mockStatic(LogCore.class);
+              MockedStatic<Allure> mockedAllure = mockStatic(Allure.class)) {
+            apiConfig.when(ApiConfigHolder::getApiConfig).thenReturn(config);
+            logCore.when(LogCore::isExtendedEnabled).thenReturn(true);
+            mockedAllure.when(() -> Allure.step(anyString(), any(Allure.ThrowableRunnableVoid.class)))
+                  .thenAnswer(invocation -> {
+                     invocation.<Allure.ThrowableRunnableVoid>getArgument(1).run();
+                     return null;
+                  });
+
+            // Act
+            restClientAllure.printResponse(GET_METHOD, SAMPLE_URL, mockResponse, RESPONSE_TIME);
+
+            // Assert
+            mockedAllure.verify(() -> Allure.addAttachment("Response Body", "<not read, streamed to the caller>"));
+            verify(mockBody, never()).asString();
+            verify(mockBody, never()).asPrettyString();
+            verify(mockResponse, never()).asString();
+            verify(mockResponse, never()).asPrettyString();
+         }
+      }
+
+      @Test
+      @DisplayName("printStreamedBody should report the streamed head without reading the response")
+      void printStreamedBodyShouldNotReadResponse() {
+         // Arrange
+         StreamedResponse streamed = new StreamedResponse(mockResponse, 2048, "digest", SAMPLE_BODY);
+
+         try (MockedStatic<LogCore> logCore = mockStatic(LogCore.class);
+              MockedStatic<Allure> mockedAllure = mockStatic(Allure.class)) {
+            logCore.when(LogCore::isExtendedEnabled).thenReturn(true);
+            mockedAllure.when(() -> Allure.step(anyString(), any(Allure.ThrowableRunnableVoid.class)))
+                  .thenAnswer(invocation -> {
+                     invocation.<Allure.ThrowableRunnableVoid>getArgument(1).run();
+                     return null;
+                  });
+
+            // Act
+            restClientAllure.printStreamedBody(GET_METHOD, SAMPLE_URL, streamed);
+
+            // Assert
+            mockedAllure.verify(() -> Allure.addAttachment("Response Body SHA-256", "digest"));
+            mockedAllure.verify(() -> Allure.addAttachment(eq("Response Body"), contains("\"key\"")));
+            verify(mockResponse, never()).getBody();
+            verify(mockResponse, never()).body();
+            verify(mockResponse, never()).asString();
+            verify(mockResponse, never()).asPrettyString();
+         }
+      }
    }
 
    @Nested
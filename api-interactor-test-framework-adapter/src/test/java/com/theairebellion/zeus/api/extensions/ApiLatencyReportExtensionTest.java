@@ -0,0 +1,81 @@
+package com.theairebellion.zeus.api.extensions;
+
+import com.theairebellion.zeus.api.config.ApiConfig;
+import com.theairebellion.zeus.api.config.ApiConfigHolder;
+import com.theairebellion.zeus.api.metrics.EndpointLatencies;
+import java.nio.file.Path;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ApiLatencyReportExtension Tests")
+class ApiLatencyReportExtensionTest {
+
+   @Mock
+   private ExtensionContext context;
+
+   @Mock
+   private ExtensionContext root;
+
+   @Mock
+   private ExtensionContext.Store store;
+
+   @AfterEach
+   void tearDown() {
+      EndpointLatencies.reset();
+   }
+
+   @Test
+   @DisplayName("beforeAll should register the report in the root context")
+   @SuppressWarnings("unchecked")
+   void beforeAllShouldRegisterReportInRootStore() {
+      // Given
+      when(context.getRoot()).thenReturn(root);
+      when(root.getStore(ExtensionContext.Namespace.GLOBAL)).thenReturn(store);
+
+      // When
+      new ApiLatencyReportExtension().beforeAll(context);
+
+      // Then
+      verify(store).getOrComputeIfAbsent(eq(ApiLatencyReportExtension.LatencyReport.class), any(Function.class),
+            eq(ApiLatencyReportExtension.LatencyReport.class));
+   }
+
+   @Test
+   @DisplayName("Closing the report should write the configured file")
+   void closeShouldWriteReport(@TempDir Path directory) {
+      // Given
+      Path file = directory.resolve("api-latency.json");
+      ApiConfig config = mock(ApiConfig.class);
+      when(config.latencyReportFile()).thenReturn(file.toString());
+      EndpointLatencies.record("GET_USERS", "GET", 1_000_000L);
+
+      try (MockedStatic<ApiConfigHolder> holder = mockStatic(ApiConfigHolder.class)) {
+         holder.when(ApiConfigHolder::getApiConfig).thenReturn(config);
+
+         // When
+         new ApiLatencyReportExtension.LatencyReport().close();
+      }
+
+      // Then
+      assertThat(file).exists();
+      assertThat(file).content().contains("\"endpoint\": \"GET_USERS\"");
+   }
+
+}
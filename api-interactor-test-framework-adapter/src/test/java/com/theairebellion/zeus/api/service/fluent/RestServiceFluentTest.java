@@ -15,6 +15,7 @@ import io.restassured.response.Response;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import org.assertj.core.api.SoftAssertions;
@@ -28,6 +29,7 @@ import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
@@ -109,6 +111,41 @@ class RestServiceFluentTest {
          verify(restService).request(endpoint, body);
          assertThat(storageDouble.subStorage).containsEntry(TestEnum.MOCK_ENDPOINT, response);
       }
+
+      @Test
+      @DisplayName("RequestAll should store every response under its endpoint")
+      void requestAllShouldStoreResponsesInStorage() {
+         // Arrange
+         Endpoint other = mock(Endpoint.class);
+         Response otherResponse = mock(Response.class);
+         doReturn(TestEnum.MOCK_ENDPOINT).when(endpoint).enumImpl();
+         doReturn(TestEnum.API_RESPONSE).when(other).enumImpl();
+         List<Endpoint<?>> endpoints = List.of(endpoint, other);
+         when(restService.requestAll(endpoints))
+               .thenReturn(CompletableFuture.completedFuture(List.of(response, otherResponse)));
+
+         // Act
+         var result = restFluent.requestAll(endpoints);
+
+         // Assert
+         assertThat(result).isSameAs(restFluent);
+         assertThat(storageDouble.subStorage)
+               .containsEntry(TestEnum.MOCK_ENDPOINT, response)
+               .containsEntry(TestEnum.API_RESPONSE, otherResponse);
+      }
+
+      @Test
+      @DisplayName("RequestAll should rethrow the cause of a failed request")
+      void requestAllShouldRethrowFailure() {
+         // Arrange
+         List<Endpoint<?>> endpoints = List.of(endpoint);
+         IllegalStateException failure = new IllegalStateException("boom");
+         when(restService.requestAll(endpoints)).thenReturn(CompletableFuture.failedFuture(failure));
+
+         // Act & Assert
+         assertThatThrownBy(() -> restFluent.requestAll(endpoints)).isSameAs(failure);
+         assertThat(storageDouble.subStorage).isEmpty();
+      }
    }
 
    @Nested
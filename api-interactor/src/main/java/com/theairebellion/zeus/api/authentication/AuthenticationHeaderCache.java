@@ -0,0 +1,381 @@
+package com.theairebellion.zeus.api.authentication;
+
+import com.theairebellion.zeus.api.log.LogApi;
+import io.restassured.http.Header;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of authentication headers with expiry, refresh-ahead and single-flight loading.
+ *
+ * <p>Every header is stored with the login that produced it. When several threads ask for a header that is
+ * missing or expired at the same time, only one of them performs the login and the others wait for its
+ * result. A header that is about to expire, within the configured refresh-ahead window, is still returned
+ * while a new one is fetched in the background. Once the cache holds more than its maximum number of
+ * headers, the least recently used one is evicted.
+ *
+ * <p>A login may itself go through a client that asks this cache for the header it is producing. Such a
+ * re-entrant lookup, made by the loading thread for the key being loaded, is answered with the previous header
+ * or {@code null} instead of waiting for a login that can only finish after the lookup returns.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class AuthenticationHeaderCache {
+
+   private final Map<AuthenticationKey, Entry> entries = new ConcurrentHashMap<>();
+
+   private final int maxSize;
+
+   private final Duration refreshAhead;
+
+   private final Clock clock;
+
+   private final AtomicLong hits = new AtomicLong();
+
+   private final AtomicLong misses = new AtomicLong();
+
+   private final AtomicLong loads = new AtomicLong();
+
+   private final AtomicLong evictions = new AtomicLong();
+
+   private final ThreadLocal<Set<AuthenticationKey>> loading = ThreadLocal.withInitial(HashSet::new);
+
+
+   AuthenticationHeaderCache(int maxSize, Duration refreshAhead, Clock clock) {
+      this.maxSize = Math.max(1, maxSize);
+      this.refreshAhead = refreshAhead;
+      this.clock = clock;
+   }
+
+
+   /**
+    * Returns the cached header for the given key.
+    *
+    * <p>An expired header is loaded again with the login that produced it; a header that is about to expire
+    * is returned while it is refreshed in the background. The login that is loading the header gets
+    * {@code null}, so its own requests do not carry the header being replaced.
+    *
+    * @param key The authentication key.
+    * @return The header, or {@code null} if none was cached for the key.
+    */
+   public Header get(AuthenticationKey key) {
+      if (isLoading(key)) {
+         return null;
+      }
+      Entry entry = entries.get(key);
+      if (entry == null) {
+         misses.incrementAndGet();
+         return null;
+      }
+      return resolve(key, entry);
+   }
+
+
+   /**
+    * Returns the cached header for the given key, logging in with {@code loader} if it is missing or expired.
+    *
+    * @param key        The authentication key.
+    * @param loader     Performs the login and returns the header.
+    * @param timeToLive Resolves how long a loaded header stays valid; {@code null} means it never expires.
+    * @return The header.
+    */
+   public Header getOrLoad(AuthenticationKey key, Supplier<Header> loader, Function<Header, Duration> timeToLive) {
+      Entry entry = entries.get(key);
+      if (isLoading(key)) {
+         return previous(entry);
+      }
+      if (entry == null) {
+         misses.incrementAndGet();
+         return load(key, null, loader, timeToLive).await();
+      }
+      return resolve(key, entry);
+   }
+
+
+   /**
+    * Logs in with {@code loader} and caches the result, replacing any cached header for the key. A login
+    * already in progress for the key is joined instead of starting another one.
+    *
+    * @param key        The authentication key.
+    * @param loader     Performs the login and returns the header.
+    * @param timeToLive Resolves how long the loaded header stays valid.
+    * @return The header.
+    */
+   public Header reload(AuthenticationKey key, Supplier<Header> loader, Function<Header, Duration> timeToLive) {
+      Entry entry = entries.get(key);
+      if (isLoading(key)) {
+         return previous(entry);
+      }
+      return load(key, entry, loader, timeToLive).await();
+   }
+
+
+   /**
+    * Caches a header that never expires and cannot be reloaded.
+    *
+    * @param key    The authentication key.
+    * @param header The header.
+    */
+   public void put(AuthenticationKey key, Header header) {
+      Entry entry = new Entry(() -> header, ignored -> null);
+      entry.complete(header, null);
+      entries.put(key, entry);
+      evictIfNeeded();
+   }
+
+
+   /**
+    * Checks whether a header is cached for the given key, regardless of its expiry.
+    *
+    * @param key The authentication key.
+    * @return {@code true} if a header is cached or being loaded.
+    */
+   public boolean contains(AuthenticationKey key) {
+      return entries.containsKey(key);
+   }
+
+
+   /**
+    * Removes the header cached for the given key.
+    *
+    * @param key The authentication key.
+    */
+   public void invalidate(AuthenticationKey key) {
+      entries.remove(key);
+   }
+
+
+   /**
+    * Removes all cached headers and resets the statistics.
+    */
+   public void clear() {
+      entries.clear();
+      hits.set(0);
+      misses.set(0);
+      loads.set(0);
+      evictions.set(0);
+   }
+
+
+   /**
+    * Returns the number of cached headers.
+    *
+    * @return The cache size.
+    */
+   public int size() {
+      return entries.size();
+   }
+
+
+   /**
+    * Returns a snapshot of the cache statistics.
+    *
+    * @return The statistics.
+    */
+   public Stats stats() {
+      return new Stats(hits.get(), misses.get(), loads.get(), evictions.get());
+   }
+
+
+   private Header resolve(AuthenticationKey key, Entry entry) {
+      Instant now = clock.instant();
+      if (entry.isExpired(now)) {
+         misses.incrementAndGet();
+         return load(key, entry, entry.loader, entry.timeToLive).await();
+      }
+
+      hits.incrementAndGet();
+      entry.lastAccess = System.nanoTime();
+      if (entry.isDueForRefresh(now, refreshAhead) && entry.refreshing.compareAndSet(false, true)) {
+         CompletableFuture.runAsync(() -> refresh(key, entry));
+      }
+      return entry.await();
+   }
+
+
+   private Entry load(AuthenticationKey key, Entry stale, Supplier<Header> loader,
+                      Function<Header, Duration> timeToLive) {
+      Entry fresh = new Entry(loader, timeToLive);
+      Entry winner = entries.compute(key, (k, current) ->
+            current == null || (current == stale && current.isDone()) || current.isExpired(clock.instant())
+                  ? fresh
+                  : current);
+
+      if (winner == fresh) {
+         loads.incrementAndGet();
+         try {
+            run(key, fresh);
+         } catch (RuntimeException e) {
+            entries.remove(key, fresh);
+            throw e;
+         }
+         evictIfNeeded();
+      }
+      return winner;
+   }
+
+
+   private void refresh(AuthenticationKey key, Entry entry) {
+      Entry fresh = new Entry(entry.loader, entry.timeToLive);
+      try {
+         loads.incrementAndGet();
+         run(key, fresh);
+         entries.replace(key, entry, fresh);
+      } catch (RuntimeException e) {
+         LogApi.warn("Refreshing the authentication of user {} failed: {}", key.getUsername(), e.getMessage());
+      } finally {
+         entry.refreshing.set(false);
+      }
+   }
+
+
+   private void run(AuthenticationKey key, Entry entry) {
+      Set<AuthenticationKey> keys = loading.get();
+      keys.add(key);
+      try {
+         entry.run(clock.instant());
+      } finally {
+         keys.remove(key);
+         if (keys.isEmpty()) {
+            loading.remove();
+         }
+      }
+   }
+
+
+   private boolean isLoading(AuthenticationKey key) {
+      Set<AuthenticationKey> keys = loading.get();
+      if (keys.isEmpty()) {
+         loading.remove();
+         return false;
+      }
+      return keys.contains(key);
+   }
+
+
+   private static Header previous(Entry entry) {
+      return entry != null ? entry.peek() : null;
+   }
+
+
+   private void evictIfNeeded() {
+      while (entries.size() > maxSize) {
+         Map.Entry<AuthenticationKey, Entry> eldest = null;
+         for (Map.Entry<AuthenticationKey, Entry> candidate : entries.entrySet()) {
+            if (candidate.getValue().isDone()
+                  && (eldest == null || candidate.getValue().lastAccess < eldest.getValue().lastAccess)) {
+               eldest = candidate;
+            }
+         }
+         if (eldest == null) {
+            return;
+         }
+         if (entries.remove(eldest.getKey(), eldest.getValue())) {
+            evictions.incrementAndGet();
+         }
+      }
+   }
+
+
+   /**
+    * Statistics of an {@link AuthenticationHeaderCache}.
+    *
+    * @param hits      Lookups answered with a valid cached header.
+    * @param misses    Lookups of missing or expired headers.
+    * @param loads     Logins performed, including background refreshes.
+    * @param evictions Headers evicted because the cache was full.
+    */
+   public record Stats(long hits, long misses, long loads, long evictions) {
+
+   }
+
+
+   /**
+    * A cached header, or the login in progress that produces it.
+    */
+   private static final class Entry {
+
+      private final Supplier<Header> loader;
+
+      private final Function<Header, Duration> timeToLive;
+
+      private final CompletableFuture<Header> header = new CompletableFuture<>();
+
+      private final AtomicBoolean refreshing = new AtomicBoolean();
+
+      private volatile Instant expiresAt;
+
+      private volatile long lastAccess = System.nanoTime();
+
+
+      private Entry(Supplier<Header> loader, Function<Header, Duration> timeToLive) {
+         this.loader = loader;
+         this.timeToLive = timeToLive;
+      }
+
+
+      private void run(Instant now) {
+         try {
+            Header loaded = loader.get();
+            Duration ttl = timeToLive.apply(loaded);
+            complete(loaded, ttl == null ? null : now.plus(ttl));
+         } catch (RuntimeException e) {
+            header.completeExceptionally(e);
+            throw e;
+         }
+      }
+
+
+      private void complete(Header loaded, Instant expiry) {
+         expiresAt = expiry;
+         header.complete(loaded);
+      }
+
+
+      private boolean isDone() {
+         return header.isDone();
+      }
+
+
+      private Header peek() {
+         return isDone() && !header.isCompletedExceptionally() ? header.getNow(null) : null;
+      }
+
+
+      private boolean isExpired(Instant now) {
+         Instant expiry = expiresAt;
+         return isDone() && expiry != null && !now.isBefore(expiry);
+      }
+
+
+      private boolean isDueForRefresh(Instant now, Duration window) {
+         Instant expiry = expiresAt;
+         return isDone() && expiry != null && !now.isBefore(expiry.minus(window));
+      }
+
+
+      private Header await() {
+         try {
+            return header.join();
+         } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+               throw cause;
+            }
+            throw e;
+         }
+      }
+
+   }
+
+}
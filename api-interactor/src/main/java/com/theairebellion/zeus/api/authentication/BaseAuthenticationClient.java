@@ -1,17 +1,23 @@
 package com.theairebellion.zeus.api.authentication;
 
+import com.theairebellion.zeus.api.config.ApiConfig;
 import com.theairebellion.zeus.api.log.LogApi;
 import com.theairebellion.zeus.api.service.RestService;
 import io.restassured.http.Header;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Supplier;
 import lombok.NonNull;
 
+import static com.theairebellion.zeus.api.config.ApiConfigHolder.getApiConfig;
+
 /**
  * Abstract base class for authentication clients.
  *
  * <p>Provides a caching mechanism for authentication headers and defines
- * a template method for implementing authentication logic.
+ * a template method for implementing authentication logic. Cached headers expire with their token, or
+ * after {@code api.auth.cache.ttl.seconds}, and are then obtained again with the login that produced them.
  *
  * @author Cyborg Code Syndicate 💍👨💻
  */
@@ -20,7 +26,7 @@ public abstract class BaseAuthenticationClient implements AuthenticationClient {
    /**
     * Stores authentication headers mapped by their corresponding authentication keys.
     */
-   protected static final Map<AuthenticationKey, Header> userAuthenticationHeaderMap = new ConcurrentHashMap<>();
+   protected static final AuthenticationHeaderCache userAuthenticationHeaderCache = createCache();
 
    /**
     * Authenticates a user and caches the authentication header if caching is enabled.
@@ -37,17 +43,16 @@ public abstract class BaseAuthenticationClient implements AuthenticationClient {
                                          final String password,
                                          boolean cache) {
       AuthenticationKey authenticationKey = new AuthenticationKey(username, password, this.getClass());
-
-      if (!cache) {
+      Supplier<Header> login = () -> {
          Header header = authenticateImpl(restService, username, password);
-         userAuthenticationHeaderMap.put(authenticationKey, header);
          LogApi.info("Successfully authenticated user: {}", username);
+         return header;
+      };
+
+      if (!cache) {
+         userAuthenticationHeaderCache.reload(authenticationKey, login, this::headerTimeToLive);
       } else {
-         userAuthenticationHeaderMap.computeIfAbsent(authenticationKey, key -> {
-            Header header = authenticateImpl(restService, username, password);
-            LogApi.info("Successfully authenticated user: {}", username);
-            return header;
-         });
+         userAuthenticationHeaderCache.getOrLoad(authenticationKey, login, this::headerTimeToLive);
       }
       return authenticationKey;
    }
@@ -63,7 +68,37 @@ public abstract class BaseAuthenticationClient implements AuthenticationClient {
          LogApi.error("AuthenticationKey is null. Cannot retrieve authentication header.");
          throw new IllegalArgumentException("AuthenticationKey cannot be null.");
       }
-      return userAuthenticationHeaderMap.get(authenticationKey);
+      return userAuthenticationHeaderCache.get(authenticationKey);
+   }
+
+   /**
+    * Returns the statistics of the authentication header cache shared by all clients.
+    *
+    * @return The cache statistics.
+    */
+   public static AuthenticationHeaderCache.Stats cacheStatistics() {
+      return userAuthenticationHeaderCache.stats();
+   }
+
+   /**
+    * Determines how long an authentication header obtained by this client stays valid.
+    *
+    * <p>By default the expiry of a JWT carried in the header is used; otherwise the header is kept for
+    * {@code api.auth.cache.ttl.seconds}, or for the whole run if that is {@code 0}. Clients whose tokens
+    * expire differently can override this method.
+    *
+    * @param header The authentication header.
+    * @return The time to live, or {@code null} if the header never expires.
+    */
+   protected Duration headerTimeToLive(Header header) {
+      if (header != null) {
+         Instant expiry = TokenExpiry.of(header.getValue()).orElse(null);
+         if (expiry != null) {
+            return Duration.between(Instant.now(), expiry);
+         }
+      }
+      long ttlSeconds = getApiConfig().authCacheTtlSeconds();
+      return ttlSeconds > 0 ? Duration.ofSeconds(ttlSeconds) : null;
    }
 
    /**
@@ -75,4 +110,10 @@ public abstract class BaseAuthenticationClient implements AuthenticationClient {
     * @return The authentication header containing credentials.
     */
    protected abstract Header authenticateImpl(RestService restService, String username, String password);
+
+   private static AuthenticationHeaderCache createCache() {
+      ApiConfig config = getApiConfig();
+      return new AuthenticationHeaderCache(config.authCacheMaxSize(),
+            Duration.ofSeconds(config.authCacheRefreshAheadSeconds()), Clock.systemUTC());
+   }
 }
@@ -0,0 +1,57 @@
+package com.theairebellion.zeus.api.authentication;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads the expiry of JSON Web Tokens carried in authentication header values.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+final class TokenExpiry {
+
+   private static final Pattern EXP_CLAIM = Pattern.compile("\"exp\"\\s*:\\s*(\\d+)");
+
+
+   private TokenExpiry() {
+   }
+
+
+   /**
+    * Extracts the {@code exp} claim of a JWT, optionally preceded by a scheme such as {@code Bearer}.
+    *
+    * @param headerValue The header value.
+    * @return The expiry, or empty if the value is not a JWT with an {@code exp} claim.
+    */
+   static Optional<Instant> of(String headerValue) {
+      if (headerValue == null) {
+         return Optional.empty();
+      }
+
+      String token = headerValue.trim();
+      int space = token.lastIndexOf(' ');
+      if (space >= 0) {
+         token = token.substring(space + 1);
+      }
+
+      String[] parts = token.split("\\.");
+      if (parts.length != 3) {
+         return Optional.empty();
+      }
+
+      try {
+         String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+         Matcher matcher = EXP_CLAIM.matcher(payload);
+         return matcher.find()
+               ? Optional.of(Instant.ofEpochSecond(Long.parseLong(matcher.group(1))))
+               : Optional.empty();
+      } catch (IllegalArgumentException e) {
+         return Optional.empty();
+      }
+   }
+
+}
@@ -0,0 +1,22 @@
+package com.theairebellion.zeus.api.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Consumes a response body as a stream, without materializing it in memory.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@FunctionalInterface
+public interface BodyConsumer {
+
+   /**
+    * Reads the response body. The stream is closed by the caller; bytes left unread are discarded.
+    *
+    * @param body The response body.
+    * @throws IOException if reading or processing the body fails.
+    */
+   void accept(InputStream body) throws IOException;
+
+}
@@ -0,0 +1,137 @@
+package com.theairebellion.zeus.api.client;
+
+/**
+ * Formats request and response bodies for logging without building more output than will be logged.
+ *
+ * <p>JSON content is indented in a single pass over its characters and formatting stops as soon as the
+ * output reaches the requested limit, so a shortened log entry of a large document costs time
+ * proportional to the limit rather than to the document. The formatter only tracks structure and
+ * string literals; it does not validate the content. Other content is truncated as is.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class BodyFormatter {
+
+   static final String TRUNCATION_SUFFIX = "...";
+
+   private static final String INDENT = "    ";
+
+
+   private BodyFormatter() {
+   }
+
+
+   /**
+    * Formats the given content, truncated to {@code limit} characters.
+    *
+    * @param content The raw body, may be {@code null}.
+    * @param limit   The maximum number of formatted characters to keep.
+    * @return The formatted body, suffixed with {@value #TRUNCATION_SUFFIX} when it was truncated, or an empty
+    *       string for {@code null} content.
+    */
+   public static String format(String content, int limit) {
+      if (content == null) {
+         return "";
+      }
+      int limitOrZero = Math.max(0, limit);
+      if (!looksLikeJson(content)) {
+         return truncate(content, limitOrZero);
+      }
+      return prettyPrint(content, limitOrZero);
+   }
+
+
+   private static boolean looksLikeJson(String content) {
+      for (int i = 0; i < content.length(); i++) {
+         char c = content.charAt(i);
+         if (!Character.isWhitespace(c)) {
+            return c == '{' || c == '[';
+         }
+      }
+      return false;
+   }
+
+
+   private static String truncate(String content, int limit) {
+      return content.length() > limit ? content.substring(0, limit) + TRUNCATION_SUFFIX : content;
+   }
+
+
+   private static String prettyPrint(String content, int limit) {
+      StringBuilder out = new StringBuilder(Math.min(content.length(), limit) + TRUNCATION_SUFFIX.length());
+      int depth = 0;
+      boolean inString = false;
+      boolean escaped = false;
+
+      for (int i = 0; i < content.length() && out.length() <= limit; i++) {
+         char c = content.charAt(i);
+         if (inString) {
+            out.append(c);
+            if (escaped) {
+               escaped = false;
+            } else if (c == '\\') {
+               escaped = true;
+            } else if (c == '"') {
+               inString = false;
+            }
+            continue;
+         }
+
+         switch (c) {
+            case '"' -> {
+               inString = true;
+               out.append(c);
+            }
+            case '{', '[' -> {
+               int next = nextNonWhitespace(content, i + 1);
+               if (next < content.length() && content.charAt(next) == (c == '{' ? '}' : ']')) {
+                  out.append(c).append(content.charAt(next));
+                  i = next;
+               } else {
+                  out.append(c);
+                  newLine(out, ++depth);
+               }
+            }
+            case '}', ']' -> {
+               depth = Math.max(0, depth - 1);
+               newLine(out, depth);
+               out.append(c);
+            }
+            case ',' -> {
+               out.append(c);
+               newLine(out, depth);
+            }
+            case ':' -> out.append(": ");
+            default -> {
+               if (!Character.isWhitespace(c)) {
+                  out.append(c);
+               }
+            }
+         }
+      }
+
+      if (out.length() > limit) {
+         out.setLength(limit);
+         out.append(TRUNCATION_SUFFIX);
+      }
+      return out.toString();
+   }
+
+
+   private static int nextNonWhitespace(String content, int from) {
+      int i = from;
+      while (i < content.length() && Character.isWhitespace(content.charAt(i))) {
+         i++;
+      }
+      return i;
+   }
+
+
+   private static void newLine(StringBuilder out, int depth) {
+      out.append(System.lineSeparator());
+      for (int i = 0; i < depth; i++) {
+         out.append(INDENT);
+      }
+   }
+
+}
@@ -0,0 +1,121 @@
+package com.theairebellion.zeus.api.client;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * Input stream that counts, hashes and keeps the first bytes of everything read through it.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+final class DigestingInputStream extends FilterInputStream {
+
+   private final MessageDigest digest;
+
+   private final byte[] head;
+
+   private int headLength;
+
+   private long size;
+
+
+   DigestingInputStream(InputStream in, int headBytes) {
+      super(in);
+      this.digest = sha256();
+      this.head = new byte[Math.max(0, headBytes)];
+   }
+
+
+   @Override
+   public int read() throws IOException {
+      int b = super.read();
+      if (b >= 0) {
+         update(new byte[] {(byte) b}, 0, 1);
+      }
+      return b;
+   }
+
+
+   @Override
+   public int read(byte[] buffer, int offset, int length) throws IOException {
+      int read = super.read(buffer, offset, length);
+      if (read > 0) {
+         update(buffer, offset, read);
+      }
+      return read;
+   }
+
+
+   @Override
+   public long skip(long n) throws IOException {
+      byte[] buffer = new byte[(int) Math.min(Math.max(n, 0), 8192)];
+      long skipped = 0;
+      while (skipped < n) {
+         int read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+         if (read < 0) {
+            break;
+         }
+         skipped += read;
+      }
+      return skipped;
+   }
+
+
+   @Override
+   public boolean markSupported() {
+      return false;
+   }
+
+
+   @Override
+   public synchronized void mark(int readLimit) {
+      // Marking would let bytes be counted twice.
+   }
+
+
+   @Override
+   public synchronized void reset() throws IOException {
+      throw new IOException("mark/reset not supported");
+   }
+
+
+   long size() {
+      return size;
+   }
+
+
+   String sha256Hex() {
+      return HexFormat.of().formatHex(digest.digest());
+   }
+
+
+   byte[] head() {
+      return Arrays.copyOf(head, headLength);
+   }
+
+
+   private void update(byte[] buffer, int offset, int length) {
+      digest.update(buffer, offset, length);
+      size += length;
+      int toKeep = Math.min(length, head.length - headLength);
+      if (toKeep > 0) {
+         System.arraycopy(buffer, offset, head, headLength, toKeep);
+         headLength += toKeep;
+      }
+   }
+
+
+   private static MessageDigest sha256() {
+      try {
+         return MessageDigest.getInstance("SHA-256");
+      } catch (NoSuchAlgorithmException e) {
+         throw new IllegalStateException("SHA-256 is not available.", e);
+      }
+   }
+
+}
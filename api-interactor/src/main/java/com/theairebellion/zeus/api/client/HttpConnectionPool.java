@@ -0,0 +1,193 @@
+package com.theairebellion.zeus.api.client;
+
+import com.theairebellion.zeus.api.config.ApiConfig;
+import io.restassured.config.HttpClientConfig;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+
+import static com.theairebellion.zeus.api.config.ApiConfigHolder.getApiConfig;
+
+/**
+ * A bounded pool of keep-alive HTTP connections shared by all requests of the REST client.
+ *
+ * <p>By default Rest Assured creates a new HTTP client for every request and shuts its connection
+ * manager down afterwards, so every call pays for a new TCP (and TLS) handshake. This pool shares one
+ * connection manager whose connections are reused across requests: at most {@code api.http.pool.max.total}
+ * connections in total and {@code api.http.pool.max.per.route} per host. Every request still gets its own
+ * HTTP client, so cookies and credentials set up for one request never reach another one, and closing that
+ * client leaves the shared connections open. Connections are kept alive for
+ * the duration announced by the server, or {@code api.http.pool.keep.alive.ms} if it announces none,
+ * and a background task evicts expired connections and those idle for longer than
+ * {@code api.http.pool.idle.timeout.ms}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+// Rest Assured 5 still builds its clients on the HttpClient 4.0 API (DefaultHttpClient, ClientConnectionManager).
+@SuppressWarnings("deprecation")
+final class HttpConnectionPool implements AutoCloseable {
+
+   private static final long MIN_EVICTION_PERIOD_MS = 1000;
+
+   private static HttpConnectionPool shared;
+
+   private final PoolingClientConnectionManager connectionManager;
+
+   private final ClientConnectionManager sharedConnectionManager;
+
+   private final long keepAliveMs;
+
+   private final HttpClientConfig httpClientConfig;
+
+   private final ScheduledExecutorService evictor;
+
+
+   HttpConnectionPool(int maxTotal, int maxPerRoute, long keepAliveMs, long idleTimeoutMs) {
+      connectionManager = new PoolingClientConnectionManager();
+      connectionManager.setMaxTotal(maxTotal);
+      connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+
+      sharedConnectionManager = new SharedConnectionManager(connectionManager);
+      this.keepAliveMs = keepAliveMs;
+
+      httpClientConfig = HttpClientConfig.httpClientConfig()
+            .dontReuseHttpClientInstance()
+            .httpClientFactory(this::newHttpClient);
+
+      evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+         Thread thread = new Thread(runnable, "http-connection-evictor");
+         thread.setDaemon(true);
+         return thread;
+      });
+      long period = Math.max(MIN_EVICTION_PERIOD_MS, idleTimeoutMs / 2);
+      evictor.scheduleAtFixedRate(() -> {
+         connectionManager.closeExpiredConnections();
+         connectionManager.closeIdleConnections(idleTimeoutMs, TimeUnit.MILLISECONDS);
+      }, period, period, TimeUnit.MILLISECONDS);
+   }
+
+
+   /**
+    * Returns the pool shared by all requests, creating it from the API configuration on first use.
+    *
+    * @return The shared connection pool.
+    */
+   static synchronized HttpConnectionPool shared() {
+      if (shared == null) {
+         ApiConfig config = getApiConfig();
+         shared = new HttpConnectionPool(config.httpPoolMaxTotal(), config.httpPoolMaxPerRoute(),
+               config.httpPoolKeepAliveMs(), config.httpPoolIdleTimeoutMs());
+      }
+      return shared;
+   }
+
+
+   /**
+    * Closes the shared pool, if one was created. The next request creates a new one.
+    */
+   static synchronized void shutdownShared() {
+      if (shared != null) {
+         shared.close();
+         shared = null;
+      }
+   }
+
+
+   /**
+    * Returns a Rest Assured HTTP client configuration that sends requests through this pool.
+    *
+    * @return The HTTP client configuration.
+    */
+   HttpClientConfig httpClientConfig() {
+      return httpClientConfig;
+   }
+
+
+   PoolingClientConnectionManager connectionManager() {
+      return connectionManager;
+   }
+
+
+   /**
+    * Creates a client for a single request on top of the shared connections. The client has its own cookie
+    * store and credentials provider.
+    *
+    * @return A new HTTP client.
+    */
+   DefaultHttpClient newHttpClient() {
+      DefaultHttpClient httpClient = new DefaultHttpClient(sharedConnectionManager);
+      httpClient.setKeepAliveStrategy((response, context) -> {
+         long announced = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+         return announced > 0 ? announced : keepAliveMs;
+      });
+      return httpClient;
+   }
+
+
+   @Override
+   public void close() {
+      evictor.shutdownNow();
+      connectionManager.shutdown();
+   }
+
+
+   /**
+    * Connection manager handed to the per-request clients. Rest Assured shuts down the connection manager of
+    * a client it does not reuse; this view ignores that, so only {@link #close()} shuts the pool down.
+    */
+   private static final class SharedConnectionManager implements ClientConnectionManager {
+
+      private final ClientConnectionManager delegate;
+
+
+      private SharedConnectionManager(ClientConnectionManager delegate) {
+         this.delegate = delegate;
+      }
+
+
+      @Override
+      public SchemeRegistry getSchemeRegistry() {
+         return delegate.getSchemeRegistry();
+      }
+
+
+      @Override
+      public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+         return delegate.requestConnection(route, state);
+      }
+
+
+      @Override
+      public void releaseConnection(ManagedClientConnection connection, long validDuration, TimeUnit timeUnit) {
+         delegate.releaseConnection(connection, validDuration, timeUnit);
+      }
+
+
+      @Override
+      public void closeIdleConnections(long idleTime, TimeUnit timeUnit) {
+         delegate.closeIdleConnections(idleTime, timeUnit);
+      }
+
+
+      @Override
+      public void closeExpiredConnections() {
+         delegate.closeExpiredConnections();
+      }
+
+
+      @Override
+      public void shutdown() {
+         // The shared connections outlive the clients of single requests.
+      }
+
+   }
+
+}
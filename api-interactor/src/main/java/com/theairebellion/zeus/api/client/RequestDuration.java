@@ -0,0 +1,38 @@
+package com.theairebellion.zeus.api.client;
+
+import java.util.OptionalLong;
+
+/**
+ * Hands the duration of the last request sent on the current thread from {@link RestClientImpl} to its caller.
+ *
+ * <p>The duration covers only sending the request and receiving the response, not logging and reporting
+ * around it.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class RequestDuration {
+
+   private static final ThreadLocal<Long> LAST = new ThreadLocal<>();
+
+
+   private RequestDuration() {
+   }
+
+
+   /**
+    * Returns and forgets the duration of the last request sent on the current thread.
+    *
+    * @return The duration in nanoseconds, or an empty result if no request was measured since the last call.
+    */
+   public static OptionalLong take() {
+      Long nanos = LAST.get();
+      LAST.remove();
+      return nanos != null ? OptionalLong.of(nanos) : OptionalLong.empty();
+   }
+
+
+   static void set(long nanos) {
+      LAST.set(nanos);
+   }
+
+}
@@ -4,6 +4,8 @@ import io.restassured.http.Method;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 
+import static com.theairebellion.zeus.api.config.ApiConfigHolder.getApiConfig;
+
 /**
  * Represents a REST client for executing HTTP requests.
  *
@@ -23,4 +25,19 @@ public interface RestClient {
     */
    Response execute(RequestSpecification spec, Method method);
 
+   /**
+    * Executes an API request and streams the response body to the consumer instead of keeping it in memory.
+    *
+    * <p>Size and SHA-256 digest of the body are computed while it is read, and only its first
+    * {@code api.response.stream.head.bytes} bytes are kept.
+    *
+    * @param spec     The {@code RequestSpecification} containing request details.
+    * @param method   The HTTP method to be used for the request.
+    * @param consumer The consumer of the response body.
+    * @return The response, together with size, digest and head of its body.
+    */
+   default StreamedResponse executeStreaming(RequestSpecification spec, Method method, BodyConsumer consumer) {
+      return StreamedResponse.consume(execute(spec, method), consumer, getApiConfig().responseStreamHeadBytes());
+   }
+
 }
@@ -1,6 +1,7 @@
 package com.theairebellion.zeus.api.client;
 
-import com.theairebellion.zeus.api.log.LogApi;
+import com.theairebellion.zeus.logging.LogCore;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.http.Method;
 import io.restassured.path.json.JsonPath;
 import io.restassured.response.Response;
@@ -28,9 +29,16 @@ import static com.theairebellion.zeus.api.log.LogApi.step;
 @NoArgsConstructor
 public class RestClientImpl implements RestClient {
 
-   private static final long SLOW_REQUEST_THRESHOLD_MS = 2000;
    private static final String LOG_TEMPLATE_RESPONSE_BODY = "Response body: {}.";
 
+   private static final String CONTENT_LENGTH = "Content-Length";
+
+   /**
+    * Set while a request of {@link #executeStreaming} is executed, so its body is left unread when the
+    * response is logged.
+    */
+   private static final ThreadLocal<Boolean> STREAMING = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
    /**
     * This configuration provides settings for API request execution, including logging behavior,
     * response body truncation, and other configurable options.
@@ -55,7 +63,13 @@ public class RestClientImpl implements RestClient {
     * Executes an API request with the specified request specification and HTTP method.
     *
     * <p>This method logs the request details, sends the request, logs the response,
-    * and returns the response.
+    * and returns the response. Request and response bodies are only formatted when extended
+    * logging is enabled; unless {@code log.full.body} is set, formatting stops at
+    * {@code shorten.body} characters. Unless {@code api.http.pool.enabled} is turned off or the specification
+    * carries its own HTTP client configuration, the request is sent over a shared pool of keep-alive
+    * connections. Bodies larger than {@code api.response.stream.threshold.bytes} are not read for logging.
+    * The time spent sending the request and receiving the response is available from
+    * {@link RequestDuration#take()} afterwards.
     *
     * @param spec   The {@code RequestSpecification} containing request details.
     * @param method The HTTP method to use for the request.
@@ -76,14 +90,11 @@ public class RestClientImpl implements RestClient {
       String url = filterableSpec.getURI();
       String methodName = method.name();
 
-      String rawRequestBody = Optional.ofNullable(filterableSpec.getBody()).map(Object::toString).orElse(null);
-      String prettyRequestBody = tryPrettyPrintJson(rawRequestBody);
-
-      String requestHeaders = Optional.ofNullable(filterableSpec.getHeaders())
-            .map(Object::toString)
-            .orElse("");
+      printRequest(methodName, url, filterableSpec);
 
-      printRequest(methodName, url, prettyRequestBody, requestHeaders);
+      if (getApiConfig().httpPoolEnabled()) {
+         usePooledConnections(filterableSpec);
+      }
 
       long startTime = currentTimeNanos();
 
@@ -91,16 +102,74 @@ public class RestClientImpl implements RestClient {
             .orElseThrow(() -> new IllegalArgumentException("HTTP method " + method + " is not supported"))
             .apply(spec);
 
-      long duration = (currentTimeNanos() - startTime) / 1_000_000;
-      printResponse(methodName, url, response, duration);
+      long nanos = currentTimeNanos() - startTime;
+      RequestDuration.set(nanos);
+      printResponse(methodName, url, response, nanos / 1_000_000);
+
+      return response;
+   }
+
 
-      if (duration > SLOW_REQUEST_THRESHOLD_MS) {
-         LogApi.warn("Request to endpoint {}-{} took too long: {}ms.", methodName, url, duration);
+   /**
+    * Executes an API request and streams the response body to the consumer.
+    *
+    * <p>The body is never read for logging; instead its size, digest and first bytes are logged once the
+    * consumer is done.
+    *
+    * @param spec     The {@code RequestSpecification} containing request details.
+    * @param method   The HTTP method to use for the request.
+    * @param consumer The consumer of the response body.
+    * @return The response, together with size, digest and head of its body.
+    * @throws IllegalArgumentException If the request specification is not a
+    *                                  {@code FilterableRequestSpecification} or if the HTTP method is not
+    *                                  supported.
+    */
+   @Override
+   public StreamedResponse executeStreaming(final RequestSpecification spec, final Method method,
+                                            final BodyConsumer consumer) {
+      Response response;
+      STREAMING.set(Boolean.TRUE);
+      try {
+         response = execute(spec, method);
+      } finally {
+         STREAMING.remove();
       }
 
-      return response;
+      StreamedResponse streamed =
+            StreamedResponse.consume(response, consumer, getApiConfig().responseStreamHeadBytes());
+      printStreamedBody(method.name(), ((FilterableRequestSpecification) spec).getURI(), streamed);
+      return streamed;
+   }
+
+
+   /**
+    * Routes the request through the shared {@link HttpConnectionPool}, unless the specification already
+    * has a user-defined HTTP client configuration.
+    *
+    * @param spec The request specification.
+    */
+   private void usePooledConnections(FilterableRequestSpecification spec) {
+      RestAssuredConfig config = spec.getConfig();
+      if (config == null || config.getHttpClientConfig().isUserConfigured()) {
+         return;
+      }
+      spec.config(config.httpClient(HttpConnectionPool.shared().httpClientConfig()));
    }
 
+   /**
+    * Logs the request details before execution.
+    *
+    * <p>Body and headers are only read and formatted for the log when extended logging is enabled.
+    * Subclasses that report requests elsewhere can read them from the specification with their own limits.
+    *
+    * @param methodName The HTTP method used for the request.
+    * @param finalUrl   The full request URL.
+    * @param spec       The request specification.
+    */
+   protected void printRequest(final String methodName, final String finalUrl,
+                               final FilterableRequestSpecification spec) {
+      printRequest(methodName, finalUrl, requestBodyForLog(spec), requestHeadersForLog(spec));
+   }
 
    /**
     * Logs the request details before execution.
@@ -116,6 +185,53 @@ public class RestClientImpl implements RestClient {
       extended("Request headers: {}.", headers != null ? headers : "");
    }
 
+   /**
+    * Formats the request body for the log, pretty-printed and shortened to {@code shorten.body} characters
+    * unless {@code log.full.body} is set.
+    *
+    * @param spec The request specification.
+    * @return The formatted body, or {@code null} when extended logging is disabled.
+    */
+   protected String requestBodyForLog(final FilterableRequestSpecification spec) {
+      if (!LogCore.isExtendedEnabled()) {
+         return null;
+      }
+      String rawRequestBody = requestBody(spec);
+      return getApiConfig().logFullBody()
+            ? tryPrettyPrintJson(rawRequestBody)
+            : BodyFormatter.format(rawRequestBody, getApiConfig().shortenBody());
+   }
+
+   /**
+    * Returns the request headers for the log.
+    *
+    * @param spec The request specification.
+    * @return The headers, or {@code null} when extended logging is disabled.
+    */
+   protected String requestHeadersForLog(final FilterableRequestSpecification spec) {
+      return LogCore.isExtendedEnabled() ? requestHeaders(spec) : null;
+   }
+
+   /**
+    * Returns the unformatted request body.
+    *
+    * @param spec The request specification.
+    * @return The body, or {@code null} if the request has none.
+    */
+   protected static String requestBody(final FilterableRequestSpecification spec) {
+      return Optional.ofNullable(spec.getBody()).map(Object::toString).orElse(null);
+   }
+
+   /**
+    * Returns the request headers.
+    *
+    * @param spec The request specification.
+    * @return The headers, or an empty string if the request has none.
+    */
+   protected static String requestHeaders(final FilterableRequestSpecification spec) {
+      return Optional.ofNullable(spec.getHeaders()).map(Object::toString).orElse("");
+   }
+
    /**
     * Logs the response details after execution.
     *
@@ -129,13 +245,18 @@ public class RestClientImpl implements RestClient {
       step("Response with status: {} received from endpoint: {}-{} in {}ms.",
             response.getStatusCode(), methodName, finalUrl, duration);
 
-      if (response.body() != null) {
-         String bodyStr = response.body().asPrettyString();
+      if (!LogCore.isExtendedEnabled()) {
+         return;
+      }
+
+      if (!isBodyLogged(response)) {
+         extended(LOG_TEMPLATE_RESPONSE_BODY, "<not read, streamed to the caller>");
+      } else if (response.body() != null) {
          if (getApiConfig().logFullBody()) {
-            extended(LOG_TEMPLATE_RESPONSE_BODY, bodyStr);
+            extended(LOG_TEMPLATE_RESPONSE_BODY, response.body().asPrettyString());
          } else {
-            int limit = Math.min(bodyStr.length(), getApiConfig().shortenBody());
-            extended(LOG_TEMPLATE_RESPONSE_BODY, bodyStr.substring(0, limit) + (bodyStr.length() > limit ? "..." : ""));
+            extended(LOG_TEMPLATE_RESPONSE_BODY,
+                  BodyFormatter.format(response.body().asString(), getApiConfig().shortenBody()));
          }
       } else {
          extended(LOG_TEMPLATE_RESPONSE_BODY, "");
@@ -144,6 +265,44 @@ public class RestClientImpl implements RestClient {
       extended("Response headers: {}.", response.getHeaders() != null ? response.getHeaders().toString() : "");
    }
 
+   /**
+    * Logs size, digest and head of a body streamed by {@link #executeStreaming}.
+    *
+    * @param methodName The HTTP method used for the request.
+    * @param finalUrl   The full request URL.
+    * @param streamed   The streamed response.
+    */
+   protected void printStreamedBody(final String methodName, final String finalUrl,
+                                    final StreamedResponse streamed) {
+      step("Streamed response body of {} bytes from endpoint {}-{} with SHA-256 {}.",
+            streamed.size(), methodName, finalUrl, streamed.sha256());
+      extended(LOG_TEMPLATE_RESPONSE_BODY, BodyFormatter.format(streamed.head(), getApiConfig().shortenBody()));
+   }
+
+   /**
+    * Tells whether the body of a response may be read for logging and reporting.
+    *
+    * <p>It may not if the response belongs to a streaming request, or if its {@code Content-Length} exceeds
+    * {@code api.response.stream.threshold.bytes}.
+    *
+    * @param response The response.
+    * @return {@code true} if the body may be read.
+    */
+   protected boolean isBodyLogged(final Response response) {
+      if (Boolean.TRUE.equals(STREAMING.get())) {
+         return false;
+      }
+      String contentLength = response.getHeader(CONTENT_LENGTH);
+      if (contentLength == null) {
+         return true;
+      }
+      try {
+         return Long.parseLong(contentLength.trim()) <= getApiConfig().responseStreamThresholdBytes();
+      } catch (NumberFormatException e) {
+         return true;
+      }
+   }
+
    /**
     * Attempts to pretty-print JSON request bodies.
     *
@@ -0,0 +1,57 @@
+package com.theairebellion.zeus.api.client;
+
+import io.restassured.response.Response;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A response whose body was streamed to a {@link BodyConsumer} instead of being kept in memory.
+ *
+ * <p>Size and digest are computed while the body is read; only its first bytes are kept, for logs and
+ * reports. The body of {@link #response()} has been consumed and cannot be read again.
+ *
+ * @param response The response, with its status code and headers.
+ * @param size     The size of the body in bytes.
+ * @param sha256   The hex encoded SHA-256 digest of the body.
+ * @param head     The first bytes of the body decoded as UTF-8.
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public record StreamedResponse(Response response, long size, String sha256, String head) {
+
+   /**
+    * Returns the status code of the response.
+    *
+    * @return The status code.
+    */
+   public int statusCode() {
+      return response.getStatusCode();
+   }
+
+
+   /**
+    * Hands the body of the response to the consumer and drains whatever it leaves unread, so that size and
+    * digest cover the whole body and the connection can be reused.
+    *
+    * @param response  The response with an unread body.
+    * @param consumer  The consumer of the body.
+    * @param headBytes The number of leading bytes to keep.
+    * @return The streamed response.
+    * @throws UncheckedIOException if the body cannot be read.
+    */
+   static StreamedResponse consume(Response response, BodyConsumer consumer, int headBytes) {
+      InputStream stream = response.asInputStream();
+      try (DigestingInputStream body = new DigestingInputStream(
+            stream != null ? stream : InputStream.nullInputStream(), headBytes)) {
+         consumer.accept(body);
+         body.transferTo(OutputStream.nullOutputStream());
+         return new StreamedResponse(response, body.size(), body.sha256Hex(),
+               new String(body.head(), StandardCharsets.UTF_8));
+      } catch (IOException e) {
+         throw new UncheckedIOException("Failed to stream the response body.", e);
+      }
+   }
+
+}
@@ -0,0 +1,213 @@
+package com.theairebellion.zeus.api.client.replay;
+
+import com.theairebellion.zeus.api.client.BodyConsumer;
+import com.theairebellion.zeus.api.client.RestClient;
+import com.theairebellion.zeus.api.client.StreamedResponse;
+import com.theairebellion.zeus.api.exceptions.RestServiceException;
+import com.theairebellion.zeus.api.log.LogApi;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.RequestSpecification;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.theairebellion.zeus.api.config.ApiConfigHolder.getApiConfig;
+
+/**
+ * {@link RestClient} decorator that records real HTTP exchanges to files and replays them without a network.
+ *
+ * <p>Every exchange is identified by the HTTP method, the request URL with its query parameters sorted, and a
+ * hash of the request body, and stored as one JSON file in the recordings directory. In
+ * {@link ReplayMode#RECORD} mode requests are sent through the decorated client and their responses are
+ * written to that directory; in {@link ReplayMode#REPLAY} mode the response is rebuilt from the recording and
+ * the decorated client is not called at all. Replayed recordings are kept in memory after the first read.
+ *
+ * <p>Only status code, headers and body of a response are recorded; bodies are stored as text. Streamed
+ * exchanges are recorded separately from regular ones, keeping only size, digest and head of the body, so
+ * that recording a large download does not load it into memory; replaying one hands the recorded head to
+ * the body consumer.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public class RecordReplayRestClient implements RestClient {
+
+   private static final int MAX_NAME_LENGTH = 60;
+
+   private static final String STREAMED = "STREAMED ";
+
+   private final RestClient delegate;
+
+   private final ReplayMode mode;
+
+   private final Path directory;
+
+   private final Map<String, RecordedExchange> replayed = new ConcurrentHashMap<>();
+
+
+   /**
+    * Creates a recording or replaying decorator.
+    *
+    * @param delegate  The client sending real requests.
+    * @param mode      The record/replay mode.
+    * @param directory The recordings directory.
+    */
+   public RecordReplayRestClient(RestClient delegate, ReplayMode mode, Path directory) {
+      this.delegate = delegate;
+      this.mode = mode;
+      this.directory = directory;
+   }
+
+
+   /**
+    * Decorates the given client according to {@code api.replay.mode} and {@code api.replay.directory}.
+    *
+    * @param delegate The client sending real requests.
+    * @return The delegate itself if the mode is {@code OFF}, otherwise a recording or replaying decorator.
+    * @throws IllegalArgumentException if the configured mode is not supported.
+    */
+   public static RestClient decorate(RestClient delegate) {
+      String configured = getApiConfig().replayMode();
+      if (configured == null || configured.isBlank()) {
+         return delegate;
+      }
+      ReplayMode mode = ReplayMode.valueOf(configured.trim().toUpperCase(Locale.ROOT));
+      if (mode == ReplayMode.OFF) {
+         return delegate;
+      }
+      LogApi.info("API exchanges are {} directory {}.", mode == ReplayMode.RECORD ? "recorded to" : "replayed from",
+            getApiConfig().replayDirectory());
+      return new RecordReplayRestClient(delegate, mode, Path.of(getApiConfig().replayDirectory()));
+   }
+
+
+   @Override
+   public Response execute(RequestSpecification spec, Method method) {
+      if (mode == ReplayMode.OFF) {
+         return delegate.execute(spec, method);
+      }
+      Target target = target(spec, method, "");
+      if (mode == ReplayMode.REPLAY) {
+         return replayed(target, method).toResponse();
+      }
+
+      Response response = delegate.execute(spec, method);
+      write(target.file(), RecordedExchange.of(method.name(), target.url(), response));
+      return response;
+   }
+
+
+   @Override
+   public StreamedResponse executeStreaming(RequestSpecification spec, Method method, BodyConsumer consumer) {
+      if (mode == ReplayMode.OFF) {
+         return delegate.executeStreaming(spec, method, consumer);
+      }
+      Target target = target(spec, method, STREAMED);
+      if (mode == ReplayMode.REPLAY) {
+         return replayed(target, method).toStreamedResponse(consumer);
+      }
+
+      StreamedResponse streamed = delegate.executeStreaming(spec, method, consumer);
+      write(target.file(), RecordedExchange.of(method.name(), target.url(), streamed));
+      return streamed;
+   }
+
+
+   /**
+    * Sorts the query parameters of a URL so that their order does not affect the recording key.
+    *
+    * @param url The request URL.
+    * @return The URL with sorted query parameters.
+    */
+   static String normalizeUrl(String url) {
+      URI uri = URI.create(url);
+      String query = uri.getRawQuery();
+      if (query == null || query.isEmpty()) {
+         return url;
+      }
+      String[] parameters = query.split("&");
+      Arrays.sort(parameters);
+      int start = url.indexOf('?');
+      return url.substring(0, start + 1) + String.join("&", parameters)
+            + (uri.getRawFragment() != null ? "#" + uri.getRawFragment() : "");
+   }
+
+
+   static String key(String method, String url, String body) {
+      return sha256(method + ' ' + url + '\n' + sha256(body));
+   }
+
+
+   private Target target(RequestSpecification spec, Method method, String kind) {
+      if (!(spec instanceof FilterableRequestSpecification filterableSpec)) {
+         throw new IllegalArgumentException("RequestSpecification is not of type FilterableRequestSpecification");
+      }
+      String url = normalizeUrl(filterableSpec.getURI());
+      Object body = filterableSpec.getBody();
+      String key = key(kind + method.name(), url, body != null ? body.toString() : "");
+      return new Target(url, key, directory.resolve(fileName(method.name(), url, key)));
+   }
+
+
+   private RecordedExchange replayed(Target target, Method method) {
+      return replayed.computeIfAbsent(target.key(), k -> read(target.file(), method, target.url()));
+   }
+
+
+   private static String fileName(String method, String url, String key) {
+      String path = URI.create(url).getRawPath();
+      String name = (method + (path != null ? path : "")).replaceAll("[^A-Za-z0-9]+", "_");
+      if (name.length() > MAX_NAME_LENGTH) {
+         name = name.substring(0, MAX_NAME_LENGTH);
+      }
+      return name + "_" + key.substring(0, 16) + ".json";
+   }
+
+
+   private static RecordedExchange read(Path file, Method method, String url) {
+      if (!Files.exists(file)) {
+         throw new RestServiceException("No recorded exchange for " + method + " " + url + " in " + file);
+      }
+      try {
+         return RecordedExchange.fromJson(Files.readString(file, StandardCharsets.UTF_8));
+      } catch (IOException e) {
+         throw new UncheckedIOException("Failed to read recorded exchange " + file, e);
+      }
+   }
+
+
+   private static void write(Path file, RecordedExchange exchange) {
+      try {
+         Files.createDirectories(file.toAbsolutePath().getParent());
+         Files.writeString(file, exchange.toJson(), StandardCharsets.UTF_8);
+      } catch (IOException e) {
+         throw new UncheckedIOException("Failed to record exchange to " + file, e);
+      }
+   }
+
+
+   private static String sha256(String value) {
+      try {
+         MessageDigest digest = MessageDigest.getInstance("SHA-256");
+         return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+      } catch (NoSuchAlgorithmException e) {
+         throw new IllegalStateException("SHA-256 is not available.", e);
+      }
+   }
+
+
+   private record Target(String url, String key, Path file) {
+   }
+
+}
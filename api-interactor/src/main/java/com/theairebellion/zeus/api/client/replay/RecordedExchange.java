@@ -0,0 +1,158 @@
+package com.theairebellion.zeus.api.client.replay;
+
+import com.theairebellion.zeus.api.client.BodyConsumer;
+import com.theairebellion.zeus.api.client.StreamedResponse;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A recorded HTTP exchange, stored as a small JSON document.
+ *
+ * <p>For a streamed exchange only the head of the body is stored, together with the size and digest of the
+ * whole body.
+ *
+ * @param method  The HTTP method of the request.
+ * @param url     The normalized request URL.
+ * @param status  The response status code.
+ * @param headers The response headers as name/value pairs.
+ * @param body    The response body, or its head for a streamed exchange.
+ * @param size    The size of a streamed body in bytes, {@code null} if the whole body is stored.
+ * @param sha256  The hex encoded SHA-256 digest of a streamed body, {@code null} if the whole body is stored.
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+record RecordedExchange(String method, String url, int status, List<Header> headers, String body, Long size,
+                        String sha256) {
+
+   private static final String CONTENT_TYPE = "Content-Type";
+
+
+   static RecordedExchange of(String method, String url, Response response) {
+      return new RecordedExchange(method, url, response.getStatusCode(), headers(response), response.asString(),
+            null, null);
+   }
+
+
+   static RecordedExchange of(String method, String url, StreamedResponse streamed) {
+      return new RecordedExchange(method, url, streamed.statusCode(), headers(streamed.response()), streamed.head(),
+            streamed.size(), streamed.sha256());
+   }
+
+
+   static RecordedExchange fromJson(String json) {
+      JsonPath document = new JsonPath(json);
+      List<Header> headers = new ArrayList<>();
+      List<Map<String, String>> recorded = document.getList("headers");
+      if (recorded != null) {
+         recorded.forEach(header -> headers.add(new Header(header.get("name"), header.get("value"))));
+      }
+      Number size = document.get("size");
+      return new RecordedExchange(document.getString("method"), document.getString("url"),
+            document.getInt("status"), List.copyOf(headers), document.getString("body"),
+            size != null ? size.longValue() : null, document.getString("sha256"));
+   }
+
+
+   String toJson() {
+      StringBuilder json = new StringBuilder("{").append(System.lineSeparator())
+            .append("  \"method\": ").append(quote(method)).append(',').append(System.lineSeparator())
+            .append("  \"url\": ").append(quote(url)).append(',').append(System.lineSeparator())
+            .append("  \"status\": ").append(status).append(',').append(System.lineSeparator())
+            .append("  \"headers\": [");
+      for (int i = 0; i < headers.size(); i++) {
+         Header header = headers.get(i);
+         json.append(i == 0 ? "" : ", ")
+               .append("{\"name\": ").append(quote(header.getName()))
+               .append(", \"value\": ").append(quote(header.getValue())).append('}');
+      }
+      json.append("],").append(System.lineSeparator());
+      if (size != null) {
+         json.append("  \"size\": ").append(size).append(',').append(System.lineSeparator())
+               .append("  \"sha256\": ").append(quote(sha256)).append(',').append(System.lineSeparator());
+      }
+      return json.append("  \"body\": ").append(quote(body)).append(System.lineSeparator())
+            .append('}').toString();
+   }
+
+
+   Response toResponse() {
+      ResponseBuilder builder = new ResponseBuilder()
+            .setStatusCode(status)
+            .setHeaders(new Headers(headers))
+            .setBody(body != null ? body : "");
+      headers.stream()
+            .filter(header -> CONTENT_TYPE.equalsIgnoreCase(header.getName()))
+            .findFirst()
+            .ifPresent(header -> builder.setContentType(header.getValue()));
+      return builder.build();
+   }
+
+
+   /**
+    * Replays a streamed exchange: the recorded head of the body is handed to the consumer, and size and
+    * digest are those of the recorded body.
+    *
+    * @param consumer The consumer of the body.
+    * @return The streamed response.
+    * @throws IllegalStateException if the exchange was not recorded as a streamed exchange.
+    * @throws UncheckedIOException  if the consumer fails.
+    */
+   StreamedResponse toStreamedResponse(BodyConsumer consumer) {
+      if (size == null) {
+         throw new IllegalStateException("The exchange for " + method + " " + url + " was not recorded as streamed.");
+      }
+      String head = body != null ? body : "";
+      try (InputStream stream = new ByteArrayInputStream(head.getBytes(StandardCharsets.UTF_8))) {
+         consumer.accept(stream);
+      } catch (IOException e) {
+         throw new UncheckedIOException("Failed to stream the response body.", e);
+      }
+      return new StreamedResponse(toResponse(), size, sha256, head);
+   }
+
+
+   private static List<Header> headers(Response response) {
+      List<Header> headers = new ArrayList<>();
+      if (response.getHeaders() != null) {
+         response.getHeaders().forEach(headers::add);
+      }
+      return List.copyOf(headers);
+   }
+
+
+   private static String quote(String value) {
+      if (value == null) {
+         return "null";
+      }
+      StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+      for (int i = 0; i < value.length(); i++) {
+         char c = value.charAt(i);
+         switch (c) {
+            case '"' -> quoted.append("\\\"");
+            case '\\' -> quoted.append("\\\\");
+            case '\n' -> quoted.append("\\n");
+            case '\r' -> quoted.append("\\r");
+            case '\t' -> quoted.append("\\t");
+            default -> {
+               if (c < 0x20) {
+                  quoted.append(String.format("\\u%04x", (int) c));
+               } else {
+                  quoted.append(c);
+               }
+            }
+         }
+      }
+      return quoted.append('"').toString();
+   }
+
+}
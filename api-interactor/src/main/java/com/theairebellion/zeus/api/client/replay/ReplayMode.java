@@ -0,0 +1,25 @@
+package com.theairebellion.zeus.api.client.replay;
+
+/**
+ * Modes of the {@link RecordReplayRestClient}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public enum ReplayMode {
+
+   /**
+    * Requests are sent to the server; nothing is recorded.
+    */
+   OFF,
+
+   /**
+    * Requests are sent to the server and every exchange is recorded.
+    */
+   RECORD,
+
+   /**
+    * Requests are answered from the recordings; nothing is sent to the server.
+    */
+   REPLAY
+
+}
@@ -90,4 +90,197 @@ public interface ApiConfig extends PropertyConfig {
    @Key("shorten.body")
    int shortenBody();
 
+   /**
+    * Determines whether requests are sent through the framework-managed pooled HTTP client.
+    *
+    * <p>When enabled, all requests executed by the REST client share one bounded pool of keep-alive
+    * connections, unless the request specification already carries its own HTTP client configuration.
+    *
+    * <p>Default: {@code true}
+    *
+    * @return {@code true} if the pooled HTTP client is used, {@code false} otherwise.
+    */
+   @DefaultValue("true")
+   @Key("api.http.pool.enabled")
+   boolean httpPoolEnabled();
+
+   /**
+    * Specifies the maximum number of pooled connections across all routes.
+    *
+    * <p>Default: {@code 50}
+    *
+    * @return The maximum total number of connections.
+    */
+   @DefaultValue("50")
+   @Key("api.http.pool.max.total")
+   int httpPoolMaxTotal();
+
+   /**
+    * Specifies the maximum number of pooled connections to a single route (scheme, host and port).
+    *
+    * <p>Default: {@code 20}
+    *
+    * @return The maximum number of connections per route.
+    */
+   @DefaultValue("20")
+   @Key("api.http.pool.max.per.route")
+   int httpPoolMaxPerRoute();
+
+   /**
+    * Specifies how long an idle connection is kept alive when the server does not send a
+    * {@code Keep-Alive} timeout.
+    *
+    * <p>Default: {@code 30000}
+    *
+    * @return The keep-alive duration in milliseconds.
+    */
+   @DefaultValue("30000")
+   @Key("api.http.pool.keep.alive.ms")
+   long httpPoolKeepAliveMs();
+
+   /**
+    * Specifies after how long an unused pooled connection is evicted by the background eviction task.
+    *
+    * <p>Default: {@code 60000}
+    *
+    * @return The idle timeout in milliseconds.
+    */
+   @DefaultValue("60000")
+   @Key("api.http.pool.idle.timeout.ms")
+   long httpPoolIdleTimeoutMs();
+
+   /**
+    * Specifies how many asynchronous requests of the REST service may run at the same time.
+    *
+    * <p>Default: {@code 10}
+    *
+    * @return The maximum number of concurrently executing asynchronous requests.
+    */
+   @DefaultValue("10")
+   @Key("api.async.parallelism")
+   int asyncParallelism();
+
+   /**
+    * Specifies how long a cached authentication header stays valid when its token does not carry an expiry.
+    *
+    * <p>A value of {@code 0} keeps such headers for the whole run.
+    *
+    * <p>Default: {@code 0}
+    *
+    * @return The time to live of cached authentication headers in seconds.
+    */
+   @DefaultValue("0")
+   @Key("api.auth.cache.ttl.seconds")
+   long authCacheTtlSeconds();
+
+   /**
+    * Specifies how long before its expiry a cached authentication header is refreshed in the background.
+    *
+    * <p>Default: {@code 30}
+    *
+    * @return The refresh-ahead window in seconds.
+    */
+   @DefaultValue("30")
+   @Key("api.auth.cache.refresh.ahead.seconds")
+   long authCacheRefreshAheadSeconds();
+
+   /**
+    * Specifies the maximum number of cached authentication headers. The least recently used header is
+    * evicted when the limit is exceeded.
+    *
+    * <p>Default: {@code 1000}
+    *
+    * @return The maximum number of cached authentication headers.
+    */
+   @DefaultValue("1000")
+   @Key("api.auth.cache.max.size")
+   int authCacheMaxSize();
+
+   /**
+    * Specifies the duration above which a request is reported as slow, unless the endpoint has its own
+    * threshold in {@link #slowRequestThresholds()}.
+    *
+    * <p>Default: {@code 2000}
+    *
+    * @return The slow request threshold in milliseconds.
+    */
+   @DefaultValue("2000")
+   @Key("api.slow.request.threshold.ms")
+   long slowRequestThresholdMs();
+
+   /**
+    * Specifies slow request thresholds of individual endpoints as a comma-separated list of
+    * {@code EnumClass.CONSTANT=milliseconds} pairs, where {@code EnumClass} is the simple name of the endpoint
+    * enum and {@code CONSTANT} the name of the endpoint constant, for example
+    * {@code UserEndpoints.GET_USERS=500,UserEndpoints.CREATE_USER=3000}.
+    *
+    * <p>Default: empty
+    *
+    * @return The per-endpoint slow request thresholds.
+    */
+   @DefaultValue("")
+   @Key("api.slow.request.thresholds")
+   String slowRequestThresholds();
+
+   /**
+    * Specifies the file the per-endpoint latency report is written to at the end of the test run.
+    * An empty value disables the report.
+    *
+    * <p>Default: {@code allure-results/api-latency.json}
+    *
+    * @return The path of the latency report.
+    */
+   @DefaultValue("allure-results/api-latency.json")
+   @Key("api.latency.report.file")
+   String latencyReportFile();
+
+   /**
+    * Specifies whether API exchanges are recorded to or replayed from {@link #replayDirectory()}.
+    *
+    * <p>Supported values are {@code OFF}, {@code RECORD} and {@code REPLAY}.
+    *
+    * <p>Default: {@code OFF}
+    *
+    * @return The record/replay mode.
+    */
+   @DefaultValue("OFF")
+   @Key("api.replay.mode")
+   String replayMode();
+
+   /**
+    * Specifies the directory recorded API exchanges are stored in.
+    *
+    * <p>Default: {@code src/test/resources/api-recordings}
+    *
+    * @return The recordings directory.
+    */
+   @DefaultValue("src/test/resources/api-recordings")
+   @Key("api.replay.directory")
+   String replayDirectory();
+
+   /**
+    * Specifies the {@code Content-Length} above which a response body is not read for logging and reporting.
+    *
+    * <p>Such bodies stay unread until the caller consumes them, for example with
+    * {@link com.theairebellion.zeus.api.service.RestService#requestStreaming}.
+    *
+    * <p>Default: {@code 1048576}
+    *
+    * @return The streaming threshold in bytes.
+    */
+   @DefaultValue("1048576")
+   @Key("api.response.stream.threshold.bytes")
+   long responseStreamThresholdBytes();
+
+   /**
+    * Specifies how many leading bytes of a streamed response body are kept for logs and reports.
+    *
+    * <p>Default: {@code 8192}
+    *
+    * @return The size of the kept head of a streamed body in bytes.
+    */
+   @DefaultValue("8192")
+   @Key("api.response.stream.head.bytes")
+   int responseStreamHeadBytes();
+
 }
@@ -1,6 +1,5 @@
 package com.theairebellion.zeus.api.core;
 
-import io.restassured.RestAssured;
 import io.restassured.http.Method;
 import io.restassured.specification.RequestSpecification;
 import java.util.Collections;
@@ -63,25 +62,15 @@ public interface Endpoint<T extends Enum<T>> {
    /**
     * Prepares a default {@link RequestSpecification} with base configuration.
     *
-    * <p>Configures base URI, headers, and logging based on API configuration.
+    * <p>Configures base URI, headers, and logging based on API configuration. For endpoints declared
+    * as enum constants this configuration is resolved once and reused through a {@link RequestSpecTemplate},
+    * so {@link #baseUrl()} and {@link #headers()} should not return values that change per request;
+    * use {@link #withHeader(String, String)} for those.
     *
     * @return The configured request specification.
     */
    default RequestSpecification defaultConfiguration() {
-      RequestSpecification spec = RestAssured.given()
-            .baseUri(baseUrl())
-            .headers(headers());
-
-      if (getApiConfig().restAssuredLoggingEnabled()) {
-         switch (getApiConfig().restAssuredLoggingLevel()) {
-            case "BASIC" -> spec.log().ifValidationFails();
-            case "ALL" -> spec.log().all();
-            case "NONE" -> { /* No logging */ }
-            default -> throw new IllegalArgumentException("Unsupported logging level");
-         }
-      }
-
-      return spec;
+      return RequestSpecTemplate.newSpecification(this);
    }
 
    /**
@@ -33,12 +33,15 @@ public class ParametrizedEndpoint<T extends Enum<T>> implements Endpoint<T> {
       this(original, new HashMap<>(), new HashMap<>(), new HashMap<>());
    }
 
+   /**
+    * Wraps maps that are owned by the new instance; callers hand over fresh copies.
+    */
    private ParametrizedEndpoint(Endpoint<T> original, Map<String, Object> pathParams, Map<String, Object> queryParams,
                                 Map<String, List<String>> additionalHeaders) {
       this.original = original;
-      this.pathParams = Collections.unmodifiableMap(new HashMap<>(pathParams));
-      this.queryParams = Collections.unmodifiableMap(new HashMap<>(queryParams));
-      this.additionalHeaders = Collections.unmodifiableMap(new HashMap<>(additionalHeaders));
+      this.pathParams = Collections.unmodifiableMap(pathParams);
+      this.queryParams = Collections.unmodifiableMap(queryParams);
+      this.additionalHeaders = Collections.unmodifiableMap(additionalHeaders);
    }
 
    /**
@@ -105,10 +108,11 @@ public class ParametrizedEndpoint<T extends Enum<T>> implements Endpoint<T> {
       RequestSpecification spec = original.prepareRequestSpec(body);
       spec.pathParams(pathParams);
       spec.queryParams(queryParams);
-      headers().forEach((key, values) -> spec.header(key, String.join(",", values)));
+      Map<String, List<String>> headers = headers();
+      headers.forEach((key, values) -> spec.header(key, String.join(",", values)));
 
       LogApi.info("Prepared RequestSpecification with pathParams: {}, queryParams: {}, headers: {}",
-            pathParams, queryParams, headers());
+            pathParams, queryParams, headers);
 
       return spec;
    }
@@ -157,7 +161,7 @@ public class ParametrizedEndpoint<T extends Enum<T>> implements Endpoint<T> {
    public ParametrizedEndpoint<T> withHeader(String key, String value) {
       validateParam(key, value);
       Map<String, List<String>> newHeaders = new HashMap<>(this.additionalHeaders);
-      newHeaders.computeIfAbsent(key, k -> new ArrayList<>()).add(value);
+      newHeaders.put(key, append(newHeaders.get(key), List.of(value)));
       return new ParametrizedEndpoint<>(this.original, this.pathParams, this.queryParams, newHeaders);
    }
 
@@ -173,10 +177,22 @@ public class ParametrizedEndpoint<T extends Enum<T>> implements Endpoint<T> {
    public ParametrizedEndpoint<T> withHeader(String key, List<String> values) {
       validateParam(key, values);
       Map<String, List<String>> newHeaders = new HashMap<>(this.additionalHeaders);
-      newHeaders.computeIfAbsent(key, k -> new ArrayList<>()).addAll(values);
+      newHeaders.put(key, append(newHeaders.get(key), values));
       return new ParametrizedEndpoint<>(this.original, this.pathParams, this.queryParams, newHeaders);
    }
 
+   /**
+    * Returns a new list with the given values appended, leaving the list of the previous instance untouched.
+    */
+   private static List<String> append(List<String> existing, List<String> values) {
+      List<String> merged = new ArrayList<>(existing == null ? values.size() : existing.size() + values.size());
+      if (existing != null) {
+         merged.addAll(existing);
+      }
+      merged.addAll(values);
+      return merged;
+   }
+
    /**
     * Validates a parameter key and value.
     *
@@ -0,0 +1,95 @@
+package com.theairebellion.zeus.api.core;
+
+import com.theairebellion.zeus.api.config.ApiConfig;
+import io.restassured.RestAssured;
+import io.restassured.specification.RequestSpecification;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.theairebellion.zeus.api.config.ApiConfigHolder.getApiConfig;
+
+/**
+ * Pre-built base {@link RequestSpecification} of an endpoint.
+ *
+ * <p>For endpoints declared as enum constants the base URI, the endpoint headers and the Rest Assured
+ * logging level are resolved once, on the first request, and kept in a template. Every request then
+ * starts from a fresh specification merged from that template, so neither the API configuration nor
+ * {@link Endpoint#headers()} is consulted again. Path, query parameters and extra headers are applied
+ * on top of the fresh specification per call.
+ *
+ * <p>Endpoints that are not enum constants are configured from scratch on every call.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class RequestSpecTemplate {
+
+   private static final Map<Endpoint<?>, RequestSpecTemplate> TEMPLATES = new ConcurrentHashMap<>();
+
+   private static final String LOGGING_NONE = "NONE";
+
+   private final RequestSpecification base;
+
+   private final String loggingLevel;
+
+
+   private RequestSpecTemplate(Endpoint<?> endpoint) {
+      this.loggingLevel = resolveLoggingLevel();
+      this.base = RestAssured.given()
+            .baseUri(endpoint.baseUrl())
+            .headers(endpoint.headers());
+   }
+
+
+   /**
+    * Discards all cached templates, for example after the API configuration was changed.
+    */
+   public static void clear() {
+      TEMPLATES.clear();
+   }
+
+
+   /**
+    * Creates a new request specification with the base configuration of the given endpoint.
+    *
+    * @param endpoint The endpoint.
+    * @return A new, mutable request specification.
+    * @throws IllegalArgumentException if the configured logging level is not supported.
+    */
+   static RequestSpecification newSpecification(Endpoint<?> endpoint) {
+      if (endpoint instanceof Enum<?>) {
+         RequestSpecTemplate template = TEMPLATES.computeIfAbsent(endpoint, RequestSpecTemplate::new);
+         return applyLogging(RestAssured.given().spec(template.base), template.loggingLevel);
+      }
+
+      String level = resolveLoggingLevel();
+      RequestSpecification spec = RestAssured.given()
+            .baseUri(endpoint.baseUrl())
+            .headers(endpoint.headers());
+      return applyLogging(spec, level);
+   }
+
+
+   private static String resolveLoggingLevel() {
+      ApiConfig config = getApiConfig();
+      if (!config.restAssuredLoggingEnabled()) {
+         return LOGGING_NONE;
+      }
+
+      String level = config.restAssuredLoggingLevel();
+      return switch (level) {
+         case "BASIC", "ALL", LOGGING_NONE -> level;
+         default -> throw new IllegalArgumentException("Unsupported logging level");
+      };
+   }
+
+
+   private static RequestSpecification applyLogging(RequestSpecification spec, String level) {
+      switch (level) {
+         case "BASIC" -> spec.log().ifValidationFails();
+         case "ALL" -> spec.log().all();
+         default -> { /* No logging */ }
+      }
+      return spec;
+   }
+
+}
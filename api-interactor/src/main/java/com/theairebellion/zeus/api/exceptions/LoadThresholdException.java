@@ -0,0 +1,31 @@
+package com.theairebellion.zeus.api.exceptions;
+
+import com.theairebellion.zeus.api.load.LoadProfile;
+import com.theairebellion.zeus.api.load.LoadResult;
+import lombok.Getter;
+
+/**
+ * Thrown when a load test breaches one of the thresholds of its {@link LoadProfile}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@Getter
+public class LoadThresholdException extends RuntimeException {
+
+   /**
+    * The result of the load test that breached the thresholds.
+    */
+   private final transient LoadResult result;
+
+   /**
+    * Constructs a new {@code LoadThresholdException}.
+    *
+    * @param message The breached thresholds.
+    * @param result  The result of the load test.
+    */
+   public LoadThresholdException(String message, LoadResult result) {
+      super(message);
+      this.result = result;
+   }
+
+}
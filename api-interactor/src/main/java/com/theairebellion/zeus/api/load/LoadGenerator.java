@@ -0,0 +1,177 @@
+package com.theairebellion.zeus.api.load;
+
+import com.theairebellion.zeus.api.client.RequestDuration;
+import com.theairebellion.zeus.api.client.RestClient;
+import com.theairebellion.zeus.api.core.Endpoint;
+import com.theairebellion.zeus.api.exceptions.LoadThresholdException;
+import com.theairebellion.zeus.api.log.LogApi;
+import com.theairebellion.zeus.api.metrics.LatencyHistogram;
+import io.restassured.response.Response;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drives closed-loop load against an {@link Endpoint} through a {@link RestClient}.
+ *
+ * <p>Every virtual user runs on its own thread and sends its next request as soon as the previous one
+ * completes, so the offered load adapts to the response times of the system under test. Latencies are
+ * recorded in a {@link LatencyHistogram}, as reported by the client through {@link RequestDuration} so that
+ * request logging is not counted, or as the time of the whole call for clients that report none; a request
+ * counts as failed if it throws or returns a status code
+ * of {@code 400} or higher. Requests are sent through the given client only, without authentication;
+ * headers required by the endpoint have to be part of the endpoint itself.
+ *
+ * <pre>{@code
+ * LoadResult result = new LoadGenerator(restClient).run(LoadProfile.builder()
+ *       .endpoint(Endpoints.GET_USERS)
+ *       .virtualUsers(10)
+ *       .duration(Duration.ofSeconds(30))
+ *       .maxP95(Duration.ofMillis(300))
+ *       .build());
+ * }</pre>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public class LoadGenerator {
+
+   private static final int ERROR_STATUS_CODE = 400;
+
+   private final RestClient restClient;
+
+
+   /**
+    * Creates a load generator that sends its requests through the given client.
+    *
+    * @param restClient The client executing the requests.
+    */
+   public LoadGenerator(RestClient restClient) {
+      this.restClient = restClient;
+   }
+
+
+   /**
+    * Runs the load test described by the profile and checks its thresholds.
+    *
+    * @param profile The load profile.
+    * @return The result of the load test.
+    * @throws IllegalArgumentException if the profile has neither a duration nor an iteration count, or no
+    *                                  virtual users.
+    * @throws LoadThresholdException   if the result breaches a threshold of the profile.
+    */
+   public LoadResult run(LoadProfile profile) {
+      validate(profile);
+
+      LatencyHistogram histogram = new LatencyHistogram();
+      AtomicLong errors = new AtomicLong();
+      AtomicLong remaining = new AtomicLong(profile.getIterations() > 0 ? profile.getIterations() : Long.MAX_VALUE);
+      long start = System.nanoTime();
+      long deadline = hasDuration(profile) ? start + profile.getDuration().toNanos() : Long.MAX_VALUE;
+
+      CountDownLatch finished = new CountDownLatch(profile.getVirtualUsers());
+      List<Thread> users = new ArrayList<>(profile.getVirtualUsers());
+      for (int i = 0; i < profile.getVirtualUsers(); i++) {
+         Thread user = new Thread(() -> {
+            try {
+               while (System.nanoTime() < deadline && remaining.getAndDecrement() > 0) {
+                  send(profile, histogram, errors);
+               }
+            } finally {
+               finished.countDown();
+            }
+         }, "zeus-load-user-" + (i + 1));
+         user.setDaemon(true);
+         users.add(user);
+      }
+
+      LogApi.info("Starting load on endpoint {} with {} virtual user(s).", profile.getEndpoint().url(),
+            profile.getVirtualUsers());
+      users.forEach(Thread::start);
+      awaitUsers(finished, users);
+
+      LoadResult result = new LoadResult(histogram.count(), errors.get(), Duration.ofNanos(System.nanoTime() - start),
+            micros(histogram.percentile(50)), micros(histogram.percentile(95)), micros(histogram.percentile(99)),
+            micros(histogram.max()));
+      LogApi.info("Load on endpoint {} finished: {}", profile.getEndpoint().url(), result);
+
+      List<String> violations = violations(profile, result);
+      if (!violations.isEmpty()) {
+         throw new LoadThresholdException("Load thresholds breached for endpoint " + profile.getEndpoint().url()
+               + ": " + String.join("; ", violations) + ". " + result, result);
+      }
+      return result;
+   }
+
+
+   private void send(LoadProfile profile, LatencyHistogram histogram, AtomicLong errors) {
+      Endpoint<?> endpoint = profile.getEndpoint();
+      Object body = profile.getBody() != null ? profile.getBody().get() : null;
+      RequestDuration.take();
+      long start = System.nanoTime();
+      try {
+         Response response = restClient.execute(endpoint.prepareRequestSpec(body), endpoint.method());
+         if (response == null || response.getStatusCode() >= ERROR_STATUS_CODE) {
+            errors.incrementAndGet();
+         }
+      } catch (RuntimeException e) {
+         errors.incrementAndGet();
+      } finally {
+         long nanos = RequestDuration.take().orElse(System.nanoTime() - start);
+         histogram.record(TimeUnit.NANOSECONDS.toMicros(nanos));
+      }
+   }
+
+
+   private static void validate(LoadProfile profile) {
+      if (profile.getVirtualUsers() < 1) {
+         throw new IllegalArgumentException("At least one virtual user is required.");
+      }
+      if (!hasDuration(profile) && profile.getIterations() <= 0) {
+         throw new IllegalArgumentException("Either a duration or an iteration count must be set.");
+      }
+   }
+
+
+   private static boolean hasDuration(LoadProfile profile) {
+      return profile.getDuration() != null && !profile.getDuration().isNegative() && !profile.getDuration().isZero();
+   }
+
+
+   private static void awaitUsers(CountDownLatch finished, List<Thread> users) {
+      try {
+         finished.await();
+      } catch (InterruptedException e) {
+         users.forEach(Thread::interrupt);
+         Thread.currentThread().interrupt();
+         throw new IllegalStateException("Interrupted while waiting for the virtual users.", e);
+      }
+   }
+
+
+   private static List<String> violations(LoadProfile profile, LoadResult result) {
+      List<String> violations = new ArrayList<>();
+      if (profile.getMaxP95() != null && result.p95().compareTo(profile.getMaxP95()) > 0) {
+         violations.add("p95 " + result.p95().toMillis() + "ms > " + profile.getMaxP95().toMillis() + "ms");
+      }
+      if (profile.getMaxP99() != null && result.p99().compareTo(profile.getMaxP99()) > 0) {
+         violations.add("p99 " + result.p99().toMillis() + "ms > " + profile.getMaxP99().toMillis() + "ms");
+      }
+      if (profile.getMaxErrorRate() != null && result.errorRate() > profile.getMaxErrorRate()) {
+         violations.add(String.format("error rate %.4f > %.4f", result.errorRate(), profile.getMaxErrorRate()));
+      }
+      if (profile.getMinThroughput() != null && result.throughput() < profile.getMinThroughput()) {
+         violations.add(String.format("throughput %.1f req/s < %.1f req/s", result.throughput(),
+               profile.getMinThroughput()));
+      }
+      return violations;
+   }
+
+
+   private static Duration micros(long micros) {
+      return Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(micros));
+   }
+
+}
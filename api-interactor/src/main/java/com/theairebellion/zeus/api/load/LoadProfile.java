@@ -0,0 +1,70 @@
+package com.theairebellion.zeus.api.load;
+
+import com.theairebellion.zeus.api.core.Endpoint;
+import java.time.Duration;
+import java.util.function.Supplier;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Describes a closed-loop load test of a single endpoint.
+ *
+ * <p>Each of the {@code virtualUsers} sends a request, waits for the response and immediately sends the next
+ * one, until {@code duration} has elapsed or {@code iterations} requests were sent by all users together.
+ * Thresholds that are left unset are not checked.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@Getter
+@Builder
+public final class LoadProfile {
+
+   /**
+    * The endpoint to call.
+    */
+   @NonNull
+   private final Endpoint<?> endpoint;
+
+   /**
+    * Supplies the request body of every request, or {@code null} for requests without a body.
+    */
+   private final Supplier<?> body;
+
+   /**
+    * The number of concurrent virtual users.
+    */
+   @Builder.Default
+   private final int virtualUsers = 1;
+
+   /**
+    * How long the load is applied.
+    */
+   private final Duration duration;
+
+   /**
+    * The total number of requests to send.
+    */
+   private final long iterations;
+
+   /**
+    * The highest acceptable 95th percentile latency.
+    */
+   private final Duration maxP95;
+
+   /**
+    * The highest acceptable 99th percentile latency.
+    */
+   private final Duration maxP99;
+
+   /**
+    * The highest acceptable share of failed requests, between {@code 0} and {@code 1}.
+    */
+   private final Double maxErrorRate;
+
+   /**
+    * The lowest acceptable throughput in requests per second.
+    */
+   private final Double minThroughput;
+
+}
@@ -0,0 +1,48 @@
+package com.theairebellion.zeus.api.load;
+
+import java.time.Duration;
+
+/**
+ * Outcome of a load test.
+ *
+ * @param requests The number of requests sent.
+ * @param errors   The number of requests that failed or returned a status code of {@code 400} or higher.
+ * @param elapsed  The wall-clock duration of the test.
+ * @param p50      The median latency.
+ * @param p95      The 95th percentile latency.
+ * @param p99      The 99th percentile latency.
+ * @param max      The highest latency.
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public record LoadResult(long requests, long errors, Duration elapsed, Duration p50, Duration p95, Duration p99,
+                         Duration max) {
+
+   /**
+    * Returns the number of requests completed per second.
+    *
+    * @return The throughput.
+    */
+   public double throughput() {
+      long nanos = elapsed.toNanos();
+      return nanos == 0 ? 0 : requests * 1_000_000_000.0 / nanos;
+   }
+
+
+   /**
+    * Returns the share of failed requests.
+    *
+    * @return The error rate between {@code 0} and {@code 1}.
+    */
+   public double errorRate() {
+      return requests == 0 ? 0 : (double) errors / requests;
+   }
+
+
+   @Override
+   public String toString() {
+      return String.format("%d requests in %dms (%.1f req/s, %.2f%% errors), latency p50=%dms p95=%dms p99=%dms"
+                  + " max=%dms", requests, elapsed.toMillis(), throughput(), errorRate() * 100, p50.toMillis(),
+            p95.toMillis(), p99.toMillis(), max.toMillis());
+   }
+
+}
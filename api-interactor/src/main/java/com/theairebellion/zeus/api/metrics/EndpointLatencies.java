@@ -0,0 +1,175 @@
+package com.theairebellion.zeus.api.metrics;
+
+import com.theairebellion.zeus.api.log.LogApi;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static com.theairebellion.zeus.api.config.ApiConfigHolder.getApiConfig;
+
+/**
+ * Records the latency of every request per endpoint and HTTP method, and reports slow requests.
+ *
+ * <p>Latencies are kept in a {@link LatencyHistogram} per endpoint for the whole run, so percentiles can be
+ * reported at the end of it with {@link #summaries()} or {@link #writeReport(Path)}. A request is reported as
+ * slow when it takes longer than the threshold configured for its endpoint in
+ * {@code api.slow.request.thresholds}, or otherwise longer than {@code api.slow.request.threshold.ms}.
+ *
+ * <p>Endpoints are named {@code EnumClass.CONSTANT} after the simple name of their enum class and their
+ * constant, for example {@code UserEndpoints.GET_USERS}, so equally named constants of different endpoint
+ * enums are kept apart. Thresholds are configured under the same names.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class EndpointLatencies {
+
+   private static final Map<Key, LatencyHistogram> HISTOGRAMS = new ConcurrentHashMap<>();
+
+   private static volatile Map<String, Long> thresholds;
+
+
+   private EndpointLatencies() {
+   }
+
+
+   /**
+    * Records the latency of a request and warns if it exceeded the slow request threshold of the endpoint.
+    *
+    * @param endpoint The name of the endpoint, {@code EnumClass.CONSTANT} for enum endpoints.
+    * @param method   The HTTP method.
+    * @param nanos    The duration of the request in nanoseconds.
+    */
+   public static void record(String endpoint, String method, long nanos) {
+      Key key = new Key(endpoint, method);
+      HISTOGRAMS.computeIfAbsent(key, k -> new LatencyHistogram()).record(TimeUnit.NANOSECONDS.toMicros(nanos));
+
+      long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+      if (millis > thresholdMs(endpoint)) {
+         LogApi.warn("Request to endpoint {}-{} took too long: {}ms.", method, endpoint, millis);
+      }
+   }
+
+
+   /**
+    * Returns the slow request threshold of an endpoint.
+    *
+    * @param endpoint The name of the endpoint.
+    * @return The threshold in milliseconds.
+    */
+   public static long thresholdMs(String endpoint) {
+      Long threshold = thresholds().get(endpoint);
+      return threshold != null ? threshold : getApiConfig().slowRequestThresholdMs();
+   }
+
+
+   /**
+    * Returns the latency summary of every endpoint recorded so far, ordered by endpoint and method.
+    *
+    * @return The summaries.
+    */
+   public static List<LatencySummary> summaries() {
+      return HISTOGRAMS.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey(Comparator.comparing(Key::endpoint).thenComparing(Key::method)))
+            .map(entry -> LatencySummary.of(entry.getKey().endpoint(), entry.getKey().method(), entry.getValue()))
+            .toList();
+   }
+
+
+   /**
+    * Renders the summaries as a JSON array.
+    *
+    * @return The JSON report.
+    */
+   public static String toJson() {
+      StringBuilder json = new StringBuilder("[");
+      List<LatencySummary> summaries = summaries();
+      for (int i = 0; i < summaries.size(); i++) {
+         LatencySummary summary = summaries.get(i);
+         json.append(i == 0 ? "" : ",").append(System.lineSeparator())
+               .append("  {\"endpoint\": \"").append(escape(summary.endpoint()))
+               .append("\", \"method\": \"").append(escape(summary.method()))
+               .append("\", \"count\": ").append(summary.count())
+               .append(", \"p50Ms\": ").append(summary.p50Ms())
+               .append(", \"p95Ms\": ").append(summary.p95Ms())
+               .append(", \"p99Ms\": ").append(summary.p99Ms())
+               .append(", \"maxMs\": ").append(summary.maxMs())
+               .append('}');
+      }
+      return json.append(summaries.isEmpty() ? "" : System.lineSeparator()).append(']').toString();
+   }
+
+
+   /**
+    * Writes the JSON report to the given file, unless no request was recorded.
+    *
+    * @param file The report file.
+    */
+   public static void writeReport(Path file) {
+      if (HISTOGRAMS.isEmpty()) {
+         return;
+      }
+      try {
+         Path parent = file.toAbsolutePath().getParent();
+         if (parent != null) {
+            Files.createDirectories(parent);
+         }
+         Files.writeString(file, toJson(), StandardCharsets.UTF_8);
+      } catch (IOException e) {
+         LogApi.warn("Failed to write the API latency report to {}: {}", file, e.getMessage());
+      }
+   }
+
+
+   /**
+    * Discards all recorded latencies and the parsed thresholds.
+    */
+   public static void reset() {
+      HISTOGRAMS.clear();
+      thresholds = null;
+   }
+
+
+   private static Map<String, Long> thresholds() {
+      Map<String, Long> parsed = thresholds;
+      if (parsed == null) {
+         parsed = parseThresholds(getApiConfig().slowRequestThresholds());
+         thresholds = parsed;
+      }
+      return parsed;
+   }
+
+
+   static Map<String, Long> parseThresholds(String value) {
+      if (value == null || value.isBlank()) {
+         return Map.of();
+      }
+      Map<String, Long> parsed = new HashMap<>();
+      for (String pair : value.split(",")) {
+         int separator = pair.indexOf('=');
+         if (separator <= 0) {
+            throw new IllegalArgumentException("Invalid slow request threshold: '" + pair.trim()
+                  + "'. Expected EnumClass.CONSTANT=milliseconds.");
+         }
+         parsed.put(pair.substring(0, separator).trim(), Long.parseLong(pair.substring(separator + 1).trim()));
+      }
+      return Map.copyOf(parsed);
+   }
+
+
+   private static String escape(String value) {
+      return value.replace("\\", "\\\\").replace("\"", "\\\"");
+   }
+
+
+   private record Key(String endpoint, String method) {
+
+   }
+
+}
@@ -0,0 +1,103 @@
+package com.theairebellion.zeus.api.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of latencies recorded in microseconds.
+ *
+ * <p>Values are counted in log-linear buckets: below 128 every value has its own bucket, above that each
+ * power of two is split into 64 equally wide buckets. Percentiles are therefore exact for small values and
+ * within about 1.6% for large ones, while the histogram has a fixed size regardless of the number of
+ * recorded values. This follows the bucketing scheme of HdrHistogram with two significant digits.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class LatencyHistogram {
+
+   private static final int SUB_BUCKET_BITS = 6;
+
+   private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+   private static final int BUCKETS = SUB_BUCKETS * (Long.SIZE - SUB_BUCKET_BITS);
+
+   private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+   private final AtomicLong total = new AtomicLong();
+
+   private final AtomicLong max = new AtomicLong();
+
+
+   /**
+    * Records a single latency.
+    *
+    * @param micros The latency in microseconds; negative values are recorded as {@code 0}.
+    */
+   public void record(long micros) {
+      long value = Math.max(0, micros);
+      counts.incrementAndGet(indexOf(value));
+      total.incrementAndGet();
+      max.accumulateAndGet(value, Math::max);
+   }
+
+
+   /**
+    * Returns the number of recorded latencies.
+    *
+    * @return The count.
+    */
+   public long count() {
+      return total.get();
+   }
+
+
+   /**
+    * Returns the highest recorded latency.
+    *
+    * @return The maximum in microseconds, or {@code 0} if nothing was recorded.
+    */
+   public long max() {
+      return max.get();
+   }
+
+
+   /**
+    * Returns the latency at the given percentile.
+    *
+    * @param percentile The percentile, between {@code 0} and {@code 100}.
+    * @return The highest latency equivalent to the percentile in microseconds, never more than {@link #max()},
+    *       or {@code 0} if nothing was recorded.
+    */
+   public long percentile(double percentile) {
+      long recorded = total.get();
+      if (recorded == 0) {
+         return 0;
+      }
+
+      double bounded = Math.min(100.0, Math.max(0.0, percentile));
+      long target = Math.max(1, (long) Math.ceil(bounded / 100.0 * recorded));
+      long seen = 0;
+      for (int index = 0; index < BUCKETS; index++) {
+         seen += counts.get(index);
+         if (seen >= target) {
+            return Math.min(highestEquivalentValue(index), max.get());
+         }
+      }
+      return max.get();
+   }
+
+
+   static int indexOf(long value) {
+      int magnitude = Long.SIZE - 1 - Long.numberOfLeadingZeros(value | 1);
+      int shift = Math.max(0, magnitude - SUB_BUCKET_BITS);
+      return SUB_BUCKETS * shift + (int) (value >>> shift);
+   }
+
+
+   static long highestEquivalentValue(int index) {
+      int shift = Math.max(0, index / SUB_BUCKETS - 1);
+      long subBucket = index - (long) SUB_BUCKETS * shift;
+      return ((subBucket + 1) << shift) - 1;
+   }
+
+}
@@ -0,0 +1,29 @@
+package com.theairebellion.zeus.api.metrics;
+
+/**
+ * Latency percentiles of one endpoint and HTTP method, in milliseconds.
+ *
+ * @param endpoint The name of the endpoint.
+ * @param method   The HTTP method.
+ * @param count    The number of recorded requests.
+ * @param p50Ms    The median latency.
+ * @param p95Ms    The 95th percentile latency.
+ * @param p99Ms    The 99th percentile latency.
+ * @param maxMs    The highest latency.
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public record LatencySummary(String endpoint, String method, long count, double p50Ms, double p95Ms,
+                             double p99Ms, double maxMs) {
+
+   static LatencySummary of(String endpoint, String method, LatencyHistogram histogram) {
+      return new LatencySummary(endpoint, method, histogram.count(),
+            millis(histogram.percentile(50)), millis(histogram.percentile(95)),
+            millis(histogram.percentile(99)), millis(histogram.max()));
+   }
+
+
+   private static double millis(long micros) {
+      return micros / 1000.0;
+   }
+
+}
@@ -0,0 +1,28 @@
+package com.theairebellion.zeus.api.service;
+
+import java.util.function.Supplier;
+
+/**
+ * Carries thread-bound context of the calling thread, such as the current report step, into asynchronous
+ * requests of {@link RestService}.
+ *
+ * <p>Every Spring bean implementing this interface is applied to each asynchronous request. The log4j
+ * {@code ThreadContext} is always propagated and needs no propagator.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public interface AsyncContextPropagator {
+
+   /**
+    * Captures the context of the calling thread and returns a task that runs the request with that context.
+    *
+    * <p>Called on the thread that issues the request; the returned task runs on a worker thread and must
+    * leave no context behind on it.
+    *
+    * @param request The request to run.
+    * @param <T>     The type of the request result.
+    * @return The request, wrapped to run with the captured context.
+    */
+   <T> Supplier<T> propagate(Supplier<T> request);
+
+}
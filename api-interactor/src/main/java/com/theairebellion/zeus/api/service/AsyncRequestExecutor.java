@@ -0,0 +1,59 @@
+package com.theairebellion.zeus.api.service;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.theairebellion.zeus.api.config.ApiConfigHolder.getApiConfig;
+
+/**
+ * Bounded executor for the asynchronous requests of {@link RestService}.
+ *
+ * <p>At most {@code api.async.parallelism} requests run at the same time; further requests wait in the
+ * queue. On runtimes that support virtual threads the workers are virtual threads, otherwise they are
+ * daemon platform threads, so pending requests never keep the JVM alive.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+final class AsyncRequestExecutor {
+
+   private AsyncRequestExecutor() {
+   }
+
+
+   /**
+    * Returns the shared executor, creating it on first use.
+    *
+    * @return The executor for asynchronous requests.
+    */
+   static ExecutorService get() {
+      return Holder.EXECUTOR;
+   }
+
+
+   private static ThreadFactory threadFactory() {
+      try {
+         Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+         Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+         builder = builderType.getMethod("name", String.class, long.class).invoke(builder, "zeus-api-async-", 1L);
+         return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+      } catch (ReflectiveOperationException | RuntimeException e) {
+         AtomicInteger counter = new AtomicInteger();
+         return runnable -> {
+            Thread thread = new Thread(runnable, "zeus-api-async-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+         };
+      }
+   }
+
+
+   private static final class Holder {
+
+      private static final ExecutorService EXECUTOR =
+            Executors.newFixedThreadPool(Math.max(1, getApiConfig().asyncParallelism()), threadFactory());
+
+   }
+
+}
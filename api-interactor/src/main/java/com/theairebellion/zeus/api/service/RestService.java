@@ -2,19 +2,33 @@ package com.theairebellion.zeus.api.service;
 
 import com.theairebellion.zeus.api.authentication.AuthenticationKey;
 import com.theairebellion.zeus.api.authentication.BaseAuthenticationClient;
+import com.theairebellion.zeus.api.client.BodyConsumer;
+import com.theairebellion.zeus.api.client.RequestDuration;
 import com.theairebellion.zeus.api.client.RestClient;
+import com.theairebellion.zeus.api.client.StreamedResponse;
 import com.theairebellion.zeus.api.core.Endpoint;
 import com.theairebellion.zeus.api.exceptions.RestServiceException;
+import com.theairebellion.zeus.api.metrics.EndpointLatencies;
 import com.theairebellion.zeus.api.validator.RestResponseValidator;
 import com.theairebellion.zeus.validator.core.Assertion;
 import com.theairebellion.zeus.validator.core.AssertionResult;
 import io.restassured.http.Header;
+import io.restassured.http.Method;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
 import lombok.Setter;
+import org.apache.logging.log4j.ThreadContext;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Service;
@@ -38,6 +52,7 @@ public class RestService {
    private AuthenticationKey authenticationKey;
    @Setter
    private boolean cacheAuthentication;
+   private List<AsyncContextPropagator> contextPropagators = List.of();
 
    /**
     * Constructs a new {@code RestService} instance.
@@ -65,6 +80,16 @@ public class RestService {
       this.cacheAuthentication = cacheAuthentication;
    }
 
+   /**
+    * Sets the propagators applied to asynchronous requests.
+    *
+    * @param contextPropagators The propagators of thread-bound context.
+    */
+   @Autowired(required = false)
+   public void setContextPropagators(List<AsyncContextPropagator> contextPropagators) {
+      this.contextPropagators = List.copyOf(contextPropagators);
+   }
+
    /**
     * Executes a request without a body.
     *
@@ -86,6 +111,121 @@ public class RestService {
       return executeRequest(endpoint, body);
    }
 
+   /**
+    * Executes a request without a body and streams the response body to the consumer.
+    *
+    * @param endpoint The API endpoint to call.
+    * @param consumer The consumer of the response body.
+    * @return The response, together with size, digest and head of its body.
+    * @see #requestStreaming(Endpoint, Object, BodyConsumer)
+    */
+   public StreamedResponse requestStreaming(Endpoint<?> endpoint, BodyConsumer consumer) {
+      return requestStreaming(endpoint, null, consumer);
+   }
+
+   /**
+    * Executes a request with a specified body and streams the response body to the consumer.
+    *
+    * <p>Use this for downloads and exports: the body is never held in memory as a whole, and only its size,
+    * SHA-256 digest and first {@code api.response.stream.head.bytes} bytes are logged and reported.
+    *
+    * @param endpoint The API endpoint to call.
+    * @param body     The request body.
+    * @param consumer The consumer of the response body.
+    * @return The response, together with size, digest and head of its body.
+    * @throws IllegalArgumentException if the consumer is null.
+    */
+   public StreamedResponse requestStreaming(Endpoint<?> endpoint, Object body, BodyConsumer consumer) {
+      if (consumer == null) {
+         throw new IllegalArgumentException("Body consumer cannot be null.");
+      }
+      return executeRequest(endpoint, body, (spec, method) -> restClient.executeStreaming(spec, method, consumer));
+   }
+
+   /**
+    * Executes a request with a specified body and writes the response body to a file, replacing it if it
+    * exists.
+    *
+    * @param endpoint The API endpoint to call.
+    * @param body     The request body.
+    * @param file     The file to write the response body to.
+    * @return The response, together with size, digest and head of its body.
+    * @throws IllegalArgumentException if the file is null.
+    * @see #requestStreaming(Endpoint, Object, BodyConsumer)
+    */
+   public StreamedResponse requestToFile(Endpoint<?> endpoint, Object body, Path file) {
+      if (file == null) {
+         throw new IllegalArgumentException("File cannot be null.");
+      }
+      return requestStreaming(endpoint, body, in -> Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING));
+   }
+
+   /**
+    * Executes a request without a body asynchronously.
+    *
+    * <p>The request runs on a bounded executor shared by all services, at most {@code api.async.parallelism}
+    * requests at a time. Authentication is applied exactly as for {@link #request(Endpoint)}. The log4j
+    * {@link ThreadContext} of the calling thread, which names the running test, and the context of every
+    * {@link AsyncContextPropagator} are carried over to the request.
+    *
+    * @param endpoint The API endpoint to call.
+    * @return A future completed with the response, or exceptionally with a {@link RestServiceException}.
+    */
+   public CompletableFuture<Response> requestAsync(Endpoint<?> endpoint) {
+      return requestAsync(endpoint, null);
+   }
+
+   /**
+    * Executes a request with a specified body asynchronously.
+    *
+    * @param endpoint The API endpoint to call.
+    * @param body     The request body.
+    * @return A future completed with the response, or exceptionally with a {@link RestServiceException}.
+    * @see #requestAsync(Endpoint)
+    */
+   public CompletableFuture<Response> requestAsync(Endpoint<?> endpoint, Object body) {
+      Supplier<Response> request = () -> executeRequest(endpoint, body);
+      for (AsyncContextPropagator propagator : contextPropagators) {
+         request = propagator.propagate(request);
+      }
+      return CompletableFuture.supplyAsync(withThreadContext(request), AsyncRequestExecutor.get());
+   }
+
+   private static <T> Supplier<T> withThreadContext(Supplier<T> request) {
+      Map<String, String> threadContext = ThreadContext.getImmutableContext();
+      return () -> {
+         ThreadContext.putAll(threadContext);
+         try {
+            return request.get();
+         } finally {
+            ThreadContext.clearMap();
+         }
+      };
+   }
+
+   /**
+    * Executes independent requests without a body in parallel.
+    *
+    * @param endpoints The API endpoints to call.
+    * @return A future completed with the responses in the order of the endpoints, or exceptionally with a
+    *       {@link RestServiceException} once all requests have finished and at least one of them failed.
+    * @throws IllegalArgumentException if the endpoints are null.
+    * @see #requestAsync(Endpoint)
+    */
+   public CompletableFuture<List<Response>> requestAll(List<? extends Endpoint<?>> endpoints) {
+      if (endpoints == null) {
+         throw new IllegalArgumentException("Endpoints cannot be null.");
+      }
+
+      List<CompletableFuture<Response>> requests = new ArrayList<>(endpoints.size());
+      for (Endpoint<?> endpoint : endpoints) {
+         requests.add(requestAsync(endpoint));
+      }
+
+      return CompletableFuture.allOf(requests.toArray(CompletableFuture[]::new))
+            .thenApply(ignored -> requests.stream().map(CompletableFuture::join).toList());
+   }
+
    /**
     * Validates a response against the provided assertions.
     *
@@ -156,12 +296,22 @@ public class RestService {
    /**
     * Executes a request to the specified endpoint.
     *
+    * <p>The latency of the request is recorded in {@link EndpointLatencies} under the endpoint name
+    * {@code EnumClass.CONSTANT}, for example {@code UserEndpoints.GET_USERS}. The latency is the time the REST
+    * client reports through {@link RequestDuration}, or the time of the whole call for clients that report
+    * none.
+    *
     * @param endpoint The API endpoint.
     * @param body     The request body (optional).
     * @return The API response.
     * @throws RestServiceException if an error occurs during request execution.
     */
    private Response executeRequest(Endpoint<?> endpoint, Object body) {
+      return executeRequest(endpoint, body, restClient::execute);
+   }
+
+   private <T> T executeRequest(Endpoint<?> endpoint, Object body,
+                                BiFunction<RequestSpecification, Method, T> execution) {
       if (endpoint == null) {
          throw new RestServiceException("Endpoint cannot be null.");
       }
@@ -175,9 +325,22 @@ public class RestService {
             }
          }
 
-         return restClient.execute(spec, endpoint.method());
+         Method method = endpoint.method();
+         RequestDuration.take();
+         long start = System.nanoTime();
+         T result = execution.apply(spec, method);
+         long nanos = RequestDuration.take().orElse(System.nanoTime() - start);
+         EndpointLatencies.record(endpointName(endpoint), String.valueOf(method), nanos);
+         return result;
       } catch (Exception e) {
          throw new RestServiceException("Error executing request for endpoint: " + endpoint.url(), e);
       }
    }
+
+   private static String endpointName(Endpoint<?> endpoint) {
+      Enum<?> constant = endpoint.enumImpl();
+      return constant != null
+            ? constant.getDeclaringClass().getSimpleName() + "." + constant.name()
+            : String.valueOf(endpoint.url());
+   }
 }
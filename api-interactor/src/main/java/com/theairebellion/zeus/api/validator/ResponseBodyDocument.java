@@ -0,0 +1,193 @@
+package com.theairebellion.zeus.api.validator;
+
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * A response body parsed once and shared by all {@code BODY} assertions of a single validation.
+ *
+ * <p>{@link Response#jsonPath()} creates a new {@link JsonPath} on every call, and every evaluation
+ * goes through a Groovy expression. This document takes the {@link JsonPath} once, materializes the
+ * parsed JSON tree on first use and evaluates plain property/index paths such as {@code data.items[0].id}
+ * directly against the tree. Those paths are compiled once into segments and cached across responses.
+ * A property of a list is collected from its elements one level deep, as GPath does, so a list property of
+ * every element yields a list of lists.
+ *
+ * <p>Paths that use other GPath features (closures, method calls, {@code $}, quoting, ...), that name a
+ * property Groovy resolves on the list itself ({@code size}, {@code empty}, ...) or that do not fit the shape
+ * of the tree are delegated to the shared {@link JsonPath}, so results match Rest Assured.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+final class ResponseBodyDocument {
+
+   private static final int MAX_CACHED_PATHS = 1024;
+
+   private static final Pattern SIMPLE_PATH =
+         Pattern.compile("[A-Za-z_]\\w*(\\[-?\\d+])*(\\.[A-Za-z_]\\w*(\\[-?\\d+])*)*");
+
+   private static final List<Segment> NOT_SIMPLE = Collections.emptyList();
+
+   private static final Object UNRESOLVED = new Object();
+
+   private static final Set<String> LIST_PROPERTIES =
+         Set.of("size", "empty", "class", "first", "last", "metaClass", "properties");
+
+   private static final Map<String, List<Segment>> COMPILED_PATHS = new ConcurrentHashMap<>();
+
+   private final Response response;
+
+   private JsonPath jsonPath;
+
+   private Object root;
+
+   private boolean parsed;
+
+
+   ResponseBodyDocument(Response response) {
+      this.response = response;
+   }
+
+
+   /**
+    * Evaluates a JsonPath (GPath) expression against the parsed body.
+    *
+    * @param path The path expression.
+    * @param <T>  The expected result type.
+    * @return The value at the given path, or {@code null} if it does not exist.
+    */
+   @SuppressWarnings("unchecked")
+   <T> T get(String path) {
+      List<Segment> segments = compile(path);
+      if (segments != NOT_SIMPLE) {
+         Object value = evaluate(root(), segments);
+         if (value != UNRESOLVED) {
+            return (T) value;
+         }
+      }
+      return jsonPath().get(path);
+   }
+
+
+   private JsonPath jsonPath() {
+      if (jsonPath == null) {
+         jsonPath = response.jsonPath();
+      }
+      return jsonPath;
+   }
+
+
+   private Object root() {
+      if (!parsed) {
+         root = jsonPath().get("$");
+         parsed = true;
+      }
+      return root;
+   }
+
+
+   static List<Segment> compile(String path) {
+      List<Segment> segments = COMPILED_PATHS.get(path);
+      if (segments != null) {
+         return segments;
+      }
+
+      segments = parsePath(path);
+      Iterator<String> eviction = COMPILED_PATHS.keySet().iterator();
+      while (COMPILED_PATHS.size() >= MAX_CACHED_PATHS && eviction.hasNext()) {
+         eviction.next();
+         eviction.remove();
+      }
+      List<Segment> cached = COMPILED_PATHS.putIfAbsent(path, segments);
+      return cached != null ? cached : segments;
+   }
+
+
+   private static List<Segment> parsePath(String path) {
+      if (!SIMPLE_PATH.matcher(path).matches()) {
+         return NOT_SIMPLE;
+      }
+
+      List<Segment> segments = new ArrayList<>();
+      for (String part : path.split("\\.")) {
+         int bracket = part.indexOf('[');
+         String name = bracket < 0 ? part : part.substring(0, bracket);
+         segments.add(new Segment(name, -1, false));
+         while (bracket >= 0) {
+            int close = part.indexOf(']', bracket);
+            segments.add(new Segment(null, Integer.parseInt(part.substring(bracket + 1, close)), true));
+            bracket = part.indexOf('[', close);
+         }
+      }
+      return List.copyOf(segments);
+   }
+
+
+   private static Object evaluate(Object root, List<Segment> segments) {
+      Object current = root;
+      for (Segment segment : segments) {
+         if (current == null) {
+            return null;
+         }
+         current = segment.index() ? index(current, segment.position()) : property(current, segment.name());
+         if (current == UNRESOLVED) {
+            return UNRESOLVED;
+         }
+      }
+      return current;
+   }
+
+
+   private static Object property(Object node, String name) {
+      if (node instanceof Map<?, ?> map) {
+         return map.get(name);
+      }
+      if (node instanceof List<?> list) {
+         if (LIST_PROPERTIES.contains(name)) {
+            return UNRESOLVED;
+         }
+         List<Object> values = new ArrayList<>(list.size());
+         for (Object item : list) {
+            if (item == null) {
+               continue;
+            }
+            Object value = property(item, name);
+            if (value == UNRESOLVED) {
+               return UNRESOLVED;
+            }
+            values.add(value);
+         }
+         return values;
+      }
+      return UNRESOLVED;
+   }
+
+
+   private static Object index(Object node, int position) {
+      if (!(node instanceof List<?> list)) {
+         return UNRESOLVED;
+      }
+      int resolved = position < 0 ? list.size() + position : position;
+      if (resolved < 0) {
+         return UNRESOLVED;
+      }
+      return resolved < list.size() ? list.get(resolved) : null;
+   }
+
+
+   /**
+    * A single step of a compiled path: a property name or a list index.
+    */
+   record Segment(String name, int position, boolean index) {
+
+   }
+
+}
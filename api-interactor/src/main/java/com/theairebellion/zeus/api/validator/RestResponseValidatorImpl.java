@@ -28,7 +28,8 @@ public class RestResponseValidatorImpl implements RestResponseValidator {
     * Validates an API response against the provided assertions.
     *
     * <p>Extracts response status, headers, and body values based on defined assertions and
-    * performs validation using {@link AssertionUtil}.
+    * performs validation using {@link AssertionUtil}. The response body is parsed at most once and
+    * shared by all {@code BODY} assertions.
     *
     * @param response   The API response to validate.
     * @param assertions The assertions used to verify response correctness.
@@ -42,6 +43,7 @@ public class RestResponseValidatorImpl implements RestResponseValidator {
    public <T> List<AssertionResult<T>> validateResponse(final Response response, Assertion... assertions) {
       LogApi.info("Starting response validation with {} assertion(s).", assertions.length);
       Map<String, T> data = new HashMap<>();
+      ResponseBodyDocument body = new ResponseBodyDocument(response);
 
       for (Assertion assertion : assertions) {
          Object target = assertion.getTarget();
@@ -51,7 +53,7 @@ public class RestResponseValidatorImpl implements RestResponseValidator {
 
          switch (restTarget) {
             case STATUS -> handleStatusAssertion(response, data, assertion);
-            case BODY -> handleBodyAssertion(response, data, assertion);
+            case BODY -> handleBodyAssertion(body, data, assertion);
             case HEADER -> handleHeaderAssertion(response, data, assertion);
             default -> throw new InvalidAssertionException("Unhandled assertion target: " + target);
          }
@@ -77,14 +79,14 @@ public class RestResponseValidatorImpl implements RestResponseValidator {
       assertion.setKey(key);
    }
 
-   private <T> void handleBodyAssertion(Response response, Map<String, T> data, Assertion assertion) {
+   private <T> void handleBodyAssertion(ResponseBodyDocument body, Map<String, T> data, Assertion assertion) {
       String key = assertion.getKey();
       if (key == null) {
          throw new InvalidAssertionException("Assertion must have a non-null key. Key must contain a valid "
                + "JsonPath expression.");
       }
 
-      T value = response.jsonPath().get(key);
+      T value = body.get(key);
       if (value == null) {
          throw new IllegalArgumentException("JsonPath expression: '" + key + "' not found in response body.");
       }
@@ -0,0 +1,229 @@
+package com.theairebellion.zeus.api.authentication;
+
+import com.theairebellion.zeus.api.authentication.mock.TestAuthenticationClient;
+import io.restassured.http.Header;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("AuthenticationHeaderCache Tests")
+class AuthenticationHeaderCacheTest {
+
+   private static final AuthenticationKey KEY =
+         new AuthenticationKey("user", "pass", TestAuthenticationClient.class);
+
+   private final AtomicInteger logins = new AtomicInteger();
+
+   private MutableClock clock;
+
+   private AuthenticationHeaderCache cache;
+
+   @BeforeEach
+   void setUp() {
+      clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+      cache = new AuthenticationHeaderCache(2, Duration.ofSeconds(30), clock);
+   }
+
+   @Test
+   @DisplayName("Concurrent lookups of the same key should log in once")
+   void shouldLoadOncePerKey() throws Exception {
+      // Given
+      CountDownLatch loginStarted = new CountDownLatch(1);
+      CountDownLatch releaseLogin = new CountDownLatch(1);
+      Supplier<Header> slowLogin = () -> {
+         loginStarted.countDown();
+         await(releaseLogin);
+         return login().get();
+      };
+      ExecutorService executor = Executors.newFixedThreadPool(20);
+
+      try {
+         // When
+         List<Future<Header>> lookups = new ArrayList<>();
+         for (int i = 0; i < 20; i++) {
+            lookups.add(executor.submit(() -> cache.getOrLoad(KEY, slowLogin, header -> null)));
+         }
+         assertTrue(loginStarted.await(5, TimeUnit.SECONDS));
+         releaseLogin.countDown();
+
+         // Then
+         Header first = lookups.get(0).get(5, TimeUnit.SECONDS);
+         for (Future<Header> lookup : lookups) {
+            assertSame(first, lookup.get(5, TimeUnit.SECONDS));
+         }
+         assertEquals(1, logins.get());
+         assertEquals(1, cache.stats().loads());
+      } finally {
+         executor.shutdownNow();
+      }
+   }
+
+   @Test
+   @DisplayName("An expired header should be loaded again with its login")
+   void shouldReloadExpiredHeader() {
+      // Given
+      Header first = cache.getOrLoad(KEY, login(), header -> Duration.ofMinutes(5));
+
+      // When
+      clock.advance(Duration.ofMinutes(6));
+      Header second = cache.get(KEY);
+
+      // Then
+      assertEquals("token-2", second.getValue());
+      assertEquals("token-1", first.getValue());
+      assertEquals(2, logins.get());
+   }
+
+   @Test
+   @DisplayName("A header about to expire should be returned while it is refreshed")
+   void shouldRefreshAhead() throws Exception {
+      // Given
+      cache.getOrLoad(KEY, login(), header -> Duration.ofMinutes(5));
+      clock.advance(Duration.ofMinutes(4).plusSeconds(45));
+
+      // When
+      Header current = cache.get(KEY);
+
+      // Then
+      assertEquals("token-1", current.getValue());
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+      while (!"token-2".equals(cache.get(KEY).getValue()) && System.nanoTime() < deadline) {
+         Thread.sleep(10);
+      }
+      assertEquals("token-2", cache.get(KEY).getValue());
+      assertEquals(2, logins.get());
+   }
+
+   @Test
+   @DisplayName("A failed login should not be cached")
+   void shouldNotCacheFailures() {
+      // When
+      assertThrows(IllegalStateException.class, () -> cache.getOrLoad(KEY, () -> {
+         throw new IllegalStateException("login failed");
+      }, header -> null));
+
+      // Then
+      assertFalse(cache.contains(KEY));
+      assertEquals("token-1", cache.getOrLoad(KEY, login(), header -> null).getValue());
+   }
+
+   @Test
+   @DisplayName("The least recently used header should be evicted when the cache is full")
+   void shouldEvictLeastRecentlyUsed() {
+      // Given
+      AuthenticationKey second = new AuthenticationKey("second", "pass", TestAuthenticationClient.class);
+      AuthenticationKey third = new AuthenticationKey("third", "pass", TestAuthenticationClient.class);
+      cache.getOrLoad(KEY, login(), header -> null);
+      cache.getOrLoad(second, login(), header -> null);
+      cache.get(KEY);
+
+      // When
+      cache.getOrLoad(third, login(), header -> null);
+
+      // Then
+      assertEquals(2, cache.size());
+      assertTrue(cache.contains(KEY));
+      assertNull(cache.get(second));
+      assertEquals(1, cache.stats().evictions());
+   }
+
+   @Test
+   @DisplayName("Statistics should count hits and misses")
+   void shouldCountHitsAndMisses() {
+      // When
+      cache.get(KEY);
+      cache.getOrLoad(KEY, login(), header -> null);
+      cache.get(KEY);
+      cache.get(KEY);
+
+      // Then
+      assertEquals(new AuthenticationHeaderCache.Stats(2, 2, 1, 0), cache.stats());
+   }
+
+   @Test
+   @DisplayName("Lookups made by the login of a key should not wait for that login")
+   void shouldNotJoinOwnLogin() {
+      // Given
+      List<Header> seenByLogin = new ArrayList<>();
+      Supplier<Header> reentrantLogin = () -> {
+         seenByLogin.add(cache.get(KEY));
+         seenByLogin.add(cache.getOrLoad(KEY, login(), header -> null));
+         seenByLogin.add(cache.reload(KEY, login(), header -> null));
+         return new Header("Authorization", "outer");
+      };
+
+      // When
+      Header loaded = cache.getOrLoad(KEY, reentrantLogin, ignored -> null);
+
+      // Then
+      assertEquals("outer", loaded.getValue());
+      assertEquals(3, seenByLogin.size());
+      seenByLogin.forEach(Assertions::assertNull);
+      assertEquals(0, logins.get());
+      assertSame(loaded, cache.get(KEY));
+   }
+
+   private Supplier<Header> login() {
+      return () -> new Header("Authorization", "token-" + logins.incrementAndGet());
+   }
+
+   private static void await(CountDownLatch latch) {
+      try {
+         latch.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+      }
+   }
+
+   private static final class MutableClock extends Clock {
+
+      private volatile Instant now;
+
+      private MutableClock(Instant now) {
+         this.now = now;
+      }
+
+      private void advance(Duration duration) {
+         now = now.plus(duration);
+      }
+
+      @Override
+      public ZoneId getZone() {
+         return ZoneOffset.UTC;
+      }
+
+      @Override
+      public Clock withZone(ZoneId zone) {
+         return this;
+      }
+
+      @Override
+      public Instant instant() {
+         return now;
+      }
+
+   }
+
+}
@@ -4,6 +4,10 @@ import com.theairebellion.zeus.api.authentication.mock.AnotherAuthClient;
 import com.theairebellion.zeus.api.authentication.mock.TestAuthenticationClient;
 import com.theairebellion.zeus.api.service.RestService;
 import io.restassured.http.Header;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -52,7 +56,7 @@ class BaseAuthenticationClientTest {
    @BeforeEach
    void setUp() {
       testClient = new TestAuthenticationClient();
-      BaseAuthenticationClient.userAuthenticationHeaderMap.clear();
+      BaseAuthenticationClient.userAuthenticationHeaderCache.clear();
    }
 
 
@@ -73,7 +77,7 @@ class BaseAuthenticationClientTest {
 
          // Assert
          assertNotNull(key, "Authentication key should not be null");
-         assertTrue(BaseAuthenticationClient.userAuthenticationHeaderMap.containsKey(key),
+         assertTrue(BaseAuthenticationClient.userAuthenticationHeaderCache.contains(key),
                "Key should be added to cache");
          assertEquals(USERNAME, key.getUsername(), "Username should match");
          assertEquals(PASSWORD, key.getPassword(), "Password should match");
@@ -115,7 +119,7 @@ class BaseAuthenticationClientTest {
 
          // Assert
          assertNotNull(key, "Authentication key should not be null");
-         assertTrue(BaseAuthenticationClient.userAuthenticationHeaderMap.containsKey(key),
+         assertTrue(BaseAuthenticationClient.userAuthenticationHeaderCache.contains(key),
                "Key should be added to cache");
 
          // Verify
@@ -128,7 +132,7 @@ class BaseAuthenticationClientTest {
       void shouldReturnExistingKeyWhenCacheTrueAndKeyPresent() {
          // Arrange
          AuthenticationKey existingKey = new AuthenticationKey(USERNAME, PASSWORD, spyClient.getClass());
-         BaseAuthenticationClient.userAuthenticationHeaderMap.put(
+         BaseAuthenticationClient.userAuthenticationHeaderCache.put(
                existingKey, new Header(AUTH_HEADER_KEY, BEARER_TOKEN));
 
          // Act
@@ -148,7 +152,7 @@ class BaseAuthenticationClientTest {
          // Arrange
          AuthenticationKey existingKey = new AuthenticationKey(USERNAME, PASSWORD, spyClient.getClass());
          Header firstHeader = new Header(AUTH_HEADER_KEY, "Bearer dummy-token");
-         BaseAuthenticationClient.userAuthenticationHeaderMap.put(
+         BaseAuthenticationClient.userAuthenticationHeaderCache.put(
                existingKey, firstHeader);
 
          // Act
@@ -175,7 +179,7 @@ class BaseAuthenticationClientTest {
       void shouldRetrieveHeaderFromCache() {
          // Arrange
          AuthenticationKey key = new AuthenticationKey(USER, PASS, TestAuthenticationClient.class);
-         BaseAuthenticationClient.userAuthenticationHeaderMap.put(key, mockHeader);
+         BaseAuthenticationClient.userAuthenticationHeaderCache.put(key, mockHeader);
 
          // Act
          Header retrievedHeader = testClient.getAuthentication(key);
@@ -223,4 +227,37 @@ class BaseAuthenticationClientTest {
 
    }
 
-}
\ No newline at end of file
+   @Nested
+   @DisplayName("HeaderTimeToLive Method Tests")
+   class HeaderTimeToLiveTests {
+
+      @Test
+      @DisplayName("headerTimeToLive should follow the exp claim of a JWT")
+      void shouldUseJwtExpiry() {
+         // Arrange
+         long exp = Instant.now().plusSeconds(600).getEpochSecond();
+         String payload = Base64.getUrlEncoder().withoutPadding()
+               .encodeToString(("{\"sub\":\"user\",\"exp\":" + exp + "}").getBytes(StandardCharsets.UTF_8));
+         Header header = new Header(AUTH_HEADER_KEY, "Bearer eyJhbGciOiJIUzI1NiJ9." + payload + ".signature");
+
+         // Act
+         Duration ttl = testClient.headerTimeToLive(header);
+
+         // Assert
+         assertNotNull(ttl, "JWT headers should expire");
+         assertTrue(ttl.compareTo(Duration.ofSeconds(590)) > 0 && ttl.compareTo(Duration.ofSeconds(600)) <= 0,
+               "Time to live should match the exp claim");
+      }
+
+
+      @Test
+      @DisplayName("headerTimeToLive should keep opaque tokens when no TTL is configured")
+      void shouldKeepOpaqueTokens() {
+         // Act & Assert
+         assertNull(testClient.headerTimeToLive(new Header(AUTH_HEADER_KEY, BEARER_TOKEN)),
+               "Opaque tokens should never expire by default");
+      }
+
+   }
+
+}
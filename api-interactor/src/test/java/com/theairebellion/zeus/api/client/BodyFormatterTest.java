@@ -0,0 +1,57 @@
+package com.theairebellion.zeus.api.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("BodyFormatter Tests")
+class BodyFormatterTest {
+
+   private static final String NL = System.lineSeparator();
+
+   @Test
+   @DisplayName("format should indent JSON objects and arrays")
+   void shouldIndentJson() {
+      // When
+      String formatted = BodyFormatter.format("{\"a\":1,\"b\":[true,{}],\"c\":\"x, {y}\"}", 1000);
+
+      // Then
+      assertEquals("{" + NL
+            + "    \"a\": 1," + NL
+            + "    \"b\": [" + NL
+            + "        true," + NL
+            + "        {}" + NL
+            + "    ]," + NL
+            + "    \"c\": \"x, {y}\"" + NL
+            + "}", formatted);
+   }
+
+   @Test
+   @DisplayName("format should stop at the limit and mark the truncation")
+   void shouldTruncateAtLimit() {
+      // Given
+      StringBuilder large = new StringBuilder("[");
+      for (int i = 0; i < 100_000; i++) {
+         large.append(i).append(',');
+      }
+      large.append("0]");
+
+      // When
+      String formatted = BodyFormatter.format(large.toString(), 50);
+
+      // Then
+      assertEquals(50 + BodyFormatter.TRUNCATION_SUFFIX.length(), formatted.length());
+      assertTrue(formatted.endsWith(BodyFormatter.TRUNCATION_SUFFIX));
+   }
+
+   @Test
+   @DisplayName("format should truncate non-JSON content as is")
+   void shouldTruncatePlainContent() {
+      assertEquals("ABCDE...", BodyFormatter.format("ABCDEFGHIJK", 5));
+      assertEquals("SHORT", BodyFormatter.format("SHORT", 10));
+      assertEquals("", BodyFormatter.format(null, 10));
+   }
+
+}
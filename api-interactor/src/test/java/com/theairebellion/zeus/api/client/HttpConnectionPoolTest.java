@@ -0,0 +1,174 @@
+package com.theairebellion.zeus.api.client;
+
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.RestAssured;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@SuppressWarnings("deprecation")
+@DisplayName("HttpConnectionPool Tests")
+class HttpConnectionPoolTest {
+
+   private static final byte[] BODY = "{\"status\":\"ok\"}".getBytes(StandardCharsets.UTF_8);
+
+   private static final String ALICE = "alice";
+
+   private static final String BOB = "bob";
+
+   private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+   private final Queue<String> leaks = new ConcurrentLinkedQueue<>();
+
+   private HttpServer server;
+
+   private String baseUri;
+
+   @BeforeEach
+   void setUp() throws IOException {
+      server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+      server.createContext("/users", exchange -> {
+         String user = exchange.getRequestURI().getQuery().substring("user=".length());
+         String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+         String cookie = exchange.getRequestHeaders().getFirst("Cookie");
+         if (BOB.equals(user) && authorization != null) {
+            leaks.add("bob sent credentials " + authorization);
+         }
+         if (cookie != null && !cookie.contains("owner=" + user)) {
+            leaks.add(user + " sent cookie " + cookie);
+         }
+         exchange.getResponseHeaders().add("Set-Cookie", "owner=" + user + "; Path=/");
+         if (authorization == null && ALICE.equals(user)) {
+            exchange.getResponseHeaders().add("WWW-Authenticate", "Basic realm=\"test\"");
+            exchange.sendResponseHeaders(401, -1);
+            exchange.close();
+            return;
+         }
+         exchange.sendResponseHeaders(200, BODY.length);
+         try (OutputStream out = exchange.getResponseBody()) {
+            out.write(BODY);
+         }
+      });
+      server.createContext("/", exchange -> {
+         clientPorts.add(exchange.getRemoteAddress().getPort());
+         exchange.getResponseHeaders().add("Content-Type", "application/json");
+         exchange.sendResponseHeaders(200, BODY.length);
+         try (OutputStream out = exchange.getResponseBody()) {
+            out.write(BODY);
+         }
+      });
+      server.start();
+      baseUri = "http://127.0.0.1:" + server.getAddress().getPort();
+   }
+
+   @AfterEach
+   void tearDown() {
+      HttpConnectionPool.shutdownShared();
+      server.stop(0);
+   }
+
+   @Test
+   @DisplayName("Sequential requests should reuse one pooled connection")
+   void shouldReuseConnection() {
+      // Given
+      try (HttpConnectionPool pool = new HttpConnectionPool(5, 2, 30_000, 60_000)) {
+         RestAssuredConfig config = RestAssuredConfig.config().httpClient(pool.httpClientConfig());
+
+         // When
+         for (int i = 0; i < 5; i++) {
+            Response response = RestAssured.given().config(config).baseUri(baseUri).get("/items");
+            assertEquals(200, response.getStatusCode());
+         }
+
+         // Then
+         assertEquals(1, clientPorts.size());
+         assertEquals(1, pool.connectionManager().getTotalStats().getAvailable());
+         assertEquals(0, pool.connectionManager().getTotalStats().getLeased());
+      }
+   }
+
+   @Test
+   @DisplayName("Pool should apply the configured connection limits")
+   void shouldApplyLimits() {
+      // When
+      try (HttpConnectionPool pool = new HttpConnectionPool(7, 3, 30_000, 60_000)) {
+         // Then
+         assertEquals(7, pool.connectionManager().getMaxTotal());
+         assertEquals(3, pool.connectionManager().getDefaultMaxPerRoute());
+      }
+   }
+
+   @Test
+   @DisplayName("Concurrent users should not share cookies or credentials")
+   void shouldIsolateUsers() throws Exception {
+      // Given
+      ExecutorService executor = Executors.newFixedThreadPool(2);
+      try (HttpConnectionPool pool = new HttpConnectionPool(4, 4, 30_000, 60_000)) {
+         RestAssuredConfig config = RestAssuredConfig.config().httpClient(pool.httpClientConfig());
+         Callable<Void> alice = () -> {
+            for (int i = 0; i < 20; i++) {
+               RestAssured.given().config(config).baseUri(baseUri).auth().basic(ALICE, "secret")
+                     .queryParam("user", ALICE).get("/users").then().statusCode(200);
+            }
+            return null;
+         };
+         Callable<Void> bob = () -> {
+            for (int i = 0; i < 20; i++) {
+               RestAssured.given().config(config).baseUri(baseUri)
+                     .queryParam("user", BOB).get("/users").then().statusCode(200);
+            }
+            return null;
+         };
+
+         // When
+         List<Future<Void>> results = executor.invokeAll(List.of(alice, bob));
+         for (Future<Void> result : results) {
+            result.get();
+         }
+
+         // Then
+         assertEquals(List.of(), List.copyOf(leaks));
+         assertEquals(0, pool.connectionManager().getTotalStats().getLeased());
+      } finally {
+         executor.shutdownNow();
+      }
+   }
+
+   @Test
+   @DisplayName("RestClientImpl should send requests over the shared pool")
+   void restClientShouldUseSharedPool() {
+      // Given
+      RestClientImpl client = new RestClientImpl();
+
+      // When
+      for (int i = 0; i < 3; i++) {
+         Response response = client.execute(RestAssured.given().baseUri(baseUri).basePath("/items"), Method.GET);
+         assertEquals(200, response.getStatusCode());
+      }
+
+      // Then
+      assertEquals(1, clientPorts.size());
+      assertSame(HttpConnectionPool.shared(), HttpConnectionPool.shared());
+   }
+
+}
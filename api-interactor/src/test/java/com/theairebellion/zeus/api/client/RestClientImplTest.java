@@ -3,11 +3,15 @@ package com.theairebellion.zeus.api.client;
 import com.theairebellion.zeus.api.config.ApiConfig;
 import com.theairebellion.zeus.api.config.ApiConfigHolder;
 import com.theairebellion.zeus.api.log.LogApi;
+import com.theairebellion.zeus.logging.LogCore;
 import io.restassured.http.Headers;
 import io.restassured.http.Method;
 import io.restassured.response.Response;
 import io.restassured.specification.FilterableRequestSpecification;
 import io.restassured.specification.RequestSpecification;
+import java.util.OptionalLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -21,21 +25,26 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("RestClientImpl Tests")
@@ -56,6 +65,20 @@ class RestClientImplTest {
    @Mock
    private Response responseMock;
 
+   private MockedStatic<LogCore> logCoreMock;
+
+   @BeforeEach
+   void enableExtendedLogging() {
+      logCoreMock = mockStatic(LogCore.class,
+            withSettings().defaultAnswer(CALLS_REAL_METHODS).strictness(Strictness.LENIENT));
+      logCoreMock.when(LogCore::isExtendedEnabled).thenReturn(true);
+   }
+
+   @AfterEach
+   void closeLogCoreMock() {
+      logCoreMock.close();
+   }
+
    @Nested
    @DisplayName("Execute Method Tests")
    class ExecuteMethodTests {
@@ -125,8 +148,8 @@ class RestClientImplTest {
 
 
       @Test
-      @DisplayName("execute should warn when response takes longer than threshold")
-      void warnMessageShouldBePrintedInLogIfExecuteTakesLongTime() {
+      @DisplayName("execute should log the duration and leave slow request detection to the caller")
+      void durationShouldBeLoggedWithoutSlowRequestWarning() {
          // Arrange
          doReturn(0L, 3_000_000_000L)
                .when(restClientImpl)
@@ -148,11 +171,14 @@ class RestClientImplTest {
 
             // Assert
             logApi.verify(() ->
-                  LogApi.warn(
-                        "Request to endpoint {}-{} took too long: {}ms.",
-                        "GET", V1_TEST_URL, 3000L
+                  LogApi.step(
+                        "Response with status: {} received from endpoint: {}-{} in {}ms.",
+                        200, "GET", V1_TEST_URL, 3000L
                   ), times(1)
             );
+            logApi.verify(() -> LogApi.warn(anyString(), any(Object[].class)), never());
+            assertEquals(OptionalLong.of(3_000_000_000L), RequestDuration.take());
+            assertEquals(OptionalLong.empty(), RequestDuration.take());
          }
       }
 
@@ -304,7 +330,7 @@ class RestClientImplTest {
          Response mockResp = mock(Response.class);
          when(mockResp.getStatusCode()).thenReturn(200);
          when(mockResp.body()).thenReturn(mockResp);
-         when(mockResp.asPrettyString()).thenReturn("ABCDEFGHIJK");
+         when(mockResp.asString()).thenReturn("ABCDEFGHIJK");
          when(mockResp.getHeaders()).thenReturn(mock(Headers.class));
 
          ApiConfig cfg = mock(ApiConfig.class);
@@ -348,7 +374,11 @@ class RestClientImplTest {
             when(mockResponse.body()).thenReturn(null);
          } else {
             when(mockResponse.body()).thenReturn(mockResponse);
-            when(mockResponse.asPrettyString()).thenReturn(fullBody);
+            if (logFullBody) {
+               when(mockResponse.asPrettyString()).thenReturn(fullBody);
+            } else {
+               when(mockResponse.asString()).thenReturn(fullBody);
+            }
          }
          when(mockResponse.getHeaders()).thenReturn(mockHeaders);
          when(mockHeaders.toString()).thenReturn("Content-Type: application/json");
@@ -411,7 +441,7 @@ class RestClientImplTest {
          Response mockResp = mock(Response.class);
          when(mockResp.getStatusCode()).thenReturn(200);
          when(mockResp.body()).thenReturn(mockResp);
-         when(mockResp.asPrettyString()).thenReturn("SHORT");    // length = 5
+         when(mockResp.asString()).thenReturn("SHORT");    // length = 5
          when(mockResp.getHeaders()).thenReturn(mock(Headers.class));
 
          ApiConfig cfg = mock(ApiConfig.class);
@@ -434,5 +464,54 @@ class RestClientImplTest {
             );
          }
       }
+
+      @Test
+      @DisplayName("printResponse should stop formatting JSON at shortenBody()")
+      void shouldStreamTruncateJsonResponse() {
+         // Arrange
+         Response mockResp = mock(Response.class);
+         when(mockResp.getStatusCode()).thenReturn(200);
+         when(mockResp.body()).thenReturn(mockResp);
+         when(mockResp.asString()).thenReturn("{\"message\":\"OK\",\"items\":[1,2,3]}");
+         when(mockResp.getHeaders()).thenReturn(mock(Headers.class));
+
+         ApiConfig cfg = mock(ApiConfig.class);
+         when(cfg.logFullBody()).thenReturn(false);
+         when(cfg.shortenBody()).thenReturn(12);
+
+         try (
+               MockedStatic<ApiConfigHolder> apiCfg = mockStatic(ApiConfigHolder.class);
+               MockedStatic<LogApi> logApi = mockStatic(LogApi.class)
+         ) {
+            apiCfg.when(ApiConfigHolder::getApiConfig).thenReturn(cfg);
+
+            // Act
+            restClientImpl.printResponse("GET", BASE_URL, mockResp, 5L);
+
+            // Assert
+            String expected = ("{" + System.lineSeparator() + "    \"message\": \"OK\"").substring(0, 12) + "...";
+            logApi.verify(() -> LogApi.extended("Response body: {}.", expected), times(1));
+            verify(mockResp, never()).asPrettyString();
+         }
+      }
+
+      @Test
+      @DisplayName("execute should not read or format bodies when extended logging is disabled")
+      void shouldSkipFormattingWhenExtendedLoggingDisabled() {
+         // Arrange
+         logCoreMock.when(LogCore::isExtendedEnabled).thenReturn(false);
+         when(filterableRequestSpec.getURI()).thenReturn(V1_TEST_URL);
+         when(filterableRequestSpec.get()).thenReturn(responseMock);
+         when(responseMock.getStatusCode()).thenReturn(200);
+
+         // Act
+         restClientImpl.execute(filterableRequestSpec, Method.GET);
+
+         // Assert
+         verify(filterableRequestSpec, never()).getBody();
+         verify(filterableRequestSpec, never()).getHeaders();
+         verify(responseMock, never()).body();
+         verify(restClientImpl).printRequest("GET", V1_TEST_URL, null, null);
+      }
    }
 }
\ No newline at end of file
@@ -0,0 +1,204 @@
+package com.theairebellion.zeus.api.client;
+
+import com.sun.net.httpserver.HttpServer;
+import com.theairebellion.zeus.logging.LogCore;
+import io.restassured.RestAssured;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.quality.Strictness;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+@DisplayName("StreamedResponse Tests")
+class StreamedResponseTest {
+
+   private static final byte[] BODY = body(200_000);
+
+   private static final byte[] LARGE_BODY = body(2 * 1024 * 1024);
+
+   private static final int FIRST_CHUNK = 64 * 1024;
+
+   private HttpServer server;
+
+   private CountDownLatch firstChunkRead;
+
+   private AtomicBoolean restSentAfterRead;
+
+   private String baseUri;
+
+   @BeforeEach
+   void setUp() throws IOException {
+      firstChunkRead = new CountDownLatch(1);
+      restSentAfterRead = new AtomicBoolean();
+      server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+      server.createContext("/export", exchange -> {
+         exchange.sendResponseHeaders(200, BODY.length);
+         try (OutputStream out = exchange.getResponseBody()) {
+            out.write(BODY);
+         }
+      });
+      server.createContext("/large", exchange -> {
+         exchange.sendResponseHeaders(200, LARGE_BODY.length);
+         try (OutputStream out = exchange.getResponseBody()) {
+            out.write(LARGE_BODY, 0, FIRST_CHUNK);
+            out.flush();
+            restSentAfterRead.set(firstChunkRead.await(10, TimeUnit.SECONDS));
+            out.write(LARGE_BODY, FIRST_CHUNK, LARGE_BODY.length - FIRST_CHUNK);
+         } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+         }
+      });
+      server.start();
+      baseUri = "http://127.0.0.1:" + server.getAddress().getPort();
+   }
+
+   @AfterEach
+   void tearDown() {
+      HttpConnectionPool.shutdownShared();
+      server.stop(0);
+   }
+
+   @Test
+   @DisplayName("consume should compute size, digest and head while the consumer reads")
+   void shouldDigestWhileConsuming() throws NoSuchAlgorithmException {
+      // Given
+      Response response = mock(Response.class);
+      when(response.asInputStream()).thenReturn(new ByteArrayInputStream(BODY));
+      ByteArrayOutputStream received = new ByteArrayOutputStream();
+
+      // When
+      StreamedResponse streamed = StreamedResponse.consume(response, body -> body.transferTo(received), 16);
+
+      // Then
+      assertArrayEquals(BODY, received.toByteArray());
+      assertEquals(BODY.length, streamed.size());
+      assertEquals(sha256(BODY), streamed.sha256());
+      assertEquals(new String(Arrays.copyOf(BODY, 16), StandardCharsets.UTF_8), streamed.head());
+   }
+
+   @Test
+   @DisplayName("consume should drain what the consumer leaves unread")
+   void shouldDrainUnreadBody() throws NoSuchAlgorithmException {
+      // Given
+      Response response = mock(Response.class);
+      when(response.asInputStream()).thenReturn(new ByteArrayInputStream(BODY));
+
+      // When
+      StreamedResponse streamed = StreamedResponse.consume(response, body -> body.skip(10), 0);
+
+      // Then
+      assertEquals(BODY.length, streamed.size());
+      assertEquals(sha256(BODY), streamed.sha256());
+      assertEquals("", streamed.head());
+   }
+
+   @Test
+   @DisplayName("executeStreaming should stream a real response body to the consumer")
+   void shouldStreamRealResponse() throws NoSuchAlgorithmException {
+      // Given
+      ByteArrayOutputStream received = new ByteArrayOutputStream();
+
+      // When
+      StreamedResponse streamed = new RestClientImpl().executeStreaming(
+            RestAssured.given().baseUri(baseUri).basePath("/export"), Method.GET, body -> body.transferTo(received));
+
+      // Then
+      assertEquals(200, streamed.statusCode());
+      assertEquals(BODY.length, streamed.size());
+      assertEquals(sha256(BODY), streamed.sha256());
+      assertArrayEquals(BODY, received.toByteArray());
+      assertFalse(streamed.head().isEmpty());
+   }
+
+   @Test
+   @DisplayName("executeStreaming should hand a large body to the consumer before it has been received")
+   void shouldStreamLargeBodyBeforeItIsBuffered() throws NoSuchAlgorithmException {
+      // Given
+      ByteArrayOutputStream received = new ByteArrayOutputStream();
+
+      // When
+      StreamedResponse streamed;
+      try (MockedStatic<LogCore> logCore = extendedLogging()) {
+         streamed = new RestClientImpl().executeStreaming(
+               RestAssured.given().baseUri(baseUri).basePath("/large"), Method.GET, body -> {
+                  received.write(body.readNBytes(FIRST_CHUNK));
+                  firstChunkRead.countDown();
+                  body.transferTo(received);
+               });
+      }
+
+      // Then
+      assertTrue(restSentAfterRead.get(), "the server was still waiting for the first chunk to be read");
+      assertEquals(LARGE_BODY.length, streamed.size());
+      assertEquals(sha256(LARGE_BODY), streamed.sha256());
+      assertArrayEquals(LARGE_BODY, received.toByteArray());
+   }
+
+   @Test
+   @DisplayName("execute should leave a body above the threshold unread for logging")
+   void shouldNotReadLargeBodyForLogging() throws IOException {
+      // When
+      Response response;
+      try (MockedStatic<LogCore> logCore = extendedLogging()) {
+         response = new RestClientImpl().execute(
+               RestAssured.given().baseUri(baseUri).basePath("/large"), Method.GET);
+      }
+      ByteArrayOutputStream received = new ByteArrayOutputStream();
+      try (InputStream body = response.asInputStream()) {
+         received.write(body.readNBytes(FIRST_CHUNK));
+         firstChunkRead.countDown();
+         body.transferTo(received);
+      }
+
+      // Then
+      assertTrue(restSentAfterRead.get(), "the server was still waiting for the first chunk to be read");
+      assertArrayEquals(LARGE_BODY, received.toByteArray());
+   }
+
+   private static MockedStatic<LogCore> extendedLogging() {
+      MockedStatic<LogCore> logCore = mockStatic(LogCore.class,
+            withSettings().defaultAnswer(CALLS_REAL_METHODS).strictness(Strictness.LENIENT));
+      logCore.when(LogCore::isExtendedEnabled).thenReturn(true);
+      return logCore;
+   }
+
+   private static byte[] body(int size) {
+      byte[] body = new byte[size];
+      for (int i = 0; i < size; i++) {
+         body[i] = (byte) ('a' + i % 26);
+      }
+      return body;
+   }
+
+   private static String sha256(byte[] bytes) throws NoSuchAlgorithmException {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+   }
+
+}
@@ -0,0 +1,182 @@
+package com.theairebellion.zeus.api.client.replay;
+
+import com.sun.net.httpserver.HttpServer;
+import com.theairebellion.zeus.api.client.RestClient;
+import com.theairebellion.zeus.api.client.BodyConsumer;
+import com.theairebellion.zeus.api.client.RestClientImpl;
+import com.theairebellion.zeus.api.client.StreamedResponse;
+import com.theairebellion.zeus.api.exceptions.RestServiceException;
+import io.restassured.RestAssured;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("RecordReplayRestClient Tests")
+class RecordReplayRestClientTest {
+
+   private static final AtomicInteger HITS = new AtomicInteger();
+
+   private static HttpServer server;
+
+   private static String baseUri;
+
+   @TempDir
+   Path directory;
+
+   @BeforeAll
+   static void startServer() throws IOException {
+      server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+      server.createContext("/users", exchange -> {
+         HITS.incrementAndGet();
+         byte[] body = "{\"name\": \"zeus\",\n\"id\": 7}".getBytes(StandardCharsets.UTF_8);
+         exchange.getResponseHeaders().add("Content-Type", "application/json");
+         exchange.getResponseHeaders().add("X-Request", "users");
+         exchange.sendResponseHeaders(201, body.length);
+         try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+         }
+      });
+      server.start();
+      baseUri = "http://127.0.0.1:" + server.getAddress().getPort();
+   }
+
+   @AfterAll
+   static void stopServer() {
+      server.stop(0);
+   }
+
+   @Test
+   @DisplayName("Recorded exchanges should be replayed without calling the delegate")
+   void shouldReplayRecordedExchange() throws IOException {
+      // Given
+      RestClient recorder = new RecordReplayRestClient(new RestClientImpl(), ReplayMode.RECORD, directory);
+      Response recorded = recorder.execute(RestAssured.given().baseUri(baseUri).basePath("/users")
+            .queryParam("b", "2").queryParam("a", "1"), Method.GET);
+      RestClient delegate = mock(RestClient.class);
+      RestClient replayer = new RecordReplayRestClient(delegate, ReplayMode.REPLAY, directory);
+
+      // When
+      Response replayed = replayer.execute(RestAssured.given().baseUri(baseUri).basePath("/users")
+            .queryParam("a", "1").queryParam("b", "2"), Method.GET);
+
+      // Then
+      assertEquals(1, HITS.getAndSet(0));
+      try (Stream<Path> files = Files.list(directory)) {
+         assertEquals(1, files.count());
+      }
+      assertEquals(recorded.getStatusCode(), replayed.getStatusCode());
+      assertEquals(recorded.asString(), replayed.asString());
+      assertEquals("users", replayed.getHeader("X-Request"));
+      assertEquals("zeus", replayed.jsonPath().getString("name"));
+      verifyNoInteractions(delegate);
+   }
+
+   @Test
+   @DisplayName("Streamed exchanges should be recorded with size, digest and head and replayed from them")
+   void shouldRecordAndReplayStreamedExchange() throws IOException {
+      // Given
+      RestClient recorder = new RecordReplayRestClient(new RestClientImpl(), ReplayMode.RECORD, directory);
+      ByteArrayOutputStream received = new ByteArrayOutputStream();
+      StreamedResponse recorded = recorder.executeStreaming(
+            RestAssured.given().baseUri(baseUri).basePath("/users"), Method.GET, body -> body.transferTo(received));
+      RestClient delegate = mock(RestClient.class);
+      RestClient replayer = new RecordReplayRestClient(delegate, ReplayMode.REPLAY, directory);
+      ByteArrayOutputStream replayedBody = new ByteArrayOutputStream();
+
+      // When
+      StreamedResponse replayed = replayer.executeStreaming(
+            RestAssured.given().baseUri(baseUri).basePath("/users"), Method.GET, body -> body.transferTo(replayedBody));
+
+      // Then
+      assertEquals(1, HITS.getAndSet(0));
+      try (Stream<Path> files = Files.list(directory)) {
+         String recording = Files.readString(files.findFirst().orElseThrow(), StandardCharsets.UTF_8);
+         assertTrue(recording.contains("\"sha256\": \"" + recorded.sha256() + "\""), recording);
+      }
+      assertEquals(recorded.statusCode(), replayed.statusCode());
+      assertEquals(recorded.size(), replayed.size());
+      assertEquals(recorded.sha256(), replayed.sha256());
+      assertEquals(recorded.head(), replayed.head());
+      assertEquals(received.toString(StandardCharsets.UTF_8), replayedBody.toString(StandardCharsets.UTF_8));
+      assertEquals("users", replayed.response().getHeader("X-Request"));
+      verifyNoInteractions(delegate);
+   }
+
+   @Test
+   @DisplayName("Streamed requests should be passed to the delegate when replay is off")
+   void shouldDelegateStreamingWhenOff() {
+      // Given
+      RestClient delegate = mock(RestClient.class);
+      RequestSpecification spec = RestAssured.given().baseUri(baseUri).basePath("/users");
+      BodyConsumer consumer = body -> {
+      };
+      StreamedResponse streamed = new StreamedResponse(mock(Response.class), 0, "", "");
+      when(delegate.executeStreaming(spec, Method.GET, consumer)).thenReturn(streamed);
+      RestClient client = new RecordReplayRestClient(delegate, ReplayMode.OFF, directory);
+
+      // When
+      StreamedResponse result = client.executeStreaming(spec, Method.GET, consumer);
+
+      // Then
+      assertEquals(streamed, result);
+      verify(delegate).executeStreaming(spec, Method.GET, consumer);
+   }
+
+   @Test
+   @DisplayName("Replaying a request without recording should fail")
+   void shouldFailWithoutRecording() {
+      // Given
+      RestClient delegate = mock(RestClient.class);
+      RestClient replayer = new RecordReplayRestClient(delegate, ReplayMode.REPLAY, directory);
+
+      // When
+      RestServiceException exception = assertThrows(RestServiceException.class,
+            () -> replayer.execute(RestAssured.given().baseUri(baseUri).basePath("/missing"), Method.GET));
+
+      // Then
+      assertTrue(exception.getMessage().contains("No recorded exchange for GET"));
+      verifyNoInteractions(delegate);
+   }
+
+   @Test
+   @DisplayName("normalizeUrl should sort query parameters")
+   void shouldSortQueryParameters() {
+      assertEquals("http://host/path?a=1&b=2&c=3", RecordReplayRestClient.normalizeUrl("http://host/path?c=3&a=1&b=2"));
+      assertEquals("http://host/path", RecordReplayRestClient.normalizeUrl("http://host/path"));
+   }
+
+   @Test
+   @DisplayName("key should depend on method, URL and body")
+   void shouldDistinguishExchanges() {
+      String key = RecordReplayRestClient.key("POST", "http://host/path", "{\"a\": 1}");
+
+      assertEquals(key, RecordReplayRestClient.key("POST", "http://host/path", "{\"a\": 1}"));
+      assertNotEquals(key, RecordReplayRestClient.key("PUT", "http://host/path", "{\"a\": 1}"));
+      assertNotEquals(key, RecordReplayRestClient.key("POST", "http://host/other", "{\"a\": 1}"));
+      assertNotEquals(key, RecordReplayRestClient.key("POST", "http://host/path", "{\"a\": 2}"));
+   }
+
+}
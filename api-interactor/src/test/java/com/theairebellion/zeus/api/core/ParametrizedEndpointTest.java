@@ -297,6 +297,21 @@ class ParametrizedEndpointTest {
          // Verify
          verify(baseEndpointMock).headers();
       }
+
+      @Test
+      @DisplayName("withHeader should not change the headers of the previous instance")
+      void withHeaderKeepsPreviousInstanceUnchanged() {
+         // Arrange
+         when(baseEndpointMock.headers()).thenReturn(Collections.emptyMap());
+         var first = parametrized.withHeader(X_HEADER, "one");
+
+         // Act
+         var second = first.withHeader(X_HEADER, "two");
+
+         // Assert
+         assertEquals(List.of("one"), first.headers().get(X_HEADER), "Previous instance should be unchanged");
+         assertEquals(List.of("one", "two"), second.headers().get(X_HEADER), "New instance should hold both values");
+      }
    }
 
    @Nested
@@ -329,6 +344,20 @@ class ParametrizedEndpointTest {
          verify(requestSpecMock).header(eq("X-Hdr"), anyString());
       }
 
+      @Test
+      @DisplayName("prepareRequestSpec should merge headers only once")
+      void prepareRequestSpecMergesHeadersOnce() {
+         // Arrange
+         when(baseEndpointMock.headers()).thenReturn(Collections.emptyMap());
+         when(requestSpecMock.header(anyString(), anyString())).thenReturn(requestSpecMock);
+
+         // Act
+         parametrized.withHeader(X_HEADER, VALUE).prepareRequestSpec(null);
+
+         // Assert
+         verify(baseEndpointMock, times(1)).headers();
+      }
+
       @Test
       @DisplayName("prepareRequestSpec should join multiple header values with commas")
       void prepareRequestSpecHeaderJoin() {
@@ -0,0 +1,138 @@
+package com.theairebellion.zeus.api.core;
+
+import com.theairebellion.zeus.api.config.ApiConfig;
+import com.theairebellion.zeus.api.config.ApiConfigHolder;
+import io.restassured.RestAssured;
+import io.restassured.http.Method;
+import io.restassured.specification.RequestLogSpecification;
+import io.restassured.specification.RequestSpecification;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("RequestSpecTemplate Tests")
+class RequestSpecTemplateTest {
+
+   private static final String BASE_URL = "https://example.com";
+
+   @Mock
+   private ApiConfig apiConfig;
+
+   @Mock
+   private RequestSpecification templateSpec;
+
+   @Mock
+   private RequestSpecification requestSpec;
+
+   @Mock
+   private RequestLogSpecification logSpec;
+
+   @BeforeEach
+   void setUp() {
+      RequestSpecTemplate.clear();
+      when(apiConfig.restAssuredLoggingEnabled()).thenReturn(true);
+      when(apiConfig.restAssuredLoggingLevel()).thenReturn("ALL");
+      when(templateSpec.baseUri(anyString())).thenReturn(templateSpec);
+      when(templateSpec.headers(anyMap())).thenReturn(templateSpec);
+      when(requestSpec.spec(any(RequestSpecification.class))).thenReturn(requestSpec);
+      when(requestSpec.log()).thenReturn(logSpec);
+      when(logSpec.all()).thenReturn(requestSpec);
+   }
+
+   @AfterEach
+   void tearDown() {
+      RequestSpecTemplate.clear();
+   }
+
+   @Test
+   @DisplayName("Enum endpoints should resolve configuration once and start each request from the template")
+   void shouldReuseTemplateForEnumEndpoints() {
+      try (MockedStatic<ApiConfigHolder> configMock = mockStatic(ApiConfigHolder.class);
+           MockedStatic<RestAssured> restAssuredMock = mockStatic(RestAssured.class)) {
+         // Given
+         configMock.when(ApiConfigHolder::getApiConfig).thenReturn(apiConfig);
+         restAssuredMock.when(RestAssured::given).thenReturn(templateSpec, requestSpec, requestSpec);
+
+         // When
+         RequestSpecification first = RequestSpecTemplate.newSpecification(TemplateEndpoint.USERS);
+         RequestSpecification second = RequestSpecTemplate.newSpecification(TemplateEndpoint.USERS);
+
+         // Then
+         assertSame(requestSpec, first);
+         assertSame(requestSpec, second);
+         configMock.verify(ApiConfigHolder::getApiConfig, times(1));
+         verify(templateSpec, times(1)).baseUri(BASE_URL);
+         verify(templateSpec, times(1)).headers(Map.of("Accept", List.of("application/json")));
+         verify(requestSpec, times(2)).spec(templateSpec);
+         verify(logSpec, times(2)).all();
+      }
+   }
+
+   @Test
+   @DisplayName("Unsupported logging levels should not be cached")
+   void shouldRejectUnsupportedLoggingLevel() {
+      try (MockedStatic<ApiConfigHolder> configMock = mockStatic(ApiConfigHolder.class)) {
+         // Given
+         when(apiConfig.restAssuredLoggingLevel()).thenReturn("FAKE");
+         configMock.when(ApiConfigHolder::getApiConfig).thenReturn(apiConfig);
+
+         // When / Then
+         assertThrows(IllegalArgumentException.class,
+               () -> RequestSpecTemplate.newSpecification(TemplateEndpoint.USERS));
+         assertThrows(IllegalArgumentException.class,
+               () -> RequestSpecTemplate.newSpecification(TemplateEndpoint.USERS));
+      }
+   }
+
+   private enum TemplateEndpoint implements Endpoint<TemplateEndpoint> {
+      USERS;
+
+      @Override
+      public Method method() {
+         return Method.GET;
+      }
+
+      @Override
+      public String url() {
+         return "/users";
+      }
+
+      @Override
+      public TemplateEndpoint enumImpl() {
+         return this;
+      }
+
+      @Override
+      public String baseUrl() {
+         return BASE_URL;
+      }
+
+      @Override
+      public Map<String, List<String>> headers() {
+         return Map.of("Accept", List.of("application/json"));
+      }
+   }
+
+}
@@ -0,0 +1,181 @@
+package com.theairebellion.zeus.api.load;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.theairebellion.zeus.api.client.RestClientImpl;
+import com.theairebellion.zeus.api.core.Endpoint;
+import com.theairebellion.zeus.api.core.RequestSpecTemplate;
+import com.theairebellion.zeus.api.exceptions.LoadThresholdException;
+import io.restassured.http.Method;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("LoadGenerator Tests")
+class LoadGeneratorTest {
+
+   private static final AtomicInteger HITS = new AtomicInteger();
+
+   private static HttpServer server;
+
+   private static String baseUri;
+
+   private final LoadGenerator loadGenerator = new LoadGenerator(new RestClientImpl());
+
+   @BeforeAll
+   static void startServer() throws IOException {
+      server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+      server.createContext("/ping", exchange -> respond(exchange, 200));
+      server.createContext("/fail", exchange -> respond(exchange, 500));
+      server.start();
+      baseUri = "http://127.0.0.1:" + server.getAddress().getPort();
+   }
+
+   @AfterAll
+   static void stopServer() {
+      server.stop(0);
+      RequestSpecTemplate.clear();
+   }
+
+   @BeforeEach
+   void setUp() {
+      HITS.set(0);
+      RequestSpecTemplate.clear();
+   }
+
+   @Test
+   @DisplayName("run should send exactly the requested number of iterations")
+   void shouldRunIterations() {
+      // When
+      LoadResult result = loadGenerator.run(LoadProfile.builder()
+            .endpoint(LoadEndpoint.PING)
+            .virtualUsers(4)
+            .iterations(20)
+            .maxErrorRate(0.0)
+            .build());
+
+      // Then
+      assertEquals(20, result.requests());
+      assertEquals(0, result.errors());
+      assertEquals(20, HITS.get());
+      assertTrue(result.throughput() > 0);
+      assertTrue(result.max().compareTo(result.p50()) >= 0);
+   }
+
+   @Test
+   @DisplayName("run should apply load for the configured duration")
+   void shouldRunForDuration() {
+      // When
+      LoadResult result = loadGenerator.run(LoadProfile.builder()
+            .endpoint(LoadEndpoint.PING)
+            .virtualUsers(2)
+            .duration(Duration.ofMillis(300))
+            .build());
+
+      // Then
+      assertTrue(result.requests() > 0);
+      assertEquals(result.requests(), HITS.get());
+      assertTrue(result.elapsed().compareTo(Duration.ofMillis(300)) >= 0);
+   }
+
+   @Test
+   @DisplayName("run should ignore a duration that is not positive when iterations are set")
+   void shouldRunIterationsWithoutPositiveDuration() {
+      // When
+      LoadResult zero = loadGenerator.run(LoadProfile.builder()
+            .endpoint(LoadEndpoint.PING)
+            .duration(Duration.ZERO)
+            .iterations(3)
+            .build());
+      LoadResult negative = loadGenerator.run(LoadProfile.builder()
+            .endpoint(LoadEndpoint.PING)
+            .duration(Duration.ofSeconds(-1))
+            .iterations(2)
+            .build());
+
+      // Then
+      assertEquals(3, zero.requests());
+      assertEquals(2, negative.requests());
+      assertEquals(5, HITS.get());
+   }
+
+   @Test
+   @DisplayName("run should fail when a threshold is breached")
+   void shouldFailOnBreachedThreshold() {
+      // When
+      LoadThresholdException exception = assertThrows(LoadThresholdException.class,
+            () -> loadGenerator.run(LoadProfile.builder()
+                  .endpoint(LoadEndpoint.FAIL)
+                  .iterations(5)
+                  .maxErrorRate(0.1)
+                  .build()));
+
+      // Then
+      assertEquals(5, exception.getResult().errors());
+      assertEquals(1.0, exception.getResult().errorRate());
+      assertTrue(exception.getMessage().contains("error rate"));
+   }
+
+   @Test
+   @DisplayName("run should reject a profile without duration or iterations")
+   void shouldRejectUnboundedProfile() {
+      LoadProfile profile = LoadProfile.builder().endpoint(LoadEndpoint.PING).build();
+
+      assertThrows(IllegalArgumentException.class, () -> loadGenerator.run(profile));
+   }
+
+   private static void respond(HttpExchange exchange, int status) throws IOException {
+      HITS.incrementAndGet();
+      byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+      exchange.sendResponseHeaders(status, body.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+         out.write(body);
+      }
+   }
+
+   private enum LoadEndpoint implements Endpoint<LoadEndpoint> {
+
+      PING("/ping"),
+      FAIL("/fail");
+
+      private final String url;
+
+      LoadEndpoint(String url) {
+         this.url = url;
+      }
+
+      @Override
+      public Method method() {
+         return Method.GET;
+      }
+
+      @Override
+      public String url() {
+         return url;
+      }
+
+      @Override
+      public LoadEndpoint enumImpl() {
+         return this;
+      }
+
+      @Override
+      public String baseUrl() {
+         return baseUri;
+      }
+
+   }
+
+}
@@ -0,0 +1,98 @@
+package com.theairebellion.zeus.api.metrics;
+
+import com.theairebellion.zeus.api.log.LogApi;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.MockedStatic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+
+@DisplayName("EndpointLatencies Tests")
+class EndpointLatenciesTest {
+
+   @AfterEach
+   void tearDown() {
+      EndpointLatencies.reset();
+   }
+
+   @Test
+   @DisplayName("record should summarize latencies per endpoint and method")
+   void shouldSummarizePerEndpoint() {
+      // Given
+      EndpointLatencies.record("GET_USERS", "GET", TimeUnit.MILLISECONDS.toNanos(10));
+      EndpointLatencies.record("GET_USERS", "GET", TimeUnit.MILLISECONDS.toNanos(30));
+      EndpointLatencies.record("CREATE_USER", "POST", TimeUnit.MILLISECONDS.toNanos(5));
+
+      // When
+      List<LatencySummary> summaries = EndpointLatencies.summaries();
+
+      // Then
+      assertEquals(2, summaries.size());
+      assertEquals("CREATE_USER", summaries.get(0).endpoint());
+      LatencySummary users = summaries.get(1);
+      assertEquals("GET", users.method());
+      assertEquals(2, users.count());
+      assertEquals(30.0, users.maxMs());
+      assertTrue(users.p50Ms() >= 10.0 && users.p50Ms() < 10.2, "p50 was " + users.p50Ms());
+   }
+
+   @Test
+   @DisplayName("record should warn only when the threshold is exceeded")
+   void shouldWarnAboveThreshold() {
+      try (MockedStatic<LogApi> logApi = mockStatic(LogApi.class)) {
+         // When
+         EndpointLatencies.record("GET_USERS", "GET", TimeUnit.MILLISECONDS.toNanos(100));
+         logApi.verify(() -> LogApi.warn(anyString(), any(Object[].class)), never());
+         EndpointLatencies.record("GET_USERS", "GET", TimeUnit.MILLISECONDS.toNanos(3000));
+
+         // Then
+         logApi.verify(() -> LogApi.warn("Request to endpoint {}-{} took too long: {}ms.",
+               "GET", "GET_USERS", 3000L));
+      }
+   }
+
+   @Test
+   @DisplayName("parseThresholds should read EnumClass.CONSTANT=milliseconds pairs")
+   void shouldParseThresholds() {
+      assertEquals(Map.of("UserEndpoints.GET_USERS", 500L, "UserEndpoints.CREATE_USER", 3000L),
+            EndpointLatencies.parseThresholds(" UserEndpoints.GET_USERS=500, UserEndpoints.CREATE_USER = 3000"));
+      assertEquals(Map.of(), EndpointLatencies.parseThresholds(""));
+      assertThrows(IllegalArgumentException.class, () -> EndpointLatencies.parseThresholds("GET_USERS"));
+   }
+
+   @Test
+   @DisplayName("writeReport should write the summaries as JSON")
+   void shouldWriteJsonReport(@TempDir Path directory) throws Exception {
+      // Given
+      Path report = directory.resolve("nested/api-latency.json");
+      EndpointLatencies.writeReport(report);
+      assertFalse(Files.exists(report), "No report without recorded requests");
+      EndpointLatencies.record("GET_\"USERS\"", "GET", TimeUnit.MILLISECONDS.toNanos(1));
+
+      // When
+      EndpointLatencies.writeReport(report);
+
+      // Then
+      String json = Files.readString(report);
+      assertTrue(json.startsWith("["));
+      assertTrue(json.contains("\"endpoint\": \"GET_\\\"USERS\\\"\""));
+      assertTrue(json.contains("\"count\": 1"));
+      assertTrue(json.contains("\"maxMs\": 1.0"));
+      assertTrue(json.stripTrailing().endsWith("]"));
+   }
+
+}
@@ -0,0 +1,68 @@
+package com.theairebellion.zeus.api.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("LatencyHistogram Tests")
+class LatencyHistogramTest {
+
+   @Test
+   @DisplayName("Percentiles should be exact for small values")
+   void shouldReportExactPercentilesForSmallValues() {
+      // Given
+      LatencyHistogram histogram = new LatencyHistogram();
+      for (int i = 1; i <= 100; i++) {
+         histogram.record(i);
+      }
+
+      // Then
+      assertEquals(100, histogram.count());
+      assertEquals(50, histogram.percentile(50));
+      assertEquals(95, histogram.percentile(95));
+      assertEquals(99, histogram.percentile(99));
+      assertEquals(100, histogram.max());
+   }
+
+   @Test
+   @DisplayName("Percentiles of large values should stay within the bucket precision")
+   void shouldStayWithinPrecisionForLargeValues() {
+      // Given
+      LatencyHistogram histogram = new LatencyHistogram();
+      for (long value = 1_000; value <= 1_000_000; value += 1_000) {
+         histogram.record(value);
+      }
+
+      // When
+      long p50 = histogram.percentile(50);
+      long p99 = histogram.percentile(99);
+
+      // Then
+      assertTrue(Math.abs(p50 - 500_000) <= 500_000 / 64, "p50 was " + p50);
+      assertTrue(Math.abs(p99 - 990_000) <= 990_000 / 64, "p99 was " + p99);
+      assertEquals(1_000_000, histogram.percentile(100));
+   }
+
+   @Test
+   @DisplayName("Buckets should be contiguous and cover their values")
+   void bucketsShouldCoverTheirValues() {
+      for (long value : new long[] {0, 1, 63, 64, 127, 128, 129, 255, 256, 1_000_003, Long.MAX_VALUE}) {
+         int index = LatencyHistogram.indexOf(value);
+         assertTrue(LatencyHistogram.highestEquivalentValue(index) >= value, "value " + value);
+         assertTrue(index == 0 || LatencyHistogram.highestEquivalentValue(index - 1) < value, "value " + value);
+      }
+   }
+
+   @Test
+   @DisplayName("An empty histogram should report zero")
+   void emptyHistogramShouldReportZero() {
+      LatencyHistogram histogram = new LatencyHistogram();
+
+      assertEquals(0, histogram.count());
+      assertEquals(0, histogram.percentile(99));
+      assertEquals(0, histogram.max());
+   }
+
+}
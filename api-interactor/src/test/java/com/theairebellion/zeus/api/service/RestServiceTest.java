@@ -2,10 +2,15 @@ package com.theairebellion.zeus.api.service;
 
 import com.theairebellion.zeus.api.authentication.AuthenticationKey;
 import com.theairebellion.zeus.api.authentication.BaseAuthenticationClient;
+import com.theairebellion.zeus.api.client.BodyConsumer;
 import com.theairebellion.zeus.api.client.RestClient;
+import com.theairebellion.zeus.api.client.StreamedResponse;
 import com.theairebellion.zeus.api.core.Endpoint;
 import com.theairebellion.zeus.api.exceptions.RestServiceException;
+import com.theairebellion.zeus.api.metrics.EndpointLatencies;
+import com.theairebellion.zeus.api.metrics.LatencySummary;
 import com.theairebellion.zeus.api.service.mock.MockAuthClient;
+import com.theairebellion.zeus.api.service.mock.RequestLoginAuthClient;
 import com.theairebellion.zeus.api.validator.RestResponseValidator;
 import com.theairebellion.zeus.validator.core.Assertion;
 import com.theairebellion.zeus.validator.core.AssertionResult;
@@ -13,21 +18,34 @@ import io.restassured.http.Header;
 import io.restassured.http.Method;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import lombok.NonNull;
+import org.apache.logging.log4j.ThreadContext;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.EmptySource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -38,6 +56,7 @@ import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
@@ -52,6 +71,8 @@ import static org.mockito.Mockito.when;
 @SuppressWarnings({"rawtypes", "unchecked"})
 class RestServiceTest {
 
+   private static final String TEST_NAME_KEY = "testName";
+
    @Mock
    private RestClient restClient;
 
@@ -374,6 +395,45 @@ class RestServiceTest {
                restService.authenticate("user", "pass", ExceptionThrowingAuthClient.class)
          );
       }
+
+      @Test
+      @DisplayName("Logging in through request() with an expiring header should not deadlock")
+      void loginThroughRequestShouldNotDeadlock() {
+         // Arrange
+         Endpoint loginEndpoint = mock(Endpoint.class);
+         RequestSpecification loginSpec = mock(RequestSpecification.class);
+         Endpoint dataEndpoint = mock(Endpoint.class);
+         RequestSpecification dataSpec = mock(RequestSpecification.class);
+         when(loginEndpoint.prepareRequestSpec(null)).thenReturn(loginSpec);
+         when(loginEndpoint.method()).thenReturn(Method.POST);
+         when(dataEndpoint.prepareRequestSpec(null)).thenReturn(dataSpec);
+         when(dataEndpoint.method()).thenReturn(Method.GET);
+         when(restClient.execute(any(RequestSpecification.class), any(Method.class))).thenReturn(responseMock);
+         RequestLoginAuthClient.loginEndpoint = loginEndpoint;
+         RequestLoginAuthClient.LOGINS.set(0);
+
+         try {
+            // Act
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+               restService.setCacheAuthentication(true);
+               restService.authenticate("reentrant", "pass", RequestLoginAuthClient.class);
+               restService.request(dataEndpoint);
+               restService.setCacheAuthentication(false);
+               restService.authenticate("reentrant", "pass", RequestLoginAuthClient.class);
+               restService.authenticate("reentrant", "pass", RequestLoginAuthClient.class);
+            });
+         } finally {
+            RequestLoginAuthClient.loginEndpoint = null;
+         }
+
+         // Assert
+         assertEquals(4, RequestLoginAuthClient.LOGINS.get(), "Every expired or forced login should run once");
+         verify(loginSpec, never()).header(any(Header.class));
+         ArgumentCaptor<Header> header = ArgumentCaptor.forClass(Header.class);
+         verify(dataSpec).header(header.capture());
+         assertEquals("Bearer token-2", header.getValue().getValue(),
+               "The request should carry the header of the login it triggered");
+      }
    }
 
    @Nested
@@ -566,4 +626,202 @@ class RestServiceTest {
          verify(restClient).execute(specMock, Method.POST);
       }
    }
-}
\ No newline at end of file
+
+   @Nested
+   @DisplayName("Async Request Tests")
+   class AsyncRequestTests {
+
+      @Test
+      @DisplayName("requestAsync() should complete with the response")
+      void requestAsyncShouldCompleteWithResponse() {
+         // Arrange
+         Endpoint endpoint = mock(Endpoint.class);
+         RequestSpecification specMock = mock(RequestSpecification.class);
+         when(endpoint.prepareRequestSpec("body")).thenReturn(specMock);
+         when(endpoint.method()).thenReturn(Method.POST);
+         when(restClient.execute(specMock, Method.POST)).thenReturn(responseMock);
+
+         // Act
+         Response result = restService.requestAsync(endpoint, "body").join();
+
+         // Assert
+         assertSame(responseMock, result);
+      }
+
+      @Test
+      @DisplayName("requestAsync() should run with the caller's test name and context propagators")
+      void requestAsyncShouldPropagateCallerContext() {
+         // Arrange
+         Endpoint endpoint = mock(Endpoint.class);
+         RequestSpecification specMock = mock(RequestSpecification.class);
+         AtomicReference<String> testName = new AtomicReference<>();
+         AtomicReference<String> propagated = new AtomicReference<>();
+         when(endpoint.prepareRequestSpec(null)).thenReturn(specMock);
+         when(endpoint.method()).thenReturn(Method.GET);
+         when(restClient.execute(specMock, Method.GET)).thenAnswer(invocation -> {
+            testName.set(ThreadContext.get(TEST_NAME_KEY));
+            return responseMock;
+         });
+         restService.setContextPropagators(List.of(new AsyncContextPropagator() {
+            @Override
+            public <T> Supplier<T> propagate(Supplier<T> request) {
+               String caller = Thread.currentThread().getName();
+               return () -> {
+                  propagated.set(caller);
+                  return request.get();
+               };
+            }
+         }));
+         ThreadContext.put(TEST_NAME_KEY, "RestServiceTest.requestAsync");
+
+         try {
+            // Act
+            Response result = restService.requestAsync(endpoint).join();
+
+            // Assert
+            assertSame(responseMock, result);
+            assertEquals("RestServiceTest.requestAsync", testName.get());
+            assertEquals(Thread.currentThread().getName(), propagated.get());
+         } finally {
+            ThreadContext.remove(TEST_NAME_KEY);
+         }
+      }
+
+      @Test
+      @DisplayName("requestAll() should return the responses in endpoint order")
+      void requestAllShouldKeepEndpointOrder() {
+         // Arrange
+         Endpoint first = mock(Endpoint.class);
+         Endpoint second = mock(Endpoint.class);
+         RequestSpecification firstSpec = mock(RequestSpecification.class);
+         RequestSpecification secondSpec = mock(RequestSpecification.class);
+         Response secondResponse = mock(Response.class);
+         when(first.prepareRequestSpec(null)).thenReturn(firstSpec);
+         when(second.prepareRequestSpec(null)).thenReturn(secondSpec);
+         when(first.method()).thenReturn(Method.GET);
+         when(second.method()).thenReturn(Method.GET);
+         when(restClient.execute(firstSpec, Method.GET)).thenAnswer(invocation -> {
+            Thread.sleep(50);
+            return responseMock;
+         });
+         when(restClient.execute(secondSpec, Method.GET)).thenReturn(secondResponse);
+
+         // Act
+         List<Response> results = restService.requestAll(List.of(first, second)).join();
+
+         // Assert
+         assertEquals(List.of(responseMock, secondResponse), results);
+      }
+
+      @Test
+      @DisplayName("requestAll() should fail when one request fails")
+      void requestAllShouldFailWhenOneRequestFails() {
+         // Arrange
+         Endpoint endpoint = mock(Endpoint.class);
+         when(endpoint.prepareRequestSpec(null)).thenThrow(new RuntimeException("boom"));
+         when(endpoint.url()).thenReturn("/test");
+
+         // Act & Assert
+         CompletionException exception = assertThrows(CompletionException.class,
+               () -> restService.requestAll(List.of(endpoint)).join());
+         assertInstanceOf(RestServiceException.class, exception.getCause());
+      }
+
+      @Test
+      @DisplayName("requestAll() with null endpoints should throw IllegalArgumentException")
+      void requestAllWithNullEndpointsShouldThrow() {
+         assertThrows(IllegalArgumentException.class, () -> restService.requestAll(null));
+      }
+
+   }
+
+   @Nested
+   @DisplayName("Latency Tests")
+   class LatencyTests {
+
+      @AfterEach
+      void tearDown() {
+         EndpointLatencies.reset();
+      }
+
+      @Test
+      @DisplayName("request() should record the latency under the endpoint constant")
+      void requestShouldRecordLatency() {
+         // Arrange
+         Endpoint endpoint = mock(Endpoint.class);
+         RequestSpecification specMock = mock(RequestSpecification.class);
+         when(endpoint.prepareRequestSpec(null)).thenReturn(specMock);
+         when(endpoint.method()).thenReturn(Method.GET);
+         when(endpoint.enumImpl()).thenReturn(Method.GET);
+         when(restClient.execute(specMock, Method.GET)).thenReturn(responseMock);
+
+         // Act
+         restService.request(endpoint);
+         restService.request(endpoint);
+
+         // Assert
+         List<LatencySummary> summaries = EndpointLatencies.summaries();
+         assertEquals(1, summaries.size());
+         assertEquals("Method.GET", summaries.get(0).endpoint());
+         assertEquals(2, summaries.get(0).count());
+      }
+
+   }
+
+   @Nested
+   @DisplayName("Streaming Request Tests")
+   class StreamingRequestTests {
+
+      @Test
+      @DisplayName("requestStreaming() should hand the consumer to the client")
+      void requestStreamingShouldDelegateToClient() {
+         // Arrange
+         Endpoint endpoint = mock(Endpoint.class);
+         RequestSpecification specMock = mock(RequestSpecification.class);
+         BodyConsumer consumer = body -> {
+         };
+         StreamedResponse streamed = new StreamedResponse(responseMock, 0, "digest", "");
+         when(endpoint.prepareRequestSpec(null)).thenReturn(specMock);
+         when(endpoint.method()).thenReturn(Method.GET);
+         when(restClient.executeStreaming(specMock, Method.GET, consumer)).thenReturn(streamed);
+
+         // Act
+         StreamedResponse result = restService.requestStreaming(endpoint, consumer);
+
+         // Assert
+         assertSame(streamed, result);
+         verify(restClient, never()).execute(any(), any());
+      }
+
+      @Test
+      @DisplayName("requestToFile() should write the body to the file")
+      void requestToFileShouldWriteBody(@TempDir Path directory) throws IOException {
+         // Arrange
+         Endpoint endpoint = mock(Endpoint.class);
+         RequestSpecification specMock = mock(RequestSpecification.class);
+         Path file = directory.resolve("export.csv");
+         when(endpoint.prepareRequestSpec("filter")).thenReturn(specMock);
+         when(endpoint.method()).thenReturn(Method.POST);
+         ArgumentCaptor<BodyConsumer> consumer = ArgumentCaptor.forClass(BodyConsumer.class);
+         when(restClient.executeStreaming(eq(specMock), eq(Method.POST), consumer.capture()))
+               .thenReturn(new StreamedResponse(responseMock, 0, "digest", ""));
+
+         // Act
+         restService.requestToFile(endpoint, "filter", file);
+         consumer.getValue().accept(new ByteArrayInputStream("a;b".getBytes(StandardCharsets.UTF_8)));
+
+         // Assert
+         assertEquals("a;b", Files.readString(file));
+      }
+
+      @Test
+      @DisplayName("requestStreaming() should reject a null consumer")
+      void requestStreamingShouldRejectNullConsumer() {
+         Endpoint endpoint = mock(Endpoint.class);
+
+         assertThrows(IllegalArgumentException.class, () -> restService.requestStreaming(endpoint, null));
+      }
+
+   }
+
+}
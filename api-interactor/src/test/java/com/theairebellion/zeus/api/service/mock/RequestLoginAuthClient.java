@@ -0,0 +1,26 @@
+package com.theairebellion.zeus.api.service.mock;
+
+import com.theairebellion.zeus.api.authentication.BaseAuthenticationClient;
+import com.theairebellion.zeus.api.core.Endpoint;
+import com.theairebellion.zeus.api.service.RestService;
+import io.restassured.http.Header;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RequestLoginAuthClient extends BaseAuthenticationClient {
+
+   public static Endpoint<?> loginEndpoint;
+
+   public static final AtomicInteger LOGINS = new AtomicInteger();
+
+   @Override
+   protected Header authenticateImpl(RestService restService, String username, String password) {
+      restService.request(loginEndpoint);
+      return new Header("Authorization", "Bearer token-" + LOGINS.incrementAndGet());
+   }
+
+   @Override
+   protected Duration headerTimeToLive(Header header) {
+      return Duration.ZERO;
+   }
+}
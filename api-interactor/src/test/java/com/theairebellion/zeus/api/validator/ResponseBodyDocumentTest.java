@@ -0,0 +1,107 @@
+package com.theairebellion.zeus.api.validator;
+
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResponseBodyDocument Tests")
+class ResponseBodyDocumentTest {
+
+   private static final String JSON = "{\"user\":{\"id\":42,\"name\":\"Zeus\"},"
+         + "\"items\":[{\"id\":1,\"tags\":[\"a\",\"b\"]},{\"id\":2,\"tags\":[\"c\"]}]}";
+
+   @Mock
+   private Response responseMock;
+
+   private ResponseBodyDocument document;
+
+   @BeforeEach
+   void setUp() {
+      lenient().when(responseMock.jsonPath()).thenReturn(new JsonPath(JSON));
+      document = new ResponseBodyDocument(responseMock);
+   }
+
+   @Nested
+   @DisplayName("Simple path evaluation")
+   class SimplePathTests {
+
+      @Test
+      @DisplayName("Should resolve nested properties and indices")
+      void shouldResolvePropertiesAndIndices() {
+         // When / Then
+         assertEquals(42, (Integer) document.get("user.id"));
+         assertEquals("Zeus", document.get("user.name"));
+         assertEquals(2, (Integer) document.get("items[1].id"));
+         assertEquals(2, (Integer) document.get("items[-1].id"));
+         assertNull(document.get("items[5]"));
+         assertNull(document.get("does.not.exist"));
+      }
+
+      @Test
+      @DisplayName("Should collect properties over lists one level deep like GPath")
+      void shouldSpreadOverLists() {
+         // When / Then
+         assertEquals(List.of(1, 2), document.get("items.id"));
+         assertEquals(List.of(List.of("a", "b"), List.of("c")), document.get("items.tags"));
+         assertEquals(new JsonPath(JSON).<Object>get("items.tags"), document.get("items.tags"));
+      }
+
+      @Test
+      @DisplayName("Should take the JsonPath of the response only once")
+      void shouldReadResponseOnce() {
+         // When
+         document.get("user.id");
+         document.get("items.id");
+         document.get("items.size()");
+
+         // Then
+         verify(responseMock, times(1)).jsonPath();
+      }
+   }
+
+   @Nested
+   @DisplayName("GPath fallback")
+   class FallbackTests {
+
+      @Test
+      @DisplayName("Should delegate expressions that are not plain paths to Rest Assured")
+      void shouldDelegateComplexExpressions() {
+         // When / Then
+         assertEquals(2, (Integer) document.get("items.size()"));
+         assertEquals(List.of(2), document.get("items.findAll { it.id > 1 }.id"));
+      }
+
+      @ParameterizedTest
+      @DisplayName("Should delegate properties Groovy resolves on the list itself to Rest Assured")
+      @ValueSource(strings = {"items.size", "items.empty", "items.class", "items.tags.size"})
+      void shouldDelegateListProperties(String path) {
+         // When / Then
+         assertEquals(new JsonPath(JSON).<Object>get(path), document.get(path));
+      }
+
+      @Test
+      @DisplayName("Should cache compiled paths across documents")
+      void shouldCacheCompiledPaths() {
+         // When / Then
+         assertSame(ResponseBodyDocument.compile("user.id"), ResponseBodyDocument.compile("user.id"));
+      }
+   }
+
+}
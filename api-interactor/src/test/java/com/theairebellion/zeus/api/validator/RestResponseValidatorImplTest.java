@@ -19,6 +19,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -96,6 +98,36 @@ class RestResponseValidatorImplTest {
                "Validator should not change the assertion key for BODY");
       }
 
+      @Test
+      @DisplayName("Validate multiple body assertions against a single parsed body")
+      void testValidateResponseBodyParsedOnce() {
+         // Arrange
+         String json = "{\"user\":{\"id\":42,\"name\":\"Zeus\"}}";
+         Assertion idAssertion = Assertion.builder()
+               .target(RestAssertionTarget.BODY)
+               .key("user.id")
+               .type(AssertionTypes.IS)
+               .expected(42)
+               .build();
+         Assertion nameAssertion = Assertion.builder()
+               .target(RestAssertionTarget.BODY)
+               .key("user.name")
+               .type(AssertionTypes.IS)
+               .expected("Zeus")
+               .build();
+
+         when(responseMock.jsonPath()).thenReturn(new JsonPath(json));
+
+         // Act
+         List<AssertionResult<Object>> results =
+               validator.validateResponse(responseMock, idAssertion, nameAssertion);
+
+         // Assert
+         assertEquals(2, results.size(), "Should return one result per assertion");
+         assertTrue(results.stream().allMatch(AssertionResult::isPassed), "Body assertions should pass");
+         verify(responseMock, times(1)).jsonPath();
+      }
+
       @Test
       @DisplayName("Validate response body with null key throws InvalidAssertionException")
       void testValidateResponseBodyNoKey() {
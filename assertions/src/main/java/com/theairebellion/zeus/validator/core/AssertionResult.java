@@ -1,6 +1,6 @@
 package com.theairebellion.zeus.validator.core;
 
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 
@@ -14,10 +14,12 @@ import lombok.NonNull;
  * <p>The expected and actual values in the assertion are represented by the generic type {@code T},
  * which allows this class to handle various data types in validation checks.
  *
+ * <p>The message returned by {@link #toString()} is only built when it is first requested and is
+ * cached afterwards, so results that are never reported cost no formatting.
+ *
  * @author Cyborg Code Syndicate 💍👨💻
  */
 @Getter
-@AllArgsConstructor
 public final class AssertionResult<T> {
 
    /**
@@ -46,20 +48,48 @@ public final class AssertionResult<T> {
     */
    private boolean soft;
 
+   /**
+    * The formatted message, built on first use.
+    */
+   @Getter(AccessLevel.NONE)
+   private String message;
+
+
+   /**
+    * Creates a new assertion result.
+    *
+    * @param passed        Whether the assertion passed.
+    * @param description   A brief description of the assertion.
+    * @param expectedValue The expected value.
+    * @param actualValue   The actual value.
+    * @param soft          Whether the assertion is a soft assertion.
+    */
+   public AssertionResult(boolean passed, @NonNull String description, Object expectedValue, T actualValue,
+                          boolean soft) {
+      this.passed = passed;
+      this.description = description;
+      this.expectedValue = expectedValue;
+      this.actualValue = actualValue;
+      this.soft = soft;
+   }
+
 
    /**
     * Returns a formatted string representing the assertion outcome.
     *
+    * <p>The string is built on the first call and reused by later calls.
+    *
     * @return A descriptive summary of the assertion result.
     */
    @Override
    public String toString() {
-      return passed
-            ?
-            String.format("✔ Validation passed: %s (Expected: %s, Actual: %s)", description, expectedValue,
-                  actualValue)
-            : String.format("✘ Validation failed: %s (Expected: %s, Actual: %s)", description, expectedValue,
-            actualValue);
+      String result = message;
+      if (result == null) {
+         result = (passed ? "✔ Validation passed: " : "✘ Validation failed: ")
+               + description + " (Expected: " + expectedValue + ", Actual: " + actualValue + ")";
+         message = result;
+      }
+      return result;
    }
 
 }
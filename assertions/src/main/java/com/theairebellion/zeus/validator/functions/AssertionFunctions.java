@@ -162,7 +162,7 @@ public final class AssertionFunctions {
    }
 
    /**
-    * Checks if the actual string matches the expected regex pattern.
+    * Checks if the actual string matches the expected regex pattern, compiled through {@link PatternCache}.
     */
    public static boolean matchesRegex(Object actual, Object expected) {
       if (actual == null || expected == null) {
@@ -171,7 +171,7 @@ public final class AssertionFunctions {
       if (!(expected instanceof String)) {
          throw new IllegalArgumentException("Expected value must be a valid regex string.");
       }
-      return actual.toString().matches(expected.toString());
+      return PatternCache.get((String) expected).matcher(actual.toString()).matches();
    }
 
    /**
@@ -0,0 +1,66 @@
+package com.theairebellion.zeus.validator.functions;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Bounded cache of compiled regular expressions used by regex based assertions.
+ *
+ * <p>Data-driven tests evaluate the same expressions over and over; compiling each of them once
+ * avoids the {@link Pattern#compile(String)} call hidden behind {@link String#matches(String)}.
+ * Lookups do not lock, so parallel tests do not contend on the cache. The cache keeps about
+ * {@link #MAX_SIZE} patterns; when it is full, an arbitrary pattern is evicted to make room, and concurrent
+ * insertions may exceed the bound by at most the number of inserting threads.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class PatternCache {
+
+   /**
+    * Maximum number of compiled patterns kept in the cache.
+    */
+   public static final int MAX_SIZE = 256;
+
+   private static final Map<String, Pattern> PATTERNS = new ConcurrentHashMap<>();
+
+
+   private PatternCache() {
+   }
+
+
+   /**
+    * Returns the compiled form of the given regular expression, compiling and caching it on first use.
+    *
+    * @param regex The regular expression.
+    * @return The compiled {@link Pattern}.
+    * @throws java.util.regex.PatternSyntaxException if the expression is invalid.
+    */
+   public static Pattern get(String regex) {
+      Pattern pattern = PATTERNS.get(regex);
+      if (pattern != null) {
+         return pattern;
+      }
+
+      pattern = Pattern.compile(regex);
+      Iterator<String> eviction = PATTERNS.keySet().iterator();
+      while (PATTERNS.size() >= MAX_SIZE && eviction.hasNext()) {
+         eviction.next();
+         eviction.remove();
+      }
+      Pattern cached = PATTERNS.putIfAbsent(regex, pattern);
+      return cached != null ? cached : pattern;
+   }
+
+
+   /**
+    * Returns the number of patterns currently cached.
+    *
+    * @return The cache size.
+    */
+   public static int size() {
+      return PATTERNS.size();
+   }
+
+}
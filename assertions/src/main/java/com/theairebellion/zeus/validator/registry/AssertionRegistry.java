@@ -6,6 +6,7 @@ import com.theairebellion.zeus.validator.functions.AssertionFunctions;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiPredicate;
 
 /**
@@ -26,6 +27,8 @@ public final class AssertionRegistry {
 
    private static final Map<AssertionType<?>, BiPredicate<Object, Object>> VALIDATORS = new ConcurrentHashMap<>();
 
+   private static final AtomicInteger GENERATION = new AtomicInteger();
+
    static {
       VALIDATORS.put(AssertionTypes.IS, AssertionFunctions::equals);
       VALIDATORS.put(AssertionTypes.NOT, AssertionFunctions::notEquals);
@@ -60,6 +63,18 @@ public final class AssertionRegistry {
       Objects.requireNonNull(validator, "Validator must not be null");
 
       VALIDATORS.put(type, validator);
+      GENERATION.incrementAndGet();
+   }
+
+   /**
+    * Returns a counter that changes whenever a custom assertion is registered.
+    *
+    * <p>Callers that keep resolved validators can compare it to detect that they may be outdated.
+    *
+    * @return The current generation of the registry.
+    */
+   public static int generation() {
+      return GENERATION.get();
    }
 
    /**
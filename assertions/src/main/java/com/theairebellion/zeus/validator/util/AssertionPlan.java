@@ -0,0 +1,223 @@
+package com.theairebellion.zeus.validator.util;
+
+import com.theairebellion.zeus.validator.core.Assertion;
+import com.theairebellion.zeus.validator.core.AssertionResult;
+import com.theairebellion.zeus.validator.core.AssertionType;
+import com.theairebellion.zeus.validator.core.AssertionTypes;
+import com.theairebellion.zeus.validator.exceptions.InvalidAssertionException;
+import com.theairebellion.zeus.validator.functions.PatternCache;
+import com.theairebellion.zeus.validator.registry.AssertionRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+
+/**
+ * A compiled, reusable form of a list of {@link Assertion}s.
+ *
+ * <p>Compiling a plan checks every assertion once, resolves its validator from the {@link AssertionRegistry}
+ * and pre-compiles the expressions of {@link AssertionTypes#MATCHES_REGEX} assertions into the
+ * {@link PatternCache}. Validating data against the plan then costs a single map lookup and validator call
+ * per assertion; the type compatibility check is only repeated when the runtime class of an actual value
+ * changes.
+ *
+ * <p>A plan keeps the validators resolved when it was compiled and can be validated any number of times,
+ * from any thread. {@link #of(List)} caches plans by the identity of their assertions, so validating the same
+ * assertion instances again reuses their plan; a plan cached before a custom assertion was registered is
+ * compiled again on its next lookup.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class AssertionPlan {
+
+   /**
+    * Maximum number of plans kept by {@link #of(List)}.
+    */
+   public static final int MAX_CACHED_PLANS = 256;
+
+   private static final Map<List<Assertion>, AssertionPlan> PLANS = new ConcurrentHashMap<>();
+
+   private final List<Step> steps;
+
+   private final int generation;
+
+
+   private AssertionPlan(List<Step> steps, int generation) {
+      this.steps = steps;
+      this.generation = generation;
+   }
+
+
+   /**
+    * Returns the plan for the given assertions, compiling and caching it on first use.
+    *
+    * <p>Assertions do not define equality, so a cached plan is only found for a list holding the same
+    * assertion instances in the same order. The cache keeps about {@link #MAX_CACHED_PLANS} plans and evicts
+    * an arbitrary one when it is full.
+    *
+    * @param assertions The assertions to compile.
+    * @return A reusable {@code AssertionPlan}.
+    * @throws IllegalArgumentException  if no assertions are provided or a validator is missing.
+    * @throws InvalidAssertionException if an assertion is null or has no key.
+    */
+   public static AssertionPlan of(List<Assertion> assertions) {
+      if (assertions == null || assertions.isEmpty()) {
+         throw new IllegalArgumentException("At least one assertion must be provided.");
+      }
+
+      AssertionPlan plan = PLANS.get(assertions);
+      if (plan != null && plan.generation == AssertionRegistry.generation()) {
+         return plan;
+      }
+
+      plan = compile(assertions);
+      Iterator<List<Assertion>> eviction = PLANS.keySet().iterator();
+      while (PLANS.size() >= MAX_CACHED_PLANS && eviction.hasNext()) {
+         eviction.next();
+         eviction.remove();
+      }
+      PLANS.put(List.copyOf(assertions), plan);
+      return plan;
+   }
+
+
+   /**
+    * Compiles the given assertions into a plan.
+    *
+    * @param assertions The assertions to compile.
+    * @return A reusable {@code AssertionPlan}.
+    * @throws IllegalArgumentException  if no assertions are provided or a validator is missing.
+    * @throws InvalidAssertionException if an assertion is null or has no key.
+    */
+   public static AssertionPlan compile(List<Assertion> assertions) {
+      if (assertions == null || assertions.isEmpty()) {
+         throw new IllegalArgumentException("At least one assertion must be provided.");
+      }
+
+      int generation = AssertionRegistry.generation();
+      List<Step> compiled = new ArrayList<>(assertions.size());
+      for (Assertion assertion : assertions) {
+         compiled.add(compileStep(assertion));
+      }
+      return new AssertionPlan(List.copyOf(compiled), generation);
+   }
+
+
+   /**
+    * Validates the plan against a data map.
+    *
+    * @param data The data map containing key-value pairs to validate against.
+    * @param <T>  The type of values being validated.
+    * @return A list of {@link AssertionResult} objects, in the order of the compiled assertions.
+    * @throws IllegalArgumentException if the data map is null, a key is missing or a value has an
+    *                                  incompatible type.
+    */
+   public <T> List<AssertionResult<T>> validate(Map<String, T> data) {
+      if (data == null) {
+         throw new IllegalArgumentException("The data map cannot be null.");
+      }
+
+      List<AssertionResult<T>> results = new ArrayList<>(steps.size());
+      for (Step step : steps) {
+         results.add(step.evaluate(data));
+      }
+      return Collections.unmodifiableList(results);
+   }
+
+
+   /**
+    * Returns the number of assertions in this plan.
+    *
+    * @return The number of compiled assertions.
+    */
+   public int size() {
+      return steps.size();
+   }
+
+
+   private static Step compileStep(Assertion assertion) {
+      if (assertion == null) {
+         throw new InvalidAssertionException("Assertion cannot be null.");
+      }
+      requireKey(assertion.getKey());
+      return new Step(assertion);
+   }
+
+
+   private static void requireKey(String key) {
+      if (key == null || key.isEmpty()) {
+         throw new InvalidAssertionException("Assertion must have a non-empty key.");
+      }
+   }
+
+
+   /**
+    * A single compiled assertion. The key is read on every evaluation because callers may
+    * still set it after the assertion was built.
+    */
+   private static final class Step {
+
+      private final Assertion assertion;
+
+      private final BiPredicate<Object, Object> validator;
+
+      private final String description;
+
+      private volatile Class<?> verifiedClass;
+
+
+      private Step(Assertion assertion) {
+         AssertionType<?> type = assertion.getType();
+         this.assertion = assertion;
+         this.validator = AssertionRegistry.getValidator(type);
+         this.description = type.type().name();
+
+         if (type == AssertionTypes.MATCHES_REGEX && assertion.getExpected() instanceof String regex) {
+            PatternCache.get(regex);
+         }
+      }
+
+
+      private <T> AssertionResult<T> evaluate(Map<String, T> data) {
+         String key = assertion.getKey();
+         requireKey(key);
+
+         T actualValue = data.get(key);
+         if (actualValue == null) {
+            throw new IllegalArgumentException(
+                  String.format("Key '%s' in assertion does not exist or has a null value in the data map.", key)
+            );
+         }
+
+         checkTypeCompatibility(actualValue.getClass());
+
+         Object expected = assertion.getExpected();
+         boolean passed = validator.test(actualValue, expected);
+
+         return new AssertionResult<>(passed, description, expected, actualValue, assertion.isSoft());
+      }
+
+
+      private void checkTypeCompatibility(Class<?> actualValueClass) {
+         if (actualValueClass == verifiedClass) {
+            return;
+         }
+
+         AssertionType<?> type = assertion.getType();
+         if (!type.getSupportedType().isAssignableFrom(actualValueClass)) {
+            throw new IllegalArgumentException(
+                  String.format(
+                        "Assertion type '%s' is not compatible with the actual value type '%s'.",
+                        type, actualValueClass.getName()
+                  )
+            );
+         }
+         verifiedClass = actualValueClass;
+      }
+
+   }
+
+}
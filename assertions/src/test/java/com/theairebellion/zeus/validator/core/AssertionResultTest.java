@@ -9,6 +9,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -158,6 +159,21 @@ class AssertionResultTest {
       }
 
 
+      @Test
+      @DisplayName("Should build the message once and reuse it")
+      void testToString_Cached() {
+         // Given
+         var result = new AssertionResult<>(false, IS_DESCRIPTION, HELLO, WORLD, false);
+
+         // When
+         var first = result.toString();
+         var second = result.toString();
+
+         // Then
+         assertSame(first, second, "Message should be cached after the first call");
+      }
+
+
       @Test
       @DisplayName("Should handle null values in toString gracefully")
       void testToString_NullValues() {
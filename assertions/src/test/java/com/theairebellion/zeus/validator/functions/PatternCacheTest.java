@@ -0,0 +1,61 @@
+package com.theairebellion.zeus.validator.functions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PatternCacheTest {
+
+   @Test
+   @DisplayName("get should return the same compiled pattern for the same expression")
+   void get_reusesCompiledPattern() {
+      assertSame(PatternCache.get("[a-z]+\\d+"), PatternCache.get("[a-z]+\\d+"));
+   }
+
+   @Test
+   @DisplayName("get should stay within its size bound")
+   void get_isBounded() {
+      for (int i = 0; i < PatternCache.MAX_SIZE * 2; i++) {
+         PatternCache.get("pattern-" + i);
+      }
+
+      assertTrue(PatternCache.size() <= PatternCache.MAX_SIZE, "Cache should evict old patterns");
+   }
+
+   @Test
+   @DisplayName("get should serve concurrent callers the same compiled pattern")
+   void get_isSafeForConcurrentCallers() throws Exception {
+      ExecutorService executor = Executors.newFixedThreadPool(4);
+      try {
+         List<Future<Pattern>> futures = new ArrayList<>();
+         for (int i = 0; i < 100; i++) {
+            futures.add(executor.submit(() -> PatternCache.get("concurrent-\\d+")));
+         }
+
+         Pattern expected = PatternCache.get("concurrent-\\d+");
+         for (Future<Pattern> future : futures) {
+            assertTrue(future.get().matcher("concurrent-42").matches());
+         }
+         assertSame(expected, PatternCache.get("concurrent-\\d+"));
+      } finally {
+         executor.shutdownNow();
+      }
+   }
+
+   @Test
+   @DisplayName("get should propagate invalid expressions")
+   void get_throwsOnInvalidPattern() {
+      assertThrows(PatternSyntaxException.class, () -> PatternCache.get("[unclosed"));
+   }
+
+}
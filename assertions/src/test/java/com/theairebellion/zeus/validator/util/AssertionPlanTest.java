@@ -0,0 +1,245 @@
+package com.theairebellion.zeus.validator.util;
+
+import com.theairebellion.zeus.validator.core.Assertion;
+import com.theairebellion.zeus.validator.core.AssertionTarget;
+import com.theairebellion.zeus.validator.core.AssertionTypes;
+import com.theairebellion.zeus.validator.exceptions.InvalidAssertionException;
+import com.theairebellion.zeus.validator.functions.AssertionFunctions;
+import com.theairebellion.zeus.validator.registry.AssertionRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AssertionPlanTest {
+
+   private static final String NAME_KEY = "name";
+   private static final String AGE_KEY = "age";
+   private static final String ZEUS = "Zeus";
+
+   private static final AssertionTarget TEST_TARGET = () -> TestEnum.TEST;
+
+   @Nested
+   @DisplayName("Compilation tests")
+   class CompilationTests {
+
+      @Test
+      @DisplayName("compile should reject an empty assertion list")
+      void compile_throwsIfEmpty() {
+         var exception = assertThrows(IllegalArgumentException.class, () -> AssertionPlan.compile(List.of()));
+
+         assertTrue(exception.getMessage().contains("At least one assertion"));
+      }
+
+      @Test
+      @DisplayName("compile should reject an assertion without a key")
+      void compile_throwsIfKeyMissing() {
+         var assertion = Assertion.builder()
+               .type(AssertionTypes.IS)
+               .expected(ZEUS)
+               .target(TEST_TARGET)
+               .build();
+
+         assertThrows(InvalidAssertionException.class, () -> AssertionPlan.compile(List.of(assertion)));
+      }
+
+      @Test
+      @DisplayName("compile should fail fast on an invalid regex")
+      void compile_throwsOnInvalidRegex() {
+         var assertion = Assertion.builder()
+               .key(NAME_KEY)
+               .type(AssertionTypes.MATCHES_REGEX)
+               .expected("[unclosed")
+               .target(TEST_TARGET)
+               .build();
+
+         assertThrows(IllegalArgumentException.class, () -> AssertionPlan.compile(List.of(assertion)));
+      }
+   }
+
+   @Nested
+   @DisplayName("Validation tests")
+   class ValidationTests {
+
+      @Test
+      @DisplayName("plan should be reusable across different data maps")
+      void validate_reusesPlan() {
+         // Given
+         var plan = AssertionPlan.compile(List.of(
+               Assertion.builder().key(NAME_KEY).type(AssertionTypes.MATCHES_REGEX).expected("Z.*s")
+                     .target(TEST_TARGET).build(),
+               Assertion.builder().key(AGE_KEY).type(AssertionTypes.GREATER_THAN).expected(18)
+                     .target(TEST_TARGET).soft(true).build()));
+
+         // When
+         var first = plan.validate(Map.<String, Object>of(NAME_KEY, ZEUS, AGE_KEY, 30));
+         var second = plan.validate(Map.<String, Object>of(NAME_KEY, "Hera", AGE_KEY, 10L));
+
+         // Then
+         assertAll(
+               () -> assertEquals(2, plan.size()),
+               () -> assertTrue(first.get(0).isPassed(), "Regex should match"),
+               () -> assertTrue(first.get(1).isPassed(), "Age should be greater"),
+               () -> assertTrue(first.get(1).isSoft(), "Soft flag should be kept"),
+               () -> assertFalse(second.get(0).isPassed(), "Regex should not match"),
+               () -> assertFalse(second.get(1).isPassed(), "Age should not be greater"),
+               () -> assertEquals("MATCHES_REGEX", second.get(0).getDescription())
+         );
+      }
+
+      @Test
+      @DisplayName("plan should check type compatibility when the value class changes")
+      void validate_rechecksTypeForNewClass() {
+         // Given
+         var plan = AssertionPlan.compile(List.of(
+               Assertion.builder().key(AGE_KEY).type(AssertionTypes.GREATER_THAN).expected(18)
+                     .target(TEST_TARGET).build()));
+         plan.validate(Map.<String, Object>of(AGE_KEY, 30));
+
+         // When / Then
+         var exception = assertThrows(IllegalArgumentException.class,
+               () -> plan.validate(Map.<String, Object>of(AGE_KEY, "thirty")));
+         assertTrue(exception.getMessage().contains("not compatible"));
+      }
+
+      @Test
+      @DisplayName("plan should throw if the data map is null")
+      void validate_throwsIfDataIsNull() {
+         var plan = AssertionPlan.compile(List.of(
+               Assertion.builder().key(NAME_KEY).type(AssertionTypes.IS).expected(ZEUS).target(TEST_TARGET).build()));
+
+         assertThrows(IllegalArgumentException.class, () -> plan.validate(null));
+      }
+
+      @Test
+      @DisplayName("plan should read keys set after the assertion was compiled")
+      void validate_readsCurrentKey() {
+         // Given
+         var assertion = Assertion.builder().key(NAME_KEY).type(AssertionTypes.IS).expected(ZEUS)
+               .target(TEST_TARGET).build();
+         var plan = AssertionPlan.compile(List.of(assertion));
+
+         // When
+         assertion.setKey(AGE_KEY);
+         var results = plan.validate(Map.of(AGE_KEY, ZEUS));
+
+         // Then
+         assertTrue(results.get(0).isPassed());
+      }
+   }
+
+   @Nested
+   @DisplayName("Registry interaction tests")
+   class RegistryInteractionTests {
+
+      @Test
+      @DisplayName("compile should pick up validators registered after a previous compilation")
+      void compile_refreshesAfterRegistration() {
+         // Given
+         var assertion = Assertion.builder().key(NAME_KEY).type(AssertionTypes.EQUALS_IGNORE_CASE).expected("zeus")
+               .target(TEST_TARGET).build();
+         var data = Map.of(NAME_KEY, ZEUS);
+         AtomicInteger calls = new AtomicInteger();
+         AssertionPlan.compile(List.of(assertion)).validate(data);
+
+         try {
+            AssertionRegistry.registerCustomAssertion(AssertionTypes.EQUALS_IGNORE_CASE, (actual, expected) -> {
+               calls.incrementAndGet();
+               return AssertionFunctions.equalsIgnoreCase(actual, expected);
+            });
+
+            // When
+            var results = AssertionPlan.compile(List.of(assertion)).validate(data);
+
+            // Then
+            assertTrue(results.get(0).isPassed());
+            assertEquals(1, calls.get(), "Newly registered validator should be used");
+         } finally {
+            AssertionRegistry.registerCustomAssertion(AssertionTypes.EQUALS_IGNORE_CASE,
+                  AssertionFunctions::equalsIgnoreCase);
+         }
+      }
+
+      @Test
+      @DisplayName("plan should keep the validators it was compiled with")
+      void plan_keepsCompiledValidators() {
+         // Given
+         var assertion = Assertion.builder().key(NAME_KEY).type(AssertionTypes.EQUALS_IGNORE_CASE).expected("zeus")
+               .target(TEST_TARGET).build();
+         var data = Map.of(NAME_KEY, ZEUS);
+         var plan = AssertionPlan.compile(List.of(assertion));
+
+         try {
+            AssertionRegistry.registerCustomAssertion(AssertionTypes.EQUALS_IGNORE_CASE, (actual, expected) -> false);
+
+            // When
+            var results = plan.validate(data);
+
+            // Then
+            assertTrue(results.get(0).isPassed(), "Compiled plan should keep its original validator");
+         } finally {
+            AssertionRegistry.registerCustomAssertion(AssertionTypes.EQUALS_IGNORE_CASE,
+                  AssertionFunctions::equalsIgnoreCase);
+         }
+      }
+   }
+
+   @Nested
+   @DisplayName("Plan cache tests")
+   class PlanCacheTests {
+
+      @Test
+      @DisplayName("of should return the cached plan for the same assertion instances")
+      void of_returnsCachedPlan() {
+         // Given
+         var assertion = Assertion.builder().key(NAME_KEY).type(AssertionTypes.IS).expected(ZEUS)
+               .target(TEST_TARGET).build();
+
+         // When
+         var first = AssertionPlan.of(List.of(assertion));
+         var second = AssertionPlan.of(new ArrayList<>(List.of(assertion)));
+
+         // Then
+         assertSame(first, second);
+      }
+
+      @Test
+      @DisplayName("of should compile again after a custom assertion was registered")
+      void of_recompilesAfterRegistration() {
+         // Given
+         var assertion = Assertion.builder().key(NAME_KEY).type(AssertionTypes.EQUALS_IGNORE_CASE).expected("zeus")
+               .target(TEST_TARGET).build();
+         var first = AssertionPlan.of(List.of(assertion));
+
+         try {
+            AssertionRegistry.registerCustomAssertion(AssertionTypes.EQUALS_IGNORE_CASE, (actual, expected) -> false);
+
+            // When
+            var second = AssertionPlan.of(List.of(assertion));
+
+            // Then
+            assertNotSame(first, second);
+            assertFalse(second.validate(Map.of(NAME_KEY, ZEUS)).get(0).isPassed());
+         } finally {
+            AssertionRegistry.registerCustomAssertion(AssertionTypes.EQUALS_IGNORE_CASE,
+                  AssertionFunctions::equalsIgnoreCase);
+         }
+      }
+   }
+
+   private enum TestEnum {
+      TEST
+   }
+
+}
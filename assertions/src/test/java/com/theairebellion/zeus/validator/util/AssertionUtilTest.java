@@ -2,14 +2,18 @@ package com.theairebellion.zeus.validator.util;
 
 import com.theairebellion.zeus.validator.core.Assertion;
 import com.theairebellion.zeus.validator.core.AssertionTarget;
+import com.theairebellion.zeus.validator.core.AssertionType;
 import com.theairebellion.zeus.validator.core.AssertionTypes;
 import com.theairebellion.zeus.validator.exceptions.InvalidAssertionException;
+import com.theairebellion.zeus.validator.registry.AssertionRegistry;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -644,6 +648,45 @@ class AssertionUtilTest {
       }
    }
 
+   @Nested
+   @DisplayName("Plan reuse tests")
+   class PlanReuseTests {
+      @Test
+      @DisplayName("validate should not compile the same assertions again")
+      void validate_reusesCompiledPlan() {
+         // Given
+         var compilations = new AtomicInteger();
+         AssertionType<TestEnum> countingType = new AssertionType<>() {
+            @Override
+            public TestEnum type() {
+               compilations.incrementAndGet();
+               return TestEnum.TEST;
+            }
+
+            @Override
+            public Class<?> getSupportedType() {
+               return String.class;
+            }
+         };
+         AssertionRegistry.registerCustomAssertion(countingType, Objects::equals);
+         var assertions = List.of(Assertion.builder()
+               .key(NAME_KEY)
+               .type(countingType)
+               .expected(ZEUS)
+               .target(TEST_TARGET)
+               .build());
+
+         // When
+         var first = AssertionUtil.validate(Map.of(NAME_KEY, ZEUS), assertions);
+         var second = AssertionUtil.validate(Map.of(NAME_KEY, "Hera"), assertions);
+
+         // Then
+         assertTrue(first.get(0).isPassed(), "First validation should pass");
+         assertFalse(second.get(0).isPassed(), "Second validation should fail");
+         assertEquals(1, compilations.get(), "Assertions should be compiled only once");
+      }
+   }
+
    // Test enum for custom target
    private enum TestEnum {
       TEST
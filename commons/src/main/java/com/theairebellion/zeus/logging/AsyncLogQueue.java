@@ -0,0 +1,83 @@
+package com.theairebellion.zeus.logging;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.async.AsyncLoggerConfig;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+import org.apache.logging.log4j.core.jmx.RingBufferAdmin;
+
+/**
+ * Waits for the asynchronous loggers of a Log4j2 configuration to hand their queued events to the appenders.
+ *
+ * <p>With {@code async.logging} enabled, events are put on an LMAX disruptor ring buffer and appended by a
+ * background thread, so the last lines of a test may still be queued when the test is reported. The queue is
+ * shared by all asynchronous loggers of a configuration and processed in order; once it has been seen empty,
+ * every event logged before the wait started has reached the appenders. Configurations without asynchronous
+ * loggers are not waited for.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+final class AsyncLogQueue {
+
+   private static final long POLL_INTERVAL_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+
+   private AsyncLogQueue() {
+   }
+
+
+   /**
+    * Waits until the asynchronous loggers of the current logger context have appended their queued events.
+    *
+    * @param timeout The maximum time to wait.
+    * @return {@code true} if the queue was drained, or there is none; {@code false} if the timeout elapsed.
+    */
+   static boolean drain(Duration timeout) {
+      return drain(LoggerContext.getContext(false), timeout);
+   }
+
+
+   /**
+    * Waits until the asynchronous loggers of the given logger context have appended their queued events.
+    *
+    * @param context The logger context.
+    * @param timeout The maximum time to wait.
+    * @return {@code true} if the queue was drained, or there is none; {@code false} if the timeout elapsed.
+    */
+   static boolean drain(LoggerContext context, Duration timeout) {
+      Configuration configuration = context.getConfiguration();
+      LoggerConfig asyncConfig = asyncLoggerConfig(configuration);
+      if (asyncConfig == null) {
+         return true;
+      }
+
+      String name = asyncConfig.getName().isEmpty() ? "root" : asyncConfig.getName();
+      RingBufferAdmin queue = configuration.getAsyncLoggerConfigDelegate()
+            .createRingBufferAdmin(context.getName(), name);
+      long deadline = System.nanoTime() + timeout.toNanos();
+      while (queue.getRemainingCapacity() < queue.getBufferSize()) {
+         if (System.nanoTime() - deadline >= 0) {
+            return false;
+         }
+         LockSupport.parkNanos(POLL_INTERVAL_NANOS);
+      }
+      return true;
+   }
+
+
+   private static LoggerConfig asyncLoggerConfig(Configuration configuration) {
+      if (configuration.getRootLogger() instanceof AsyncLoggerConfig) {
+         return configuration.getRootLogger();
+      }
+      for (LoggerConfig loggerConfig : configuration.getLoggers().values()) {
+         if (loggerConfig instanceof AsyncLoggerConfig) {
+            return loggerConfig;
+         }
+      }
+      return null;
+   }
+
+}
@@ -14,6 +14,11 @@ import org.apache.logging.log4j.Marker;
  *
  * <p>Extended logging can be controlled via the system property {@code extended.logging}.
  *
+ * <p>Every level has fixed-arity overloads for one and two arguments. They map onto the matching
+ * Log4j2 overloads, which check the level before building a message, so a disabled level costs
+ * neither a varargs array nor a message object. Asynchronous logging through an LMAX disruptor ring
+ * buffer can be enabled with the system property {@code async.logging}.
+ *
  * @author Cyborg Code Syndicate 💍👨💻
  */
 public abstract class LogCore {
@@ -28,7 +33,10 @@ public abstract class LogCore {
     */
    private final Marker marker;
 
-   private static Boolean silentMode;
+   /**
+    * Flag indicating whether silent mode is enabled, resolved once from the system property {@code silent.mode}.
+    */
+   private static final boolean SILENT_MODE = Boolean.parseBoolean(System.getProperty("silent.mode", "false"));
 
    /**
     * Custom log level for step-based logs.
@@ -47,9 +55,11 @@ public abstract class LogCore {
 
 
    /**
-    * Flag indicating whether extended logging is enabled, controlled via system properties.
+    * Flag indicating whether extended logging is enabled, resolved once from the system property
+    * {@code extended.logging}.
     */
-   private static Boolean extendedLogging;
+   private static final boolean EXTENDED_LOGGING =
+         Boolean.parseBoolean(System.getProperty("extended.logging", "false"));
 
 
    /**
@@ -75,6 +85,29 @@ public abstract class LogCore {
    }
 
 
+   /**
+    * Fixed-arity variant of {@link #infoLog(String, Object...)} that allocates no varargs array.
+    *
+    * @param message The log message.
+    * @param arg     The single argument to be formatted within the message.
+    */
+   protected void infoLog(String message, Object arg) {
+      logger.info(marker, message, arg);
+   }
+
+
+   /**
+    * Fixed-arity variant of {@link #infoLog(String, Object...)} that allocates no varargs array.
+    *
+    * @param message The log message.
+    * @param arg1    The first argument to be formatted within the message.
+    * @param arg2    The second argument to be formatted within the message.
+    */
+   protected void infoLog(String message, Object arg1, Object arg2) {
+      logger.info(marker, message, arg1, arg2);
+   }
+
+
    /**
     * Logs a warning message unless silent mode is enabled.
     *
@@ -88,6 +121,33 @@ public abstract class LogCore {
    }
 
 
+   /**
+    * Fixed-arity variant of {@link #warnLog(String, Object...)} that allocates no varargs array.
+    *
+    * @param message The log message.
+    * @param arg     The single argument to be formatted within the message.
+    */
+   protected void warnLog(String message, Object arg) {
+      if (!isSilent()) {
+         logger.warn(marker, message, arg);
+      }
+   }
+
+
+   /**
+    * Fixed-arity variant of {@link #warnLog(String, Object...)} that allocates no varargs array.
+    *
+    * @param message The log message.
+    * @param arg1    The first argument to be formatted within the message.
+    * @param arg2    The second argument to be formatted within the message.
+    */
+   protected void warnLog(String message, Object arg1, Object arg2) {
+      if (!isSilent()) {
+         logger.warn(marker, message, arg1, arg2);
+      }
+   }
+
+
    /**
     * Logs an error message unless silent mode is enabled.
     *
@@ -101,6 +161,33 @@ public abstract class LogCore {
    }
 
 
+   /**
+    * Fixed-arity variant of {@link #errorLog(String, Object...)} that allocates no varargs array.
+    *
+    * @param message The log message.
+    * @param arg     The single argument to be formatted within the message.
+    */
+   protected void errorLog(String message, Object arg) {
+      if (!isSilent()) {
+         logger.error(marker, message, arg);
+      }
+   }
+
+
+   /**
+    * Fixed-arity variant of {@link #errorLog(String, Object...)} that allocates no varargs array.
+    *
+    * @param message The log message.
+    * @param arg1    The first argument to be formatted within the message.
+    * @param arg2    The second argument to be formatted within the message.
+    */
+   protected void errorLog(String message, Object arg1, Object arg2) {
+      if (!isSilent()) {
+         logger.error(marker, message, arg1, arg2);
+      }
+   }
+
+
    /**
     * Logs a debug message unless silent mode is enabled.
     *
@@ -114,6 +201,33 @@ public abstract class LogCore {
    }
 
 
+   /**
+    * Fixed-arity variant of {@link #debugLog(String, Object...)} that allocates no varargs array.
+    *
+    * @param message The log message.
+    * @param arg     The single argument to be formatted within the message.
+    */
+   protected void debugLog(String message, Object arg) {
+      if (!isSilent()) {
+         logger.debug(marker, message, arg);
+      }
+   }
+
+
+   /**
+    * Fixed-arity variant of {@link #debugLog(String, Object...)} that allocates no varargs array.
+    *
+    * @param message The log message.
+    * @param arg1    The first argument to be formatted within the message.
+    * @param arg2    The second argument to be formatted within the message.
+    */
+   protected void debugLog(String message, Object arg1, Object arg2) {
+      if (!isSilent()) {
+         logger.debug(marker, message, arg1, arg2);
+      }
+   }
+
+
    /**
     * Logs a trace message unless silent mode is enabled.
     *
@@ -127,6 +241,33 @@ public abstract class LogCore {
    }
 
 
+   /**
+    * Fixed-arity variant of {@link #traceLog(String, Object...)} that allocates no varargs array.
+    *
+    * @param message The log message.
+    * @param arg     The single argument to be formatted within the message.
+    */
+   protected void traceLog(String message, Object arg) {
+      if (!isSilent()) {
+         logger.trace(marker, message, arg);
+      }
+   }
+
+
+   /**
+    * Fixed-arity variant of {@link #traceLog(String, Object...)} that allocates no varargs array.
+    *
+    * @param message The log message.
+    * @param arg1    The first argument to be formatted within the message.
+    * @param arg2    The second argument to be formatted within the message.
+    */
+   protected void traceLog(String message, Object arg1, Object arg2) {
+      if (!isSilent()) {
+         logger.trace(marker, message, arg1, arg2);
+      }
+   }
+
+
    /**
     * Logs a step-based message unless silent mode is enabled.
     *
@@ -136,12 +277,39 @@ public abstract class LogCore {
     * @param args    Arguments to be formatted within the message.
     */
    protected void stepLog(String message, Object... args) {
-      if (!isSilent()) {
+      if (isStepEnabled()) {
          logger.log(STEP_LEVEL, marker, message, args);
       }
    }
 
 
+   /**
+    * Fixed-arity variant of {@link #stepLog(String, Object...)} that allocates no varargs array.
+    *
+    * @param message The log message.
+    * @param arg     The single argument to be formatted within the message.
+    */
+   protected void stepLog(String message, Object arg) {
+      if (isStepEnabled()) {
+         logger.log(STEP_LEVEL, marker, message, arg);
+      }
+   }
+
+
+   /**
+    * Fixed-arity variant of {@link #stepLog(String, Object...)} that allocates no varargs array.
+    *
+    * @param message The log message.
+    * @param arg1    The first argument to be formatted within the message.
+    * @param arg2    The second argument to be formatted within the message.
+    */
+   protected void stepLog(String message, Object arg1, Object arg2) {
+      if (isStepEnabled()) {
+         logger.log(STEP_LEVEL, marker, message, arg1, arg2);
+      }
+   }
+
+
    /**
     * Logs a validation-related message unless silent mode is enabled.
     *
@@ -152,12 +320,39 @@ public abstract class LogCore {
     * @param args    Arguments to be formatted within the message.
     */
    protected void validationLog(String message, Object... args) {
-      if (!isSilent()) {
+      if (isStepEnabled()) {
          logger.log(VALIDATION_LEVEL, marker, message, args);
       }
    }
 
 
+   /**
+    * Fixed-arity variant of {@link #validationLog(String, Object...)} that allocates no varargs array.
+    *
+    * @param message The log message.
+    * @param arg     The single argument to be formatted within the message.
+    */
+   protected void validationLog(String message, Object arg) {
+      if (isStepEnabled()) {
+         logger.log(VALIDATION_LEVEL, marker, message, arg);
+      }
+   }
+
+
+   /**
+    * Fixed-arity variant of {@link #validationLog(String, Object...)} that allocates no varargs array.
+    *
+    * @param message The log message.
+    * @param arg1    The first argument to be formatted within the message.
+    * @param arg2    The second argument to be formatted within the message.
+    */
+   protected void validationLog(String message, Object arg1, Object arg2) {
+      if (isStepEnabled()) {
+         logger.log(VALIDATION_LEVEL, marker, message, arg1, arg2);
+      }
+   }
+
+
    /**
     * Logs an extended message unless silent mode is enabled.
     *
@@ -168,22 +363,71 @@ public abstract class LogCore {
     * @param args    Arguments to be formatted within the message.
     */
    protected void extendedLog(String message, Object... args) {
-      if (!isSilent() && extendedLoggingEnabled()) {
+      if (isExtendedEnabled()) {
          logger.log(EXTENDED_LEVEL, marker, message, args);
       }
    }
 
 
+   /**
+    * Fixed-arity variant of {@link #extendedLog(String, Object...)} that allocates no varargs array.
+    *
+    * @param message The log message.
+    * @param arg     The single argument to be formatted within the message.
+    */
+   protected void extendedLog(String message, Object arg) {
+      if (isExtendedEnabled()) {
+         logger.log(EXTENDED_LEVEL, marker, message, arg);
+      }
+   }
+
+
+   /**
+    * Fixed-arity variant of {@link #extendedLog(String, Object...)} that allocates no varargs array.
+    *
+    * @param message The log message.
+    * @param arg1    The first argument to be formatted within the message.
+    * @param arg2    The second argument to be formatted within the message.
+    */
+   protected void extendedLog(String message, Object arg1, Object arg2) {
+      if (isExtendedEnabled()) {
+         logger.log(EXTENDED_LEVEL, marker, message, arg1, arg2);
+      }
+   }
+
+
+   /**
+    * Indicates whether step and validation logs are written.
+    *
+    * <p>Callers whose log arguments are expensive to build can use this guard to skip building them.
+    *
+    * @return {@code true} unless silent mode is enabled.
+    */
+   public static boolean isStepEnabled() {
+      return !isSilent();
+   }
+
+
+   /**
+    * Indicates whether extended logs are written.
+    *
+    * <p>Callers whose log arguments are expensive to build, such as pretty-printed bodies or page sources,
+    * can use this guard to skip building them.
+    *
+    * @return {@code true} if extended logging is enabled and silent mode is disabled.
+    */
+   public static boolean isExtendedEnabled() {
+      return !isSilent() && extendedLoggingEnabled();
+   }
+
+
    /**
     * Determines whether extended logging is enabled based on the system property {@code extended.logging}.
     *
     * @return {@code true} if extended logging is enabled, otherwise {@code false}.
     */
-   private static boolean extendedLoggingEnabled() {
-      if (extendedLogging == null) {
-         extendedLogging = Boolean.parseBoolean(System.getProperty("extended.logging", "false"));
-      }
-      return extendedLogging;
+   static boolean extendedLoggingEnabled() {
+      return EXTENDED_LOGGING;
    }
 
 
@@ -197,12 +441,8 @@ public abstract class LogCore {
     *
     * @return {@code true} if silent mode is enabled, otherwise {@code false}.
     */
-   private static boolean isSilent() {
-      if (silentMode == null) {
-         silentMode = Boolean.parseBoolean(System.getProperty("silent.mode", "false"));
-      }
-      return silentMode;
+   static boolean isSilent() {
+      return SILENT_MODE;
    }
 
-
-}
\ No newline at end of file
+}
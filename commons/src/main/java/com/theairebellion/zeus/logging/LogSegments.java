@@ -0,0 +1,162 @@
+package com.theairebellion.zeus.logging;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory store of the log output produced by each running test.
+ *
+ * <p>Segments are keyed by the unique id of the test held in the log4j {@code ThreadContext} under
+ * {@link #CONTEXT_KEY}. A segment is created with {@link #open(String)} when the test starts and filled by the
+ * {@code TestLogCapture} appender while the test runs. Handing a segment over with {@link #release(String)}
+ * removes it from the store, so reporting the logs of a test costs time proportional to that test's own
+ * output rather than to the whole log file, and the memory is freed as soon as the test is reported. Output
+ * for a test without an open segment, such as events of asynchronous work that finish after the test was
+ * reported, is dropped instead of creating a segment nobody releases. With asynchronous logging enabled, a
+ * release first waits, up to {@link #DRAIN_TIMEOUT}, for the queued events to reach the appenders, so the last
+ * lines of a test are not lost.
+ *
+ * <p>Every segment is bounded; output beyond {@code maxSegmentSize} characters is dropped and a single
+ * truncation notice is appended instead.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class LogSegments {
+
+   /**
+    * Default upper bound, in characters, for a single test's segment.
+    */
+   public static final int DEFAULT_MAX_SEGMENT_SIZE = 5 * 1024 * 1024;
+
+   /**
+    * The {@code ThreadContext} key holding the unique id of the running test.
+    */
+   public static final String CONTEXT_KEY = "testId";
+
+   /**
+    * Maximum time a release waits for queued asynchronous log events.
+    */
+   public static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(2);
+
+   private static final String TRUNCATION_NOTICE = "... log segment truncated after %d characters ..."
+         + System.lineSeparator();
+
+   private static final Map<String, Segment> SEGMENTS = new ConcurrentHashMap<>();
+
+   private static final AtomicInteger ACTIVE_CAPTURES = new AtomicInteger();
+
+
+   private LogSegments() {
+   }
+
+
+   /**
+    * Starts capturing output for the given test; an already open segment is kept.
+    *
+    * @param testId The unique id of the test.
+    */
+   public static void open(String testId) {
+      SEGMENTS.putIfAbsent(testId, new Segment());
+   }
+
+
+   /**
+    * Appends formatted log output to the segment of the given test, using the default size bound.
+    *
+    * @param testId The unique id of the test the output belongs to.
+    * @param text   The formatted log output.
+    */
+   public static void append(String testId, CharSequence text) {
+      append(testId, text, DEFAULT_MAX_SEGMENT_SIZE);
+   }
+
+
+   /**
+    * Appends formatted log output to the segment of the given test. The output is dropped if no segment is
+    * open for the test.
+    *
+    * @param testId         The unique id of the test the output belongs to.
+    * @param text           The formatted log output.
+    * @param maxSegmentSize The maximum number of characters kept for the test.
+    */
+   public static void append(String testId, CharSequence text, int maxSegmentSize) {
+      Segment segment = SEGMENTS.get(testId);
+      if (segment != null) {
+         segment.append(text, maxSegmentSize);
+      }
+   }
+
+
+   /**
+    * Removes and returns the captured output of the given test, once the events queued by asynchronous
+    * loggers have been appended.
+    *
+    * @param testId The unique id of the test.
+    * @return The captured output, or an empty {@code Optional} if no segment was open for the test.
+    */
+   public static Optional<String> release(String testId) {
+      if (SEGMENTS.containsKey(testId)) {
+         AsyncLogQueue.drain(DRAIN_TIMEOUT);
+      }
+      Segment segment = SEGMENTS.remove(testId);
+      return segment == null ? Optional.empty() : Optional.of(segment.content());
+   }
+
+
+   /**
+    * Indicates whether a capture appender is currently running, i.e. whether an absent segment means
+    * that the test produced no output.
+    *
+    * @return {@code true} if at least one capture appender is started.
+    */
+   public static boolean isCapturing() {
+      return ACTIVE_CAPTURES.get() > 0;
+   }
+
+
+   /**
+    * Registers a started capture appender.
+    */
+   public static void captureStarted() {
+      ACTIVE_CAPTURES.incrementAndGet();
+   }
+
+
+   /**
+    * Unregisters a stopped capture appender.
+    */
+   public static void captureStopped() {
+      ACTIVE_CAPTURES.updateAndGet(count -> Math.max(0, count - 1));
+   }
+
+
+   private static final class Segment {
+
+      private final StringBuilder buffer = new StringBuilder();
+
+      private boolean truncated;
+
+
+      private synchronized void append(CharSequence text, int maxSegmentSize) {
+         if (truncated) {
+            return;
+         }
+         if (buffer.length() + text.length() > maxSegmentSize) {
+            buffer.append(TRUNCATION_NOTICE.formatted(buffer.length()));
+            truncated = true;
+            return;
+         }
+         buffer.append(text);
+      }
+
+
+      private synchronized String content() {
+         return buffer.toString();
+      }
+
+   }
+
+}
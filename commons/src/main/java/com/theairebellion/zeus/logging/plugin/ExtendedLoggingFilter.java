@@ -0,0 +1,102 @@
+package com.theairebellion.zeus.logging.plugin;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.Logger;
+import org.apache.logging.log4j.core.config.Node;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.filter.AbstractFilter;
+import org.apache.logging.log4j.message.Message;
+
+/**
+ * Log4j2 filter that routes events depending on whether extended logging is enabled.
+ *
+ * <p>The {@code extendedLogging} flag is resolved once, when the configuration is built, so the
+ * decision for every event is a constant: {@code onMatch} when extended logging is enabled and
+ * {@code onMismatch} otherwise. It replaces the JavaScript {@code ScriptFilter}s that evaluated the
+ * same flag through a script engine on every log event.
+ *
+ * <p>Example configuration:
+ * <pre>{@code
+ * <ExtendedLoggingFilter extendedLogging="${sys:extendedLogging:-false}" onMatch="ACCEPT" onMismatch="DENY"/>
+ * }</pre>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@Plugin(name = "ExtendedLoggingFilter", category = Node.CATEGORY, elementType = Filter.ELEMENT_TYPE,
+      printObject = true)
+public final class ExtendedLoggingFilter extends AbstractFilter {
+
+   private final boolean extendedLogging;
+
+   private final Result result;
+
+
+   private ExtendedLoggingFilter(boolean extendedLogging, Result onMatch, Result onMismatch) {
+      super(onMatch, onMismatch);
+      this.extendedLogging = extendedLogging;
+      this.result = extendedLogging ? getOnMatch() : getOnMismatch();
+   }
+
+
+   /**
+    * Creates the filter from its configuration attributes.
+    *
+    * @param extendedLogging Whether extended logging is enabled.
+    * @param onMatch         The result returned when extended logging is enabled.
+    * @param onMismatch      The result returned when extended logging is disabled.
+    * @return A new {@code ExtendedLoggingFilter}.
+    */
+   @PluginFactory
+   public static ExtendedLoggingFilter createFilter(
+         @PluginAttribute(value = "extendedLogging", defaultBoolean = false) boolean extendedLogging,
+         @PluginAttribute(AbstractFilter.ATTR_ON_MATCH) Result onMatch,
+         @PluginAttribute(AbstractFilter.ATTR_ON_MISMATCH) Result onMismatch) {
+      return new ExtendedLoggingFilter(extendedLogging, onMatch, onMismatch);
+   }
+
+
+   /**
+    * Indicates whether this filter was configured with extended logging enabled.
+    *
+    * @return {@code true} if extended logging is enabled.
+    */
+   public boolean isExtendedLogging() {
+      return extendedLogging;
+   }
+
+
+   @Override
+   public Result filter(LogEvent event) {
+      return result;
+   }
+
+
+   @Override
+   public Result filter(Logger logger, Level level, Marker marker, Message msg, Throwable t) {
+      return result;
+   }
+
+
+   @Override
+   public Result filter(Logger logger, Level level, Marker marker, Object msg, Throwable t) {
+      return result;
+   }
+
+
+   @Override
+   public Result filter(Logger logger, Level level, Marker marker, String msg, Object... params) {
+      return result;
+   }
+
+
+   @Override
+   public String toString() {
+      return "extendedLogging=" + extendedLogging + ", result=" + result;
+   }
+
+}
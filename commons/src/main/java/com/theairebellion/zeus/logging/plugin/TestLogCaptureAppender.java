@@ -0,0 +1,136 @@
+package com.theairebellion.zeus.logging.plugin;
+
+import com.theairebellion.zeus.logging.LogSegments;
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Core;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginBuilderAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginBuilderFactory;
+
+/**
+ * Log4j2 appender that captures the output of every test into its own in-memory {@link LogSegments} entry.
+ *
+ * <p>Events are routed by the {@code ThreadContext} value stored under {@code contextKey} (by default
+ * {@link LogSegments#CONTEXT_KEY}, the unique id of the test); events logged outside a test, or after the
+ * segment of their test was released, are ignored. The captured segment is later handed to the
+ * report with {@link LogSegments#release(String)}, replacing a scan of the complete log file per test.
+ *
+ * <p>Example configuration:
+ * <pre>{@code
+ * <TestLogCapture name="TestLogCapture" maxSegmentSize="5242880">
+ *     <PatternLayout pattern="%d [scenario=%X{testName}] %-5level - %m%n"/>
+ * </TestLogCapture>
+ * }</pre>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@Plugin(name = "TestLogCapture", category = Core.CATEGORY_NAME, elementType = Appender.ELEMENT_TYPE,
+      printObject = true)
+public final class TestLogCaptureAppender extends AbstractAppender {
+
+   private final String contextKey;
+
+   private final int maxSegmentSize;
+
+
+   private TestLogCaptureAppender(String name, Filter filter, Layout<? extends Serializable> layout,
+                                  boolean ignoreExceptions, Property[] properties, String contextKey,
+                                  int maxSegmentSize) {
+      super(name, filter, layout, ignoreExceptions, properties);
+      this.contextKey = contextKey;
+      this.maxSegmentSize = maxSegmentSize;
+   }
+
+
+   /**
+    * Creates a builder used by Log4j2 to configure this appender.
+    *
+    * @param <B> The builder type.
+    * @return A new {@link Builder}.
+    */
+   @PluginBuilderFactory
+   public static <B extends Builder<B>> B newBuilder() {
+      return new Builder<B>().asBuilder();
+   }
+
+
+   @Override
+   public void append(LogEvent event) {
+      Object testId = event.getContextData().getValue(contextKey);
+      if (testId == null || testId.toString().isEmpty()) {
+         return;
+      }
+      LogSegments.append(testId.toString(), String.valueOf(getLayout().toSerializable(event)), maxSegmentSize);
+   }
+
+
+   @Override
+   public void start() {
+      super.start();
+      LogSegments.captureStarted();
+   }
+
+
+   @Override
+   public boolean stop(long timeout, TimeUnit timeUnit) {
+      boolean stopped = super.stop(timeout, timeUnit);
+      LogSegments.captureStopped();
+      return stopped;
+   }
+
+
+   /**
+    * Builder for {@link TestLogCaptureAppender}, populated by Log4j2 from the configuration attributes.
+    *
+    * @param <B> The builder type.
+    */
+   public static class Builder<B extends Builder<B>> extends AbstractAppender.Builder<B>
+         implements org.apache.logging.log4j.core.util.Builder<TestLogCaptureAppender> {
+
+      @PluginBuilderAttribute
+      private String contextKey = LogSegments.CONTEXT_KEY;
+
+      @PluginBuilderAttribute
+      private int maxSegmentSize = LogSegments.DEFAULT_MAX_SEGMENT_SIZE;
+
+
+      /**
+       * Sets the {@code ThreadContext} key that holds the unique id of the running test.
+       *
+       * @param contextKey The context key.
+       * @return This builder.
+       */
+      public B setContextKey(String contextKey) {
+         this.contextKey = contextKey;
+         return asBuilder();
+      }
+
+
+      /**
+       * Sets the maximum number of characters captured for a single test.
+       *
+       * @param maxSegmentSize The size bound.
+       * @return This builder.
+       */
+      public B setMaxSegmentSize(int maxSegmentSize) {
+         this.maxSegmentSize = maxSegmentSize;
+         return asBuilder();
+      }
+
+
+      @Override
+      public TestLogCaptureAppender build() {
+         return new TestLogCaptureAppender(getName(), getFilter(), getOrCreateLayout(), isIgnoreExceptions(),
+               getPropertyArray(), contextKey, maxSegmentSize);
+      }
+
+   }
+
+}
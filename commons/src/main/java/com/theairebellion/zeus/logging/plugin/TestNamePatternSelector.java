@@ -0,0 +1,209 @@
+package com.theairebellion.zeus.logging.plugin;
+
+import java.util.List;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.Node;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginBuilderAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginBuilderFactory;
+import org.apache.logging.log4j.core.config.plugins.PluginConfiguration;
+import org.apache.logging.log4j.core.impl.LocationAware;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.apache.logging.log4j.core.layout.PatternSelector;
+import org.apache.logging.log4j.core.pattern.PatternFormatter;
+import org.apache.logging.log4j.core.pattern.PatternParser;
+
+/**
+ * Log4j2 pattern selector that picks a layout pattern depending on whether a test is running.
+ *
+ * <p>When the {@code ThreadContext} holds a non-empty value under {@code contextKey} (by default
+ * {@code testName}) the {@code testPattern} is used, otherwise the {@code defaultPattern}. Both patterns
+ * are parsed once when the configuration is built, so selecting one is a single context lookup and null
+ * check. It replaces the JavaScript {@code ScriptPatternSelector}s that made the same decision through
+ * a script engine on every log event.
+ *
+ * <p>Example configuration:
+ * <pre>{@code
+ * <PatternLayout>
+ *     <TestNamePatternSelector defaultPattern="%d %-5level - %m%n"
+ *                              testPattern="%d [scenario=%X{testName}] %-5level - %m%n"/>
+ * </PatternLayout>
+ * }</pre>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@Plugin(name = "TestNamePatternSelector", category = Node.CATEGORY, elementType = PatternSelector.ELEMENT_TYPE,
+      printObject = true)
+public final class TestNamePatternSelector implements PatternSelector, LocationAware {
+
+   /**
+    * The {@code ThreadContext} key checked by default.
+    */
+   public static final String DEFAULT_CONTEXT_KEY = "testName";
+
+   private final String contextKey;
+
+   private final String defaultPattern;
+
+   private final String testPattern;
+
+   private final PatternFormatter[] defaultFormatters;
+
+   private final PatternFormatter[] testFormatters;
+
+   private final boolean requiresLocation;
+
+
+   TestNamePatternSelector(String contextKey, String defaultPattern, String testPattern,
+                           boolean alwaysWriteExceptions, boolean disableAnsi, boolean noConsoleNoAnsi,
+                           Configuration configuration) {
+      this.contextKey = contextKey;
+      this.defaultPattern = defaultPattern;
+      this.testPattern = testPattern;
+      PatternParser parser = PatternLayout.createPatternParser(configuration);
+      this.defaultFormatters = parse(parser, defaultPattern, alwaysWriteExceptions, disableAnsi, noConsoleNoAnsi);
+      this.testFormatters = parse(parser, testPattern, alwaysWriteExceptions, disableAnsi, noConsoleNoAnsi);
+      this.requiresLocation = requiresLocation(defaultFormatters) || requiresLocation(testFormatters);
+   }
+
+
+   /**
+    * Creates a builder used by Log4j2 to configure this selector.
+    *
+    * @return A new {@link Builder}.
+    */
+   @PluginBuilderFactory
+   public static Builder newBuilder() {
+      return new Builder();
+   }
+
+
+   @Override
+   public PatternFormatter[] getFormatters(LogEvent event) {
+      Object testName = event.getContextData().getValue(contextKey);
+      if (testName == null || testName.toString().isEmpty()) {
+         return defaultFormatters;
+      }
+      return testFormatters;
+   }
+
+
+   @Override
+   public boolean requiresLocation() {
+      return requiresLocation;
+   }
+
+
+   @Override
+   public String toString() {
+      return "contextKey=" + contextKey + ", defaultPattern=" + defaultPattern + ", testPattern=" + testPattern;
+   }
+
+
+   private static PatternFormatter[] parse(PatternParser parser, String pattern, boolean alwaysWriteExceptions,
+                                           boolean disableAnsi, boolean noConsoleNoAnsi) {
+      List<PatternFormatter> formatters = parser.parse(pattern, alwaysWriteExceptions, disableAnsi, noConsoleNoAnsi);
+      return formatters.toArray(new PatternFormatter[0]);
+   }
+
+
+   private static boolean requiresLocation(PatternFormatter[] formatters) {
+      for (PatternFormatter formatter : formatters) {
+         if (formatter.requiresLocation()) {
+            return true;
+         }
+      }
+      return false;
+   }
+
+
+   /**
+    * Builder for {@link TestNamePatternSelector}, populated by Log4j2 from the configuration attributes.
+    */
+   public static final class Builder implements org.apache.logging.log4j.core.util.Builder<TestNamePatternSelector> {
+
+      @PluginBuilderAttribute
+      private String contextKey = DEFAULT_CONTEXT_KEY;
+
+      @PluginBuilderAttribute
+      private String defaultPattern = PatternLayout.DEFAULT_CONVERSION_PATTERN;
+
+      @PluginBuilderAttribute
+      private String testPattern;
+
+      @PluginBuilderAttribute
+      private boolean alwaysWriteExceptions = true;
+
+      @PluginBuilderAttribute
+      private boolean disableAnsi;
+
+      @PluginBuilderAttribute
+      private boolean noConsoleNoAnsi;
+
+      @PluginConfiguration
+      private Configuration configuration;
+
+
+      private Builder() {
+      }
+
+
+      /**
+       * Sets the {@code ThreadContext} key that marks a running test.
+       *
+       * @param contextKey The context key.
+       * @return This builder.
+       */
+      public Builder setContextKey(String contextKey) {
+         this.contextKey = contextKey;
+         return this;
+      }
+
+
+      /**
+       * Sets the pattern used outside of a test.
+       *
+       * @param defaultPattern The layout pattern.
+       * @return This builder.
+       */
+      public Builder setDefaultPattern(String defaultPattern) {
+         this.defaultPattern = defaultPattern;
+         return this;
+      }
+
+
+      /**
+       * Sets the pattern used while a test is running.
+       *
+       * @param testPattern The layout pattern.
+       * @return This builder.
+       */
+      public Builder setTestPattern(String testPattern) {
+         this.testPattern = testPattern;
+         return this;
+      }
+
+
+      /**
+       * Sets the configuration used to resolve pattern converters.
+       *
+       * @param configuration The Log4j2 configuration.
+       * @return This builder.
+       */
+      public Builder setConfiguration(Configuration configuration) {
+         this.configuration = configuration;
+         return this;
+      }
+
+
+      @Override
+      public TestNamePatternSelector build() {
+         String resolvedTestPattern = testPattern != null ? testPattern : defaultPattern;
+         return new TestNamePatternSelector(contextKey, defaultPattern, resolvedTestPattern,
+               alwaysWriteExceptions, disableAnsi, noConsoleNoAnsi, configuration);
+      }
+
+   }
+
+}
@@ -0,0 +1,91 @@
+package com.theairebellion.zeus.util.reflections;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Determines how long {@link RetryUtils} waits between two consecutive attempts.
+ *
+ * <p>Three strategies are provided out of the box:
+ * <ul>
+ *     <li>{@link #fixed(Duration)} waits the same interval after every attempt.</li>
+ *     <li>{@link #exponential(Duration, double, Duration)} multiplies the delay after every attempt,
+ *     up to a maximum.</li>
+ *     <li>{@link #exponentialWithJitter(Duration, double, Duration)} picks a random delay between zero
+ *     and the exponential delay, spreading out polls that would otherwise hit a backend in lockstep.</li>
+ * </ul>
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@FunctionalInterface
+public interface BackoffStrategy {
+
+   /**
+    * Computes the delay before the next attempt.
+    *
+    * @param attempt The number of the attempt that just failed, starting at {@code 1}.
+    * @return The delay to wait before the next attempt. Never negative.
+    */
+   Duration delay(int attempt);
+
+
+   /**
+    * Creates a strategy that waits the same interval after every attempt.
+    *
+    * @param interval The interval between attempts.
+    * @return A fixed backoff strategy.
+    */
+   static BackoffStrategy fixed(Duration interval) {
+      requireNonNegative(interval, "interval");
+      return attempt -> interval;
+   }
+
+
+   /**
+    * Creates a strategy whose delay grows by {@code multiplier} after every attempt.
+    *
+    * @param initialDelay The delay after the first attempt.
+    * @param multiplier   The growth factor applied after every further attempt. Must be at least {@code 1}.
+    * @param maxDelay     The upper bound for the delay.
+    * @return An exponential backoff strategy.
+    */
+   static BackoffStrategy exponential(Duration initialDelay, double multiplier, Duration maxDelay) {
+      requireNonNegative(initialDelay, "initialDelay");
+      requireNonNegative(maxDelay, "maxDelay");
+      if (multiplier < 1.0) {
+         throw new IllegalArgumentException("multiplier must be at least 1");
+      }
+      return attempt -> {
+         double delayNanos = initialDelay.toNanos() * Math.pow(multiplier, Math.max(0, attempt - 1));
+         return Duration.ofNanos((long) Math.min(delayNanos, maxDelay.toNanos()));
+      };
+   }
+
+
+   /**
+    * Creates an exponential strategy with full jitter: every delay is a random value between zero and
+    * the delay {@link #exponential(Duration, double, Duration)} would use for the same attempt.
+    *
+    * @param initialDelay The delay bound after the first attempt.
+    * @param multiplier   The growth factor applied after every further attempt. Must be at least {@code 1}.
+    * @param maxDelay     The upper bound for the delay.
+    * @return An exponential backoff strategy with jitter.
+    */
+   static BackoffStrategy exponentialWithJitter(Duration initialDelay, double multiplier, Duration maxDelay) {
+      BackoffStrategy exponential = exponential(initialDelay, multiplier, maxDelay);
+      return attempt -> {
+         long boundNanos = exponential.delay(attempt).toNanos();
+         return Duration.ofNanos(ThreadLocalRandom.current().nextLong(boundNanos + 1));
+      };
+   }
+
+
+   private static void requireNonNegative(Duration duration, String name) {
+      Objects.requireNonNull(duration, name + " must not be null");
+      if (duration.isNegative()) {
+         throw new IllegalArgumentException(name + " must not be negative");
+      }
+   }
+
+}
@@ -0,0 +1,185 @@
+package com.theairebellion.zeus.util.reflections;
+
+import com.theairebellion.zeus.logging.LogCommon;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.reflections.Reflections;
+import org.reflections.scanners.Scanners;
+import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.FilterBuilder;
+
+/**
+ * Performs shared, single-pass classpath scans over several package prefixes at once.
+ *
+ * <p>Instead of scanning the framework package and the project package separately for every
+ * interface, {@link #bootstrap(String...)} scans all requested prefixes together in one parallel
+ * pass and keeps the resulting sub-type store. {@link ReflectionUtil} answers any later lookup for a
+ * package covered by a bootstrap scan from that store, for every interface, without touching the
+ * classpath again.
+ *
+ * <p>Bootstrapping is idempotent: prefixes already covered by an earlier scan are skipped, so the
+ * method can be called from every entry point that needs it. Once all requested prefixes are covered,
+ * a call only looks them up in a concurrent set and never takes the bootstrap lock.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class ClasspathScanner {
+
+   private static final List<Scan> SCANS = new CopyOnWriteArrayList<>();
+
+   private static final Set<String> COVERED_PREFIXES = ConcurrentHashMap.newKeySet();
+
+   private static final Object LOCK = new Object();
+
+   private ClasspathScanner() {
+   }
+
+
+   /**
+    * Scans all given package prefixes not yet covered by an earlier bootstrap in a single parallel pass.
+    *
+    * @param packagePrefixes The package prefixes to scan. Blank and {@code null} entries are ignored.
+    */
+   public static void bootstrap(String... packagePrefixes) {
+      List<String> requested = normalize(packagePrefixes);
+      if (COVERED_PREFIXES.containsAll(requested)) {
+         return;
+      }
+      synchronized (LOCK) {
+         scan(requested);
+         requested.forEach(ClasspathScanner::isCovered);
+      }
+   }
+
+
+   /**
+    * Checks whether the given package is covered by a bootstrap scan.
+    *
+    * @param packagePrefix The package prefix to check.
+    * @return {@code true} if lookups for the package can be answered without a new scan.
+    */
+   public static boolean isCovered(String packagePrefix) {
+      if (packagePrefix != null && COVERED_PREFIXES.contains(packagePrefix)) {
+         return true;
+      }
+      boolean covered = findScan(packagePrefix).isPresent();
+      if (covered) {
+         COVERED_PREFIXES.add(packagePrefix);
+      }
+      return covered;
+   }
+
+
+   /**
+    * Drops all bootstrap scans, so that later lookups scan the classpath again.
+    */
+   public static void reset() {
+      synchronized (LOCK) {
+         SCANS.clear();
+         COVERED_PREFIXES.clear();
+      }
+   }
+
+
+   /**
+    * Finds the subtypes of an interface within a package from the bootstrap scan covering that package.
+    *
+    * @param interfaceClass The interface whose subtypes are requested.
+    * @param packagePrefix  The package prefix subtypes must start with.
+    * @param <T>            The type of the interface.
+    * @return The subtypes, or an empty {@link Optional} if no bootstrap scan covers the package.
+    */
+   static <T> Optional<Set<Class<? extends T>>> findSubTypes(Class<T> interfaceClass, String packagePrefix) {
+      return findScan(packagePrefix).map(scan -> scan.reflections().getSubTypesOf(interfaceClass).stream()
+            .filter(subType -> isInPackage(subType.getName(), packagePrefix))
+            .collect(Collectors.toCollection(LinkedHashSet::new)));
+   }
+
+
+   private static void scan(List<String> requested) {
+      List<String> uncovered = uncoveredPrefixes(requested);
+      if (uncovered.isEmpty()) {
+         return;
+      }
+
+      long start = System.nanoTime();
+      FilterBuilder filter = new FilterBuilder();
+      uncovered.forEach(filter::includePackage);
+      Reflections reflections = new Reflections(new ConfigurationBuilder()
+            .forPackages(uncovered.toArray(String[]::new))
+            .filterInputsBy(filter)
+            .setScanners(Scanners.SubTypes)
+            .setParallel(true));
+      SCANS.add(new Scan(List.copyOf(uncovered), reflections));
+
+      LogCommon.debug("Bootstrap classpath scan of {} completed in {} ms.", uncovered,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+   }
+
+
+   private static Optional<Scan> findScan(String packagePrefix) {
+      return SCANS.stream()
+            .filter(scan -> scan.packagePrefixes().stream().anyMatch(prefix -> isInPackage(packagePrefix, prefix)))
+            .findFirst();
+   }
+
+
+   /**
+    * Checks whether a package or class name lies within a package, matching whole name segments only, so
+    * that {@code com.example.app} is not taken to be inside {@code com.example.a}.
+    *
+    * @param name          The package or class name.
+    * @param packagePrefix The package.
+    * @return {@code true} if the name is the package itself or lies below it.
+    */
+   private static boolean isInPackage(String name, String packagePrefix) {
+      return name.equals(packagePrefix) || name.startsWith(packagePrefix + ".");
+   }
+
+
+   private static List<String> normalize(String... packagePrefixes) {
+      return Arrays.stream(packagePrefixes)
+            .filter(Objects::nonNull)
+            .map(String::trim)
+            .filter(prefix -> !prefix.isEmpty())
+            .distinct()
+            .toList();
+   }
+
+
+   /**
+    * Reduces the requested prefixes to those not covered by an earlier scan or by another requested prefix.
+    *
+    * @param packagePrefixes The requested package prefixes.
+    * @return The prefixes that still need to be scanned.
+    */
+   private static List<String> uncoveredPrefixes(List<String> packagePrefixes) {
+      List<String> requested = packagePrefixes.stream()
+            .filter(prefix -> !isCovered(prefix))
+            .toList();
+
+      List<String> uncovered = new ArrayList<>();
+      for (String prefix : requested) {
+         boolean nested = requested.stream()
+               .anyMatch(other -> !other.equals(prefix) && isInPackage(prefix, other));
+         if (!nested) {
+            uncovered.add(prefix);
+         }
+      }
+      return uncovered;
+   }
+
+
+   private record Scan(List<String> packagePrefixes, Reflections reflections) {
+   }
+
+}
@@ -1,10 +1,14 @@
 package com.theairebellion.zeus.util.reflections;
 
 import com.theairebellion.zeus.util.reflections.exceptions.ReflectionException;
+import com.theairebellion.zeus.util.reflections.index.TypeIndex;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.reflections.Reflections;
 
@@ -17,9 +21,11 @@ import org.reflections.Reflections;
  *
  * <p>Features:
  * <ul>
- *     <li>Finding implementations of interfaces or subclasses in a given package.</li>
+ *     <li>Finding implementations of interfaces or subclasses in a given package, using the build-time
+ *     {@link TypeIndex} when available and a classpath scan otherwise.</li>
  *     <li>Retrieving private or protected field values from objects.</li>
  *     <li>Handling enums that implement interfaces dynamically.</li>
+ *     <li>Memoizing type lookups process-wide through the {@link TypeRegistry}.</li>
  *     <li>Safeguarding reflection operations with structured exception handling.</li>
  * </ul>
  *
@@ -27,6 +33,9 @@ import org.reflections.Reflections;
  */
 public class ReflectionUtil {
 
+   private static final String SUB_TYPES = "sub-types";
+   private static final String ENUM_CONSTANTS = "enum-constants";
+
    private ReflectionUtil() {
    }
 
@@ -46,8 +55,7 @@ public class ReflectionUtil {
 
       validateInputs(interfaceClass, packagePrefix);
 
-      Reflections reflections = new Reflections(packagePrefix);
-      Set<Class<? extends T>> result = reflections.getSubTypesOf(interfaceClass);
+      List<Class<? extends T>> result = findSubTypes(interfaceClass, packagePrefix);
 
       List<Class<? extends Enum>> listOfEnumClasses = new ArrayList<>();
       for (Class<? extends T> cls : result) {
@@ -69,6 +77,9 @@ public class ReflectionUtil {
    /**
     * Finds a specific enum constant that implements a given interface.
     *
+    * <p>The constants of all matching enum classes are grouped by name once per interface and package,
+    * so repeated lookups are resolved with a single hash lookup.
+    *
     * @param interfaceClass The interface implemented by the enum.
     * @param enumName       The name of the enum constant.
     * @param packagePrefix  The package to search within.
@@ -83,9 +94,9 @@ public class ReflectionUtil {
       List<Class<? extends Enum>> enumClassImplementationsOfInterface =
             findEnumClassImplementationsOfInterface(interfaceClass, packagePrefix);
 
-      List<? extends Enum> enumValuesList = enumClassImplementationsOfInterface.stream()
-            .flatMap(enumClass -> Arrays.stream(enumClass.getEnumConstants()))
-            .filter(anEnum -> anEnum.name().equals(enumName)).toList();
+      Map<String, List<Enum<?>>> constantsByName = TypeRegistry.computeIfAbsent(ENUM_CONSTANTS,
+            interfaceClass, packagePrefix, () -> groupConstantsByName(enumClassImplementationsOfInterface));
+      List<Enum<?>> enumValuesList = constantsByName.getOrDefault(enumName, List.of());
 
       if (enumValuesList.isEmpty()) {
          throw new ReflectionException(String.format(
@@ -110,11 +121,49 @@ public class ReflectionUtil {
                                                                              String packagePrefix) {
       validateInputs(interfaceClass, packagePrefix);
 
-      Reflections reflections = new Reflections(packagePrefix);
-      Set<Class<? extends T>> result = reflections.getSubTypesOf(interfaceClass);
+      List<Class<? extends T>> result = findSubTypes(interfaceClass, packagePrefix);
       return new ArrayList<>(result);
    }
 
+   /**
+    * Finds all subtypes of an interface within a package.
+    *
+    * <p>Results are memoized in the {@link TypeRegistry}. On the first lookup the build-time
+    * {@link TypeIndex} is consulted, then a {@link ClasspathScanner} bootstrap scan covering the
+    * package; the classpath is scanned only when neither can answer the lookup.
+    *
+    * @param interfaceClass The interface whose subtypes are to be found.
+    * @param packagePrefix  The package to search within.
+    * @param <T>            The type of the interface.
+    * @return An immutable list of the subtypes of the interface located in the package.
+    */
+   private static <T> List<Class<? extends T>> findSubTypes(Class<T> interfaceClass, String packagePrefix) {
+      return TypeRegistry.computeIfAbsent(SUB_TYPES, interfaceClass, packagePrefix, () -> {
+         Set<Class<? extends T>> subTypes = TypeIndex.findSubTypes(interfaceClass, packagePrefix)
+               .or(() -> ClasspathScanner.findSubTypes(interfaceClass, packagePrefix))
+               .orElseGet(() -> new Reflections(packagePrefix).getSubTypesOf(interfaceClass));
+         return List.copyOf(subTypes);
+      });
+   }
+
+   /**
+    * Groups the constants of the given enum classes by constant name.
+    *
+    * @param enumClasses The enum classes whose constants are grouped.
+    * @return An immutable map of constant name to all constants carrying that name.
+    */
+   @SuppressWarnings("rawtypes")
+   private static Map<String, List<Enum<?>>> groupConstantsByName(List<Class<? extends Enum>> enumClasses) {
+      Map<String, List<Enum<?>>> constantsByName = new HashMap<>();
+      for (Class<? extends Enum> enumClass : enumClasses) {
+         for (Enum<?> constant : enumClass.getEnumConstants()) {
+            constantsByName.computeIfAbsent(constant.name(), name -> new ArrayList<>()).add(constant);
+         }
+      }
+      constantsByName.replaceAll((name, constants) -> List.copyOf(constants));
+      return Collections.unmodifiableMap(constantsByName);
+   }
+
    /**
     * Retrieves all field values of a specified type from an object, including fields declared in superclasses.
     *
@@ -0,0 +1,16 @@
+package com.theairebellion.zeus.util.reflections;
+
+import java.time.Duration;
+
+/**
+ * Outcome of a successful {@link RetryUtils} execution together with its metrics.
+ *
+ * @param value     The result that satisfied the condition.
+ * @param attempts  The number of attempts made, including the successful one.
+ * @param totalWait The total time spent waiting between attempts.
+ * @param elapsed   The total time from the first attempt until the condition was satisfied.
+ * @param <T>       The type of the result.
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public record RetryResult<T>(T value, int attempts, Duration totalWait, Duration elapsed) {
+}
@@ -1,22 +1,39 @@
 package com.theairebellion.zeus.util.reflections;
 
 import com.theairebellion.zeus.logging.LogCommon;
+import com.theairebellion.zeus.util.reflections.exceptions.RetryTimeoutException;
 import java.time.Duration;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import org.apache.logging.log4j.ThreadContext;
 
 /**
  * Utility class providing retry mechanisms for executing operations with conditional success.
  *
- * <p>This class offers a method to repeatedly attempt an operation until a specified condition is met
- * or a maximum wait time is exceeded. It supports configurable retry intervals and logs attempts.
+ * <p>This class offers methods to repeatedly attempt an operation until a specified condition is met
+ * or a maximum wait time is exceeded. It supports fixed and exponential backoff through
+ * {@link BackoffStrategy}, blocking and asynchronous execution, and logs attempts.
  *
  * <p>Features:
  * <ul>
  *     <li>Retries an operation until a condition is satisfied or the timeout expires.</li>
  *     <li>Logs each attempt, including failures and exceptions.</li>
- *     <li>Supports configurable retry intervals to control execution pacing.</li>
+ *     <li>Supports configurable retry intervals and backoff strategies to control execution pacing.</li>
+ *     <li>Runs polls asynchronously, timed by a shared scheduler, so independent polls can proceed
+ *     concurrently.</li>
+ *     <li>Reports attempt counts and total wait time through {@link RetryResult} and
+ *     {@link RetryTimeoutException}.</li>
  *     <li>Handles exceptions gracefully and provides detailed error messages upon failure.</li>
  * </ul>
  *
@@ -63,28 +80,203 @@ public class RetryUtils {
       Objects.requireNonNull(supplier, "supplier must not be null");
       Objects.requireNonNull(condition, "condition must not be null");
 
-      if (maxWait.isNegative()) {
-         throw new IllegalArgumentException("maxWait must not be negative");
-      }
       if (retryInterval.isNegative()) {
          throw new IllegalArgumentException("retryInterval must not be negative");
       }
 
-      long maxWaitNanos = maxWait.toNanos();
-      long intervalMillis = retryInterval.toMillis();
-      long startTime = System.nanoTime();
-      long deadline = startTime + maxWaitNanos;
-      int attemptCount = 0;
-      Exception lastException = null;
+      return retry(maxWait, BackoffStrategy.fixed(retryInterval), supplier, condition).value();
+   }
+
+   /**
+    * Repeatedly executes a given operation, pacing attempts with a backoff strategy, until a condition
+    * is met or a timeout occurs. The calling thread is blocked while waiting between attempts.
+    *
+    * @param maxWait   The maximum duration to keep retrying before giving up.
+    * @param backoff   The strategy determining the delay between successive attempts.
+    * @param supplier  The operation to execute, returning a result.
+    * @param condition The predicate that determines whether the retry should stop.
+    * @param <T>       The type of result produced by the operation.
+    * @return The result of the operation together with the attempt count and wait time.
+    * @throws RetryTimeoutException If the condition is not met within the maximum wait time.
+    * @throws IllegalStateException If the waiting thread is interrupted.
+    */
+   public static <T> RetryResult<T> retry(
+         Duration maxWait,
+         BackoffStrategy backoff,
+         Supplier<T> supplier,
+         Predicate<T> condition
+   ) {
+      RetryExecution<T> execution = new RetryExecution<>(maxWait, backoff, supplier, condition);
 
       // Loop only while we still have time remaining
-      while (System.nanoTime() < deadline) {
+      while (execution.hasTimeLeft()) {
+         if (execution.attempt()) {
+            return execution.result();
+         }
+
+         long sleepMillis = execution.nextDelayMillis();
+         if (sleepMillis > 0) {
+            try {
+               Thread.sleep(sleepMillis);
+            } catch (InterruptedException ie) {
+               Thread.currentThread().interrupt();
+               throw new IllegalStateException("Retry was interrupted", ie);
+            }
+            execution.waited(sleepMillis);
+         }
+      }
+
+      throw execution.timeout();
+   }
+
+   /**
+    * Asynchronously executes a given operation, pacing attempts with a backoff strategy, until a
+    * condition is met or a timeout occurs.
+    *
+    * <p>Attempts run on a shared pool of worker threads, while a shared scheduler only times the delays
+    * between them, so a slow operation never holds up the timing of other polls and no thread is blocked
+    * while waiting between attempts. Cancelling the returned future stops further attempts. The log4j
+    * {@link ThreadContext} of the calling thread is propagated to every attempt, keeping the logs
+    * attributed to the calling test.
+    *
+    * @param maxWait   The maximum duration to keep retrying before giving up.
+    * @param backoff   The strategy determining the delay between successive attempts.
+    * @param supplier  The operation to execute, returning a result.
+    * @param condition The predicate that determines whether the retry should stop.
+    * @param <T>       The type of result produced by the operation.
+    * @return A future completed with the result and its metrics, or exceptionally with a
+    *     {@link RetryTimeoutException} if the condition is not met within the maximum wait time.
+    */
+   public static <T> CompletableFuture<RetryResult<T>> retryUntilAsync(
+         Duration maxWait,
+         BackoffStrategy backoff,
+         Supplier<T> supplier,
+         Predicate<T> condition
+   ) {
+      return retryUntilAsync(maxWait, backoff, supplier, condition, UnaryOperator.identity());
+   }
+
+   /**
+    * Asynchronously executes a given operation, pacing attempts with a backoff strategy, until a
+    * condition is met or a timeout occurs, running every attempt with additional context of the calling thread.
+    *
+    * <p>Behaves like {@link #retryUntilAsync(Duration, BackoffStrategy, Supplier, Predicate)}. Context that
+    * the log4j {@link ThreadContext} does not cover, such as the current report step, is carried over by
+    * {@code attemptContext}: it is created on the calling thread and wraps every attempt on its worker thread.
+    *
+    * @param maxWait        The maximum duration to keep retrying before giving up.
+    * @param backoff        The strategy determining the delay between successive attempts.
+    * @param supplier       The operation to execute, returning a result.
+    * @param condition      The predicate that determines whether the retry should stop.
+    * @param attemptContext Wraps an attempt to run with the captured context of the calling thread.
+    * @param <T>            The type of result produced by the operation.
+    * @return A future completed with the result and its metrics, or exceptionally with a
+    *     {@link RetryTimeoutException} if the condition is not met within the maximum wait time.
+    */
+   public static <T> CompletableFuture<RetryResult<T>> retryUntilAsync(
+         Duration maxWait,
+         BackoffStrategy backoff,
+         Supplier<T> supplier,
+         Predicate<T> condition,
+         UnaryOperator<Runnable> attemptContext
+   ) {
+      Objects.requireNonNull(attemptContext, "attemptContext must not be null");
+      RetryExecution<T> execution = new RetryExecution<>(maxWait, backoff, supplier, condition);
+      CompletableFuture<RetryResult<T>> future = new CompletableFuture<>();
+      schedule(execution, future, ThreadContext.getImmutableContext(), attemptContext, 0);
+      return future;
+   }
+
+
+   private static <T> void schedule(RetryExecution<T> execution, CompletableFuture<RetryResult<T>> future,
+                                    Map<String, String> threadContext, UnaryOperator<Runnable> attemptContext,
+                                    long delayMillis) {
+      Runnable attempt = () -> attempt(execution, future, threadContext, attemptContext);
+      if (delayMillis <= 0) {
+         ExecutorHolder.WORKERS.execute(attempt);
+      } else {
+         ExecutorHolder.SCHEDULER.schedule(() -> ExecutorHolder.WORKERS.execute(attempt), delayMillis,
+               TimeUnit.MILLISECONDS);
+      }
+   }
+
+
+   private static <T> void attempt(RetryExecution<T> execution, CompletableFuture<RetryResult<T>> future,
+                                   Map<String, String> threadContext, UnaryOperator<Runnable> attemptContext) {
+      if (future.isDone()) {
+         return;
+      }
+      ThreadContext.putAll(threadContext);
+      try {
+         if (!execution.hasTimeLeft()) {
+            future.completeExceptionally(execution.timeout());
+         } else if (execution.attempt(attemptContext)) {
+            future.complete(execution.result());
+         } else {
+            long nextDelay = execution.nextDelayMillis();
+            execution.waited(nextDelay);
+            schedule(execution, future, threadContext, attemptContext, nextDelay);
+         }
+      } catch (Throwable t) {
+         future.completeExceptionally(t);
+      } finally {
+         ThreadContext.clearMap();
+      }
+   }
+
+
+   /**
+    * Mutable state of a single retry execution, shared by the blocking and the asynchronous variants.
+    */
+   private static final class RetryExecution<T> {
+
+      private final Duration maxWait;
+      private final BackoffStrategy backoff;
+      private final Supplier<T> supplier;
+      private final Predicate<T> condition;
+      private final long startTime;
+      private final long deadline;
+      private int attemptCount;
+      private long waitedMillis;
+      private T result;
+      private Exception lastException;
+
+      private RetryExecution(Duration maxWait, BackoffStrategy backoff, Supplier<T> supplier,
+                             Predicate<T> condition) {
+         Objects.requireNonNull(maxWait, "maxWait must not be null");
+         Objects.requireNonNull(backoff, "backoff must not be null");
+         Objects.requireNonNull(supplier, "supplier must not be null");
+         Objects.requireNonNull(condition, "condition must not be null");
+
+         if (maxWait.isNegative()) {
+            throw new IllegalArgumentException("maxWait must not be negative");
+         }
+
+         this.maxWait = maxWait;
+         this.backoff = backoff;
+         this.supplier = supplier;
+         this.condition = condition;
+         this.startTime = System.nanoTime();
+         this.deadline = startTime + maxWait.toNanos();
+      }
+
+      private boolean hasTimeLeft() {
+         return System.nanoTime() < deadline;
+      }
+
+      /**
+       * Performs one attempt.
+       *
+       * @return {@code true} if the condition was satisfied.
+       */
+      private boolean attempt() {
          attemptCount++;
          try {
-            T result = supplier.get();
-            if (condition.test(result)) {
+            T value = supplier.get();
+            if (condition.test(value)) {
                LogCommon.info("Condition satisfied on attempt #{}, returning result.", attemptCount);
-               return result;
+               result = value;
+               return true;
             }
             LogCommon.debug("Condition not satisfied on attempt #{}. Retrying...", attemptCount);
          } catch (Exception e) {
@@ -92,31 +284,73 @@ public class RetryUtils {
             LogCommon.warn("Exception on attempt #{}: {}", attemptCount, e.getMessage());
             LogCommon.debug("Stack trace:", e);
          }
+         return false;
+      }
 
-         // Compute how long to sleep
-         long now = System.nanoTime();
-         long remainingNanos = deadline - now;
-         long sleepMillis = Math.min(intervalMillis, remainingNanos / 1_000_000);
+      /**
+       * Performs one attempt wrapped by the given context.
+       *
+       * @return {@code true} if the condition was satisfied.
+       */
+      private boolean attempt(UnaryOperator<Runnable> context) {
+         AtomicBoolean satisfied = new AtomicBoolean();
+         context.apply(() -> satisfied.set(attempt())).run();
+         return satisfied.get();
+      }
 
-         if (sleepMillis > 0) {
-            try {
-               Thread.sleep(sleepMillis);
-            } catch (InterruptedException ie) {
-               Thread.currentThread().interrupt();
-               throw new IllegalStateException("Retry was interrupted", ie);
-            }
-         }
+      /**
+       * Computes how long to wait before the next attempt, bounded by the remaining time.
+       */
+      private long nextDelayMillis() {
+         long remainingNanos = deadline - System.nanoTime();
+         long delayMillis = backoff.delay(attemptCount).toMillis();
+         return Math.max(0, Math.min(delayMillis, remainingNanos / 1_000_000));
+      }
+
+      private void waited(long millis) {
+         waitedMillis += millis;
+      }
+
+      private RetryResult<T> result() {
+         return new RetryResult<>(result, attemptCount, Duration.ofMillis(waitedMillis),
+               Duration.ofNanos(System.nanoTime() - startTime));
       }
 
-      // Single exit point for timeout
-      IllegalStateException timeout = new IllegalStateException(
-            String.format("Failed to satisfy condition within %s (after %d attempts).",
-                  maxWait, attemptCount));
-      if (lastException != null) {
-         timeout.addSuppressed(lastException);
+      private RetryTimeoutException timeout() {
+         // Single exit point for timeout
+         RetryTimeoutException timeout = new RetryTimeoutException(
+               String.format("Failed to satisfy condition within %s (after %d attempts).",
+                     maxWait, attemptCount), attemptCount, Duration.ofMillis(waitedMillis));
+         if (lastException != null) {
+            timeout.addSuppressed(lastException);
+         }
+         return timeout;
       }
-      throw timeout;
+
    }
 
 
+   /**
+    * Lazily created executors shared by all asynchronous retries: the scheduler only times the delays
+    * between attempts, the workers run the attempts themselves.
+    */
+   private static final class ExecutorHolder {
+
+      private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+            daemonThreadFactory("zeus-retry-scheduler-"));
+
+      private static final ExecutorService WORKERS = Executors.newCachedThreadPool(
+            daemonThreadFactory("zeus-retry-"));
+
+      private static ThreadFactory daemonThreadFactory(String prefix) {
+         AtomicInteger counter = new AtomicInteger();
+         return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+         };
+      }
+
+   }
+
 }
@@ -0,0 +1,117 @@
+package com.theairebellion.zeus.util.reflections;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Process-wide, thread-safe memoization of the type lookups performed by {@link ReflectionUtil}.
+ *
+ * <p>Results are cached per lookup kind and {@code (interface, package prefix)} pair. Every entry is
+ * computed at most once, on first request, after which lookups are plain hash map reads. Hits, misses
+ * and the total time spent computing entries are tracked and exposed through {@link #statistics()}.
+ *
+ * <p>Tests that define or load classes dynamically can drop stale entries through
+ * {@link #invalidate()} or {@link #invalidate(Class)}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class TypeRegistry {
+
+   private static final Map<Key, Object> ENTRIES = new ConcurrentHashMap<>();
+   private static final LongAdder HITS = new LongAdder();
+   private static final LongAdder MISSES = new LongAdder();
+   private static final LongAdder SCAN_NANOS = new LongAdder();
+
+   private TypeRegistry() {
+   }
+
+
+   /**
+    * Returns the cached value for the given lookup, computing it on first request.
+    *
+    * @param kind           The kind of lookup, separating differently shaped results for the same interface.
+    * @param interfaceClass The interface the lookup is performed for.
+    * @param packagePrefix  The package prefix the lookup is restricted to.
+    * @param loader         Computes the value when it is not cached yet.
+    * @param <V>            The type of the cached value.
+    * @return The cached or freshly computed value.
+    */
+   @SuppressWarnings("unchecked")
+   static <V> V computeIfAbsent(String kind, Class<?> interfaceClass, String packagePrefix, Supplier<V> loader) {
+      Key key = new Key(kind, interfaceClass, packagePrefix);
+      Object cached = ENTRIES.get(key);
+      if (cached != null) {
+         HITS.increment();
+         return (V) cached;
+      }
+
+      return (V) ENTRIES.computeIfAbsent(key, k -> {
+         MISSES.increment();
+         long start = System.nanoTime();
+         try {
+            return Objects.requireNonNull(loader.get(), "Type registry entries must not be null");
+         } finally {
+            SCAN_NANOS.add(System.nanoTime() - start);
+         }
+      });
+   }
+
+
+   /**
+    * Removes all cached entries. Statistics are kept.
+    */
+   public static void invalidate() {
+      ENTRIES.clear();
+   }
+
+
+   /**
+    * Removes all cached entries computed for the given interface. Statistics are kept.
+    *
+    * @param interfaceClass The interface whose entries are removed.
+    */
+   public static void invalidate(Class<?> interfaceClass) {
+      ENTRIES.keySet().removeIf(key -> key.interfaceClass().equals(interfaceClass));
+   }
+
+
+   /**
+    * Returns a snapshot of the registry statistics.
+    *
+    * @return The current hit, miss and scan time counters.
+    */
+   public static Statistics statistics() {
+      return new Statistics(HITS.sum(), MISSES.sum(), Duration.ofNanos(SCAN_NANOS.sum()), ENTRIES.size());
+   }
+
+
+   /**
+    * Resets the hit, miss and scan time counters.
+    */
+   public static void resetStatistics() {
+      HITS.reset();
+      MISSES.reset();
+      SCAN_NANOS.reset();
+   }
+
+
+   /**
+    * Snapshot of the registry counters.
+    *
+    * @param hits     The number of lookups answered from the cache.
+    * @param misses   The number of lookups that required computing an entry.
+    * @param scanTime The total time spent computing entries.
+    * @param size     The number of cached entries.
+    */
+   public record Statistics(long hits, long misses, Duration scanTime, int size) {
+   }
+
+
+   private record Key(String kind, Class<?> interfaceClass, String packagePrefix) {
+   }
+
+}
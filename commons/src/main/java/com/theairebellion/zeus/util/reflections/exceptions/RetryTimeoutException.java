@@ -0,0 +1,49 @@
+package com.theairebellion.zeus.util.reflections.exceptions;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when a retried operation does not satisfy its condition within the allowed time.
+ *
+ * <p>Besides the failure message, the exception exposes the metrics of the failed execution, so that
+ * callers can report how many attempts were made and how long was spent waiting between them.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public class RetryTimeoutException extends IllegalStateException {
+
+   private final int attempts;
+   private final Duration totalWait;
+
+   /**
+    * Constructs a new RetryTimeoutException.
+    *
+    * @param message   The detailed error message explaining the timeout.
+    * @param attempts  The number of attempts made before giving up.
+    * @param totalWait The total time spent waiting between attempts.
+    */
+   public RetryTimeoutException(String message, int attempts, Duration totalWait) {
+      super(message);
+      this.attempts = attempts;
+      this.totalWait = totalWait;
+   }
+
+   /**
+    * Returns the number of attempts made before giving up.
+    *
+    * @return The attempt count.
+    */
+   public int getAttempts() {
+      return attempts;
+   }
+
+   /**
+    * Returns the total time spent waiting between attempts.
+    *
+    * @return The total wait time.
+    */
+   public Duration getTotalWait() {
+      return totalWait;
+   }
+
+}
@@ -0,0 +1,26 @@
+package com.theairebellion.zeus.util.reflections.index;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an interface whose implementations are recorded in the build-time type index.
+ *
+ * <p>Every type compiled with {@link TypeIndexProcessor} on the annotation processor path that
+ * implements an annotated interface (directly, or through a sub-interface) is written to
+ * {@value TypeIndex#INDEX_LOCATION}. At runtime {@link TypeIndex} answers implementation lookups
+ * for such interfaces without scanning the classpath.
+ *
+ * <p>The annotation is inherited by sub-interfaces: annotating a base contract indexes the
+ * implementations of all interfaces extending it as well.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface IndexedType {
+}
@@ -0,0 +1,195 @@
+package com.theairebellion.zeus.util.reflections.index;
+
+import com.theairebellion.zeus.util.reflections.exceptions.ReflectionException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Runtime view of the build-time type index written by {@link TypeIndexProcessor}.
+ *
+ * <p>All {@value #INDEX_LOCATION} resources visible to the class loader are merged once, on first use,
+ * into an in-memory map of interface name to implementation names, together with the packages of the
+ * compilations that wrote them. A lookup is answered without scanning the classpath only when the
+ * interface is indexed and the requested package contains indexed code; any other lookup returns an
+ * empty result so that the caller can fall back to a classpath scan. This keeps implementations in
+ * modules compiled without the processor visible, even when the interface itself is indexed.
+ *
+ * <p>The index can be bypassed entirely by setting the system property {@code type.index.enabled}
+ * to {@code false}, which is useful when a module was compiled without the annotation processor.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class TypeIndex {
+
+   /**
+    * Location of the index resource inside every jar or class output directory.
+    */
+   public static final String INDEX_LOCATION = "META-INF/zeus/type.index";
+
+   /**
+    * Key under which an index resource lists the packages of the compilation that wrote it.
+    */
+   public static final String PACKAGES_KEY = "@packages";
+
+   private TypeIndex() {
+   }
+
+
+   /**
+    * Checks whether any index resource was found and the index is enabled.
+    *
+    * @return {@code true} if lookups can be answered from the index.
+    */
+   public static boolean isPresent() {
+      return !Holder.INDEX.entries().isEmpty();
+   }
+
+
+   /**
+    * Finds the indexed implementations of an interface located within the given package.
+    *
+    * <p>The index only answers for packages that contain code of an indexed compilation, and only when it
+    * lists at least one implementation there; otherwise implementations may live in classes the index does
+    * not know about.
+    *
+    * @param interfaceClass The interface whose implementations are requested.
+    * @param packagePrefix  The package prefix implementations must start with.
+    * @param <T>            The type of the interface.
+    * @return The matching implementations, or an empty {@link Optional} if the index cannot answer the lookup.
+    * @throws ReflectionException If an indexed class cannot be loaded.
+    */
+   public static <T> Optional<Set<Class<? extends T>>> findSubTypes(Class<T> interfaceClass, String packagePrefix) {
+      List<String> implementations = Holder.INDEX.entries().get(interfaceClass.getName());
+      if (implementations == null || !Holder.INDEX.covers(packagePrefix)) {
+         return Optional.empty();
+      }
+
+      ClassLoader classLoader = classLoader();
+      Set<Class<? extends T>> subTypes = new LinkedHashSet<>();
+      for (String implementation : implementations) {
+         if (isInPackage(implementation, packagePrefix)) {
+            subTypes.add(loadClass(implementation, classLoader).asSubclass(interfaceClass));
+         }
+      }
+      return subTypes.isEmpty() ? Optional.empty() : Optional.of(subTypes);
+   }
+
+
+   private static boolean isInPackage(String name, String packagePrefix) {
+      return name.equals(packagePrefix) || name.startsWith(packagePrefix + ".");
+   }
+
+
+   private static Class<?> loadClass(String className, ClassLoader classLoader) {
+      try {
+         return Class.forName(className, false, classLoader);
+      } catch (ClassNotFoundException | LinkageError e) {
+         throw new ReflectionException(String.format(
+               "Class '%s' listed in '%s' could not be loaded.", className, INDEX_LOCATION), e);
+      }
+   }
+
+
+   private static ClassLoader classLoader() {
+      ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+      return contextClassLoader != null ? contextClassLoader : TypeIndex.class.getClassLoader();
+   }
+
+
+   /**
+    * Loads and merges all index resources visible to the class loader.
+    *
+    * @return The merged index, or an empty index if the index is disabled or absent.
+    */
+   static Index load() {
+      if (!Boolean.parseBoolean(System.getProperty("type.index.enabled", "true"))) {
+         return new Index(Collections.emptyMap(), Collections.emptySet());
+      }
+
+      Map<String, Set<String>> merged = new HashMap<>();
+      Set<String> packages = new HashSet<>();
+      try {
+         Enumeration<URL> resources = classLoader().getResources(INDEX_LOCATION);
+         while (resources.hasMoreElements()) {
+            Properties properties = read(resources.nextElement());
+            for (String key : properties.stringPropertyNames()) {
+               Set<String> values = PACKAGES_KEY.equals(key)
+                     ? packages
+                     : merged.computeIfAbsent(key, name -> new LinkedHashSet<>());
+               for (String value : properties.getProperty(key).split(",")) {
+                  if (!value.isBlank()) {
+                     values.add(value.trim());
+                  }
+               }
+            }
+         }
+      } catch (IOException e) {
+         throw new ReflectionException(String.format("Failed to read type index '%s'.", INDEX_LOCATION), e);
+      }
+
+      Map<String, List<String>> entries = new HashMap<>();
+      merged.forEach((interfaceName, implementations) -> entries.put(interfaceName, List.copyOf(implementations)));
+      return new Index(Collections.unmodifiableMap(entries), Set.copyOf(packages));
+   }
+
+
+   private static Properties read(URL resource) throws IOException {
+      Properties properties = new Properties();
+      try (InputStream inputStream = resource.openStream();
+           Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+         properties.load(reader);
+      }
+      return properties;
+   }
+
+
+   /**
+    * The merged index.
+    *
+    * @param entries  Implementation names per interface name.
+    * @param packages The packages of all indexed compilations.
+    */
+   record Index(Map<String, List<String>> entries, Set<String> packages) {
+
+      /**
+       * Checks whether any indexed compilation contains code in the given package or below it.
+       *
+       * @param packagePrefix The requested package.
+       * @return {@code true} if the index knows about code in the package.
+       */
+      boolean covers(String packagePrefix) {
+         for (String indexedPackage : packages) {
+            if (isInPackage(indexedPackage, packagePrefix)) {
+               return true;
+            }
+         }
+         return false;
+      }
+
+   }
+
+
+   /**
+    * Lazily initialized holder of the merged index.
+    */
+   private static final class Holder {
+
+      private static final Index INDEX = load();
+
+   }
+
+}
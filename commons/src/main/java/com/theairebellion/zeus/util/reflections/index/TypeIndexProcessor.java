@@ -0,0 +1,174 @@
+package com.theairebellion.zeus.util.reflections.index;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor that writes the build-time type index consumed by {@link TypeIndex}.
+ *
+ * <p>The processor inspects every type of the compilation (including nested types) and records it
+ * under each of its super-interfaces that is, or extends, an interface annotated with
+ * {@link IndexedType}. The collected entries are written once, when processing is over, to
+ * {@value TypeIndex#INDEX_LOCATION} in the class output directory using the format
+ * {@code interface=implementation,implementation}, followed by the packages of all compiled types under
+ * {@value TypeIndex#PACKAGES_KEY}, which tells {@link TypeIndex} which packages the index covers.
+ *
+ * <p>The processor is registered through {@code META-INF/services} and therefore runs automatically
+ * for every module that has {@code commons} on its compile classpath. It never claims annotations,
+ * so other processors (for example Lombok) are not affected.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@SupportedAnnotationTypes("*")
+public class TypeIndexProcessor extends AbstractProcessor {
+
+   private final Map<String, Set<String>> index = new TreeMap<>();
+   private final Set<String> packages = new TreeSet<>();
+   private final Map<String, Boolean> indexedInterfaces = new HashMap<>();
+
+
+   @Override
+   public SourceVersion getSupportedSourceVersion() {
+      return SourceVersion.latestSupported();
+   }
+
+
+   @Override
+   public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+      if (roundEnv.processingOver()) {
+         writeIndex();
+      } else {
+         for (Element element : roundEnv.getRootElements()) {
+            if (element instanceof TypeElement) {
+               packages.add(processingEnv.getElementUtils().getPackageOf(element).getQualifiedName().toString());
+            }
+            collect(element);
+         }
+      }
+      return false;
+   }
+
+
+   /**
+    * Records the given element, and all types nested in it, under their indexed super-interfaces.
+    *
+    * @param element The element to inspect.
+    */
+   private void collect(Element element) {
+      if (!(element instanceof TypeElement type) || type.getKind() == ElementKind.ANNOTATION_TYPE) {
+         return;
+      }
+
+      String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+      for (TypeElement superInterface : collectSuperInterfaces(type.asType(), new HashSet<>())) {
+         if (isIndexed(superInterface)) {
+            index.computeIfAbsent(binaryNameOf(superInterface), key -> new TreeSet<>()).add(binaryName);
+         }
+      }
+
+      type.getEnclosedElements().forEach(this::collect);
+   }
+
+
+   /**
+    * Collects all interfaces reachable from the given type through its supertype hierarchy.
+    *
+    * @param typeMirror The type whose hierarchy is walked.
+    * @param visited    Fully-qualified names of the types already walked.
+    * @return The interfaces found in the hierarchy.
+    */
+   private Set<TypeElement> collectSuperInterfaces(TypeMirror typeMirror, Set<String> visited) {
+      Set<TypeElement> interfaces = new HashSet<>();
+      for (TypeMirror superType : processingEnv.getTypeUtils().directSupertypes(typeMirror)) {
+         if (superType instanceof DeclaredType declaredType
+               && declaredType.asElement() instanceof TypeElement superElement
+               && visited.add(superElement.getQualifiedName().toString())) {
+            if (superElement.getKind() == ElementKind.INTERFACE) {
+               interfaces.add(superElement);
+            }
+            interfaces.addAll(collectSuperInterfaces(superType, visited));
+         }
+      }
+      return interfaces;
+   }
+
+
+   /**
+    * Determines whether the interface, or any interface it extends, is annotated with {@link IndexedType}.
+    *
+    * @param type The interface to check.
+    * @return {@code true} if implementations of the interface belong in the index.
+    */
+   private boolean isIndexed(TypeElement type) {
+      String name = type.getQualifiedName().toString();
+      Boolean cached = indexedInterfaces.get(name);
+      if (cached != null) {
+         return cached;
+      }
+
+      boolean indexed = type.getAnnotation(IndexedType.class) != null
+            || collectSuperInterfaces(type.asType(), new HashSet<>()).stream()
+            .anyMatch(superInterface -> superInterface.getAnnotation(IndexedType.class) != null);
+      indexedInterfaces.put(name, indexed);
+      return indexed;
+   }
+
+
+   private String binaryNameOf(TypeElement type) {
+      return processingEnv.getElementUtils().getBinaryName(type).toString();
+   }
+
+
+   /**
+    * Writes the collected entries to {@value TypeIndex#INDEX_LOCATION}.
+    *
+    * <p>Nothing is written when the compilation contains no indexed types, which keeps modules
+    * without such types falling back to classpath scanning.
+    */
+   private void writeIndex() {
+      if (index.isEmpty()) {
+         return;
+      }
+
+      try {
+         FileObject resource = processingEnv.getFiler()
+               .createResource(StandardLocation.CLASS_OUTPUT, "", TypeIndex.INDEX_LOCATION);
+         try (Writer writer = new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, Set<String>> entry : index.entrySet()) {
+               writer.write(entry.getKey());
+               writer.write('=');
+               writer.write(String.join(",", entry.getValue()));
+               writer.write('\n');
+            }
+            writer.write(TypeIndex.PACKAGES_KEY);
+            writer.write('=');
+            writer.write(String.join(",", packages));
+            writer.write('\n');
+         }
+      } catch (IOException e) {
+         processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+               "Unable to write type index '" + TypeIndex.INDEX_LOCATION + "': " + e.getMessage());
+      }
+   }
+
+}
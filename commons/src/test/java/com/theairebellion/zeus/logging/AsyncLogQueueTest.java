@@ -0,0 +1,132 @@
+package com.theairebellion.zeus.logging;
+
+import com.theairebellion.zeus.logging.plugin.TestLogCaptureAppender;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.config.builder.api.ConfigurationBuilder;
+import org.apache.logging.log4j.core.config.builder.api.ConfigurationBuilderFactory;
+import org.apache.logging.log4j.core.config.builder.impl.BuiltConfiguration;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("AsyncLogQueue Tests")
+class AsyncLogQueueTest {
+
+   private static final String TEST_ID = "[engine:junit-jupiter]/[class:AsyncLogQueueTest]/[method:scenario()]";
+
+   private final CountDownLatch gate = new CountDownLatch(1);
+
+   private LoggerContext context;
+
+   @BeforeEach
+   void setUp() {
+      context = LoggerContext.getContext(false);
+      ConfigurationBuilder<BuiltConfiguration> builder = ConfigurationBuilderFactory.newConfigurationBuilder();
+      builder.setConfigurationName("async-logging");
+      builder.add(builder.newAsyncRootLogger(Level.INFO));
+      Configuration configuration = builder.build(false);
+      context.setConfiguration(configuration);
+
+      addToRoot(configuration, new GateAppender(gate));
+      addToRoot(configuration, TestLogCaptureAppender.newBuilder()
+            .setName("TestLogCapture")
+            .setLayout(PatternLayout.newBuilder().withPattern("%m%n").build())
+            .build());
+      context.updateLoggers();
+   }
+
+   @AfterEach
+   void tearDown() {
+      gate.countDown();
+      ThreadContext.remove(LogSegments.CONTEXT_KEY);
+      LogSegments.release(TEST_ID);
+      context.reconfigure();
+   }
+
+   @Test
+   @DisplayName("Releasing a segment should wait for events still queued by asynchronous loggers")
+   void shouldKeepQueuedEventsOnRelease() {
+      // Given
+      LogSegments.open(TEST_ID);
+      ThreadContext.put(LogSegments.CONTEXT_KEY, TEST_ID);
+      context.getLogger(AsyncLogQueueTest.class.getName()).info("last line of the test");
+      ThreadContext.remove(LogSegments.CONTEXT_KEY);
+      openGateAfter(Duration.ofMillis(200));
+
+      // When
+      String segment = LogSegments.release(TEST_ID).orElseThrow();
+
+      // Then
+      assertEquals("last line of the test" + System.lineSeparator(), segment);
+   }
+
+   @Test
+   @DisplayName("Draining should give up once the timeout elapses")
+   void shouldStopWaitingAfterTimeout() {
+      // Given
+      context.getLogger(AsyncLogQueueTest.class.getName()).info("blocked");
+
+      // When / Then
+      assertFalse(AsyncLogQueue.drain(context, Duration.ofMillis(50)));
+      gate.countDown();
+      assertTrue(AsyncLogQueue.drain(context, Duration.ofSeconds(5)));
+   }
+
+   private static void addToRoot(Configuration configuration, Appender appender) {
+      appender.start();
+      configuration.addAppender(appender);
+      configuration.getRootLogger().addAppender(appender, null, null);
+   }
+
+   private void openGateAfter(Duration delay) {
+      Thread opener = new Thread(() -> {
+         try {
+            Thread.sleep(delay.toMillis());
+         } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+         }
+         gate.countDown();
+      });
+      opener.setDaemon(true);
+      opener.start();
+   }
+
+   /**
+    * Holds the asynchronous logging thread until the gate opens, so events stay queued.
+    */
+   private static final class GateAppender extends AbstractAppender {
+
+      private final CountDownLatch gate;
+
+      private GateAppender(CountDownLatch gate) {
+         super("Gate", null, null, true, Property.EMPTY_ARRAY);
+         this.gate = gate;
+      }
+
+      @Override
+      public void append(LogEvent event) {
+         try {
+            gate.await(5, TimeUnit.SECONDS);
+         } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+         }
+      }
+   }
+
+}
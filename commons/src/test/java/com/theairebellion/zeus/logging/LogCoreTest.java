@@ -1,7 +1,6 @@
 package com.theairebellion.zeus.logging;
 
 import com.theairebellion.zeus.logging.mock.DummyLogCore;
-import java.lang.reflect.Field;
 import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.Level;
@@ -19,11 +18,14 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
@@ -43,17 +45,19 @@ class LogCoreTest {
    private static final String EXTENDED = "extended";
    private static final String ARG_1 = "arg1";
    private static final String ARG_2 = "arg2";
+   private static final String ARG_3 = "arg3";
    private static final String TEST_LOGGER = "TestLogger";
    private static final String TEST_MARKER = "TestMarker";
    private static final String EXTENDED_MESSAGE = "Extended message";
-   private static final String EXTENDED_LOGGING_FIELD = "extendedLogging";
-   private static final String SILENT_MODE = "silentMode";
+   private static final String EXTENDED_LOGGING_PROPERTY = "extended.logging";
+   private static final String SILENT_MODE_PROPERTY = "silent.mode";
 
 
    private Logger mockLogger;
    private Marker mockMarker;
    private DummyLogCore dummyLogCore;
    private MockedStatic<LogZeus> logZeusMockedStatic;
+   private MockedStatic<LogCore> logCoreMockedStatic;
 
 
    @BeforeEach
@@ -66,6 +70,7 @@ class LogCoreTest {
       logZeusMockedStatic = mockStatic(LogZeus.class);
       logZeusMockedStatic.when(() -> LogZeus.getLogger(TEST_LOGGER)).thenReturn(mockLogger);
       logZeusMockedStatic.when(() -> LogZeus.registerMarker(TEST_MARKER)).thenReturn(mockMarker);
+      logCoreMockedStatic = mockStatic(LogCore.class, CALLS_REAL_METHODS);
 
       // Create the test instance
       dummyLogCore = new DummyLogCore(TEST_LOGGER, TEST_MARKER);
@@ -76,6 +81,7 @@ class LogCoreTest {
    @AfterEach
    void tearDown() {
       logZeusMockedStatic.close();
+      logCoreMockedStatic.close();
    }
 
 
@@ -99,22 +105,27 @@ class LogCoreTest {
       }
 
 
+      @Test
+      @DisplayName("Should fall back to the varargs overload for more than two arguments")
+      void testVarargsLoggingWithMoreThanTwoArguments() {
+         // When
+         dummyLogCore.infoLog("Info message", ARG_1, ARG_2, ARG_3);
+
+         // Then
+         verify(mockLogger).info(eq(mockMarker), eq("Info message"), aryEq(new Object[] {ARG_1, ARG_2, ARG_3}));
+      }
+
+
       private void verifyLoggerCall(String methodName, String message) {
          switch (methodName) {
-            case INFO -> verify(mockLogger).info(eq(mockMarker), eq(message),
-                  aryEq(new Object[] {ARG_1, ARG_2}));
-            case WARN -> verify(mockLogger).warn(eq(mockMarker), eq(message),
-                  aryEq(new Object[] {ARG_1, ARG_2}));
-            case ERROR -> verify(mockLogger).error(eq(mockMarker), eq(message),
-                  aryEq(new Object[] {ARG_1, ARG_2}));
-            case DEBUG -> verify(mockLogger).debug(eq(mockMarker), eq(message),
-                  aryEq(new Object[] {ARG_1, ARG_2}));
-            case TRACE -> verify(mockLogger).trace(eq(mockMarker), eq(message),
-                  aryEq(new Object[] {ARG_1, ARG_2}));
+            case INFO -> verify(mockLogger).info(eq(mockMarker), eq(message), eq(ARG_1), eq(ARG_2));
+            case WARN -> verify(mockLogger).warn(eq(mockMarker), eq(message), eq(ARG_1), eq(ARG_2));
+            case ERROR -> verify(mockLogger).error(eq(mockMarker), eq(message), eq(ARG_1), eq(ARG_2));
+            case DEBUG -> verify(mockLogger).debug(eq(mockMarker), eq(message), eq(ARG_1), eq(ARG_2));
+            case TRACE -> verify(mockLogger).trace(eq(mockMarker), eq(message), eq(ARG_1), eq(ARG_2));
             case STEP -> {
                ArgumentCaptor<Level> levelCaptor = ArgumentCaptor.forClass(Level.class);
-               verify(mockLogger).log(levelCaptor.capture(), eq(mockMarker), eq(message),
-                     aryEq(new Object[] {ARG_1, ARG_2}));
+               verify(mockLogger).log(levelCaptor.capture(), eq(mockMarker), eq(message), eq(ARG_1), eq(ARG_2));
                Level capturedLevel = levelCaptor.getValue();
                assertNotNull(capturedLevel, "Level should not be null");
                assertEquals("STEP", capturedLevel.name(), "Level name should be STEP");
@@ -122,8 +133,7 @@ class LogCoreTest {
             }
             case VALIDATION -> {
                ArgumentCaptor<Level> levelCaptor = ArgumentCaptor.forClass(Level.class);
-               verify(mockLogger).log(levelCaptor.capture(), eq(mockMarker), eq(message),
-                     aryEq(new Object[] {ARG_1, ARG_2}));
+               verify(mockLogger).log(levelCaptor.capture(), eq(mockMarker), eq(message), eq(ARG_1), eq(ARG_2));
                Level capturedLevel = levelCaptor.getValue();
                assertNotNull(capturedLevel, "Level should not be null");
                assertEquals("VALIDATION", capturedLevel.name(), "Level name should be VALIDATION");
@@ -131,8 +141,7 @@ class LogCoreTest {
             }
             case EXTENDED -> {
                ArgumentCaptor<Level> levelCaptor = ArgumentCaptor.forClass(Level.class);
-               verify(mockLogger).log(levelCaptor.capture(), eq(mockMarker), eq(message),
-                     aryEq(new Object[] {ARG_1, ARG_2}));
+               verify(mockLogger).log(levelCaptor.capture(), eq(mockMarker), eq(message), eq(ARG_1), eq(ARG_2));
                Level capturedLevel = levelCaptor.getValue();
                assertNotNull(capturedLevel, "Level should not be null");
                assertEquals("EXTENDED", capturedLevel.name(), "Level name should be EXTENDED");
@@ -150,7 +159,7 @@ class LogCoreTest {
 
       @Test
       @DisplayName("Should log extended messages when enabled")
-      void testExtendedLogWhenEnabled() throws Exception {
+      void testExtendedLogWhenEnabled() {
          // Given
          setExtendedLogging(true);
 
@@ -163,7 +172,8 @@ class LogCoreTest {
                levelCaptor.capture(),
                eq(mockMarker),
                eq(EXTENDED_MESSAGE),
-               aryEq(new Object[] {ARG_1, ARG_2})
+               eq(ARG_1),
+               eq(ARG_2)
          );
 
          Level capturedLevel = levelCaptor.getValue();
@@ -174,7 +184,7 @@ class LogCoreTest {
 
       @Test
       @DisplayName("Should not log extended messages when disabled")
-      void testExtendedLogWhenDisabled() throws Exception {
+      void testExtendedLogWhenDisabled() {
          // Given
          setExtendedLogging(false);
 
@@ -182,7 +192,7 @@ class LogCoreTest {
          dummyLogCore.extendedLog(EXTENDED_MESSAGE, ARG_1, ARG_2);
 
          // Then
-         verify(mockLogger, never()).log(any(Level.class), eq(mockMarker), anyString(), any(Object[].class));
+         verify(mockLogger, never()).log(any(Level.class), eq(mockMarker), anyString(), any(), any());
       }
 
    }
@@ -192,54 +202,37 @@ class LogCoreTest {
    class SystemPropertyTests {
 
       @Test
-      @DisplayName("Should read extended logging property from system")
-      void testExtendedLoggingSystemProperty() throws Exception {
-         // Given - Clear cached value
-         Field field = LogCore.class.getDeclaredField(EXTENDED_LOGGING_FIELD);
-         field.setAccessible(true);
-         field.set(null, null);
-
-         // Set system property
-         System.setProperty("extended.logging", "true");
+      @DisplayName("Should resolve the level guards from system properties")
+      void testLevelGuardsMatchSystemProperties() {
+         // Given
+         boolean silent = Boolean.parseBoolean(System.getProperty(SILENT_MODE_PROPERTY, "false"));
+         boolean extended = Boolean.parseBoolean(System.getProperty(EXTENDED_LOGGING_PROPERTY, "false"));
 
-         try {
-            // When
-            dummyLogCore.extendedLog(EXTENDED_MESSAGE, ARG_1, ARG_2);
-
-            // Then
-            verify(mockLogger).log(
-                  any(Level.class),
-                  eq(mockMarker),
-                  eq(EXTENDED_MESSAGE),
-                  aryEq(new Object[] {ARG_1, ARG_2})
-            );
-         } finally {
-            // Clean up
-            System.clearProperty("extended.logging");
-            field.set(null, null); // Reset for other tests
-         }
+         // When / Then
+         assertEquals(!silent, LogCore.isStepEnabled(), "Step guard should reflect silent mode");
+         assertEquals(!silent && extended, LogCore.isExtendedEnabled(),
+               "Extended guard should reflect silent mode and extended logging");
       }
 
 
       @Test
-      @DisplayName("Should default to false when system property not set")
-      void testExtendedLoggingDefaultValue() throws Exception {
-         // Given - Clear cached value and ensure property is not set
-         Field field = LogCore.class.getDeclaredField(EXTENDED_LOGGING_FIELD);
-         field.setAccessible(true);
-         field.set(null, null);
-         System.clearProperty("extended.logging");
-
-         // When
-         dummyLogCore.extendedLog(EXTENDED_MESSAGE, ARG_1, ARG_2);
+      @DisplayName("Should not pick up property changes after initialization")
+      void testFlagsAreResolvedOnce() {
+         // Given
+         boolean extendedBefore = LogCore.isExtendedEnabled();
+         String original = System.getProperty(EXTENDED_LOGGING_PROPERTY);
+         System.setProperty(EXTENDED_LOGGING_PROPERTY, String.valueOf(!extendedBefore));
 
-         // Then
-         verify(mockLogger, never()).log(
-               any(Level.class),
-               eq(mockMarker),
-               anyString(),
-               any(Object[].class)
-         );
+         try {
+            // When / Then
+            assertEquals(extendedBefore, LogCore.isExtendedEnabled(), "Flag should be resolved only once");
+         } finally {
+            if (original == null) {
+               System.clearProperty(EXTENDED_LOGGING_PROPERTY);
+            } else {
+               System.setProperty(EXTENDED_LOGGING_PROPERTY, original);
+            }
+         }
       }
 
    }
@@ -248,29 +241,9 @@ class LogCoreTest {
    @DisplayName("Silent Mode Tests")
    class SilentModeTests {
 
-      private static final String SILENT_MODE_PROPERTY = "silent.mode";
-      private static final String EXTENDED_LOGGING_PROPERTY = "extended.logging";
-
-
-      @BeforeEach
-      void clearSystemPropertiesBefore() throws Exception {
-         setSilentMode(false);
-         System.clearProperty(EXTENDED_LOGGING_PROPERTY);
-         resetExtendedLoggingCache();
-      }
-
-
-      @AfterEach
-      void clearSystemPropertiesAfter() throws Exception {
-         setSilentMode(false);
-         System.clearProperty(EXTENDED_LOGGING_PROPERTY);
-         resetExtendedLoggingCache();
-      }
-
-
       @Test
       @DisplayName("Should suppress all logs when silent mode is enabled")
-      void shouldSuppressLogsWhenSilentModeEnabled() throws Exception {
+      void shouldSuppressLogsWhenSilentModeEnabled() {
          // -- Arrange --
          setSilentMode(true);
          setExtendedLogging(true); // Extended also needs to be true for test
@@ -291,7 +264,7 @@ class LogCoreTest {
 
       @Test
       @DisplayName("Should allow all logs when silent mode is disabled")
-      void shouldAllowLogsWhenSilentModeDisabled() throws Exception {
+      void shouldAllowLogsWhenSilentModeDisabled() {
          // -- Arrange --
          setSilentMode(false);
          setExtendedLogging(true); // Enable extended logging
@@ -307,39 +280,48 @@ class LogCoreTest {
          dummyLogCore.extendedLog("Extended message", ARG_1);
 
          // -- Assert --
-         verify(mockLogger).warn(any(Marker.class), eq("Warn message"), aryEq(new Object[] {ARG_1}));
-         verify(mockLogger).error(any(Marker.class), eq("Error message"), aryEq(new Object[] {ARG_1}));
-         verify(mockLogger).debug(any(Marker.class), eq("Debug message"), aryEq(new Object[] {ARG_1}));
-         verify(mockLogger).trace(any(Marker.class), eq("Trace message"), aryEq(new Object[] {ARG_1}));
+         verify(mockLogger).warn(any(Marker.class), eq("Warn message"), eq(ARG_1));
+         verify(mockLogger).error(any(Marker.class), eq("Error message"), eq(ARG_1));
+         verify(mockLogger).debug(any(Marker.class), eq("Debug message"), eq(ARG_1));
+         verify(mockLogger).trace(any(Marker.class), eq("Trace message"), eq(ARG_1));
          verify(mockLogger).log(eq(Level.forName("STEP", 350)), any(Marker.class), eq("Step message"),
-               aryEq(new Object[] {ARG_1}));
+               eq(ARG_1));
          verify(mockLogger).log(eq(Level.forName("VALIDATION", 350)), any(Marker.class), eq("Validation message"),
-               aryEq(new Object[] {ARG_1}));
+               eq(ARG_1));
          verify(mockLogger).log(eq(Level.forName("EXTENDED", 450)), any(Marker.class), eq("Extended message"),
-               aryEq(new Object[] {ARG_1}));
+               eq(ARG_1));
       }
 
 
-      private void resetExtendedLoggingCache() throws Exception {
-         Field field = LogCore.class.getDeclaredField("extendedLogging");
-         field.setAccessible(true);
-         field.set(null, null);
+      @Test
+      @DisplayName("Should expose level guards consistent with silent mode and extended logging")
+      void shouldExposeLevelGuards() {
+         // -- Arrange --
+         setSilentMode(false);
+         setExtendedLogging(false);
+
+         // -- Act / Assert --
+         assertTrue(LogCore.isStepEnabled());
+         assertFalse(LogCore.isExtendedEnabled());
+
+         setExtendedLogging(true);
+         assertTrue(LogCore.isExtendedEnabled());
+
+         setSilentMode(true);
+         assertFalse(LogCore.isStepEnabled());
+         assertFalse(LogCore.isExtendedEnabled());
       }
 
    }
 
 
-   private void setExtendedLogging(boolean value) throws Exception {
-      Field field = LogCore.class.getDeclaredField(EXTENDED_LOGGING_FIELD);
-      field.setAccessible(true);
-      field.set(null, value);
+   private void setExtendedLogging(boolean value) {
+      logCoreMockedStatic.when(LogCore::extendedLoggingEnabled).thenReturn(value);
    }
 
 
-   private void setSilentMode(boolean value) throws Exception {
-      Field field = LogCore.class.getDeclaredField(SILENT_MODE);
-      field.setAccessible(true);
-      field.set(null, value);
+   private void setSilentMode(boolean value) {
+      logCoreMockedStatic.when(LogCore::isSilent).thenReturn(value);
    }
 
 
@@ -0,0 +1,121 @@
+package com.theairebellion.zeus.logging;
+
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("LogSegments Tests")
+class LogSegmentsTest {
+
+   private static final String TEST_ID = "[engine:junit-jupiter]/[class:LogSegmentsTest]/[method:scenario()]";
+   private static final String OTHER_TEST_ID = "[engine:junit-jupiter]/[class:LogSegmentsTest]/[method:other()]";
+
+   @BeforeEach
+   void setUp() {
+      LogSegments.open(TEST_ID);
+      LogSegments.open(OTHER_TEST_ID);
+   }
+
+   @AfterEach
+   void tearDown() {
+      LogSegments.release(TEST_ID);
+      LogSegments.release(OTHER_TEST_ID);
+   }
+
+   @Test
+   @DisplayName("Should keep the output of each test in its own segment")
+   void shouldKeepOutputPerTest() {
+      // Given
+      LogSegments.append(TEST_ID, "first\n");
+      LogSegments.append(OTHER_TEST_ID, "unrelated\n");
+      LogSegments.append(TEST_ID, "second\n");
+
+      // When
+      Optional<String> segment = LogSegments.release(TEST_ID);
+
+      // Then
+      assertEquals(Optional.of("first\nsecond\n"), segment);
+      assertEquals(Optional.of("unrelated\n"), LogSegments.release(OTHER_TEST_ID));
+   }
+
+   @Test
+   @DisplayName("Should remove the segment once it is released")
+   void shouldRemoveSegmentOnRelease() {
+      // Given
+      LogSegments.append(TEST_ID, "line\n");
+
+      // When
+      LogSegments.release(TEST_ID);
+
+      // Then
+      assertTrue(LogSegments.release(TEST_ID).isEmpty(), "Released segment should no longer be present");
+   }
+
+   @Test
+   @DisplayName("Should drop output for tests without an open segment")
+   void shouldDropOutputWithoutOpenSegment() {
+      // Given
+      LogSegments.release(TEST_ID);
+
+      // When
+      LogSegments.append(TEST_ID, "late\n");
+      LogSegments.append("unknown", "stray\n");
+
+      // Then
+      assertTrue(LogSegments.release(TEST_ID).isEmpty(), "Late output should not re-create the segment");
+      assertTrue(LogSegments.release("unknown").isEmpty(), "Output of an unknown test should be dropped");
+   }
+
+   @Test
+   @DisplayName("Should keep captured output when a segment is opened again")
+   void shouldKeepOutputWhenOpenedAgain() {
+      // Given
+      LogSegments.append(TEST_ID, "line\n");
+
+      // When
+      LogSegments.open(TEST_ID);
+
+      // Then
+      assertEquals(Optional.of("line\n"), LogSegments.release(TEST_ID));
+   }
+
+   @Test
+   @DisplayName("Should truncate a segment that exceeds its size bound")
+   void shouldTruncateOversizedSegment() {
+      // Given
+      LogSegments.append(TEST_ID, "12345", 8);
+      LogSegments.append(TEST_ID, "67890", 8);
+      LogSegments.append(TEST_ID, "dropped", 8);
+
+      // When
+      String segment = LogSegments.release(TEST_ID).orElseThrow();
+
+      // Then
+      assertTrue(segment.startsWith("12345... log segment truncated after 5 characters ..."), segment);
+      assertTrue(!segment.contains("dropped"), "Output after truncation should be dropped");
+   }
+
+   @Test
+   @DisplayName("Should report capturing while a capture appender is started")
+   void shouldReportCapturingState() {
+      // Given
+      boolean initiallyCapturing = LogSegments.isCapturing();
+
+      // When
+      LogSegments.captureStarted();
+
+      // Then
+      try {
+         assertTrue(LogSegments.isCapturing());
+      } finally {
+         LogSegments.captureStopped();
+      }
+      assertEquals(initiallyCapturing, LogSegments.isCapturing());
+   }
+
+}
@@ -0,0 +1,57 @@
+package com.theairebellion.zeus.logging.plugin;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.Filter.Result;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ExtendedLoggingFilter Tests")
+class ExtendedLoggingFilterTest {
+
+   private static final LogEvent EVENT = Log4jLogEvent.newBuilder()
+         .setLevel(Level.INFO)
+         .setMessage(new SimpleMessage("message"))
+         .build();
+
+   @Test
+   @DisplayName("Should return onMatch for every event when extended logging is enabled")
+   void shouldReturnOnMatchWhenExtendedLoggingEnabled() {
+      // Given
+      ExtendedLoggingFilter filter = ExtendedLoggingFilter.createFilter(true, Result.ACCEPT, Result.DENY);
+
+      // When / Then
+      assertTrue(filter.isExtendedLogging());
+      assertEquals(Result.ACCEPT, filter.filter(EVENT));
+      assertEquals(Result.ACCEPT, filter.filter(null, Level.DEBUG, null, "message", "param"));
+   }
+
+   @Test
+   @DisplayName("Should return onMismatch for every event when extended logging is disabled")
+   void shouldReturnOnMismatchWhenExtendedLoggingDisabled() {
+      // Given
+      ExtendedLoggingFilter filter = ExtendedLoggingFilter.createFilter(false, Result.DENY, Result.ACCEPT);
+
+      // When / Then
+      assertFalse(filter.isExtendedLogging());
+      assertEquals(Result.ACCEPT, filter.filter(EVENT));
+      assertEquals(Result.ACCEPT, filter.filter(null, Level.DEBUG, null, (Object) "message", null));
+   }
+
+   @Test
+   @DisplayName("Should default to NEUTRAL when results are not configured")
+   void shouldDefaultToNeutralWhenResultsNotConfigured() {
+      // Given
+      ExtendedLoggingFilter filter = ExtendedLoggingFilter.createFilter(true, null, null);
+
+      // When / Then
+      assertEquals(Result.NEUTRAL, filter.filter(EVENT));
+   }
+
+}
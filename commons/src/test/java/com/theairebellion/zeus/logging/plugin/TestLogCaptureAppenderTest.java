@@ -0,0 +1,99 @@
+package com.theairebellion.zeus.logging.plugin;
+
+import com.theairebellion.zeus.logging.LogSegments;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.util.SortedArrayStringMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("TestLogCaptureAppender Tests")
+class TestLogCaptureAppenderTest {
+
+   private static final String TEST_ID = "[engine:junit-jupiter]/[class:TestLogCaptureAppenderTest]/[method:scenario()]";
+   private static final String TEST_NAME = "TestLogCaptureAppenderTest.scenario";
+
+   private TestLogCaptureAppender appender;
+
+   @BeforeEach
+   void setUp() {
+      appender = TestLogCaptureAppender.newBuilder()
+            .setName("TestLogCapture")
+            .setLayout(PatternLayout.newBuilder().withPattern("[scenario=%X{testName}] %level - %m%n").build())
+            .build();
+      appender.start();
+      LogSegments.open(TEST_ID);
+   }
+
+   @AfterEach
+   void tearDown() {
+      appender.stop();
+      LogSegments.release(TEST_ID);
+   }
+
+   @Test
+   @DisplayName("Should capture formatted events into the segment of the running test")
+   void shouldCaptureEventsOfRunningTest() {
+      // When
+      appender.append(event(TEST_ID, TEST_NAME, "first"));
+      appender.append(event(TEST_ID, TEST_NAME, "second"));
+
+      // Then
+      String separator = System.lineSeparator();
+      assertEquals("[scenario=" + TEST_NAME + "] INFO - first" + separator
+                  + "[scenario=" + TEST_NAME + "] INFO - second" + separator,
+            LogSegments.release(TEST_ID).orElseThrow());
+   }
+
+   @Test
+   @DisplayName("Should ignore events logged outside of a test")
+   void shouldIgnoreEventsOutsideTest() {
+      // When
+      appender.append(event(null, null, "outside"));
+
+      // Then
+      assertTrue(LogSegments.release("").isEmpty());
+      assertEquals("", LogSegments.release(TEST_ID).orElseThrow());
+   }
+
+   @Test
+   @DisplayName("Should ignore events that arrive after the segment of their test was released")
+   void shouldIgnoreEventsAfterRelease() {
+      // Given
+      LogSegments.release(TEST_ID);
+
+      // When
+      appender.append(event(TEST_ID, TEST_NAME, "late"));
+
+      // Then
+      assertTrue(LogSegments.release(TEST_ID).isEmpty(), "Late event should not re-create the segment");
+   }
+
+   @Test
+   @DisplayName("Should mark capturing as active while started")
+   void shouldMarkCapturingWhileStarted() {
+      assertTrue(LogSegments.isCapturing());
+   }
+
+   private static LogEvent event(String testId, String testName, String message) {
+      SortedArrayStringMap contextData = new SortedArrayStringMap();
+      if (testId != null) {
+         contextData.putValue(LogSegments.CONTEXT_KEY, testId);
+         contextData.putValue(TestNamePatternSelector.DEFAULT_CONTEXT_KEY, testName);
+      }
+      return Log4jLogEvent.newBuilder()
+            .setLevel(Level.INFO)
+            .setMessage(new SimpleMessage(message))
+            .setContextData(contextData)
+            .build();
+   }
+
+}
@@ -0,0 +1,90 @@
+package com.theairebellion.zeus.logging.plugin;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.config.DefaultConfiguration;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.pattern.PatternFormatter;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.util.SortedArrayStringMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@DisplayName("TestNamePatternSelector Tests")
+class TestNamePatternSelectorTest {
+
+   private final TestNamePatternSelector selector = TestNamePatternSelector.newBuilder()
+         .setDefaultPattern("%level - %m")
+         .setTestPattern("[scenario=%X{testName}] %level - %m")
+         .setConfiguration(new DefaultConfiguration())
+         .build();
+
+   @Test
+   @DisplayName("Should use the default pattern when no test name is in the context")
+   void shouldUseDefaultPatternWithoutTestName() {
+      // Given
+      LogEvent event = event(null);
+
+      // When
+      String formatted = format(selector.getFormatters(event), event);
+
+      // Then
+      assertEquals("INFO - message", formatted);
+   }
+
+   @Test
+   @DisplayName("Should use the default pattern when the test name is empty")
+   void shouldUseDefaultPatternWithEmptyTestName() {
+      // Given
+      LogEvent event = event("");
+
+      // When
+      String formatted = format(selector.getFormatters(event), event);
+
+      // Then
+      assertEquals("INFO - message", formatted);
+   }
+
+   @Test
+   @DisplayName("Should use the test pattern when a test name is in the context")
+   void shouldUseTestPatternWithTestName() {
+      // Given
+      LogEvent event = event("loginTest");
+
+      // When
+      String formatted = format(selector.getFormatters(event), event);
+
+      // Then
+      assertEquals("[scenario=loginTest] INFO - message", formatted);
+   }
+
+   @Test
+   @DisplayName("Should not require location for patterns without location converters")
+   void shouldNotRequireLocation() {
+      assertFalse(selector.requiresLocation());
+   }
+
+   private static LogEvent event(String testName) {
+      SortedArrayStringMap contextData = new SortedArrayStringMap();
+      if (testName != null) {
+         contextData.putValue(TestNamePatternSelector.DEFAULT_CONTEXT_KEY, testName);
+      }
+      return Log4jLogEvent.newBuilder()
+            .setLevel(Level.INFO)
+            .setMessage(new SimpleMessage("message"))
+            .setContextData(contextData)
+            .build();
+   }
+
+   private static String format(PatternFormatter[] formatters, LogEvent event) {
+      StringBuilder builder = new StringBuilder();
+      for (PatternFormatter formatter : formatters) {
+         formatter.format(event, builder);
+      }
+      return builder.toString();
+   }
+
+}
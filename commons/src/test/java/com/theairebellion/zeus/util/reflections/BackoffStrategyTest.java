@@ -0,0 +1,96 @@
+package com.theairebellion.zeus.util.reflections;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("BackoffStrategy Tests")
+class BackoffStrategyTest {
+
+   @Nested
+   @DisplayName("Fixed strategy")
+   class FixedStrategy {
+
+      @Test
+      @DisplayName("Should return the same delay for every attempt")
+      void shouldReturnSameDelayForEveryAttempt() {
+         // Given
+         BackoffStrategy strategy = BackoffStrategy.fixed(Duration.ofMillis(25));
+
+         // When / Then
+         assertEquals(Duration.ofMillis(25), strategy.delay(1));
+         assertEquals(Duration.ofMillis(25), strategy.delay(10));
+      }
+
+
+      @Test
+      @DisplayName("Should reject null or negative intervals")
+      void shouldRejectNullOrNegativeIntervals() {
+         // When
+         NullPointerException npe = assertThrows(NullPointerException.class,
+               () -> BackoffStrategy.fixed(null));
+         IllegalArgumentException iae = assertThrows(IllegalArgumentException.class,
+               () -> BackoffStrategy.fixed(Duration.ofMillis(-1)));
+
+         // Then
+         assertEquals("interval must not be null", npe.getMessage());
+         assertEquals("interval must not be negative", iae.getMessage());
+      }
+
+   }
+
+   @Nested
+   @DisplayName("Exponential strategy")
+   class ExponentialStrategy {
+
+      @Test
+      @DisplayName("Should grow the delay by the multiplier and cap it at the maximum")
+      void shouldGrowDelayAndCapAtMaximum() {
+         // Given
+         BackoffStrategy strategy = BackoffStrategy.exponential(Duration.ofMillis(10), 2.0, Duration.ofMillis(50));
+
+         // When / Then
+         assertEquals(Duration.ofMillis(10), strategy.delay(1));
+         assertEquals(Duration.ofMillis(20), strategy.delay(2));
+         assertEquals(Duration.ofMillis(40), strategy.delay(3));
+         assertEquals(Duration.ofMillis(50), strategy.delay(4));
+         assertEquals(Duration.ofMillis(50), strategy.delay(100));
+      }
+
+
+      @Test
+      @DisplayName("Should reject a multiplier lower than one")
+      void shouldRejectMultiplierLowerThanOne() {
+         // When
+         IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+               () -> BackoffStrategy.exponential(Duration.ofMillis(10), 0.5, Duration.ofSeconds(1)));
+
+         // Then
+         assertEquals("multiplier must be at least 1", ex.getMessage());
+      }
+
+
+      @Test
+      @DisplayName("Should keep jittered delays between zero and the exponential bound")
+      void shouldKeepJitteredDelaysWithinBound() {
+         // Given
+         BackoffStrategy strategy =
+               BackoffStrategy.exponentialWithJitter(Duration.ofMillis(10), 2.0, Duration.ofMillis(80));
+
+         // When / Then
+         for (int attempt = 1; attempt <= 50; attempt++) {
+            Duration delay = strategy.delay(attempt);
+            long bound = Math.min(10L << Math.min(attempt - 1, 10), 80L);
+            assertTrue(!delay.isNegative() && delay.compareTo(Duration.ofMillis(bound)) <= 0,
+                  "Delay " + delay + " should be within [0, " + bound + "ms] for attempt " + attempt);
+         }
+      }
+
+   }
+
+}
@@ -0,0 +1,122 @@
+package com.theairebellion.zeus.util.reflections;
+
+import com.theairebellion.zeus.util.reflections.mock.MockEnum;
+import com.theairebellion.zeus.util.reflections.mock.MockInterface;
+import com.theairebellion.zeus.util.reflections.mock.TestClass;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ClasspathScanner Tests")
+class ClasspathScannerTest {
+
+   private static final String REFLECTIONS_PACKAGE = "com.theairebellion.zeus.util.reflections";
+   private static final String MOCK_PACKAGE = "com.theairebellion.zeus.util.reflections.mock";
+   private static final String OTHER_PACKAGE = "com.theairebellion.zeus.logging";
+
+
+   @AfterEach
+   void tearDown() {
+      ClasspathScanner.reset();
+      TypeRegistry.invalidate();
+   }
+
+
+   @Test
+   @DisplayName("Should cover bootstrapped packages and their sub-packages")
+   void shouldCoverBootstrappedPackages() {
+      // When
+      ClasspathScanner.bootstrap(REFLECTIONS_PACKAGE);
+
+      // Then
+      assertTrue(ClasspathScanner.isCovered(REFLECTIONS_PACKAGE), "Expected the scanned package to be covered");
+      assertTrue(ClasspathScanner.isCovered(MOCK_PACKAGE), "Expected sub-packages to be covered");
+      assertFalse(ClasspathScanner.isCovered(OTHER_PACKAGE), "Expected unrelated packages not to be covered");
+   }
+
+
+   @Test
+   @DisplayName("Should match covered packages on whole name segments only")
+   void shouldMatchCoveredPackagesOnSegmentBoundaries() {
+      // When
+      ClasspathScanner.bootstrap(MOCK_PACKAGE.substring(0, MOCK_PACKAGE.length() - 1));
+
+      // Then
+      assertFalse(ClasspathScanner.isCovered(MOCK_PACKAGE), "Expected a sibling package not to be covered");
+      assertFalse(ClasspathScanner.findSubTypes(MockInterface.class, MOCK_PACKAGE).isPresent(),
+            "Expected no answer for a package sharing only a name prefix with the scan");
+   }
+
+
+   @Test
+   @DisplayName("Should keep packages covered when bootstrapped again")
+   void shouldKeepPackagesCoveredWhenBootstrappedAgain() {
+      // Given
+      ClasspathScanner.bootstrap(REFLECTIONS_PACKAGE);
+
+      // When
+      ClasspathScanner.bootstrap(MOCK_PACKAGE, REFLECTIONS_PACKAGE);
+
+      // Then
+      assertTrue(ClasspathScanner.isCovered(MOCK_PACKAGE), "Expected the sub-package to stay covered");
+      assertFalse(ClasspathScanner.isCovered(OTHER_PACKAGE), "Expected unrelated packages not to be covered");
+   }
+
+
+   @Test
+   @DisplayName("Should answer sub-type lookups for any covered package from a single scan")
+   void shouldAnswerSubTypeLookupsFromBootstrapScan() {
+      // Given
+      ClasspathScanner.bootstrap(REFLECTIONS_PACKAGE, OTHER_PACKAGE);
+
+      // When
+      Optional<Set<Class<? extends MockInterface>>> result =
+            ClasspathScanner.findSubTypes(MockInterface.class, MOCK_PACKAGE);
+
+      // Then
+      assertTrue(result.isPresent(), "Expected the lookup to be answered from the bootstrap scan");
+      assertTrue(result.get().containsAll(Set.of(MockEnum.class, TestClass.class)),
+            "Expected all implementations in the requested package");
+   }
+
+
+   @Test
+   @DisplayName("Should not answer lookups for packages outside the bootstrap scan")
+   void shouldNotAnswerLookupsOutsideBootstrapScan() {
+      // Given
+      ClasspathScanner.bootstrap(OTHER_PACKAGE);
+
+      // When / Then
+      assertFalse(ClasspathScanner.findSubTypes(MockInterface.class, MOCK_PACKAGE).isPresent(),
+            "Expected no answer for a package that was not scanned");
+   }
+
+
+   @Test
+   @DisplayName("Should ignore blank and null prefixes")
+   void shouldIgnoreBlankAndNullPrefixes() {
+      // When / Then
+      assertDoesNotThrow(() -> ClasspathScanner.bootstrap(null, " ", ""),
+            "Expected blank prefixes to be ignored");
+      assertFalse(ClasspathScanner.isCovered(MOCK_PACKAGE), "Expected nothing to be scanned");
+   }
+
+
+   @Test
+   @DisplayName("Should resolve ReflectionUtil lookups through the bootstrap scan")
+   void shouldResolveReflectionUtilLookupsThroughBootstrapScan() {
+      // Given
+      ClasspathScanner.bootstrap(MOCK_PACKAGE, MOCK_PACKAGE);
+
+      // When / Then
+      assertTrue(ReflectionUtil.findImplementationsOfInterface(MockInterface.class, MOCK_PACKAGE)
+            .contains(TestClass.class), "Expected the lookup to return implementations from the scan");
+   }
+
+}
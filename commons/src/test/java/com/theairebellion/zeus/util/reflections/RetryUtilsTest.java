@@ -1,10 +1,18 @@
 package com.theairebellion.zeus.util.reflections;
 
 import com.theairebellion.zeus.logging.LogCommon;
+import com.theairebellion.zeus.util.reflections.exceptions.RetryTimeoutException;
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -12,6 +20,8 @@ import org.junit.jupiter.api.Timeout;
 import org.mockito.MockedStatic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -470,4 +480,194 @@ class RetryUtilsTest {
 
    }
 
+   @Nested
+   @DisplayName("Backoff and asynchronous retries")
+   class BackoffAndAsyncRetries {
+
+      @Test
+      @DisplayName("Should report attempts and accumulated wait time of a blocking retry")
+      void shouldReportAttemptsAndWaitOfBlockingRetry() {
+         // Given
+         AtomicInteger counter = new AtomicInteger(0);
+
+         // When
+         RetryResult<String> result = RetryUtils.retry(
+               Duration.ofSeconds(2),
+               BackoffStrategy.fixed(Duration.ofMillis(10)),
+               () -> (counter.incrementAndGet() >= 3) ? "done" : "not yet",
+               res -> res.equals("done")
+         );
+
+         // Then
+         assertEquals("done", result.value());
+         assertEquals(3, result.attempts());
+         assertTrue(result.totalWait().compareTo(Duration.ofMillis(20)) >= 0,
+               "Should have waited between the three attempts");
+      }
+
+
+      @Test
+      @DisplayName("Should throw RetryTimeoutException with attempt count when the condition is never met")
+      void shouldThrowRetryTimeoutExceptionWithAttemptCount() {
+         // When
+         RetryTimeoutException ex = assertThrows(RetryTimeoutException.class, () ->
+               RetryUtils.retry(
+                     Duration.ofMillis(100),
+                     BackoffStrategy.exponential(Duration.ofMillis(5), 2.0, Duration.ofMillis(40)),
+                     () -> "nope",
+                     res -> false
+               )
+         );
+
+         // Then
+         assertTrue(ex.getAttempts() >= 1, "Should report at least one attempt");
+         assertTrue(ex.getMessage().contains("Failed to satisfy condition"));
+      }
+
+
+      @Test
+      @Timeout(5)
+      @DisplayName("Should complete the future once the condition is satisfied")
+      void shouldCompleteFutureWhenConditionSatisfied() throws Exception {
+         // Given
+         AtomicInteger counter = new AtomicInteger(0);
+
+         // When
+         CompletableFuture<RetryResult<Integer>> future = RetryUtils.retryUntilAsync(
+               Duration.ofSeconds(2),
+               BackoffStrategy.fixed(Duration.ofMillis(10)),
+               counter::incrementAndGet,
+               value -> value >= 3
+         );
+
+         // Then
+         RetryResult<Integer> result = future.get(3, TimeUnit.SECONDS);
+         assertEquals(3, result.value());
+         assertEquals(3, result.attempts());
+      }
+
+
+      @Test
+      @Timeout(5)
+      @DisplayName("Should complete the future exceptionally when the maximum wait is exceeded")
+      void shouldCompleteFutureExceptionallyOnTimeout() {
+         // When
+         CompletableFuture<RetryResult<String>> future = RetryUtils.retryUntilAsync(
+               Duration.ofMillis(50),
+               BackoffStrategy.fixed(Duration.ofMillis(10)),
+               () -> "nope",
+               res -> false
+         );
+
+         // Then
+         ExecutionException ex = assertThrows(ExecutionException.class, () -> future.get(3, TimeUnit.SECONDS));
+         assertInstanceOf(RetryTimeoutException.class, ex.getCause());
+      }
+
+
+      @Test
+      @Timeout(5)
+      @DisplayName("A blocking attempt should not hold up other polls")
+      void shouldNotHoldUpOtherPollsWhileAttemptBlocks() throws Exception {
+         // Given
+         CountDownLatch release = new CountDownLatch(1);
+         CompletableFuture<RetryResult<Boolean>> blocked = RetryUtils.retryUntilAsync(
+               Duration.ofSeconds(3),
+               BackoffStrategy.fixed(Duration.ofMillis(10)),
+               () -> awaitQuietly(release),
+               res -> res
+         );
+
+         try {
+            // When
+            CompletableFuture<RetryResult<Integer>> other = RetryUtils.retryUntilAsync(
+                  Duration.ofSeconds(2),
+                  BackoffStrategy.fixed(Duration.ofMillis(10)),
+                  () -> 1,
+                  res -> res == 1
+            );
+
+            // Then
+            assertEquals(1, other.get(1, TimeUnit.SECONDS).value());
+            assertFalse(blocked.isDone(), "The blocking poll should still be waiting");
+         } finally {
+            release.countDown();
+         }
+         assertTrue(blocked.get(3, TimeUnit.SECONDS).value());
+      }
+
+
+      @Test
+      @Timeout(5)
+      @DisplayName("Cancelling the future should stop further attempts")
+      void shouldStopAttemptsWhenCancelled() throws Exception {
+         // Given
+         AtomicInteger counter = new AtomicInteger(0);
+         CompletableFuture<RetryResult<Integer>> future = RetryUtils.retryUntilAsync(
+               Duration.ofSeconds(3),
+               BackoffStrategy.fixed(Duration.ofMillis(5)),
+               counter::incrementAndGet,
+               value -> false
+         );
+         Thread.sleep(30);
+
+         // When
+         future.cancel(false);
+         Thread.sleep(20);
+         int attemptsAfterCancel = counter.get();
+         Thread.sleep(50);
+
+         // Then
+         assertEquals(attemptsAfterCancel, counter.get(), "No attempts should run after cancellation");
+      }
+
+
+      @Test
+      @Timeout(5)
+      @DisplayName("Every attempt should run in the context captured on the calling thread")
+      void shouldRunAttemptsInCapturedContext() throws Exception {
+         // Given
+         ThreadLocal<String> step = new ThreadLocal<>();
+         step.set("calling test");
+         String captured = step.get();
+         List<String> seenByAttempts = new CopyOnWriteArrayList<>();
+         UnaryOperator<Runnable> attemptContext = attempt -> () -> {
+            step.set(captured);
+            try {
+               attempt.run();
+            } finally {
+               step.remove();
+            }
+         };
+
+         // When
+         CompletableFuture<RetryResult<Integer>> future = RetryUtils.retryUntilAsync(
+               Duration.ofSeconds(2),
+               BackoffStrategy.fixed(Duration.ofMillis(5)),
+               () -> {
+                  seenByAttempts.add(step.get());
+                  return seenByAttempts.size();
+               },
+               value -> value >= 2,
+               attemptContext
+         );
+
+         // Then
+         assertEquals(2, future.get(3, TimeUnit.SECONDS).value());
+         assertEquals(List.of("calling test", "calling test"), seenByAttempts);
+         step.remove();
+      }
+
+   }
+
+
+   private static boolean awaitQuietly(CountDownLatch latch) {
+      try {
+         return latch.await(3, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+         return false;
+      }
+   }
+
 }
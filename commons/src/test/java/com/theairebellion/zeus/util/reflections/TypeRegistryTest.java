@@ -0,0 +1,154 @@
+package com.theairebellion.zeus.util.reflections;
+
+import com.theairebellion.zeus.util.reflections.mock.MockEnum;
+import com.theairebellion.zeus.util.reflections.mock.MockInterface;
+import com.theairebellion.zeus.util.reflections.mock.MockInterfaceTwoImpl;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("TypeRegistry Tests")
+class TypeRegistryTest {
+
+   private static final String MOCK_PACKAGE = "com.theairebellion.zeus.util.reflections.mock";
+   private static final String KIND = "test-kind";
+
+
+   @AfterEach
+   void tearDown() {
+      TypeRegistry.invalidate();
+   }
+
+
+   @Test
+   @DisplayName("Should compute an entry once and serve later lookups from the cache")
+   void shouldComputeEntryOnce() {
+      // Given
+      AtomicInteger loads = new AtomicInteger();
+      TypeRegistry.Statistics before = TypeRegistry.statistics();
+
+      // When
+      Object first = TypeRegistry.computeIfAbsent(KIND, MockInterface.class, MOCK_PACKAGE, () -> {
+         loads.incrementAndGet();
+         return new Object();
+      });
+      Object second = TypeRegistry.computeIfAbsent(KIND, MockInterface.class, MOCK_PACKAGE, () -> {
+         loads.incrementAndGet();
+         return new Object();
+      });
+
+      // Then
+      TypeRegistry.Statistics after = TypeRegistry.statistics();
+      assertSame(first, second, "Expected the cached entry to be returned");
+      assertEquals(1, loads.get(), "Expected the loader to run only once");
+      assertTrue(after.misses() - before.misses() >= 1, "Expected the first lookup to count as a miss");
+      assertTrue(after.hits() - before.hits() >= 1, "Expected the second lookup to count as a hit");
+   }
+
+
+   @Test
+   @DisplayName("Should keep entries of different package prefixes apart")
+   void shouldSeparateEntriesByPackagePrefix() {
+      // When
+      Object mockPackage = TypeRegistry.computeIfAbsent(KIND, MockInterface.class, MOCK_PACKAGE, Object::new);
+      Object rootPackage = TypeRegistry.computeIfAbsent(KIND, MockInterface.class, "com.theairebellion", Object::new);
+
+      // Then
+      assertNotSame(mockPackage, rootPackage, "Expected separate entries per package prefix");
+   }
+
+
+   @Test
+   @DisplayName("Should drop only the entries of the invalidated interface")
+   void shouldInvalidateEntriesOfInterface() {
+      // Given
+      Object invalidated = TypeRegistry.computeIfAbsent(KIND, MockInterface.class, MOCK_PACKAGE, Object::new);
+      Object kept = TypeRegistry.computeIfAbsent(KIND, MockInterfaceTwoImpl.class, MOCK_PACKAGE, Object::new);
+
+      // When
+      TypeRegistry.invalidate(MockInterface.class);
+
+      // Then
+      assertNotSame(invalidated, TypeRegistry.computeIfAbsent(KIND, MockInterface.class, MOCK_PACKAGE, Object::new),
+            "Expected the invalidated entry to be recomputed");
+      assertSame(kept, TypeRegistry.computeIfAbsent(KIND, MockInterfaceTwoImpl.class, MOCK_PACKAGE, Object::new),
+            "Expected entries of other interfaces to be kept");
+   }
+
+
+   @Test
+   @DisplayName("Should not cache failed computations")
+   void shouldNotCacheFailedComputations() {
+      // When
+      assertThrows(IllegalStateException.class,
+            () -> TypeRegistry.computeIfAbsent(KIND, MockInterface.class, MOCK_PACKAGE, () -> {
+               throw new IllegalStateException("scan failed");
+            }),
+            "Expected the loader failure to propagate");
+
+      // Then
+      assertEquals("value", TypeRegistry.computeIfAbsent(KIND, MockInterface.class, MOCK_PACKAGE, () -> "value"),
+            "Expected a later lookup to compute the entry again");
+   }
+
+
+   @Test
+   @DisplayName("Should serve repeated ReflectionUtil lookups from the registry")
+   void shouldServeReflectionUtilLookupsFromRegistry() {
+      // Given
+      ReflectionUtil.findEnumImplementationsOfInterface(MockInterface.class, "VALUE", MOCK_PACKAGE);
+      TypeRegistry.Statistics before = TypeRegistry.statistics();
+
+      // When
+      MockInterface result = ReflectionUtil.findEnumImplementationsOfInterface(
+            MockInterface.class, "VALUE", MOCK_PACKAGE);
+
+      // Then
+      TypeRegistry.Statistics after = TypeRegistry.statistics();
+      assertEquals(MockEnum.VALUE, result, "Expected the cached enum constant");
+      assertEquals(before.misses(), after.misses(), "Expected no additional scan for a repeated lookup");
+      assertTrue(after.hits() > before.hits(), "Expected the repeated lookup to be counted as hits");
+   }
+
+
+   @Test
+   @DisplayName("Should return a mutable copy of cached implementations")
+   void shouldReturnMutableCopyOfCachedImplementations() {
+      // Given
+      List<Class<? extends MockInterface>> first =
+            ReflectionUtil.findImplementationsOfInterface(MockInterface.class, MOCK_PACKAGE);
+
+      // When
+      first.clear();
+      List<Class<? extends MockInterface>> second =
+            ReflectionUtil.findImplementationsOfInterface(MockInterface.class, MOCK_PACKAGE);
+
+      // Then
+      assertTrue(second.contains(MockEnum.class), "Expected callers not to be able to modify cached entries");
+   }
+
+
+   @Test
+   @DisplayName("Should reset the statistics counters")
+   void shouldResetStatistics() {
+      // Given
+      TypeRegistry.computeIfAbsent(KIND, MockInterface.class, MOCK_PACKAGE, Object::new);
+
+      // When
+      TypeRegistry.resetStatistics();
+
+      // Then
+      TypeRegistry.Statistics statistics = TypeRegistry.statistics();
+      assertEquals(0, statistics.hits(), "Expected hits to be reset");
+      assertEquals(0, statistics.misses(), "Expected misses to be reset");
+   }
+
+}
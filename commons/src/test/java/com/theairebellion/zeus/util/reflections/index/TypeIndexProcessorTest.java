@@ -0,0 +1,100 @@
+package com.theairebellion.zeus.util.reflections.index;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("TypeIndexProcessor Tests")
+class TypeIndexProcessorTest {
+
+   @TempDir
+   Path workDir;
+
+
+   @Test
+   @DisplayName("Should index implementations of annotated interfaces and their sub-interfaces")
+   void shouldIndexImplementationsOfAnnotatedInterfaces() throws IOException {
+      // Given
+      Map<String, String> sources = Map.of(
+            "sample/Root.java", "package sample;\n"
+                  + "@com.theairebellion.zeus.util.reflections.index.IndexedType\n"
+                  + "public interface Root {}",
+            "sample/Child.java", "package sample; public interface Child extends Root {}",
+            "sample/Impl.java", "package sample; public enum Impl implements Child { A }",
+            "sample/Outer.java", "package sample; public class Outer { public static class Nested implements Root {} }",
+            "sample/Plain.java", "package sample; public class Plain implements Runnable { public void run() {} }");
+
+      // When
+      Path output = compile(sources);
+
+      // Then
+      Path indexFile = output.resolve(TypeIndex.INDEX_LOCATION);
+      assertTrue(Files.exists(indexFile), "Expected the index resource to be written");
+
+      Properties index = new Properties();
+      try (var reader = Files.newBufferedReader(indexFile, StandardCharsets.UTF_8)) {
+         index.load(reader);
+      }
+      assertEquals("sample.Child,sample.Impl,sample.Outer$Nested", index.getProperty("sample.Root"),
+            "Expected all direct and indirect implementations of the annotated interface");
+      assertEquals("sample.Impl", index.getProperty("sample.Child"),
+            "Expected implementations of the sub-interface to be indexed as well");
+      assertEquals("sample", index.getProperty(TypeIndex.PACKAGES_KEY),
+            "Expected the packages of the compilation to be recorded");
+      assertEquals(3, index.size(), "Expected only indexed interfaces and the package list as keys");
+   }
+
+
+   @Test
+   @DisplayName("Should not write an index when no indexed types are compiled")
+   void shouldNotWriteIndexWithoutIndexedTypes() throws IOException {
+      // When
+      Path output = compile(Map.of("sample/Plain.java", "package sample; public class Plain {}"));
+
+      // Then
+      assertFalse(Files.exists(output.resolve(TypeIndex.INDEX_LOCATION)),
+            "Expected no index resource for a compilation without indexed types");
+   }
+
+
+   private Path compile(Map<String, String> sources) throws IOException {
+      Path sourceDir = Files.createDirectories(workDir.resolve("src"));
+      Path outputDir = Files.createDirectories(workDir.resolve("out"));
+      List<Path> files = new ArrayList<>();
+      for (Map.Entry<String, String> source : sources.entrySet()) {
+         Path file = sourceDir.resolve(source.getKey());
+         Files.createDirectories(file.getParent());
+         Files.writeString(file, source.getValue(), StandardCharsets.UTF_8);
+         files.add(file);
+      }
+
+      JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+      try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+         Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjectsFromPaths(files);
+         List<String> options = List.of(
+               "-d", outputDir.toString(),
+               "-classpath", System.getProperty("java.class.path"));
+         JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null, units);
+         task.setProcessors(List.of(new TypeIndexProcessor()));
+         assertTrue(task.call(), "Expected the sample sources to compile");
+      }
+      return outputDir;
+   }
+
+}
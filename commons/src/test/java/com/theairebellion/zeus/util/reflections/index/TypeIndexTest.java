@@ -0,0 +1,162 @@
+package com.theairebellion.zeus.util.reflections.index;
+
+import com.theairebellion.zeus.util.reflections.ReflectionUtil;
+import com.theairebellion.zeus.util.reflections.exceptions.ReflectionException;
+import com.theairebellion.zeus.util.reflections.mock.MockBrokenIndexedInterface;
+import com.theairebellion.zeus.util.reflections.mock.MockIndexedEnum;
+import com.theairebellion.zeus.util.reflections.mock.MockIndexedInterface;
+import com.theairebellion.zeus.util.reflections.mock.MockInterface;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("TypeIndex Tests")
+class TypeIndexTest {
+
+   private static final String MOCK_PACKAGE = "com.theairebellion.zeus.util.reflections.mock";
+   private static final String INDEX_ENABLED_PROPERTY = "type.index.enabled";
+
+   @Nested
+   @DisplayName("Index Lookup Tests")
+   class IndexLookupTests {
+
+      @Test
+      @DisplayName("Should report the index as present when an index resource is on the classpath")
+      void shouldReportIndexAsPresent() {
+         assertTrue(TypeIndex.isPresent(), "Expected the test index resource to be loaded");
+      }
+
+
+      @Test
+      @DisplayName("Should return indexed implementations located in the requested package")
+      void shouldReturnIndexedImplementationsInPackage() {
+         // When
+         Optional<Set<Class<? extends MockIndexedInterface>>> result =
+               TypeIndex.findSubTypes(MockIndexedInterface.class, MOCK_PACKAGE);
+
+         // Then
+         assertTrue(result.isPresent(), "Expected the interface to be answered from the index");
+         assertEquals(Set.of(MockIndexedEnum.class), result.get(),
+               "Expected only implementations located in the requested package");
+      }
+
+
+      @Test
+      @DisplayName("Should return an empty result for interfaces missing from the index")
+      void shouldReturnEmptyForInterfaceMissingFromIndex() {
+         // When
+         Optional<Set<Class<? extends MockInterface>>> result =
+               TypeIndex.findSubTypes(MockInterface.class, MOCK_PACKAGE);
+
+         // Then
+         assertFalse(result.isPresent(), "Expected a fallback signal for interfaces not in the index");
+      }
+
+
+      @Test
+      @DisplayName("Should fall back for packages the index does not cover")
+      void shouldReturnEmptyForPackageNotCoveredByIndex() {
+         // When
+         Optional<Set<Class<? extends MockIndexedInterface>>> outside =
+               TypeIndex.findSubTypes(MockIndexedInterface.class, "com.unrelated");
+         Optional<Set<Class<? extends MockIndexedInterface>>> siblingPrefix =
+               TypeIndex.findSubTypes(MockIndexedInterface.class, MOCK_PACKAGE.substring(0, MOCK_PACKAGE.length() - 1));
+
+         // Then
+         assertFalse(outside.isPresent(),
+               "Expected a fallback signal when implementations may live outside the indexed packages");
+         assertFalse(siblingPrefix.isPresent(), "Expected package prefixes to match whole package names only");
+      }
+
+
+      @Test
+      @DisplayName("Should answer from the index for a parent package of the indexed code")
+      void shouldReturnIndexedImplementationsForParentPackage() {
+         // When
+         Optional<Set<Class<? extends MockIndexedInterface>>> result =
+               TypeIndex.findSubTypes(MockIndexedInterface.class, "com.theairebellion.zeus.util.reflections");
+
+         // Then
+         assertEquals(Optional.of(Set.of(MockIndexedEnum.class)), result,
+               "Expected implementations below the requested package to be returned");
+      }
+
+
+      @Test
+      @DisplayName("Should throw exception when an indexed class cannot be loaded")
+      void shouldThrowWhenIndexedClassCannotBeLoaded() {
+         // When
+         ReflectionException ex = assertThrows(ReflectionException.class,
+               () -> TypeIndex.findSubTypes(MockBrokenIndexedInterface.class, MOCK_PACKAGE),
+               "Expected ReflectionException for a stale index entry");
+
+         // Then
+         assertTrue(ex.getMessage().contains("MissingImpl"),
+               "Should include the name of the class that could not be loaded");
+      }
+
+
+      @Test
+      @DisplayName("Should resolve enum constants through ReflectionUtil using the index")
+      void shouldResolveEnumConstantThroughReflectionUtil() {
+         // When
+         MockIndexedInterface result = ReflectionUtil.findEnumImplementationsOfInterface(
+               MockIndexedInterface.class, "INDEXED_VALUE", MOCK_PACKAGE);
+
+         // Then
+         assertEquals(MockIndexedEnum.INDEXED_VALUE, result,
+               "Expected the enum constant to be found through the index");
+      }
+
+   }
+
+   @Nested
+   @DisplayName("Index Loading Tests")
+   class IndexLoadingTests {
+
+      @Test
+      @DisplayName("Should merge all index resources into interface entries")
+      void shouldMergeIndexResources() {
+         // When
+         TypeIndex.Index index = TypeIndex.load();
+
+         // Then
+         assertEquals(
+               List.of(MockIndexedEnum.class.getName(), "com.unrelated.pkg.OutsideImpl"),
+               index.entries().get(MockIndexedInterface.class.getName()),
+               "Expected the implementations listed in the index resource");
+         assertEquals(Set.of(MOCK_PACKAGE), index.packages(),
+               "Expected the covered packages listed in the index resource");
+         assertFalse(index.entries().containsKey(TypeIndex.PACKAGES_KEY),
+               "Expected the package list not to be treated as an interface");
+      }
+
+
+      @Test
+      @DisplayName("Should return an empty index when disabled through system property")
+      void shouldReturnEmptyIndexWhenDisabled() {
+         // Given
+         System.setProperty(INDEX_ENABLED_PROPERTY, "false");
+
+         try {
+            // When
+            TypeIndex.Index index = TypeIndex.load();
+
+            // Then
+            assertTrue(index.entries().isEmpty(), "Expected no entries when the index is disabled");
+         } finally {
+            System.clearProperty(INDEX_ENABLED_PROPERTY);
+         }
+      }
+
+   }
+
+}
@@ -0,0 +1,7 @@
+package com.theairebellion.zeus.util.reflections.mock;
+
+import com.theairebellion.zeus.util.reflections.index.IndexedType;
+
+@IndexedType
+public interface MockBrokenIndexedInterface {
+}
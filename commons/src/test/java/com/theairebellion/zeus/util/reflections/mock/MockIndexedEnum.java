@@ -0,0 +1,5 @@
+package com.theairebellion.zeus.util.reflections.mock;
+
+public enum MockIndexedEnum implements MockIndexedInterface {
+   INDEXED_VALUE
+}
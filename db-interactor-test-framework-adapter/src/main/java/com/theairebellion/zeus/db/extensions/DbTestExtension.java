@@ -3,6 +3,7 @@ package com.theairebellion.zeus.db.extensions;
 import com.theairebellion.zeus.db.connector.BaseDbConnectorService;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Component;
@@ -11,7 +12,8 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 /**
  * JUnit 5 extension for managing database connections in tests.
  *
- * <p>This extension ensures that all database connections are properly closed
+ * <p>This extension returns the connections bound to the test thread to their pools
+ * after each test and ensures that all database connections are properly closed
  * after all tests have been executed. It integrates with Spring's application
  * context to retrieve and manage database connections.
  *
@@ -19,7 +21,17 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
  */
 @Order(Integer.MAX_VALUE)
 @Component
-public class DbTestExtension implements AfterAllCallback {
+public class DbTestExtension implements AfterEachCallback, AfterAllCallback {
+
+   /**
+    * Returns the connections bound to the test thread to their pools after each test execution.
+    *
+    * @param context The JUnit extension context.
+    */
+   @Override
+   public void afterEach(ExtensionContext context) {
+      connectorService(context).releaseThreadConnections();
+   }
 
    /**
     * Closes all active database connections after all test executions.
@@ -31,8 +43,11 @@ public class DbTestExtension implements AfterAllCallback {
     */
    @Override
    public void afterAll(ExtensionContext context) {
+      connectorService(context).closeConnections();
+   }
+
+   private static BaseDbConnectorService connectorService(ExtensionContext context) {
       ApplicationContext appCtx = SpringExtension.getApplicationContext(context);
-      BaseDbConnectorService baseDbConnectorService = appCtx.getBean(BaseDbConnectorService.class);
-      baseDbConnectorService.closeConnections();
+      return appCtx.getBean(BaseDbConnectorService.class);
    }
 }
@@ -1,6 +1,7 @@
 package com.theairebellion.zeus.db.hooks;
 
 import com.theairebellion.zeus.db.service.DatabaseService;
+import com.theairebellion.zeus.util.reflections.index.IndexedType;
 import java.util.Map;
 import org.apache.logging.log4j.util.TriConsumer;
 
@@ -18,6 +19,7 @@ import org.apache.logging.log4j.util.TriConsumer;
  * @param <T> the enum type used to identify hook implementations
  * @author Cyborg Code Syndicate 💍👨💻
  */
+@IndexedType
 public interface DbHookFlow<T extends Enum<T>> {
 
    /**
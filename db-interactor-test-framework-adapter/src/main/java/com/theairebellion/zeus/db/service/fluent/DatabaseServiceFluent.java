@@ -7,6 +7,7 @@ import com.theairebellion.zeus.framework.annotation.TestService;
 import com.theairebellion.zeus.framework.base.ClassLevelHook;
 import com.theairebellion.zeus.framework.chain.FluentService;
 import com.theairebellion.zeus.framework.retry.RetryCondition;
+import com.theairebellion.zeus.util.reflections.BackoffStrategy;
 import com.theairebellion.zeus.validator.core.Assertion;
 import com.theairebellion.zeus.validator.core.AssertionResult;
 import java.time.Duration;
@@ -128,6 +129,33 @@ public class DatabaseServiceFluent extends FluentService implements ClassLevelHo
       return (DatabaseServiceFluent) super.retryUntil(retryCondition, maxWait, retryInterval, databaseService);
    }
 
+   /**
+    * Retries a database operation until the specified condition is met, pacing attempts with a backoff strategy.
+    *
+    * @param retryCondition The retry condition to evaluate.
+    * @param maxWait        The maximum duration to wait.
+    * @param backoff        The strategy determining the delay between attempts.
+    * @param <T>            The type used in the retry condition.
+    * @return The current {@code DatabaseServiceFluent} instance for method chaining.
+    */
+   public <T> DatabaseServiceFluent retryUntil(final RetryCondition<T> retryCondition, final Duration maxWait,
+         final BackoffStrategy backoff) {
+      return (DatabaseServiceFluent) super.retryUntil(retryCondition, maxWait, backoff, databaseService);
+   }
+
+   /**
+    * Polls several independent retry conditions concurrently until all of them are met.
+    *
+    * @param retryConditions The retry conditions to evaluate.
+    * @param maxWait         The maximum duration to wait for each condition.
+    * @param backoff         The strategy determining the delay between attempts.
+    * @return The current {@code DatabaseServiceFluent} instance for method chaining.
+    */
+   public DatabaseServiceFluent retryUntilAll(final List<? extends RetryCondition<?>> retryConditions,
+         final Duration maxWait, final BackoffStrategy backoff) {
+      return (DatabaseServiceFluent) super.retryUntilAll(retryConditions, maxWait, backoff, databaseService);
+   }
+
    /**
     * Retrieves the underlying database service.
     *
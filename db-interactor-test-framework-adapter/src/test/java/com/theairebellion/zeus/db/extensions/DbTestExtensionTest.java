@@ -15,6 +15,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -51,6 +52,27 @@ class DbTestExtensionTest {
       }
    }
 
+   @Test
+   @DisplayName("afterEach should release the connections bound to the test thread")
+   void afterEachShouldReleaseThreadConnections() {
+      // Given
+      DbTestExtension extension = new DbTestExtension();
+
+      when(mockApplicationContext.getBean(BaseDbConnectorService.class)).thenReturn(mockConnectorService);
+
+      // When
+      try (MockedStatic<SpringExtension> springExtensionMock = mockStatic(SpringExtension.class)) {
+         springExtensionMock.when(() -> SpringExtension.getApplicationContext(mockExtensionContext))
+               .thenReturn(mockApplicationContext);
+
+         extension.afterEach(mockExtensionContext);
+
+         // Then
+         verify(mockConnectorService).releaseThreadConnections();
+         verify(mockConnectorService, never()).closeConnections();
+      }
+   }
+
    @Test
    @DisplayName("DbTestExtension should have proper annotations")
    void testDbTestExtensionAnnotations() {
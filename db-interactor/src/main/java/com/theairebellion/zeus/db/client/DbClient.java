@@ -1,6 +1,9 @@
 package com.theairebellion.zeus.db.client;
 
+import com.theairebellion.zeus.db.query.BoundQuery;
 import com.theairebellion.zeus.db.query.QueryResponse;
+import com.theairebellion.zeus.db.query.RowConsumer;
+import java.util.Map;
 
 /**
  * Defines a contract for executing database queries.
@@ -19,4 +22,38 @@ public interface DbClient {
     * @return The response containing query results.
     */
    QueryResponse executeQuery(String query);
+
+   /**
+    * Executes the given SQL with its bind parameters and returns the query response.
+    *
+    * <p>The default implementation inlines the values as SQL literals with {@link BoundQuery#inline()} and
+    * calls {@link #executeQuery(String)}. Clients that support prepared statements should override it.
+    *
+    * @param query The SQL and the values of its {@code ?} parameters.
+    * @return The response containing query results.
+    */
+   default QueryResponse executeQuery(BoundQuery query) {
+      return executeQuery(query.parameters().isEmpty() ? query.sql() : query.inline());
+   }
+
+   /**
+    * Executes the given SQL and passes the result rows to the consumer as they are read, without
+    * collecting them.
+    *
+    * <p>The default implementation runs {@link #executeQuery(BoundQuery)} and passes the collected rows to the
+    * consumer, ignoring the fetch size. Clients that can read rows incrementally should override it.
+    *
+    * @param query     The SQL and the values of its {@code ?} parameters.
+    * @param fetchSize The number of rows the driver fetches per round trip.
+    * @param consumer  Receives every row of the result.
+    * @return The number of rows streamed.
+    */
+   default long streamQuery(BoundQuery query, int fetchSize, RowConsumer consumer) {
+      long count = 0;
+      for (Map<String, Object> row : executeQuery(query).getRows()) {
+         consumer.accept(row);
+         count++;
+      }
+      return count;
+   }
 }
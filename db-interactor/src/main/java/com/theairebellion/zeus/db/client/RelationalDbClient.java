@@ -4,16 +4,20 @@ import com.theairebellion.zeus.db.config.DatabaseConfiguration;
 import com.theairebellion.zeus.db.connector.BaseDbConnectorService;
 import com.theairebellion.zeus.db.exceptions.DatabaseOperationException;
 import com.theairebellion.zeus.db.log.LogDb;
+import com.theairebellion.zeus.db.query.BoundQuery;
+import com.theairebellion.zeus.db.query.ColumnarRows;
 import com.theairebellion.zeus.db.query.QueryResponse;
+import com.theairebellion.zeus.db.query.RowConsumer;
+import com.theairebellion.zeus.logging.LogCore;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -44,14 +48,17 @@ public class RelationalDbClient implements DbClient {
    /**
     * Executes a SQL query and processes the result.
     *
+    * <p>A connection is leased from the connection pool for the duration of the call and returned afterwards.
+    * The query is sent as plain text and bypasses the connection's statement cache, since queries with inlined
+    * values rarely repeat.
+    *
     * @param query The SQL query to execute.
     * @return The {@code QueryResponse} containing the query results.
     * @throws DatabaseOperationException If the query execution fails.
     */
    @Override
    public QueryResponse executeQuery(String query) {
-      try {
-         Connection connection = connector.getConnection(dbConfig);
+      try (Connection connection = connector.leaseConnection(dbConfig)) {
          LogDb.info("Obtained database connection for: {}", dbConfig.getDatabase());
          return executeAndProcessQuery(connection, query);
       } catch (SQLException e) {
@@ -59,35 +66,150 @@ public class RelationalDbClient implements DbClient {
       }
    }
 
+   /**
+    * Executes SQL with bind parameters and processes the result.
+    *
+    * <p>The statement is prepared on a leased connection, so it is taken from the connection's statement cache
+    * when the same SQL ran on it before.
+    *
+    * @param query The SQL and the values of its {@code ?} parameters.
+    * @return The {@code QueryResponse} containing the query results.
+    * @throws DatabaseOperationException If the query execution fails.
+    */
+   @Override
+   public QueryResponse executeQuery(BoundQuery query) {
+      String sql = query.sql();
+      try (Connection connection = connector.leaseConnection(dbConfig)) {
+         LogDb.info("Obtained database connection for: {}", dbConfig.getDatabase());
+         printQuery(sql);
+         if (LogCore.isExtendedEnabled()) {
+            LogDb.extended("Query parameters: {}", query.parameters());
+         }
+         long startTime = System.currentTimeMillis();
+
+         try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            bindParameters(preparedStatement, query.parameters());
+            if (isSelect(sql)) {
+               try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                  return selectResponse(sql, readRows(resultSet), startTime);
+               }
+            }
+            return updateResponse(sql, preparedStatement.executeUpdate(), startTime);
+         }
+      } catch (SQLException e) {
+         throw new DatabaseOperationException("Error executing query: " + sql, e);
+      }
+   }
+
+   /**
+    * Executes a SELECT and passes its rows to the consumer while the result set is read.
+    *
+    * <p>Auto-commit is switched off for the call, since some drivers only honour the fetch size inside a
+    * transaction; the connection pool rolls back and restores auto-commit when the connection is returned.
+    * The statement is prepared outside the pool's statement cache, so its fetch size does not carry over to
+    * later queries with the same SQL.
+    *
+    * @param query     The SQL and the values of its {@code ?} parameters.
+    * @param fetchSize The number of rows the driver fetches per round trip.
+    * @param consumer  Receives every row of the result.
+    * @return The number of rows streamed.
+    * @throws DatabaseOperationException If the query execution fails.
+    */
+   @Override
+   public long streamQuery(BoundQuery query, int fetchSize, RowConsumer consumer) {
+      String sql = query.sql();
+      try (Connection connection = connector.leaseConnection(dbConfig)) {
+         LogDb.info("Obtained database connection for: {}", dbConfig.getDatabase());
+         printQuery(sql);
+         long startTime = System.currentTimeMillis();
+         connection.setAutoCommit(false);
+
+         long count = 0;
+         try (PreparedStatement preparedStatement = connection.prepareStatement(
+               sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            bindParameters(preparedStatement, query.parameters());
+            preparedStatement.setFetchSize(fetchSize);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+               ResultSetMetaData metaData = resultSet.getMetaData();
+               ColumnarRows schema = new ColumnarRows(columnNames(metaData));
+               int columnCount = metaData.getColumnCount();
+               while (resultSet.next()) {
+                  consumer.accept(schema.view(readRow(resultSet, columnCount)));
+                  count++;
+               }
+            }
+         }
+
+         long duration = System.currentTimeMillis() - startTime;
+         LogDb.step("Query '{}' streamed in {}ms, result count: {}", sql, duration, count);
+         return count;
+      } catch (SQLException e) {
+         throw new DatabaseOperationException("Error streaming query: " + sql, e);
+      }
+   }
+
    private QueryResponse executeAndProcessQuery(Connection connection, String query) throws SQLException {
       printQuery(query);
       long startTime = System.currentTimeMillis();
 
-      if (query.trim().toLowerCase().startsWith("select")) {
+      if (isSelect(query)) {
          return executeSelectQuery(connection, query, startTime);
       } else {
          return executeUpdateQuery(connection, query, startTime);
       }
    }
 
+   private boolean isSelect(String query) {
+      return query.trim().toLowerCase().startsWith("select");
+   }
+
+   private void bindParameters(PreparedStatement preparedStatement, List<Object> parameters) throws SQLException {
+      for (int i = 0; i < parameters.size(); i++) {
+         Object value = parameters.get(i);
+         if (value == null) {
+            preparedStatement.setNull(i + 1, Types.NULL);
+         } else {
+            preparedStatement.setObject(i + 1, value);
+         }
+      }
+   }
+
    private QueryResponse executeSelectQuery(Connection connection, String query, long startTime) throws SQLException {
-      List<Map<String, Object>> resultList = new ArrayList<>();
+      try (Statement statement = connection.createStatement();
+           ResultSet resultSet = statement.executeQuery(query)) {
+         return selectResponse(query, readRows(resultSet), startTime);
+      }
+   }
 
-      try (PreparedStatement preparedStatement = connection.prepareStatement(query);
-           ResultSet resultSet = preparedStatement.executeQuery()) {
+   private List<Map<String, Object>> readRows(ResultSet resultSet) throws SQLException {
+      ResultSetMetaData metaData = resultSet.getMetaData();
+      ColumnarRows resultList = new ColumnarRows(columnNames(metaData));
+      int columnCount = metaData.getColumnCount();
 
-         ResultSetMetaData metaData = resultSet.getMetaData();
-         int columnCount = metaData.getColumnCount();
+      while (resultSet.next()) {
+         resultList.addRow(readRow(resultSet, columnCount));
+      }
+      return resultList;
+   }
 
-         while (resultSet.next()) {
-            Map<String, Object> row = new HashMap<>();
-            for (int i = 1; i <= columnCount; i++) {
-               row.put(metaData.getColumnName(i), resultSet.getObject(i));
-            }
-            resultList.add(row);
-         }
+   private List<String> columnNames(ResultSetMetaData metaData) throws SQLException {
+      int columnCount = metaData.getColumnCount();
+      List<String> columnNames = new ArrayList<>(columnCount);
+      for (int i = 1; i <= columnCount; i++) {
+         columnNames.add(metaData.getColumnName(i));
+      }
+      return columnNames;
+   }
+
+   private Object[] readRow(ResultSet resultSet, int columnCount) throws SQLException {
+      Object[] row = new Object[columnCount];
+      for (int i = 1; i <= columnCount; i++) {
+         row[i - 1] = resultSet.getObject(i);
       }
+      return row;
+   }
 
+   private QueryResponse selectResponse(String query, List<Map<String, Object>> resultList, long startTime) {
       long duration = System.currentTimeMillis() - startTime;
       QueryResponse response = new QueryResponse(resultList);
       printResponse(query, response, duration);
@@ -100,8 +222,12 @@ public class RelationalDbClient implements DbClient {
    }
 
    private QueryResponse executeUpdateQuery(Connection connection, String query, long startTime) throws SQLException {
+      return updateResponse(query, executeUpdate(connection, query), startTime);
+   }
+
+   private QueryResponse updateResponse(String query, int updatedRows, long startTime) {
       List<Map<String, Object>> resultList = Collections.singletonList(
-            Collections.singletonMap("updatedRows", executeUpdate(connection, query))
+            Collections.singletonMap("updatedRows", updatedRows)
       );
 
       long duration = System.currentTimeMillis() - startTime;
@@ -138,7 +264,9 @@ public class RelationalDbClient implements DbClient {
     */
    protected void printResponse(String query, QueryResponse response, long duration) {
       LogDb.step("Query '{}' executed in {}ms, result count: {}", query, duration, response.getRows().size());
-      LogDb.extended("Query response data: {}", response.getRows());
+      if (LogCore.isExtendedEnabled()) {
+         LogDb.extended("Query response data: {}", response.getRows());
+      }
    }
 
 }
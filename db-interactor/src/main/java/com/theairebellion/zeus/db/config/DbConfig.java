@@ -92,4 +92,98 @@ public interface DbConfig extends PropertyConfig {
    @Key("db.full.connection.string")
    String fullConnectionString();
 
+   /**
+    * Retrieves the maximum number of pooled connections per database URL.
+    *
+    * <p>Default: {@code 10}
+    *
+    * @return the maximum number of open connections to one database
+    */
+   @DefaultValue("10")
+   @Key("db.pool.max.size")
+   int poolMaxSize();
+
+   /**
+    * Retrieves how long a caller waits for a free pooled connection before failing.
+    *
+    * <p>Default: {@code 30000}
+    *
+    * @return the borrow timeout in milliseconds
+    */
+   @DefaultValue("30000")
+   @Key("db.pool.borrow.timeout.ms")
+   long poolBorrowTimeoutMs();
+
+   /**
+    * Retrieves how long a pooled connection may stay unused before it is closed.
+    *
+    * <p>Default: {@code 600000}
+    *
+    * @return the idle timeout in milliseconds
+    */
+   @DefaultValue("600000")
+   @Key("db.pool.idle.timeout.ms")
+   long poolIdleTimeoutMs();
+
+   /**
+    * Retrieves the maximum lifetime of a pooled connection; older connections are closed when they are
+    * returned to the pool.
+    *
+    * <p>Default: {@code 1800000}
+    *
+    * @return the maximum connection lifetime in milliseconds
+    */
+   @DefaultValue("1800000")
+   @Key("db.pool.max.lifetime.ms")
+   long poolMaxLifetimeMs();
+
+   /**
+    * Retrieves how long {@link java.sql.Connection#isValid(int)} may take when an idle connection is
+    * validated before it is handed out.
+    *
+    * <p>Default: {@code 5}
+    *
+    * @return the validation timeout in seconds
+    */
+   @DefaultValue("5")
+   @Key("db.pool.validation.timeout.seconds")
+   int poolValidationTimeoutSeconds();
+
+   /**
+    * Retrieves how long after its return an idle connection is handed out again without validation.
+    *
+    * <p>A connection that was in use moments ago is almost certainly still alive, so it is only checked for
+    * being closed instead of paying a {@link java.sql.Connection#isValid(int)} round trip.
+    *
+    * <p>Default: {@code 500}
+    *
+    * @return the validation skip window in milliseconds
+    */
+   @DefaultValue("500")
+   @Key("db.pool.validation.skip.window.ms")
+   long poolValidationSkipWindowMs();
+
+   /**
+    * Retrieves how many prepared statements are cached per pooled connection, keyed by their SQL.
+    * A value of {@code 0} disables the statement cache.
+    *
+    * <p>Default: {@code 50}
+    *
+    * @return the statement cache size per connection
+    */
+   @DefaultValue("50")
+   @Key("db.pool.statement.cache.size")
+   int poolStatementCacheSize();
+
+   /**
+    * Retrieves how many rows the driver fetches per round trip when a query result is streamed.
+    *
+    * <p>Default: {@code 1000}
+    *
+    * @return the fetch size of streamed queries
+    */
+   @DefaultValue("1000")
+   @Key("db.query.fetch.size")
+   int queryFetchSize();
+
 }
@@ -1,5 +1,7 @@
 package com.theairebellion.zeus.db.config;
 
+import com.theairebellion.zeus.util.reflections.index.IndexedType;
+
 /**
  * Defines the contract for database types.
  *
@@ -9,6 +11,7 @@ package com.theairebellion.zeus.db.config;
  *
  * @author Cyborg Code Syndicate 💍👨💻
  */
+@IndexedType
 public interface DbType<T extends Enum<T>> {
 
    /**
@@ -1,44 +1,147 @@
 package com.theairebellion.zeus.db.connector;
 
 import com.theairebellion.zeus.db.config.DatabaseConfiguration;
+import com.theairebellion.zeus.db.config.DbConfig;
 import com.theairebellion.zeus.db.config.DbType;
 import com.theairebellion.zeus.db.log.LogDb;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import org.springframework.stereotype.Component;
 
+import static com.theairebellion.zeus.db.config.DbConfigHolder.getDbConfig;
+
 /**
  * Manages database connections and driver registrations.
  *
- * <p>This service handles database connections by registering drivers,
- * creating new connections, and caching them for reuse. It supports
- * multiple database types and ensures efficient connection management.
+ * <p>This service handles database connections by registering drivers and
+ * keeping a bounded {@link JdbcConnectionPool} per connection URL. Connections are
+ * leased per operation with {@link #leaseConnection(DatabaseConfiguration)}, so
+ * parallel test threads never share a connection. Pool size and timeouts are read
+ * from the {@code db.pool.*} properties.
  *
  * @author Cyborg Code Syndicate 💍👨💻
  */
 @Component
 public class BaseDbConnectorService {
 
-   private static final Map<String, Connection> connectionMap = new ConcurrentHashMap<>();
+   private static final Map<String, JdbcConnectionPool> connectionPools = new ConcurrentHashMap<>();
    private static final Set<DbType<?>> registeredTypes = Collections.synchronizedSet(new HashSet<>());
+   private static final Map<Thread, Map<JdbcConnectionPool, Connection>> threadConnections =
+         new ConcurrentHashMap<>();
 
    /**
-    * Retrieves or creates a database connection based on the provided configuration.
+    * Retrieves the database connection bound to the calling thread, leasing one from the pool on first use.
+    *
+    * <p>The connection stays bound to the thread, holding one connection of the pool, until
+    * {@link #releaseThreadConnections()} is called on that thread, which the database test extension does
+    * after every test, or until the thread has ended and another thread calls this method.
     *
     * @param dbConfig The database configuration.
     * @return A {@link Connection} instance for the specified database.
+    * @deprecated Thread-bound connections hold a pooled connection for the whole test; use
+    *       {@link #leaseConnection(DatabaseConfiguration)} and close the connection when done.
     */
+   @Deprecated
    public Connection getConnection(DatabaseConfiguration dbConfig) {
+      JdbcConnectionPool pool = connectionPool(dbConfig);
+      releaseDeadThreadConnections();
+      Map<JdbcConnectionPool, Connection> bound =
+            threadConnections.computeIfAbsent(Thread.currentThread(), thread -> new HashMap<>());
+      bound.keySet().removeIf(JdbcConnectionPool::isClosed);
+      Connection connection = bound.get(pool);
+      if (connection == null || isClosed(connection)) {
+         connection = pool.lease();
+         bound.put(pool, connection);
+      }
+      return connection;
+   }
+
+   /**
+    * Returns the connections bound to the calling thread by {@link #getConnection(DatabaseConfiguration)} to
+    * their pools.
+    */
+   public void releaseThreadConnections() {
+      Map<JdbcConnectionPool, Connection> bound = threadConnections.remove(Thread.currentThread());
+      if (bound != null) {
+         bound.values().forEach(BaseDbConnectorService::closeQuietly);
+      }
+   }
+
+   /**
+    * Leases a connection from the pool of the configured database.
+    *
+    * <p>The caller owns the connection until it closes it, which returns it to the pool; use it in a
+    * try-with-resources statement.
+    *
+    * @param dbConfig The database configuration.
+    * @return A pooled {@link Connection} for the specified database.
+    * @throws IllegalStateException If no connection becomes free within {@code db.pool.borrow.timeout.ms} or
+    *                               a new connection cannot be established.
+    */
+   public Connection leaseConnection(DatabaseConfiguration dbConfig) {
+      return connectionPool(dbConfig).lease();
+   }
+
+   /**
+    * Retrieves or creates the connection pool of the configured database.
+    *
+    * @param dbConfig The database configuration.
+    * @return The connection pool for the connection URL of the database.
+    */
+   private JdbcConnectionPool connectionPool(DatabaseConfiguration dbConfig) {
       DbType<?> dbType = dbConfig.getDbType();
       registerDriverIfNecessary(dbType);
       String url = buildConnectionUrl(dbConfig);
-      return connectionMap.computeIfAbsent(url, u -> createConnection(u, dbConfig));
+      return connectionPools.computeIfAbsent(url, u -> createPool(u, dbConfig));
+   }
+
+   /**
+    * Creates an empty connection pool configured by the {@code db.pool.*} properties.
+    *
+    * @param url      The connection URL.
+    * @param dbConfig The database configuration containing credentials.
+    * @return A new {@link JdbcConnectionPool}.
+    */
+   private JdbcConnectionPool createPool(String url, DatabaseConfiguration dbConfig) {
+      DbConfig config = getDbConfig();
+      return new JdbcConnectionPool(url, () -> createConnection(url, dbConfig), config.poolMaxSize(),
+            Duration.ofMillis(config.poolBorrowTimeoutMs()), Duration.ofMillis(config.poolIdleTimeoutMs()),
+            Duration.ofMillis(config.poolMaxLifetimeMs()), config.poolValidationTimeoutSeconds(),
+            Duration.ofMillis(config.poolValidationSkipWindowMs()), config.poolStatementCacheSize());
+   }
+
+   private static void releaseDeadThreadConnections() {
+      threadConnections.entrySet().removeIf(entry -> {
+         if (entry.getKey().isAlive()) {
+            return false;
+         }
+         entry.getValue().values().forEach(BaseDbConnectorService::closeQuietly);
+         return true;
+      });
+   }
+
+   private static void closeQuietly(Connection connection) {
+      try {
+         connection.close();
+      } catch (SQLException e) {
+         LogDb.warn("Failed to return a thread-bound connection: {}", e.getMessage());
+      }
+   }
+
+   private static boolean isClosed(Connection connection) {
+      try {
+         return connection.isClosed();
+      } catch (SQLException e) {
+         return true;
+      }
    }
 
    /**
@@ -95,20 +198,12 @@ public class BaseDbConnectorService {
    }
 
    /**
-    * Closes all active database connections and clears cached connections.
+    * Closes all connection pools, including connections that are still leased or bound to a thread.
     */
    public void closeConnections() {
-      connectionMap.forEach((url, connection) -> {
-         try {
-            if (!connection.isClosed()) {
-               connection.close();
-               LogDb.info("Closed connection for URL: {}", url);
-            }
-         } catch (SQLException e) {
-            LogDb.warn("Failed to close connection for URL: {}", url, e);
-         }
-      });
-      connectionMap.clear();
+      connectionPools.values().forEach(JdbcConnectionPool::close);
+      connectionPools.clear();
+      threadConnections.clear();
       registeredTypes.clear();
       LogDb.info("Cleared all connections and registered types.");
    }
@@ -0,0 +1,374 @@
+package com.theairebellion.zeus.db.connector;
+
+import com.theairebellion.zeus.db.log.LogDb;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * A bounded pool of JDBC connections to one database URL.
+ *
+ * <p>Connections are leased with {@link #lease()} and returned by closing the leased {@link Connection}, which
+ * is a proxy around the physical connection. At most {@code maxSize} connections are open at a time; further
+ * callers wait up to the borrow timeout for one to be returned. An idle connection is validated with
+ * {@link Connection#isValid(int)} before it is handed out again, unless it was returned within the
+ * validation skip window. Connections idle for longer than the idle
+ * timeout, or open for longer than the maximum lifetime, are closed on the next lease or return instead of
+ * being reused; connections still leased when the lifetime ends are closed once they are returned.
+ *
+ * <p>Every pooled connection keeps a {@link StatementCache}, so {@code prepareStatement(sql)} on a leased
+ * connection reuses the statement prepared earlier for the same SQL on the same physical connection.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+final class JdbcConnectionPool implements AutoCloseable {
+
+   private final String url;
+
+   private final Supplier<Connection> connectionFactory;
+
+   private final Duration borrowTimeout;
+
+   private final Duration idleTimeout;
+
+   private final Duration maxLifetime;
+
+   private final int validationTimeoutSeconds;
+
+   private final Duration validationSkipWindow;
+
+   private final int statementCacheSize;
+
+   private final Semaphore permits;
+
+   private final Deque<PooledConnection> idle = new ArrayDeque<>();
+
+   private final Set<PooledConnection> open = ConcurrentHashMap.newKeySet();
+
+   private volatile boolean closed;
+
+
+   /**
+    * Creates an empty pool; connections are opened on demand.
+    *
+    * @param url                      The database URL, used in log and error messages.
+    * @param connectionFactory        Opens a new physical connection.
+    * @param maxSize                  The maximum number of open connections.
+    * @param borrowTimeout            How long {@link #lease()} waits for a free connection.
+    * @param idleTimeout              How long a connection may stay unused in the pool.
+    * @param maxLifetime              How long a connection may stay open.
+    * @param validationTimeoutSeconds The timeout passed to {@link Connection#isValid(int)}.
+    * @param validationSkipWindow     How long after its return a connection is reused without validation.
+    * @param statementCacheSize       The number of prepared statements cached per connection, {@code 0} to
+    *                                 disable caching.
+    */
+   JdbcConnectionPool(String url, Supplier<Connection> connectionFactory, int maxSize, Duration borrowTimeout,
+                      Duration idleTimeout, Duration maxLifetime, int validationTimeoutSeconds,
+                      Duration validationSkipWindow, int statementCacheSize) {
+      if (maxSize < 1) {
+         throw new IllegalArgumentException("The connection pool size must be at least 1.");
+      }
+      this.url = url;
+      this.connectionFactory = connectionFactory;
+      this.borrowTimeout = borrowTimeout;
+      this.idleTimeout = idleTimeout;
+      this.maxLifetime = maxLifetime;
+      this.validationTimeoutSeconds = validationTimeoutSeconds;
+      this.validationSkipWindow = validationSkipWindow;
+      this.statementCacheSize = statementCacheSize;
+      this.permits = new Semaphore(maxSize, true);
+   }
+
+
+   /**
+    * Leases a connection, reusing an idle one if it is still valid.
+    *
+    * @return A connection that is returned to the pool when it is closed.
+    * @throws IllegalStateException If the pool is closed, no connection became free within the borrow timeout,
+    *                               or a new connection cannot be opened.
+    */
+   Connection lease() {
+      ensureOpen();
+      acquirePermit();
+      try {
+         ensureOpen();
+         evictIdle();
+         PooledConnection pooled;
+         while ((pooled = pollIdle()) != null) {
+            if (isValid(pooled)) {
+               return pooled.lease();
+            }
+            discard(pooled);
+         }
+         pooled = new PooledConnection(connectionFactory.get(), System.nanoTime());
+         open.add(pooled);
+         return pooled.lease();
+      } catch (RuntimeException e) {
+         permits.release();
+         throw e;
+      }
+   }
+
+
+   /**
+    * Closes all connections, including those that are still leased, and rejects further leases.
+    */
+   @Override
+   public void close() {
+      closed = true;
+      synchronized (idle) {
+         idle.clear();
+      }
+      for (PooledConnection pooled : open) {
+         closePhysical(pooled);
+      }
+      open.clear();
+   }
+
+
+   /**
+    * Tells whether the pool has been closed.
+    *
+    * @return {@code true} if the pool is closed.
+    */
+   boolean isClosed() {
+      return closed;
+   }
+
+
+   /**
+    * Returns the number of open physical connections, leased or idle.
+    *
+    * @return The number of open connections.
+    */
+   int openConnections() {
+      return open.size();
+   }
+
+
+   /**
+    * Returns the number of idle connections.
+    *
+    * @return The number of idle connections.
+    */
+   int idleConnections() {
+      synchronized (idle) {
+         return idle.size();
+      }
+   }
+
+
+   private void release(PooledConnection pooled) {
+      try {
+         if (closed || isExpired(pooled, System.nanoTime()) || !reset(pooled)) {
+            discard(pooled);
+         } else {
+            pooled.lastUsed = System.nanoTime();
+            synchronized (idle) {
+               idle.offerFirst(pooled);
+            }
+         }
+      } finally {
+         permits.release();
+      }
+      evictIdle();
+   }
+
+
+   private void acquirePermit() {
+      try {
+         if (!permits.tryAcquire(borrowTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+            throw new IllegalStateException("Timed out after " + borrowTimeout.toMillis()
+                  + "ms waiting for a connection to URL: " + url + "; all connections are in use.");
+         }
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+         throw new IllegalStateException("Interrupted while waiting for a connection to URL: " + url, e);
+      }
+   }
+
+
+   private PooledConnection pollIdle() {
+      synchronized (idle) {
+         return idle.pollFirst();
+      }
+   }
+
+
+   private void evictIdle() {
+      long now = System.nanoTime();
+      List<PooledConnection> evicted = new ArrayList<>();
+      synchronized (idle) {
+         Iterator<PooledConnection> iterator = idle.iterator();
+         while (iterator.hasNext()) {
+            PooledConnection pooled = iterator.next();
+            if (isExpired(pooled, now) || now - pooled.lastUsed > idleTimeout.toNanos()) {
+               iterator.remove();
+               evicted.add(pooled);
+            }
+         }
+      }
+      evicted.forEach(this::discard);
+   }
+
+
+   private boolean isExpired(PooledConnection pooled, long now) {
+      return now - pooled.createdAt > maxLifetime.toNanos();
+   }
+
+
+   private boolean isValid(PooledConnection pooled) {
+      try {
+         if (System.nanoTime() - pooled.lastUsed < validationSkipWindow.toNanos()) {
+            return !pooled.physical.isClosed();
+         }
+         return pooled.physical.isValid(validationTimeoutSeconds);
+      } catch (SQLException e) {
+         return false;
+      }
+   }
+
+
+   private boolean reset(PooledConnection pooled) {
+      try {
+         if (pooled.physical.isClosed()) {
+            return false;
+         }
+         if (!pooled.physical.getAutoCommit()) {
+            pooled.physical.rollback();
+            pooled.physical.setAutoCommit(true);
+         }
+         return true;
+      } catch (SQLException e) {
+         LogDb.warn("Discarding connection for URL: {} that could not be reset: {}", url, e.getMessage());
+         return false;
+      }
+   }
+
+
+   private void discard(PooledConnection pooled) {
+      open.remove(pooled);
+      closePhysical(pooled);
+   }
+
+
+   private void closePhysical(PooledConnection pooled) {
+      try {
+         if (!pooled.physical.isClosed()) {
+            pooled.physical.close();
+            LogDb.info("Closed connection for URL: {}", url);
+         }
+      } catch (SQLException e) {
+         LogDb.warn("Failed to close connection for URL: {}", url, e);
+      }
+   }
+
+
+   private void ensureOpen() {
+      if (closed) {
+         throw new IllegalStateException("The connection pool for URL: " + url + " is closed.");
+      }
+   }
+
+
+   /**
+    * A physical connection together with its pool bookkeeping.
+    */
+   private final class PooledConnection {
+
+      private final Connection physical;
+
+      private final StatementCache statements;
+
+      private final long createdAt;
+
+      private volatile long lastUsed;
+
+
+      private PooledConnection(Connection physical, long createdAt) {
+         this.physical = physical;
+         this.statements = new StatementCache(physical, statementCacheSize);
+         this.createdAt = createdAt;
+         this.lastUsed = createdAt;
+      }
+
+
+      private Connection lease() {
+         return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+               new Class<?>[] {Connection.class}, new LeaseHandler(this));
+      }
+
+   }
+
+
+   /**
+    * Forwards calls to the physical connection until the lease is closed, which returns the connection to
+    * the pool exactly once.
+    */
+   private final class LeaseHandler implements InvocationHandler {
+
+      private final PooledConnection pooled;
+
+      private final AtomicBoolean returned = new AtomicBoolean();
+
+
+      private LeaseHandler(PooledConnection pooled) {
+         this.pooled = pooled;
+      }
+
+
+      @Override
+      public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+         switch (method.getName()) {
+            case "close" -> {
+               if (returned.compareAndSet(false, true)) {
+                  release(pooled);
+               }
+               return null;
+            }
+            case "isClosed" -> {
+               return returned.get() || pooled.physical.isClosed();
+            }
+            case "equals" -> {
+               return proxy == args[0];
+            }
+            case "hashCode" -> {
+               return System.identityHashCode(proxy);
+            }
+            case "toString" -> {
+               return "Pooled" + pooled.physical;
+            }
+            default -> {
+               if (returned.get()) {
+                  throw new SQLException("The connection has already been returned to the pool.");
+               }
+               if ("prepareStatement".equals(method.getName()) && args.length == 1) {
+                  return pooled.statements.prepare((String) args[0]);
+               }
+               try {
+                  return method.invoke(pooled.physical, args);
+               } catch (InvocationTargetException e) {
+                  throw e.getCause();
+               }
+            }
+         }
+      }
+
+   }
+
+}
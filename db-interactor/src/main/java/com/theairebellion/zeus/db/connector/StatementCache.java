@@ -0,0 +1,214 @@
+package com.theairebellion.zeus.db.connector;
+
+import com.theairebellion.zeus.db.log.LogDb;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Least recently used cache of prepared statements of one physical connection, keyed by their SQL.
+ *
+ * <p>A cached statement is handed out as a proxy; closing the proxy clears its parameters and returns the
+ * statement to the cache instead of closing it. A statement that is still in use when the same SQL is prepared
+ * again is not shared; the second caller gets an uncached statement. Instances are confined to the thread
+ * that leased the connection.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+final class StatementCache {
+
+   private final Connection connection;
+
+   private final int maxSize;
+
+   private final LinkedHashMap<String, CachedStatement> statements = new LinkedHashMap<>(16, 0.75f, true);
+
+   private long hits;
+
+   private long misses;
+
+
+   StatementCache(Connection connection, int maxSize) {
+      this.connection = connection;
+      this.maxSize = maxSize;
+   }
+
+
+   /**
+    * Returns a prepared statement for the SQL, reusing a cached one if it is not in use.
+    *
+    * @param sql The SQL of the statement.
+    * @return A statement whose {@code close()} returns it to the cache.
+    * @throws SQLException If the statement cannot be prepared.
+    */
+   synchronized PreparedStatement prepare(String sql) throws SQLException {
+      if (maxSize <= 0) {
+         return connection.prepareStatement(sql);
+      }
+      CachedStatement cached = statements.get(sql);
+      if (cached != null && !cached.inUse && !cached.statement.isClosed()) {
+         hits++;
+         return cached.checkOut();
+      }
+      if (cached != null && cached.inUse) {
+         return connection.prepareStatement(sql);
+      }
+      misses++;
+      cached = new CachedStatement(connection.prepareStatement(sql));
+      statements.put(sql, cached);
+      evictEldest();
+      return cached.checkOut();
+   }
+
+
+   /**
+    * Closes all cached statements that are not in use.
+    */
+   synchronized void clear() {
+      Iterator<CachedStatement> iterator = statements.values().iterator();
+      while (iterator.hasNext()) {
+         CachedStatement cached = iterator.next();
+         if (!cached.inUse) {
+            iterator.remove();
+            closeQuietly(cached.statement);
+         }
+      }
+   }
+
+
+   synchronized int size() {
+      return statements.size();
+   }
+
+
+   synchronized long hits() {
+      return hits;
+   }
+
+
+   synchronized long misses() {
+      return misses;
+   }
+
+
+   private void evictEldest() {
+      List<CachedStatement> evicted = new ArrayList<>();
+      Iterator<Map.Entry<String, CachedStatement>> iterator = statements.entrySet().iterator();
+      while (statements.size() - evicted.size() > maxSize && iterator.hasNext()) {
+         CachedStatement cached = iterator.next().getValue();
+         if (!cached.inUse) {
+            iterator.remove();
+            evicted.add(cached);
+         }
+      }
+      evicted.forEach(cached -> closeQuietly(cached.statement));
+   }
+
+
+   private synchronized void checkIn(CachedStatement cached) {
+      cached.inUse = false;
+      try {
+         cached.statement.clearParameters();
+      } catch (SQLException e) {
+         statements.values().remove(cached);
+         closeQuietly(cached.statement);
+      }
+   }
+
+
+   private static void closeQuietly(PreparedStatement statement) {
+      try {
+         statement.close();
+      } catch (SQLException e) {
+         LogDb.warn("Failed to close cached statement: {}", e.getMessage());
+      }
+   }
+
+
+   /**
+    * A physical prepared statement and whether it is currently handed out.
+    */
+   private final class CachedStatement {
+
+      private final PreparedStatement statement;
+
+      private boolean inUse;
+
+
+      private CachedStatement(PreparedStatement statement) {
+         this.statement = statement;
+      }
+
+
+      private PreparedStatement checkOut() {
+         inUse = true;
+         return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+               new Class<?>[] {PreparedStatement.class}, new CheckOutHandler(this));
+      }
+
+   }
+
+
+   /**
+    * Forwards calls to the cached statement until the proxy is closed, which returns the statement to the
+    * cache exactly once.
+    */
+   private final class CheckOutHandler implements InvocationHandler {
+
+      private final CachedStatement cached;
+
+      private boolean returned;
+
+
+      private CheckOutHandler(CachedStatement cached) {
+         this.cached = cached;
+      }
+
+
+      @Override
+      public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+         switch (method.getName()) {
+            case "close" -> {
+               if (!returned) {
+                  returned = true;
+                  checkIn(cached);
+               }
+               return null;
+            }
+            case "isClosed" -> {
+               return returned || cached.statement.isClosed();
+            }
+            case "equals" -> {
+               return proxy == args[0];
+            }
+            case "hashCode" -> {
+               return System.identityHashCode(proxy);
+            }
+            case "toString" -> {
+               return "Cached" + cached.statement;
+            }
+            default -> {
+               if (returned) {
+                  throw new SQLException("The statement has already been closed.");
+               }
+               try {
+                  return method.invoke(cached.statement, args);
+               } catch (InvocationTargetException e) {
+                  throw e.getCause();
+               }
+            }
+         }
+      }
+
+   }
+
+}
@@ -5,18 +5,27 @@ import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.Option;
 import com.theairebellion.zeus.db.exceptions.JsonPathExtractionException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility class for extracting values from JSON using JsonPath.
  *
  * <p>This class facilitates extracting specific values from JSON structures
  * by applying JsonPath expressions and converting the results to the desired type.
+ * Maps and lists, such as query result rows, are evaluated in place without a
+ * JSON round trip, and compiled paths are cached.
  *
  * @author Cyborg Code Syndicate 💍👨💻
  */
 public class JsonPathExtractor {
+   private static final int MAX_CACHED_PATHS = 512;
+
    private final ObjectMapper objectMapper;
+   private final ObjectTreeJsonProvider jsonProvider;
    private final Configuration jsonPathConfig;
+   private final Map<String, JsonPath> compiledPaths = new ConcurrentHashMap<>();
 
    /**
     * Constructs a {@code JsonPathExtractor} with a custom JsonPath configuration.
@@ -26,7 +35,8 @@ public class JsonPathExtractor {
     */
    public JsonPathExtractor(ObjectMapper objectMapper, Configuration jsonPathConfig) {
       this.objectMapper = objectMapper.copy();
-      this.jsonPathConfig = jsonPathConfig;
+      this.jsonProvider = new ObjectTreeJsonProvider(this.objectMapper);
+      this.jsonPathConfig = jsonPathConfig.jsonProvider(jsonProvider);
    }
 
    /**
@@ -38,7 +48,9 @@ public class JsonPathExtractor {
     */
    public JsonPathExtractor(ObjectMapper objectMapper) {
       this.objectMapper = objectMapper.copy();
+      this.jsonProvider = new ObjectTreeJsonProvider(this.objectMapper);
       this.jsonPathConfig = Configuration.builder()
+            .jsonProvider(jsonProvider)
             .options(Option.SUPPRESS_EXCEPTIONS)
             .build();
    }
@@ -54,7 +66,7 @@ public class JsonPathExtractor {
     * @throws JsonPathExtractionException If JSON conversion or extraction fails.
     */
    public <T> T extract(Object data, String jsonPath, Class<T> resultType) {
-      String json = convertToJson(data);
+      Object json = convertToJson(data);
       Object extracted = applyJsonPath(json, jsonPath);
 
       if (extracted == null) {
@@ -65,38 +77,50 @@ public class JsonPathExtractor {
    }
 
    /**
-    * Converts an object to its JSON representation.
+    * Converts an object to the JSON model JsonPath evaluates.
+    *
+    * <p>Maps and lists are used as they are; their values are normalized lazily while the path is evaluated.
     *
     * @param data The object to convert.
-    * @return The JSON string representation of the object.
+    * @return The object as a JSON scalar, {@code Map} or {@code List}.
     * @throws JsonPathExtractionException If the conversion fails.
     */
-   private String convertToJson(Object data) {
+   private Object convertToJson(Object data) {
       try {
-         return objectMapper.writeValueAsString(data);
+         return data instanceof Map || data instanceof Collection ? jsonProvider.normalize(data) :
+               objectMapper.convertValue(data, Object.class);
       } catch (Exception e) {
          throw new JsonPathExtractionException("Failed to convert object to JSON", e);
       }
    }
 
    /**
-    * Applies a JsonPath expression to extract a value from the given JSON string.
+    * Applies a JsonPath expression to extract a value from the given JSON structure.
     *
-    * @param json     The JSON string to parse.
+    * @param json     The JSON structure to evaluate.
     * @param jsonPath The JsonPath expression to apply.
     * @return The extracted value, or {@code null} if not found.
     * @throws JsonPathExtractionException If JsonPath evaluation fails.
     */
-   private Object applyJsonPath(String json, String jsonPath) {
+   private Object applyJsonPath(Object json, String jsonPath) {
       try {
-         return JsonPath.using(jsonPathConfig)
-               .parse(json)
-               .read(jsonPath);
+         return compile(jsonPath).read(json, jsonPathConfig);
       } catch (Exception e) {
          throw new JsonPathExtractionException("Failed to apply JsonPath: " + jsonPath, e);
       }
    }
 
+   private JsonPath compile(String jsonPath) {
+      JsonPath compiled = compiledPaths.get(jsonPath);
+      if (compiled == null) {
+         compiled = JsonPath.compile(jsonPath);
+         if (compiledPaths.size() < MAX_CACHED_PATHS) {
+            compiledPaths.put(jsonPath, compiled);
+         }
+      }
+      return compiled;
+   }
+
    /**
     * Converts the extracted value to the specified type.
     *
@@ -0,0 +1,160 @@
+package com.theairebellion.zeus.db.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.InvalidJsonException;
+import com.jayway.jsonpath.spi.json.AbstractJsonProvider;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JsonPath provider that evaluates paths directly against in-memory {@code Map}/{@code List} structures such
+ * as query result rows, without serializing them to a JSON string first.
+ *
+ * <p>Only the values a path actually visits are touched. Each visited value is normalized to what a JSON
+ * round trip would have produced: integral numbers become {@code Integer}, {@code Long} or
+ * {@code BigInteger}, decimals become {@code Double}, non-list collections become lists, and any other
+ * object (timestamps, UUIDs, byte arrays, beans) is converted with the {@link ObjectMapper}.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+final class ObjectTreeJsonProvider extends AbstractJsonProvider {
+
+   private static final BigInteger INT_MIN = BigInteger.valueOf(Integer.MIN_VALUE);
+
+   private static final BigInteger INT_MAX = BigInteger.valueOf(Integer.MAX_VALUE);
+
+   private static final BigInteger LONG_MIN = BigInteger.valueOf(Long.MIN_VALUE);
+
+   private static final BigInteger LONG_MAX = BigInteger.valueOf(Long.MAX_VALUE);
+
+   private final ObjectMapper objectMapper;
+
+
+   ObjectTreeJsonProvider(ObjectMapper objectMapper) {
+      this.objectMapper = objectMapper;
+   }
+
+
+   /**
+    * Normalizes a value to the JSON model JsonPath works on.
+    *
+    * @param value The value.
+    * @return The value as a JSON scalar, {@code Map} or {@code List}.
+    */
+   Object normalize(Object value) {
+      if (value == null || value instanceof String || value instanceof Boolean
+            || value instanceof Map || value instanceof List) {
+         return value;
+      }
+      if (value instanceof Integer) {
+         return value;
+      }
+      if (value instanceof Short || value instanceof Byte) {
+         return ((Number) value).intValue();
+      }
+      if (value instanceof Long longValue) {
+         return longValue == longValue.intValue() ? (Number) longValue.intValue() : longValue;
+      }
+      if (value instanceof BigInteger bigInteger) {
+         return integral(bigInteger);
+      }
+      if (value instanceof BigDecimal bigDecimal) {
+         return bigDecimal.scale() == 0 ? integral(bigDecimal.toBigInteger()) : bigDecimal.doubleValue();
+      }
+      if (value instanceof Double) {
+         return value;
+      }
+      if (value instanceof Float) {
+         return Double.valueOf(value.toString());
+      }
+      if (value instanceof Collection<?> collection) {
+         return new ArrayList<>(collection);
+      }
+      return objectMapper.convertValue(value, Object.class);
+   }
+
+
+   @Override
+   public Object getMapValue(Object obj, String key) {
+      Object value = super.getMapValue(obj, key);
+      return value == UNDEFINED ? value : normalize(value);
+   }
+
+
+   @Override
+   public Object getArrayIndex(Object obj, int idx) {
+      return normalize(super.getArrayIndex(obj, idx));
+   }
+
+
+   @Override
+   public Iterable<?> toIterable(Object obj) {
+      List<Object> values = new ArrayList<>();
+      for (Object value : super.toIterable(obj)) {
+         values.add(normalize(value));
+      }
+      return values;
+   }
+
+
+   @Override
+   public Object parse(String json) throws InvalidJsonException {
+      try {
+         return objectMapper.readValue(json, Object.class);
+      } catch (IOException e) {
+         throw new InvalidJsonException(e, json);
+      }
+   }
+
+
+   @Override
+   public Object parse(InputStream jsonStream, String charset) throws InvalidJsonException {
+      try {
+         return objectMapper.readValue(new InputStreamReader(jsonStream, charset), Object.class);
+      } catch (IOException e) {
+         throw new InvalidJsonException(e);
+      }
+   }
+
+
+   @Override
+   public String toJson(Object obj) {
+      try {
+         return objectMapper.writeValueAsString(obj);
+      } catch (IOException e) {
+         throw new InvalidJsonException(e);
+      }
+   }
+
+
+   @Override
+   public Object createArray() {
+      return new ArrayList<>();
+   }
+
+
+   @Override
+   public Object createMap() {
+      return new LinkedHashMap<String, Object>();
+   }
+
+
+   private static Number integral(BigInteger value) {
+      if (value.compareTo(INT_MIN) >= 0 && value.compareTo(INT_MAX) <= 0) {
+         return value.intValue();
+      }
+      if (value.compareTo(LONG_MIN) >= 0 && value.compareTo(LONG_MAX) <= 0) {
+         return value.longValue();
+      }
+      return value;
+   }
+
+}
@@ -0,0 +1,76 @@
+package com.theairebellion.zeus.db.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SQL with positional {@code ?} bind parameters, ready to be executed as a
+ * {@link java.sql.PreparedStatement}.
+ *
+ * <p>The SQL is not normalized: it is the query text as written, with the bound markers replaced by
+ * {@code ?}. Values are not part of the text, so executions of the same query with different values share
+ * one statement in a statement cache, while queries that differ only in whitespace do not.
+ *
+ * @param sql        The SQL with {@code ?} placeholders.
+ * @param parameters The values of the placeholders, in order.
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public record BoundQuery(String sql, List<Object> parameters) {
+
+   /**
+    * Creates a bound query; the parameters are copied.
+    *
+    * @param sql        The SQL with {@code ?} placeholders.
+    * @param parameters The values of the placeholders, in order; may contain {@code null}.
+    */
+   public BoundQuery {
+      parameters = Collections.unmodifiableList(new ArrayList<>(parameters));
+   }
+
+
+   /**
+    * Returns the SQL with every {@code ?} parameter replaced by its value as a SQL literal, for clients that
+    * can only execute plain SQL text.
+    *
+    * <p>{@code null} becomes {@code NULL}, numbers and booleans are written as they are and all other values
+    * as quoted string literals with embedded quotes doubled. Question marks inside literals, quoted
+    * identifiers and comments are left unchanged.
+    *
+    * @return The SQL with inlined values.
+    * @throws IllegalStateException If the SQL has fewer {@code ?} parameters than values.
+    */
+   public String inline() {
+      StringBuilder inlined = new StringBuilder(sql.length());
+      int parameter = 0;
+      int i = 0;
+      while (i < sql.length()) {
+         int end = SqlText.skipNonCode(sql, i);
+         if (end == i && sql.charAt(i) == '?' && parameter < parameters.size()) {
+            inlined.append(literal(parameters.get(parameter++)));
+            i++;
+         } else {
+            end = Math.max(end, i + 1);
+            inlined.append(sql, i, end);
+            i = end;
+         }
+      }
+      if (parameter < parameters.size()) {
+         throw new IllegalStateException(
+               "The SQL has " + parameter + " parameters but " + parameters.size() + " values were given: " + sql);
+      }
+      return inlined.toString();
+   }
+
+
+   private static String literal(Object value) {
+      if (value == null) {
+         return "NULL";
+      }
+      if (value instanceof Number || value instanceof Boolean) {
+         return value.toString();
+      }
+      return "'" + value.toString().replace("'", "''") + "'";
+   }
+
+}
@@ -0,0 +1,346 @@
+package com.theairebellion.zeus.db.query;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+/**
+ * Result rows that share one column index and store each row as a plain value array.
+ *
+ * <p>Rows are exposed as {@code Map} views keyed by column name, so the list can be used wherever a
+ * {@code List<Map<String, Object>>} of rows is expected, while the column names and their lookup table are
+ * kept once per result instead of once per row. When a column name occurs more than once, the last column
+ * with that name is visible, as it would be when the row was put into a {@code HashMap}.
+ *
+ * <p>Rows stay modifiable: the first change to a row, through the map itself or its entry, key and value
+ * views, copies it into its own {@code LinkedHashMap}, which replaces the value array in the list, so the
+ * change is seen by later reads of that row while unmodified rows keep sharing the column index.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+public final class ColumnarRows extends AbstractList<Map<String, Object>> implements RandomAccess {
+
+   private final String[] names;
+
+   private final int[] positions;
+
+   private final Map<String, Integer> index;
+
+   private final int width;
+
+   private final List<Object> values = new ArrayList<>();
+
+
+   /**
+    * Creates an empty result with the given columns.
+    *
+    * @param columnNames The column names, in result set order.
+    */
+   public ColumnarRows(List<String> columnNames) {
+      this.width = columnNames.size();
+      this.index = new HashMap<>();
+      for (int i = 0; i < width; i++) {
+         index.put(columnNames.get(i), i);
+      }
+      this.names = new LinkedHashSet<>(columnNames).toArray(new String[0]);
+      this.positions = new int[names.length];
+      for (int i = 0; i < names.length; i++) {
+         positions[i] = index.get(names[i]);
+      }
+   }
+
+
+   /**
+    * Appends a row.
+    *
+    * @param row The values of the row, one per column in result set order; the array is kept, not copied.
+    * @throws IllegalArgumentException If the number of values does not match the number of columns.
+    */
+   public void addRow(Object[] row) {
+      values.add(checkWidth(row));
+   }
+
+
+   /**
+    * Creates a row view over the given values without appending it, for callers that process rows one at
+    * a time.
+    *
+    * @param row The values of the row, one per column in result set order; the array is kept, not copied.
+    * @return A map of column names to values; changes to it are not kept by this list.
+    * @throws IllegalArgumentException If the number of values does not match the number of columns.
+    */
+   public Map<String, Object> view(Object[] row) {
+      return new Row(checkWidth(row), -1);
+   }
+
+
+   /**
+    * Returns the distinct column names, in result set order.
+    *
+    * @return The column names.
+    */
+   public List<String> columnNames() {
+      return List.of(names);
+   }
+
+
+   /**
+    * Returns a single value without creating a row view.
+    *
+    * @param row    The row index.
+    * @param column The column name.
+    * @return The value, or {@code null} if the value is {@code null} or the column does not exist.
+    */
+   public Object value(int row, String column) {
+      Object stored = values.get(row);
+      if (stored instanceof Object[] array) {
+         Integer position = index.get(column);
+         return position != null ? array[position] : null;
+      }
+      return ((Map<?, ?>) stored).get(column);
+   }
+
+
+   @Override
+   @SuppressWarnings("unchecked")
+   public Map<String, Object> get(int row) {
+      Object stored = values.get(row);
+      return stored instanceof Object[] array ? new Row(array, row) : (Map<String, Object>) stored;
+   }
+
+
+   @Override
+   public int size() {
+      return values.size();
+   }
+
+
+   private Object[] checkWidth(Object[] row) {
+      if (row.length != width) {
+         throw new IllegalArgumentException(
+               "Expected " + width + " values for the row but got " + row.length + ".");
+      }
+      return row;
+   }
+
+
+   /**
+    * Map view of one row over the shared column index, copied into its own map on the first change.
+    */
+   private final class Row extends AbstractMap<String, Object> {
+
+      private final Object[] row;
+
+      private final int rowIndex;
+
+      private Map<String, Object> copy;
+
+
+      private Row(Object[] row, int rowIndex) {
+         this.row = row;
+         this.rowIndex = rowIndex;
+      }
+
+
+      @Override
+      public Object get(Object key) {
+         Map<String, Object> current = copy();
+         if (current != null) {
+            return current.get(key);
+         }
+         Integer position = index.get(key);
+         return position != null ? row[position] : null;
+      }
+
+
+      @Override
+      public boolean containsKey(Object key) {
+         Map<String, Object> current = copy();
+         return current != null ? current.containsKey(key) : index.containsKey(key);
+      }
+
+
+      @Override
+      public int size() {
+         Map<String, Object> current = copy();
+         return current != null ? current.size() : names.length;
+      }
+
+
+      @Override
+      public Object put(String key, Object value) {
+         return copied().put(key, value);
+      }
+
+
+      @Override
+      public Object remove(Object key) {
+         return copied().remove(key);
+      }
+
+
+      @Override
+      public void clear() {
+         copied().clear();
+      }
+
+
+      @Override
+      public void replaceAll(BiFunction<? super String, ? super Object, ?> function) {
+         copied().replaceAll(function);
+      }
+
+
+      /**
+       * Returns a view of the entries that reads the shared row until it is copied; changing a value or
+       * removing an entry through the view copies the row first.
+       */
+      @Override
+      public Set<Entry<String, Object>> entrySet() {
+         return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+               Map<String, Object> current = copy();
+               return current != null ? current.entrySet().iterator() : new RowIterator();
+            }
+
+            @Override
+            public int size() {
+               return Row.this.size();
+            }
+         };
+      }
+
+
+      /**
+       * Iterates the columns of the shared row, switching to the copy of the row once it is changed.
+       */
+      private final class RowIterator implements Iterator<Entry<String, Object>> {
+
+         private int next;
+
+         private int last = -1;
+
+
+         @Override
+         public boolean hasNext() {
+            return next < names.length;
+         }
+
+
+         @Override
+         public Entry<String, Object> next() {
+            if (!hasNext()) {
+               throw new NoSuchElementException();
+            }
+            last = next++;
+            return new RowEntry(last);
+         }
+
+
+         @Override
+         public void remove() {
+            if (last < 0) {
+               throw new IllegalStateException();
+            }
+            copied().remove(names[last]);
+            last = -1;
+         }
+
+      }
+
+
+      /**
+       * Entry of one column; reads the copy of the row once there is one and writes through to it.
+       */
+      private final class RowEntry implements Entry<String, Object> {
+
+         private final int column;
+
+
+         private RowEntry(int column) {
+            this.column = column;
+         }
+
+
+         @Override
+         public String getKey() {
+            return names[column];
+         }
+
+
+         @Override
+         public Object getValue() {
+            Map<String, Object> current = copy();
+            return current != null ? current.get(names[column]) : row[positions[column]];
+         }
+
+
+         @Override
+         public Object setValue(Object value) {
+            return copied().put(names[column], value);
+         }
+
+
+         @Override
+         public boolean equals(Object other) {
+            return other instanceof Entry<?, ?> entry
+                  && Objects.equals(getKey(), entry.getKey())
+                  && Objects.equals(getValue(), entry.getValue());
+         }
+
+
+         @Override
+         public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+         }
+
+
+         @Override
+         public String toString() {
+            return getKey() + "=" + getValue();
+         }
+
+      }
+
+
+      /**
+       * Returns the copy of this row, adopting one made through another view of the same row.
+       */
+      @SuppressWarnings("unchecked")
+      private Map<String, Object> copy() {
+         if (copy == null && rowIndex >= 0 && values.get(rowIndex) instanceof Map<?, ?> stored) {
+            copy = (Map<String, Object>) stored;
+         }
+         return copy;
+      }
+
+
+      private Map<String, Object> copied() {
+         if (copy() == null) {
+            copy = new LinkedHashMap<>();
+            for (int i = 0; i < names.length; i++) {
+               copy.put(names[i], row[positions[i]]);
+            }
+            if (rowIndex >= 0) {
+               values.set(rowIndex, copy);
+            }
+         }
+         return copy;
+      }
+
+   }
+
+}
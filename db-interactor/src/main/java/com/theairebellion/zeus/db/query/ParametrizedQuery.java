@@ -2,14 +2,20 @@ package com.theairebellion.zeus.db.query;
 
 import com.theairebellion.zeus.db.config.DatabaseConfiguration;
 import com.theairebellion.zeus.db.log.LogDb;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.StringJoiner;
 
 /**
  * Represents a database query with dynamic parameters.
  *
  * <p>This class allows the use of placeholders in SQL queries, which can be replaced
  * with actual values at runtime. It ensures safe and structured query modification.
+ * {@code {paramName}} placeholders are expanded into the SQL text by {@link #query()};
+ * {@code :paramName} markers become bind parameters of a prepared statement through {@link #bind()}.
  *
  * @author Cyborg Code Syndicate 💍👨💻
  */
@@ -44,6 +50,46 @@ public class ParametrizedQuery<T extends Enum<T>> implements DbQuery<T> {
       return q;
    }
 
+   /**
+    * Compiles the query into SQL with positional bind parameters.
+    *
+    * <p>Binding is opt-in: only {@code :paramName} markers become {@code ?} parameters bound to their values;
+    * a {@code Collection} value expands to one parameter per element, as needed for {@code IN (:ids)}, and an
+    * empty one to a single {@code NULL}.
+    * {@code {paramName}} placeholders are expanded into the text exactly as by {@link #query()}, so they keep
+    * working for table and column names, keywords and lists. Markers inside quotes and comments, markers
+    * without a value and {@code ::} casts are left unchanged, as is all other text, including line breaks.
+    * Values are bound with {@code setObject}, so they must have the column's type: bind {@code 42}, not
+    * {@code "42"}, to an integer column.
+    *
+    * @return The bound query; without {@code :paramName} markers its SQL equals {@link #query()} and it has no
+    *       parameters.
+    */
+   public BoundQuery bind() {
+      String text = query();
+      StringBuilder sql = new StringBuilder(text.length());
+      List<Object> values = new ArrayList<>();
+      int i = 0;
+      while (i < text.length()) {
+         int end = SqlText.skipNonCode(text, i);
+         char c = text.charAt(i);
+         if (end == i && c == ':' && (i == 0 || text.charAt(i - 1) != ':') && !text.startsWith("::", i)) {
+            end = nameEnd(text, i + 1);
+            String name = text.substring(i + 1, end);
+            if (!name.isEmpty() && params.containsKey(name)) {
+               appendParameter(sql, values, params.get(name));
+            } else {
+               sql.append(text, i, end);
+            }
+         } else {
+            end = Math.max(end, i + 1);
+            sql.append(text, i, end);
+         }
+         i = end;
+      }
+      return new BoundQuery(sql.toString(), values);
+   }
+
    /**
     * Retrieves the database configuration associated with this query.
     *
@@ -83,4 +129,31 @@ public class ParametrizedQuery<T extends Enum<T>> implements DbQuery<T> {
       return copy;
    }
 
+   private static void appendParameter(StringBuilder sql, List<Object> values, Object value) {
+      if (!(value instanceof Collection<?> collection)) {
+         sql.append('?');
+         values.add(value);
+         return;
+      }
+      if (collection.isEmpty()) {
+         sql.append('?');
+         values.add(null);
+         return;
+      }
+      StringJoiner markers = new StringJoiner(", ");
+      for (Object element : collection) {
+         markers.add("?");
+         values.add(element);
+      }
+      sql.append(markers);
+   }
+
+   private static int nameEnd(String text, int start) {
+      int i = start;
+      while (i < text.length() && (Character.isLetterOrDigit(text.charAt(i)) || text.charAt(i) == '_')) {
+         i++;
+      }
+      return i;
+   }
+
 }
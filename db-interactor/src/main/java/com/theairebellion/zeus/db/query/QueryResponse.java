@@ -12,6 +12,9 @@ import lombok.ToString;
  *
  * <p>This class stores the result of a query execution, containing a list of rows where
  * each row is represented as a map of column names to their respective values.
+ * Query results read by {@code RelationalDbClient} are backed by {@link ColumnarRows}, which share one
+ * column index across all rows. The list of rows is unmodifiable, but each row can still be changed; a
+ * columnar row is copied into its own map on its first change.
  *
  * @author Cyborg Code Syndicate 💍👨💻
  */
@@ -0,0 +1,23 @@
+package com.theairebellion.zeus.db.query;
+
+import java.util.Map;
+
+/**
+ * Receives the rows of a streamed query one at a time.
+ *
+ * <p>Rows are read from the open {@link java.sql.ResultSet} while the consumer runs, so a query is processed
+ * in constant memory as long as the consumer does not keep the rows it is given.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+@FunctionalInterface
+public interface RowConsumer {
+
+   /**
+    * Processes one row.
+    *
+    * @param row The column values of the row, keyed by column name.
+    */
+   void accept(Map<String, Object> row);
+
+}
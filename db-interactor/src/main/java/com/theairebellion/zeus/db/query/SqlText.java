@@ -0,0 +1,55 @@
+package com.theairebellion.zeus.db.query;
+
+/**
+ * Scanning helpers for SQL text that tell code apart from string literals, quoted identifiers and comments.
+ *
+ * @author Cyborg Code Syndicate 💍👨💻
+ */
+final class SqlText {
+
+   private SqlText() {
+   }
+
+
+   /**
+    * Returns the end of the quoted section or comment starting at the given index.
+    *
+    * @param text  The SQL text.
+    * @param start The index to look at.
+    * @return The index after the literal, quoted identifier or comment starting at {@code start}, or
+    *       {@code start} if none starts there.
+    */
+   static int skipNonCode(String text, int start) {
+      char c = text.charAt(start);
+      if (c == '\'' || c == '"') {
+         return quoteEnd(text, start);
+      }
+      if (text.startsWith("--", start)) {
+         int end = text.indexOf('\n', start);
+         return end < 0 ? text.length() : end;
+      }
+      if (text.startsWith("/*", start)) {
+         int end = text.indexOf("*/", start + 2);
+         return end < 0 ? text.length() : end + 2;
+      }
+      return start;
+   }
+
+
+   private static int quoteEnd(String text, int start) {
+      char quote = text.charAt(start);
+      int i = start + 1;
+      while (i < text.length()) {
+         if (text.charAt(i) == quote) {
+            if (i + 1 < text.length() && text.charAt(i + 1) == quote) {
+               i += 2;
+               continue;
+            }
+            return i + 1;
+         }
+         i++;
+      }
+      return text.length();
+   }
+
+}
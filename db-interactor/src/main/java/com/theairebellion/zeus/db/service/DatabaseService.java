@@ -5,8 +5,11 @@ import com.theairebellion.zeus.db.client.DbClientManager;
 import com.theairebellion.zeus.db.config.DatabaseConfiguration;
 import com.theairebellion.zeus.db.json.JsonPathExtractor;
 import com.theairebellion.zeus.db.log.LogDb;
+import com.theairebellion.zeus.db.query.BoundQuery;
 import com.theairebellion.zeus.db.query.DbQuery;
+import com.theairebellion.zeus.db.query.ParametrizedQuery;
 import com.theairebellion.zeus.db.query.QueryResponse;
+import com.theairebellion.zeus.db.query.RowConsumer;
 import com.theairebellion.zeus.db.validator.QueryResponseValidator;
 import com.theairebellion.zeus.validator.core.Assertion;
 import com.theairebellion.zeus.validator.core.AssertionResult;
@@ -15,6 +18,8 @@ import lombok.Getter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import static com.theairebellion.zeus.db.config.DbConfigHolder.getDbConfig;
+
 /**
  * Provides services for executing and validating database queries.
  *
@@ -55,9 +60,7 @@ public class DatabaseService {
     * @return The query response containing the result set.
     */
    public QueryResponse query(DbQuery<?> query) {
-      DatabaseConfiguration dbConfig = query.config();
-      DbClient client = dbClientManager.getClient(dbConfig);
-      return client.executeQuery(query.query());
+      return execute(query);
    }
 
    /**
@@ -70,11 +73,8 @@ public class DatabaseService {
     * @return The extracted value.
     */
    public <T> T query(DbQuery<?> query, String jsonPath, Class<T> resultType) {
-      DatabaseConfiguration dbConfig = query.config();
-      DbClient client = dbClientManager.getClient(dbConfig);
-
       String sql = query.query();
-      QueryResponse queryResponse = client.executeQuery(sql);
+      QueryResponse queryResponse = execute(query);
       LogDb.step(
             "Extracting value from query result: '{}' using JSONPath expression: '{}' and casting to '{}'.",
             sql, jsonPath, resultType.getSimpleName());
@@ -82,6 +82,37 @@ public class DatabaseService {
       return jsonPathExtractor.extract(queryResponse.getRows(), jsonPath, resultType);
    }
 
+   /**
+    * Executes a query and passes its rows to the consumer as they are read, so large results are processed
+    * in constant memory.
+    *
+    * <p>The driver fetches {@code db.query.fetch.size} rows per round trip.
+    *
+    * @param query    The query to execute.
+    * @param consumer Receives every row of the result.
+    * @return The number of rows streamed.
+    */
+   public long stream(DbQuery<?> query, RowConsumer consumer) {
+      return stream(query, getDbConfig().queryFetchSize(), consumer);
+   }
+
+   /**
+    * Executes a query and passes its rows to the consumer as they are read, so large results are processed
+    * in constant memory.
+    *
+    * @param query     The query to execute.
+    * @param fetchSize The number of rows the driver fetches per round trip.
+    * @param consumer  Receives every row of the result.
+    * @return The number of rows streamed.
+    */
+   public long stream(DbQuery<?> query, int fetchSize, RowConsumer consumer) {
+      DbClient client = dbClientManager.getClient(query.config());
+      BoundQuery boundQuery = query instanceof ParametrizedQuery<?> parametrizedQuery
+            ? parametrizedQuery.bind()
+            : new BoundQuery(query.query(), List.of());
+      return client.streamQuery(boundQuery, fetchSize, consumer);
+   }
+
    /**
     * Validates a query response against a set of assertions.
     *
@@ -103,11 +134,29 @@ public class DatabaseService {
     * @return A list of assertion results indicating pass or failure.
     */
    public <T> List<AssertionResult<T>> queryAndValidate(DbQuery<?> query, Assertion... assertions) {
+      QueryResponse queryResponse = execute(query);
+      return queryResponseValidator.validateQueryResponse(queryResponse, assertions);
+   }
+
+   /**
+    * Executes a query on the client of its database.
+    *
+    * <p>A {@link ParametrizedQuery} with {@code :paramName} markers is executed with bind parameters; all other
+    * queries are executed as the text returned by {@link DbQuery#query()}.
+    *
+    * @param query The query to execute.
+    * @return The query response.
+    */
+   private QueryResponse execute(DbQuery<?> query) {
       DatabaseConfiguration dbConfig = query.config();
       DbClient client = dbClientManager.getClient(dbConfig);
-
-      QueryResponse queryResponse = client.executeQuery(query.query());
-      return queryResponseValidator.validateQueryResponse(queryResponse, assertions);
+      if (query instanceof ParametrizedQuery<?> parametrizedQuery) {
+         BoundQuery boundQuery = parametrizedQuery.bind();
+         if (!boundQuery.parameters().isEmpty()) {
+            return client.executeQuery(boundQuery);
+         }
+      }
+      return client.executeQuery(query.query());
    }
 
 }
@@ -0,0 +1,53 @@
+package com.theairebellion.zeus.db.client;
+
+import com.theairebellion.zeus.db.query.BoundQuery;
+import com.theairebellion.zeus.db.query.QueryResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class DbClientTest {
+
+   private static final QueryResponse RESPONSE = new QueryResponse(List.of());
+
+   @Test
+   @DisplayName("Default bound query execution should run the SQL with inlined values")
+   void testExecuteBoundQueryDefaultInlinesValues() {
+      // Given
+      List<String> executed = new ArrayList<>();
+      DbClient client = sql -> {
+         executed.add(sql);
+         return RESPONSE;
+      };
+
+      // When
+      QueryResponse response = client.executeQuery(
+            new BoundQuery("SELECT * FROM users WHERE name = ? AND id = ?", List.of("O'Brien", 1)));
+
+      // Then
+      assertSame(RESPONSE, response);
+      assertEquals(List.of("SELECT * FROM users WHERE name = 'O''Brien' AND id = 1"), executed);
+   }
+
+   @Test
+   @DisplayName("Default streaming should pass the executed rows to the consumer")
+   void testStreamQueryDefaultPassesExecutedRows() {
+      // Given
+      List<Map<String, Object>> rows = List.of(Map.of("id", 1), Map.of("id", 2));
+      DbClient client = sql -> new QueryResponse(rows);
+      List<Map<String, Object>> streamed = new ArrayList<>();
+
+      // When
+      long count = client.streamQuery(new BoundQuery("SELECT id FROM users", List.of()), 100, streamed::add);
+
+      // Then
+      assertEquals(2, count);
+      assertEquals(rows, streamed);
+   }
+
+}
@@ -4,6 +4,7 @@ import com.theairebellion.zeus.db.config.DatabaseConfiguration;
 import com.theairebellion.zeus.db.connector.BaseDbConnectorService;
 import com.theairebellion.zeus.db.exceptions.DatabaseOperationException;
 import com.theairebellion.zeus.db.log.LogDb;
+import com.theairebellion.zeus.db.query.BoundQuery;
 import com.theairebellion.zeus.db.query.QueryResponse;
 import java.lang.reflect.Method;
 import java.sql.Connection;
@@ -12,6 +13,11 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -32,6 +38,7 @@ import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -69,13 +76,13 @@ class RelationalDbClientTest {
       void testExecuteQuery_Select_ShouldReturnQueryResponse() throws Exception {
          // Given
          var connection = mock(Connection.class);
-         var preparedStatement = mock(PreparedStatement.class);
+         var statement = mock(Statement.class);
          var resultSet = mock(ResultSet.class);
          var metaData = mock(ResultSetMetaData.class);
 
-         when(connector.getConnection(dbConfig)).thenReturn(connection);
-         when(connection.prepareStatement(SELECT_QUERY)).thenReturn(preparedStatement);
-         when(preparedStatement.executeQuery()).thenReturn(resultSet);
+         when(connector.leaseConnection(dbConfig)).thenReturn(connection);
+         when(connection.createStatement()).thenReturn(statement);
+         when(statement.executeQuery(SELECT_QUERY)).thenReturn(resultSet);
          when(resultSet.getMetaData()).thenReturn(metaData);
          when(metaData.getColumnCount()).thenReturn(2);
          when(metaData.getColumnName(1)).thenReturn(COLUMN_ID);
@@ -96,7 +103,8 @@ class RelationalDbClientTest {
          assertEquals(TEST_USER_ID, response.getRows().get(0).get(COLUMN_ID));
          assertEquals(TEST_USER_NAME, response.getRows().get(0).get(COLUMN_NAME));
 
-         verify(connector).getConnection(dbConfig);
+         verify(connector).leaseConnection(dbConfig);
+         verify(connection, never()).prepareStatement(SELECT_QUERY);
          verify(client).printQuery(SELECT_QUERY);
          verify(client).printResponse(eq(SELECT_QUERY), any(QueryResponse.class), anyLong());
       }
@@ -106,13 +114,13 @@ class RelationalDbClientTest {
       void testExecuteQuery_Select_EmptyResultSet() throws Exception {
          // Given
          var connection = mock(Connection.class);
-         var preparedStatement = mock(PreparedStatement.class);
+         var statement = mock(Statement.class);
          var resultSet = mock(ResultSet.class);
          var metaData = mock(ResultSetMetaData.class);
 
-         when(connector.getConnection(dbConfig)).thenReturn(connection);
-         when(connection.prepareStatement(SELECT_QUERY)).thenReturn(preparedStatement);
-         when(preparedStatement.executeQuery()).thenReturn(resultSet);
+         when(connector.leaseConnection(dbConfig)).thenReturn(connection);
+         when(connection.createStatement()).thenReturn(statement);
+         when(statement.executeQuery(SELECT_QUERY)).thenReturn(resultSet);
          when(resultSet.getMetaData()).thenReturn(metaData);
          when(metaData.getColumnCount()).thenReturn(2);
          when(resultSet.next()).thenReturn(false); // No results
@@ -127,7 +135,7 @@ class RelationalDbClientTest {
          assertNotNull(response, "QueryResponse should not be null");
          assertEquals(0, response.getRows().size(), "Result set should be empty");
 
-         verify(connector).getConnection(dbConfig);
+         verify(connector).leaseConnection(dbConfig);
          verify(client).printQuery(SELECT_QUERY);
          verify(client).printResponse(eq(SELECT_QUERY), any(QueryResponse.class), anyLong());
       }
@@ -144,7 +152,7 @@ class RelationalDbClientTest {
          var connection = mock(Connection.class);
          var statement = mock(Statement.class);
 
-         when(connector.getConnection(dbConfig)).thenReturn(connection);
+         when(connector.leaseConnection(dbConfig)).thenReturn(connection);
          when(connection.createStatement()).thenReturn(statement);
          when(statement.executeUpdate(UPDATE_QUERY)).thenReturn(UPDATED_ROWS_COUNT);
 
@@ -157,7 +165,7 @@ class RelationalDbClientTest {
          assertEquals(1, response.getRows().size(), "Result should contain one row");
          assertEquals(UPDATED_ROWS_COUNT, response.getRows().get(0).get("updatedRows"));
 
-         verify(connector).getConnection(dbConfig);
+         verify(connector).leaseConnection(dbConfig);
          verify(client).printQuery(UPDATE_QUERY);
       }
 
@@ -168,7 +176,7 @@ class RelationalDbClientTest {
          var connection = mock(Connection.class);
          var statement = mock(Statement.class);
 
-         when(connector.getConnection(dbConfig)).thenReturn(connection);
+         when(connector.leaseConnection(dbConfig)).thenReturn(connection);
          when(connection.createStatement()).thenReturn(statement);
          when(statement.executeUpdate(UPDATE_QUERY)).thenReturn(0); // No rows updated
 
@@ -181,7 +189,7 @@ class RelationalDbClientTest {
          assertEquals(1, response.getRows().size(), "Result should contain one row");
          assertEquals(0, response.getRows().get(0).get("updatedRows"));
 
-         verify(connector).getConnection(dbConfig);
+         verify(connector).leaseConnection(dbConfig);
          verify(client).printQuery(UPDATE_QUERY);
       }
    }
@@ -196,7 +204,7 @@ class RelationalDbClientTest {
 
          BaseDbConnectorService errorConnector = new BaseDbConnectorService() {
             @Override
-            public Connection getConnection(DatabaseConfiguration config) {
+            public Connection leaseConnection(DatabaseConfiguration config) {
                throw new IllegalStateException("Connection failed");
             }
          };
@@ -218,11 +226,11 @@ class RelationalDbClientTest {
       void testExecuteQuery_ShouldThrowDatabaseOperationException_OnSelectQueryError() throws Exception {
          // Given
          var connection = mock(Connection.class);
-         var preparedStatement = mock(PreparedStatement.class);
+         var statement = mock(Statement.class);
 
-         when(connector.getConnection(dbConfig)).thenReturn(connection);
-         when(connection.prepareStatement(SELECT_QUERY)).thenReturn(preparedStatement);
-         when(preparedStatement.executeQuery()).thenThrow(new SQLException("Query execution error"));
+         when(connector.leaseConnection(dbConfig)).thenReturn(connection);
+         when(connection.createStatement()).thenReturn(statement);
+         when(statement.executeQuery(SELECT_QUERY)).thenThrow(new SQLException("Query execution error"));
 
          // When & Then
          doNothing().when(client).printQuery(any());
@@ -235,7 +243,7 @@ class RelationalDbClientTest {
          assertTrue(exception.getMessage().contains(EXCEPTION_MESSAGE),
                "Exception message should indicate query failure");
 
-         verify(connector).getConnection(dbConfig);
+         verify(connector).leaseConnection(dbConfig);
          verify(client).printQuery(SELECT_QUERY);
       }
 
@@ -246,7 +254,7 @@ class RelationalDbClientTest {
          var connection = mock(Connection.class);
          var statement = mock(Statement.class);
 
-         when(connector.getConnection(dbConfig)).thenReturn(connection);
+         when(connector.leaseConnection(dbConfig)).thenReturn(connection);
          when(connection.createStatement()).thenReturn(statement);
          when(statement.executeUpdate(UPDATE_QUERY)).thenThrow(new SQLException("Update execution error"));
 
@@ -261,7 +269,7 @@ class RelationalDbClientTest {
          assertTrue(exception.getMessage().contains(EXCEPTION_MESSAGE),
                "Exception message should indicate query failure");
 
-         verify(connector).getConnection(dbConfig);
+         verify(connector).leaseConnection(dbConfig);
          verify(client).printQuery(UPDATE_QUERY);
       }
    }
@@ -275,13 +283,13 @@ class RelationalDbClientTest {
       void testPrintMethods() throws Exception {
          // Given
          var connection = mock(Connection.class);
-         var preparedStatement = mock(PreparedStatement.class);
+         var statement = mock(Statement.class);
          var resultSet = mock(ResultSet.class);
          var metaData = mock(ResultSetMetaData.class);
 
-         when(connector.getConnection(dbConfig)).thenReturn(connection);
-         when(connection.prepareStatement(SELECT_QUERY)).thenReturn(preparedStatement);
-         when(preparedStatement.executeQuery()).thenReturn(resultSet);
+         when(connector.leaseConnection(dbConfig)).thenReturn(connection);
+         when(connection.createStatement()).thenReturn(statement);
+         when(statement.executeQuery(SELECT_QUERY)).thenReturn(resultSet);
          when(resultSet.getMetaData()).thenReturn(metaData);
          when(metaData.getColumnCount()).thenReturn(0);
          when(resultSet.next()).thenReturn(false);
@@ -312,6 +320,118 @@ class RelationalDbClientTest {
       }
    }
 
+   @Nested
+   @DisplayName("Bound Query Tests")
+   class BoundQueryTests {
+
+      @Test
+      @DisplayName("Should bind parameters in order and set nulls as SQL NULL")
+      void testExecuteQuery_Bound_ShouldBindParameters() throws Exception {
+         // Given
+         String sql = "SELECT * FROM users WHERE name = ? AND id = ?";
+         var connection = mock(Connection.class);
+         var preparedStatement = mock(PreparedStatement.class);
+         var resultSet = mock(ResultSet.class);
+         var metaData = mock(ResultSetMetaData.class);
+
+         when(connector.leaseConnection(dbConfig)).thenReturn(connection);
+         when(connection.prepareStatement(sql)).thenReturn(preparedStatement);
+         when(preparedStatement.executeQuery()).thenReturn(resultSet);
+         when(resultSet.getMetaData()).thenReturn(metaData);
+         when(metaData.getColumnCount()).thenReturn(1);
+         when(metaData.getColumnName(1)).thenReturn(COLUMN_NAME);
+         when(resultSet.next()).thenReturn(true, false);
+         when(resultSet.getObject(1)).thenReturn(TEST_USER_NAME);
+
+         // When
+         var response = client.executeQuery(new BoundQuery(sql, Arrays.asList(TEST_USER_NAME, null)));
+
+         // Then
+         assertEquals(TEST_USER_NAME, response.getRows().get(0).get(COLUMN_NAME));
+         verify(preparedStatement).setObject(1, TEST_USER_NAME);
+         verify(preparedStatement).setNull(2, Types.NULL);
+         verify(preparedStatement).close();
+         verify(connection).close();
+      }
+
+      @Test
+      @DisplayName("Should execute bound update statements as prepared updates")
+      void testExecuteQuery_BoundUpdate_ShouldReturnUpdatedRows() throws Exception {
+         // Given
+         String sql = "UPDATE users SET name = ? WHERE id = ?";
+         var connection = mock(Connection.class);
+         var preparedStatement = mock(PreparedStatement.class);
+
+         when(connector.leaseConnection(dbConfig)).thenReturn(connection);
+         when(connection.prepareStatement(sql)).thenReturn(preparedStatement);
+         when(preparedStatement.executeUpdate()).thenReturn(UPDATED_ROWS_COUNT);
+
+         // When
+         var response = client.executeQuery(new BoundQuery(sql, Arrays.asList(TEST_USER_NAME, TEST_USER_ID)));
+
+         // Then
+         assertEquals(UPDATED_ROWS_COUNT, response.getRows().get(0).get("updatedRows"));
+         verify(preparedStatement).setObject(1, TEST_USER_NAME);
+         verify(preparedStatement).setObject(2, TEST_USER_ID);
+      }
+   }
+
+   @Nested
+   @DisplayName("Streaming Query Tests")
+   class StreamingQueryTests {
+
+      @Test
+      @DisplayName("Should pass every row to the consumer with the requested fetch size")
+      void testStreamQuery_ShouldPassRowsToConsumer() throws Exception {
+         // Given
+         var connection = mock(Connection.class);
+         var preparedStatement = mock(PreparedStatement.class);
+         var resultSet = mock(ResultSet.class);
+         var metaData = mock(ResultSetMetaData.class);
+         List<Map<String, Object>> rows = new ArrayList<>();
+
+         when(connector.leaseConnection(dbConfig)).thenReturn(connection);
+         when(connection.prepareStatement(SELECT_QUERY, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY))
+               .thenReturn(preparedStatement);
+         when(preparedStatement.executeQuery()).thenReturn(resultSet);
+         when(resultSet.getMetaData()).thenReturn(metaData);
+         when(metaData.getColumnCount()).thenReturn(1);
+         when(metaData.getColumnName(1)).thenReturn(COLUMN_ID);
+         when(resultSet.next()).thenReturn(true, true, false);
+         when(resultSet.getObject(1)).thenReturn(TEST_USER_ID, TEST_USER_ID + 1);
+
+         // When
+         long count = client.streamQuery(new BoundQuery(SELECT_QUERY, List.of()), 500, rows::add);
+
+         // Then
+         assertEquals(2, count);
+         assertEquals(List.of(Map.of(COLUMN_ID, TEST_USER_ID), Map.of(COLUMN_ID, TEST_USER_ID + 1)), rows);
+         verify(connection).setAutoCommit(false);
+         verify(preparedStatement).setFetchSize(500);
+         verify(connection, never()).prepareStatement(SELECT_QUERY);
+         verify(resultSet).close();
+         verify(connection).close();
+      }
+
+      @Test
+      @DisplayName("Should wrap SQL exceptions while streaming")
+      void testStreamQuery_ShouldWrapSqlException() throws Exception {
+         // Given
+         var connection = mock(Connection.class);
+
+         when(connector.leaseConnection(dbConfig)).thenReturn(connection);
+         when(connection.prepareStatement(SELECT_QUERY, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY))
+               .thenThrow(new SQLException("Streaming error"));
+
+         // When / Then
+         var exception = assertThrows(DatabaseOperationException.class,
+               () -> client.streamQuery(new BoundQuery(SELECT_QUERY, List.of()), 500, row -> {
+               }));
+         assertTrue(exception.getMessage().contains(SELECT_QUERY));
+         verify(connection).close();
+      }
+   }
+
    @Nested
    @DisplayName("Slow-Query Warning Tests")
    class SlowQueryWarningTests {
@@ -319,14 +439,14 @@ class RelationalDbClientTest {
       @Test
       @DisplayName("executeSelectQuery should log a warning when duration > 1000ms")
       void selectQuery_slowness_triggersWarning() throws Exception {
-         // 1) Prepare a fake Connection/PreparedStatement/ResultSet chain:
+         // 1) Prepare a fake Connection/Statement/ResultSet chain:
          Connection connection = mock(Connection.class);
-         PreparedStatement ps = mock(PreparedStatement.class);
+         Statement statement = mock(Statement.class);
          ResultSet rs = mock(ResultSet.class);
          ResultSetMetaData meta = mock(ResultSetMetaData.class);
 
-         when(connection.prepareStatement(SELECT_QUERY)).thenReturn(ps);
-         when(ps.executeQuery()).thenReturn(rs);
+         when(connection.createStatement()).thenReturn(statement);
+         when(statement.executeQuery(SELECT_QUERY)).thenReturn(rs);
          when(rs.getMetaData()).thenReturn(meta);
          when(meta.getColumnCount()).thenReturn(0);
          when(rs.next()).thenReturn(false);
@@ -43,6 +43,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
+@SuppressWarnings("deprecation")
 class BaseDbConnectorServiceTest {
 
    private static final String HOST = "localhost";
@@ -0,0 +1,383 @@
+package com.theairebellion.zeus.db.connector;
+
+import com.theairebellion.zeus.db.config.DatabaseConfiguration;
+import com.theairebellion.zeus.db.config.DbType;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("JdbcConnectionPool Tests")
+class JdbcConnectionPoolTest {
+
+   private static final String URL = "jdbc:h2:mem:pool_test;DB_CLOSE_DELAY=-1";
+
+   private final AtomicInteger created = new AtomicInteger();
+
+   private JdbcConnectionPool pool;
+
+   @AfterEach
+   void tearDown() {
+      if (pool != null) {
+         pool.close();
+      }
+   }
+
+   @Nested
+   @DisplayName("Leasing Tests")
+   class LeasingTests {
+
+      @Test
+      @DisplayName("Concurrent leases should never open more than the maximum number of connections")
+      void shouldStayWithinBoundsUnderConcurrentLoad() throws Exception {
+         // Given
+         pool = pool(4, Duration.ofSeconds(10), Duration.ofMinutes(10));
+         ExecutorService executor = Executors.newFixedThreadPool(16);
+         AtomicInteger maxOpen = new AtomicInteger();
+
+         // When
+         List<Future<Integer>> results = new ArrayList<>();
+         for (int i = 0; i < 400; i++) {
+            results.add(executor.submit(() -> {
+               try (Connection connection = pool.lease();
+                    Statement statement = connection.createStatement();
+                    ResultSet resultSet = statement.executeQuery("SELECT 1")) {
+                  maxOpen.accumulateAndGet(pool.openConnections(), Math::max);
+                  resultSet.next();
+                  return resultSet.getInt(1);
+               }
+            }));
+         }
+         int sum = 0;
+         for (Future<Integer> result : results) {
+            sum += result.get();
+         }
+         executor.shutdown();
+
+         // Then
+         assertEquals(400, sum);
+         assertTrue(maxOpen.get() <= 4, "At most 4 connections should be open, was " + maxOpen.get());
+         assertTrue(created.get() <= 4, "At most 4 connections should be created, was " + created.get());
+         assertEquals(pool.openConnections(), pool.idleConnections());
+      }
+
+      @Test
+      @DisplayName("A returned connection should be reused by the next lease")
+      void shouldReuseReturnedConnection() throws SQLException {
+         // Given
+         pool = pool(2, Duration.ofSeconds(1), Duration.ofMinutes(10));
+         Connection first = pool.lease();
+         Connection physical = first.unwrap(Connection.class);
+         first.close();
+
+         // When
+         try (Connection second = pool.lease()) {
+            // Then
+            assertSame(physical, second.unwrap(Connection.class));
+            assertEquals(1, created.get());
+         }
+      }
+
+      @Test
+      @DisplayName("A closed lease should reject further use and return only once")
+      void shouldRejectUseAfterReturn() throws SQLException {
+         // Given
+         pool = pool(1, Duration.ofSeconds(1), Duration.ofMinutes(10));
+         Connection connection = pool.lease();
+
+         // When
+         connection.close();
+         connection.close();
+
+         // Then
+         assertTrue(connection.isClosed());
+         assertThrows(SQLException.class, connection::createStatement);
+         assertEquals(1, pool.idleConnections());
+      }
+
+      @Test
+      @DisplayName("Leasing should time out when all connections are in use")
+      void shouldTimeOutWhenExhausted() throws SQLException {
+         // Given
+         pool = pool(1, Duration.ofMillis(50), Duration.ofMinutes(10));
+
+         try (Connection ignored = pool.lease()) {
+            // When
+            IllegalStateException exception = assertThrows(IllegalStateException.class, pool::lease);
+
+            // Then
+            assertTrue(exception.getMessage().contains("Timed out"));
+         }
+      }
+   }
+
+   @Nested
+   @DisplayName("Statement Cache Tests")
+   class StatementCacheTests {
+
+      @Test
+      @DisplayName("Preparing the same SQL again should reuse the cached statement of the connection")
+      void shouldReuseCachedStatement() throws SQLException {
+         // Given
+         pool = pool(1, Duration.ofSeconds(1), Duration.ofMinutes(10));
+         PreparedStatement physical;
+         try (Connection connection = pool.lease();
+              PreparedStatement statement = connection.prepareStatement("SELECT ?")) {
+            statement.setInt(1, 1);
+            statement.executeQuery().close();
+            physical = statement.unwrap(PreparedStatement.class);
+         }
+
+         // When
+         try (Connection connection = pool.lease();
+              PreparedStatement statement = connection.prepareStatement("SELECT ?")) {
+            // Then
+            assertSame(physical, statement.unwrap(PreparedStatement.class));
+            statement.setInt(1, 2);
+            try (ResultSet resultSet = statement.executeQuery()) {
+               resultSet.next();
+               assertEquals(2, resultSet.getInt(1));
+            }
+         }
+      }
+
+      @Test
+      @DisplayName("A statement still in use should not be shared")
+      void shouldNotShareStatementInUse() throws SQLException {
+         // Given
+         pool = pool(1, Duration.ofSeconds(1), Duration.ofMinutes(10));
+
+         try (Connection connection = pool.lease();
+              PreparedStatement first = connection.prepareStatement("SELECT 1");
+              PreparedStatement second = connection.prepareStatement("SELECT 1")) {
+            // Then
+            assertNotSame(first.unwrap(PreparedStatement.class), second.unwrap(PreparedStatement.class));
+         }
+      }
+   }
+
+   @Nested
+   @DisplayName("Eviction Tests")
+   class EvictionTests {
+
+      @Test
+      @DisplayName("An idle connection that is no longer valid should be replaced on borrow")
+      void shouldValidateOnBorrow() throws SQLException {
+         // Given
+         pool = pool(2, Duration.ofSeconds(1), Duration.ofMinutes(10));
+         Connection first = pool.lease();
+         Connection physical = first.unwrap(Connection.class);
+         first.close();
+         physical.close();
+
+         // When
+         try (Connection second = pool.lease()) {
+            // Then
+            assertNotSame(physical, second.unwrap(Connection.class));
+            assertEquals(2, created.get());
+            assertEquals(1, pool.openConnections());
+         }
+      }
+
+      @Test
+      @DisplayName("Connections past their maximum lifetime should be closed when returned")
+      void shouldCloseExpiredConnections() throws SQLException {
+         // Given
+         pool = pool(2, Duration.ofSeconds(1), Duration.ZERO);
+         Connection connection = pool.lease();
+         Connection physical = connection.unwrap(Connection.class);
+
+         // When
+         connection.close();
+
+         // Then
+         assertTrue(physical.isClosed());
+         assertEquals(0, pool.openConnections());
+      }
+
+      @Test
+      @DisplayName("Closing the pool should close leased connections and reject new leases")
+      void shouldCloseLeasedConnectionsOnClose() throws SQLException {
+         // Given
+         pool = pool(2, Duration.ofSeconds(1), Duration.ofMinutes(10));
+         Connection connection = pool.lease();
+
+         // When
+         pool.close();
+
+         // Then
+         assertTrue(connection.isClosed());
+         assertThrows(IllegalStateException.class, pool::lease);
+      }
+
+      @Test
+      @DisplayName("A connection returned within the skip window should be reused without validation")
+      void shouldSkipValidationWithinWindow() throws SQLException {
+         // Given
+         Connection physical = mock(Connection.class);
+         when(physical.getAutoCommit()).thenReturn(true);
+         pool = pool(physical, Duration.ofMinutes(1));
+         pool.lease().close();
+
+         // When
+         pool.lease().close();
+
+         // Then
+         verify(physical, never()).isValid(anyInt());
+         assertEquals(1, pool.openConnections());
+      }
+
+      @Test
+      @DisplayName("A connection returned outside the skip window should be validated on borrow")
+      void shouldValidateOutsideWindow() throws SQLException {
+         // Given
+         Connection physical = mock(Connection.class);
+         when(physical.getAutoCommit()).thenReturn(true);
+         when(physical.isValid(anyInt())).thenReturn(true);
+         pool = pool(physical, Duration.ZERO);
+         pool.lease().close();
+
+         // When
+         pool.lease().close();
+
+         // Then
+         verify(physical).isValid(1);
+         assertEquals(1, pool.openConnections());
+      }
+   }
+
+   @Nested
+   @DisplayName("Connector Tests")
+   @SuppressWarnings("deprecation")
+   class ConnectorTests {
+
+      private final BaseDbConnectorService connector = new BaseDbConnectorService();
+
+      @AfterEach
+      void closeConnector() {
+         connector.closeConnections();
+      }
+
+      @Test
+      @DisplayName("getConnection should bind one connection per thread")
+      void shouldBindConnectionPerThread() throws Exception {
+         // Given
+         DatabaseConfiguration config = h2Configuration();
+         Connection mine = connector.getConnection(config);
+
+         // When
+         ExecutorService executor = Executors.newSingleThreadExecutor();
+         Connection other = executor.submit(() -> connector.getConnection(config)).get();
+         executor.shutdown();
+
+         // Then
+         assertSame(mine, connector.getConnection(config));
+         assertNotSame(mine.unwrap(Connection.class), other.unwrap(Connection.class));
+      }
+
+      @Test
+      @DisplayName("leaseConnection should return pooled connections to the pool on close")
+      void shouldLeasePerCall() throws SQLException {
+         // Given
+         DatabaseConfiguration config = h2Configuration();
+         Connection physical;
+         try (Connection first = connector.leaseConnection(config)) {
+            physical = first.unwrap(Connection.class);
+         }
+
+         // When
+         try (Connection second = connector.leaseConnection(config)) {
+            // Then
+            assertSame(physical, second.unwrap(Connection.class));
+         }
+      }
+
+      @Test
+      @DisplayName("releaseThreadConnections should return the thread-bound connection to the pool")
+      void shouldReleaseThreadConnections() throws SQLException {
+         // Given
+         DatabaseConfiguration config = h2Configuration();
+         Connection bound = connector.getConnection(config);
+         Connection physical = bound.unwrap(Connection.class);
+
+         // When
+         connector.releaseThreadConnections();
+
+         // Then
+         assertTrue(bound.isClosed());
+         try (Connection next = connector.leaseConnection(config)) {
+            assertSame(physical, next.unwrap(Connection.class));
+         }
+      }
+
+      @Test
+      @DisplayName("Connections bound to threads that have ended should be returned to the pool")
+      void shouldReleaseConnectionsOfDeadThreads() throws Exception {
+         // Given
+         DatabaseConfiguration config = h2Configuration();
+         Connection[] bound = new Connection[1];
+         Thread thread = new Thread(() -> bound[0] = connector.getConnection(config));
+         thread.start();
+         thread.join();
+
+         // When
+         connector.getConnection(config);
+
+         // Then
+         assertTrue(bound[0].isClosed());
+      }
+
+      @SuppressWarnings({"rawtypes", "unchecked"})
+      private DatabaseConfiguration h2Configuration() {
+         DbType dbType = mock(DbType.class);
+         when(dbType.driver()).thenReturn(new org.h2.Driver());
+         return DatabaseConfiguration.builder()
+               .dbType(dbType)
+               .fullConnectionString("jdbc:h2:mem:connector_test;DB_CLOSE_DELAY=-1")
+               .dbUser("sa")
+               .dbPassword("")
+               .build();
+      }
+   }
+
+   private JdbcConnectionPool pool(int maxSize, Duration borrowTimeout, Duration maxLifetime) {
+      return new JdbcConnectionPool(URL, () -> {
+         try {
+            created.incrementAndGet();
+            return DriverManager.getConnection(URL, "sa", "");
+         } catch (SQLException e) {
+            throw new IllegalStateException(e);
+         }
+      }, maxSize, borrowTimeout, Duration.ofMinutes(10), maxLifetime, 1, Duration.ZERO, 10);
+   }
+
+   private JdbcConnectionPool pool(Connection physical, Duration validationSkipWindow) {
+      return new JdbcConnectionPool(URL, () -> physical, 1, Duration.ofSeconds(1), Duration.ofMinutes(10),
+            Duration.ofMinutes(10), 1, validationSkipWindow, 10);
+   }
+
+}
@@ -0,0 +1,52 @@
+package com.theairebellion.zeus.db.query;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BoundQueryTest {
+
+   @Test
+   @DisplayName("Inline should render values as SQL literals")
+   void testInlineRendersLiterals() {
+      // Given
+      BoundQuery query = new BoundQuery("INSERT INTO t VALUES (?, ?, ?, ?, ?)",
+            Arrays.asList(42, new BigDecimal("1.50"), true, "O'Brien", null));
+
+      // When
+      String sql = query.inline();
+
+      // Then
+      assertEquals("INSERT INTO t VALUES (42, 1.50, true, 'O''Brien', NULL)", sql);
+   }
+
+   @Test
+   @DisplayName("Inline should leave question marks in literals and comments unchanged")
+   void testInlineSkipsLiteralsAndComments() {
+      // Given
+      BoundQuery query = new BoundQuery(
+            "SELECT '?', \"a?\" FROM t -- why?\nWHERE /* ? */ id = ?", List.of(7));
+
+      // When
+      String sql = query.inline();
+
+      // Then
+      assertEquals("SELECT '?', \"a?\" FROM t -- why?\nWHERE /* ? */ id = 7", sql);
+   }
+
+   @Test
+   @DisplayName("Inline should reject more values than parameters")
+   void testInlineRejectsUnusedValues() {
+      // Given
+      BoundQuery query = new BoundQuery("SELECT 1", List.of(1));
+
+      // When / Then
+      assertThrows(IllegalStateException.class, query::inline);
+   }
+
+}
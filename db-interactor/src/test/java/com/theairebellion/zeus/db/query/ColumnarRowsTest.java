@@ -0,0 +1,186 @@
+package com.theairebellion.zeus.db.query;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ColumnarRowsTest {
+
+   private static final String COLUMN_ID = "id";
+   private static final String COLUMN_NAME = "name";
+
+   @Test
+   @DisplayName("Rows should behave like maps of column names to values")
+   void testRowsAsMaps() {
+      // Given
+      ColumnarRows rows = new ColumnarRows(List.of(COLUMN_ID, COLUMN_NAME));
+      rows.addRow(new Object[] {1, "John"});
+      rows.addRow(new Object[] {2, null});
+
+      Map<String, Object> expected = new HashMap<>();
+      expected.put(COLUMN_ID, 2);
+      expected.put(COLUMN_NAME, null);
+
+      // When / Then
+      assertAll(
+            () -> assertEquals(2, rows.size()),
+            () -> assertEquals(Map.of(COLUMN_ID, 1, COLUMN_NAME, "John"), rows.get(0)),
+            () -> assertEquals(expected, rows.get(1)),
+            () -> assertEquals(expected.hashCode(), rows.get(1).hashCode()),
+            () -> assertTrue(rows.get(1).containsKey(COLUMN_NAME)),
+            () -> assertFalse(rows.get(1).containsKey("missing")),
+            () -> assertNull(rows.get(0).get("missing")),
+            () -> assertEquals("John", rows.value(0, COLUMN_NAME)),
+            () -> assertEquals(List.of(COLUMN_ID, COLUMN_NAME), List.copyOf(rows.get(0).keySet()))
+      );
+   }
+
+   @Test
+   @DisplayName("Duplicate column names should resolve to the last column")
+   void testDuplicateColumnNames() {
+      // Given
+      ColumnarRows rows = new ColumnarRows(List.of(COLUMN_ID, COLUMN_NAME, COLUMN_ID));
+
+      // When
+      rows.addRow(new Object[] {1, "John", 3});
+
+      // Then
+      assertEquals(Map.of(COLUMN_ID, 3, COLUMN_NAME, "John"), rows.get(0));
+      assertEquals(List.of(COLUMN_ID, COLUMN_NAME), rows.columnNames());
+   }
+
+   @Test
+   @DisplayName("Rows should match the column count")
+   void testRowsAreChecked() {
+      // Given
+      ColumnarRows rows = new ColumnarRows(List.of(COLUMN_ID));
+      rows.addRow(new Object[] {1});
+
+      // When / Then
+      assertThrows(IllegalArgumentException.class, () -> rows.addRow(new Object[] {1, 2}));
+      assertEquals(new QueryResponse(List.of(Map.of(COLUMN_ID, 1))), new QueryResponse(rows));
+   }
+
+   @Test
+   @DisplayName("Changes to a row should be kept without affecting other rows")
+   void testRowsAreCopiedOnWrite() {
+      // Given
+      ColumnarRows rows = new ColumnarRows(List.of(COLUMN_ID, COLUMN_NAME));
+      rows.addRow(new Object[] {1, "John"});
+      rows.addRow(new Object[] {2, "Jane"});
+      Map<String, Object> otherView = rows.get(0);
+
+      // When
+      rows.get(0).put(COLUMN_NAME, "Johnny");
+      rows.get(0).put("extra", true);
+      rows.get(1).remove(COLUMN_NAME);
+
+      // Then
+      assertAll(
+            () -> assertEquals(Map.of(COLUMN_ID, 1, COLUMN_NAME, "Johnny", "extra", true), rows.get(0)),
+            () -> assertEquals("Johnny", otherView.get(COLUMN_NAME)),
+            () -> assertEquals("Johnny", rows.value(0, COLUMN_NAME)),
+            () -> assertEquals(Map.of(COLUMN_ID, 2), rows.get(1)),
+            () -> assertNull(rows.value(1, COLUMN_NAME)),
+            () -> assertEquals(List.of(COLUMN_ID, COLUMN_NAME), rows.columnNames())
+      );
+   }
+
+   @Test
+   @DisplayName("Setting an entry value should copy the row")
+   void testEntrySetValueCopiesRow() {
+      // Given
+      ColumnarRows rows = twoRows();
+
+      // When
+      Map.Entry<String, Object> name = rows.get(0).entrySet().stream()
+            .filter(entry -> COLUMN_NAME.equals(entry.getKey()))
+            .findFirst()
+            .orElseThrow();
+      Object previous = name.setValue("Johnny");
+
+      // Then
+      assertAll(
+            () -> assertEquals("John", previous),
+            () -> assertEquals("Johnny", name.getValue()),
+            () -> assertEquals("Johnny", rows.value(0, COLUMN_NAME)),
+            () -> assertEquals("Jane", rows.value(1, COLUMN_NAME))
+      );
+   }
+
+   @Test
+   @DisplayName("replaceAll should copy the row")
+   void testReplaceAllCopiesRow() {
+      // Given
+      ColumnarRows rows = twoRows();
+
+      // When
+      rows.get(0).replaceAll((column, value) -> column + "=" + value);
+
+      // Then
+      assertEquals(Map.of(COLUMN_ID, "id=1", COLUMN_NAME, "name=John"), rows.get(0));
+      assertEquals(Map.of(COLUMN_ID, 2, COLUMN_NAME, "Jane"), rows.get(1));
+   }
+
+   @Test
+   @DisplayName("Removing entries through the entry set should copy the row")
+   void testEntrySetRemoveIfCopiesRow() {
+      // Given
+      ColumnarRows rows = twoRows();
+
+      // When
+      boolean removed = rows.get(0).entrySet().removeIf(entry -> COLUMN_NAME.equals(entry.getKey()));
+
+      // Then
+      assertTrue(removed);
+      assertEquals(Map.of(COLUMN_ID, 1), rows.get(0));
+      assertEquals(Map.of(COLUMN_ID, 2, COLUMN_NAME, "Jane"), rows.get(1));
+   }
+
+   @Test
+   @DisplayName("Removing a key through the key set should copy the row")
+   void testKeySetRemoveCopiesRow() {
+      // Given
+      ColumnarRows rows = twoRows();
+
+      // When
+      boolean removed = rows.get(1).keySet().remove(COLUMN_ID);
+
+      // Then
+      assertTrue(removed);
+      assertEquals(Map.of(COLUMN_NAME, "Jane"), rows.get(1));
+      assertEquals(Map.of(COLUMN_ID, 1, COLUMN_NAME, "John"), rows.get(0));
+   }
+
+   @Test
+   @DisplayName("Removing values through the values view should copy the row")
+   void testValuesRemoveIfCopiesRow() {
+      // Given
+      ColumnarRows rows = twoRows();
+
+      // When
+      boolean removed = rows.get(0).values().removeIf("John"::equals);
+
+      // Then
+      assertTrue(removed);
+      assertEquals(Map.of(COLUMN_ID, 1), rows.get(0));
+      assertNull(rows.value(0, COLUMN_NAME));
+   }
+
+   private static ColumnarRows twoRows() {
+      ColumnarRows rows = new ColumnarRows(List.of(COLUMN_ID, COLUMN_NAME));
+      rows.addRow(new Object[] {1, "John"});
+      rows.addRow(new Object[] {2, "Jane"});
+      return rows;
+   }
+
+}
@@ -2,9 +2,16 @@ package com.theairebellion.zeus.db.query;
 
 import com.theairebellion.zeus.db.config.DatabaseConfiguration;
 import com.theairebellion.zeus.db.query.mock.TestEnum;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -209,6 +216,109 @@ class ParametrizedQueryTest {
             "Unprovided placeholder should remain unchanged");
    }
 
+   @Test
+   @DisplayName("bind() should turn :name markers into positional parameters")
+   void testBind_ReplacesMarkersWithParameters() {
+      // Arrange
+      ParametrizedQuery query = parametrized("UPDATE users SET name = :name, age = :age WHERE id = :id",
+            PARAM_NAME, VALUE_NAME, PARAM_AGE, VALUE_AGE, PARAM_ID, VALUE_ID_1);
+
+      // Act
+      BoundQuery bound = query.bind();
+
+      // Assert
+      assertEquals("UPDATE users SET name = ?, age = ? WHERE id = ?", bound.sql());
+      assertEquals(List.of(VALUE_NAME, VALUE_AGE, VALUE_ID_1), bound.parameters());
+   }
+
+   @Test
+   @DisplayName("bind() should produce the same SQL for different values")
+   void testBind_SameSqlForDifferentValues() {
+      // Arrange
+      ParametrizedQuery query = new ParametrizedQuery(createQuery("SELECT * FROM users WHERE id = :id"));
+
+      // Act
+      BoundQuery first = ((ParametrizedQuery) query.withParam(PARAM_ID, VALUE_ID_1)).bind();
+      BoundQuery second = ((ParametrizedQuery) query.withParam(PARAM_ID, VALUE_ID_2)).bind();
+
+      // Assert
+      assertEquals(first.sql(), second.sql());
+      assertEquals(List.of(VALUE_ID_2), second.parameters());
+   }
+
+   @Test
+   @DisplayName("bind() should bind nulls and expand collections to one parameter per element")
+   void testBind_NullAndCollectionValues() {
+      // Arrange
+      ParametrizedQuery query = parametrized("SELECT * FROM users WHERE id IN (:ids) AND name = :name",
+            "ids", List.of(1, 2, 3), PARAM_NAME, null);
+
+      // Act
+      BoundQuery bound = query.bind();
+
+      // Assert
+      assertEquals("SELECT * FROM users WHERE id IN (?, ?, ?) AND name = ?", bound.sql());
+      assertEquals(Arrays.asList(1, 2, 3, null), bound.parameters());
+   }
+
+   @Test
+   @DisplayName("bind() should leave markers in quotes, comments, casts and without values unchanged")
+   void testBind_IgnoresMarkersOutsideCode() {
+      // Arrange
+      String sql = "SELECT ':id', \":id\", created::date -- :id\nFROM users /* :id */ WHERE id = :id AND x = :other";
+      ParametrizedQuery query = parametrized(sql, PARAM_ID, VALUE_ID_1);
+
+      // Act
+      BoundQuery bound = query.bind();
+
+      // Assert
+      assertEquals("SELECT ':id', \":id\", created::date -- :id\nFROM users /* :id */ WHERE id = ? AND x = :other",
+            bound.sql());
+      assertEquals(List.of(VALUE_ID_1), bound.parameters());
+   }
+
+   @ParameterizedTest(name = "{0}")
+   @MethodSource("textualPlaceholderCases")
+   @DisplayName("bind() should expand {name} placeholders as text, exactly like query()")
+   void testBind_KeepsTextualPlaceholders(String template, Map<String, Object> params, String expected) {
+      // Arrange
+      DbQuery query = new ParametrizedQuery(createQuery(template));
+      for (Map.Entry<String, Object> param : params.entrySet()) {
+         query = query.withParam(param.getKey(), param.getValue());
+      }
+
+      // Act
+      BoundQuery bound = ((ParametrizedQuery) query).bind();
+
+      // Assert
+      assertEquals(expected, bound.sql());
+      assertEquals(query.query(), bound.sql());
+      assertEquals(List.of(), bound.parameters());
+   }
+
+   private static Stream<Arguments> textualPlaceholderCases() {
+      return Stream.of(
+            Arguments.of("SELECT {cols} FROM t", Map.of("cols", "id, name"), "SELECT id, name FROM t"),
+            Arguments.of("SELECT * FROM t WHERE {col} = 1", Map.of("col", "id"), "SELECT * FROM t WHERE id = 1"),
+            Arguments.of("SELECT * FROM t WHERE id IN ({ids})", Map.of("ids", "1,2,3"),
+                  "SELECT * FROM t WHERE id IN (1,2,3)"),
+            Arguments.of("SELECT * FROM t ORDER BY {c} {dir}", Map.of("c", "id", "dir", "DESC"),
+                  "SELECT * FROM t ORDER BY id DESC"),
+            Arguments.of("SELECT * FROM \"{table}\"", Map.of("table", "users"), "SELECT * FROM \"users\""),
+            Arguments.of("SELECT * FROM t WHERE id = {id}", Map.of("id", "42"), "SELECT * FROM t WHERE id = 42"),
+            Arguments.of("SELECT * -- all columns\nFROM t\nWHERE id = {id}", Map.of("id", 1),
+                  "SELECT * -- all columns\nFROM t\nWHERE id = 1")
+      );
+   }
+
+   private ParametrizedQuery parametrized(String sql, Object... namesAndValues) {
+      DbQuery query = new ParametrizedQuery(createQuery(sql));
+      for (int i = 0; i < namesAndValues.length; i += 2) {
+         query = query.withParam((String) namesAndValues[i], namesAndValues[i + 1]);
+      }
+      return (ParametrizedQuery) query;
+   }
+
    private DbQuery<?> createQuery(String query) {
       return new DbQuery() {
          @Override
@@ -4,8 +4,11 @@ import com.theairebellion.zeus.db.client.DbClient;
 import com.theairebellion.zeus.db.client.DbClientManager;
 import com.theairebellion.zeus.db.config.DatabaseConfiguration;
 import com.theairebellion.zeus.db.json.JsonPathExtractor;
+import com.theairebellion.zeus.db.query.BoundQuery;
 import com.theairebellion.zeus.db.query.DbQuery;
+import com.theairebellion.zeus.db.query.ParametrizedQuery;
 import com.theairebellion.zeus.db.query.QueryResponse;
+import com.theairebellion.zeus.db.query.RowConsumer;
 import com.theairebellion.zeus.db.validator.QueryResponseValidator;
 import com.theairebellion.zeus.validator.core.Assertion;
 import com.theairebellion.zeus.validator.core.AssertionResult;
@@ -28,6 +31,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -88,6 +92,74 @@ class DatabaseServiceTest {
       );
    }
 
+   @Test
+   @DisplayName("query should execute parametrized queries with bind parameters")
+   void testQuery_WithParametrizedQuery_ShouldExecuteBoundQuery() {
+      // Arrange
+      QueryResponse expectedResponse = new QueryResponse(List.of(ROW_ID_1));
+      ParametrizedQuery parametrizedQuery = mock(ParametrizedQuery.class);
+      BoundQuery boundQuery = new BoundQuery("SELECT * FROM users WHERE id = ?", List.of(1));
+
+      when(parametrizedQuery.config()).thenReturn(dbConfig);
+      when(parametrizedQuery.bind()).thenReturn(boundQuery);
+      when(dbClientManager.getClient(dbConfig)).thenReturn(dbClient);
+      when(dbClient.executeQuery(boundQuery)).thenReturn(expectedResponse);
+
+      // Act
+      QueryResponse result = databaseService.query(parametrizedQuery);
+
+      // Assert
+      assertAll(
+            "Result should match expected response and the bound query should be executed",
+            () -> assertSame(expectedResponse, result, "Response should be the same object"),
+            () -> verify(dbClient).executeQuery(boundQuery),
+            () -> verify(dbClient, never()).executeQuery(anyString())
+      );
+   }
+
+   @Test
+   @DisplayName("stream should stream the query through the client with the given fetch size")
+   void testStream_ShouldDelegateToClient() {
+      // Arrange
+      RowConsumer consumer = row -> {
+      };
+
+      when(query.query()).thenReturn(QUERY_SELECT_USERS);
+      when(query.config()).thenReturn(dbConfig);
+      when(dbClientManager.getClient(dbConfig)).thenReturn(dbClient);
+      when(dbClient.streamQuery(new BoundQuery(QUERY_SELECT_USERS, List.of()), 250, consumer)).thenReturn(3L);
+
+      // Act
+      long count = databaseService.stream(query, 250, consumer);
+
+      // Assert
+      assertEquals(3L, count, "Count should be the number of streamed rows");
+   }
+
+   @Test
+   @DisplayName("query should execute parametrized queries without bind markers as text")
+   void testQuery_WithTextualParametrizedQuery_ShouldExecuteText() {
+      // Arrange
+      QueryResponse expectedResponse = new QueryResponse(List.of(ROW_ID_1));
+      ParametrizedQuery parametrizedQuery = mock(ParametrizedQuery.class);
+
+      when(parametrizedQuery.config()).thenReturn(dbConfig);
+      when(parametrizedQuery.bind()).thenReturn(new BoundQuery(QUERY_SELECT_USERS, List.of()));
+      when(parametrizedQuery.query()).thenReturn(QUERY_SELECT_USERS);
+      when(dbClientManager.getClient(dbConfig)).thenReturn(dbClient);
+      when(dbClient.executeQuery(QUERY_SELECT_USERS)).thenReturn(expectedResponse);
+
+      // Act
+      QueryResponse result = databaseService.query(parametrizedQuery);
+
+      // Assert
+      assertAll(
+            "Result should match expected response and the query text should be executed",
+            () -> assertSame(expectedResponse, result, "Response should be the same object"),
+            () -> verify(dbClient, never()).executeQuery(any(BoundQuery.class))
+      );
+   }
+
    @Test
    @DisplayName("query should handle null query parameter")
    void testQuery_WithNullQuery_ShouldThrowException() {
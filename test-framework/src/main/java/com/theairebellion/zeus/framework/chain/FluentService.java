@@ -4,13 +4,20 @@ import com.theairebellion.zeus.framework.log.LogTest;
 import com.theairebellion.zeus.framework.quest.Quest;
 import com.theairebellion.zeus.framework.quest.SuperQuest;
 import com.theairebellion.zeus.framework.retry.RetryCondition;
+import com.theairebellion.zeus.framework.util.AllureStepHelper;
+import com.theairebellion.zeus.util.reflections.BackoffStrategy;
+import com.theairebellion.zeus.util.reflections.RetryResult;
 import com.theairebellion.zeus.util.reflections.RetryUtils;
 import com.theairebellion.zeus.validator.core.AssertionResult;
 import io.qameta.allure.Allure;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.assertj.core.api.Assertions;
 
+import static com.theairebellion.zeus.framework.config.FrameworkConfigHolder.getFrameworkConfig;
+
 /**
  * Provides a base implementation for fluent service interactions.
  *
@@ -22,6 +29,8 @@ import org.assertj.core.api.Assertions;
  */
 public class FluentService implements FluentChain {
 
+   private static final String POLL_ATTEMPT_STEP = "Polling attempt";
+
    /**
     * The {@code SuperQuest} instance managing the test execution context.
     */
@@ -55,6 +64,76 @@ public class FluentService implements FluentChain {
       return this;
    }
 
+   /**
+    * Executes a retry mechanism until a specified condition is met, pacing attempts with a backoff strategy.
+    *
+    * @param retryCondition The retry condition to be checked.
+    * @param maxWait        The maximum duration to wait before giving up.
+    * @param backoff        The strategy determining the delay between attempts.
+    * @param service        The service instance used in the retry condition.
+    * @param <T>            The type used in the retry condition function.
+    * @return The current {@code FluentService} instance for method chaining.
+    */
+   protected <T> FluentService retryUntil(RetryCondition<T> retryCondition, Duration maxWait,
+         BackoffStrategy backoff, Object service) {
+      RetryResult<T> result = RetryUtils.retry(maxWait, backoff, () -> retryCondition.function().apply(service),
+            retryCondition.condition());
+      LogTest.extended("Retry condition satisfied after {} attempts and {} of waiting.",
+            result.attempts(), result.totalWait());
+      return this;
+   }
+
+   /**
+    * Polls several independent retry conditions concurrently until all of them are met.
+    *
+    * <p>Every condition is polled asynchronously, so the total wait is bounded by the slowest condition
+    * instead of the sum of all of them. As soon as one condition fails, the polls of the others are
+    * cancelled and the failure is thrown. The conditions must not depend on each other, and the service
+    * must tolerate concurrent use. Every attempt is reported as a step of the calling test, so steps and
+    * attachments created by the conditions are kept.
+    *
+    * @param retryConditions The retry conditions to be checked.
+    * @param maxWait         The maximum duration to wait for each condition before giving up.
+    * @param backoff         The strategy determining the delay between attempts.
+    * @param service         The service instance used in the retry conditions.
+    * @return The current {@code FluentService} instance for method chaining.
+    */
+   protected FluentService retryUntilAll(List<? extends RetryCondition<?>> retryConditions, Duration maxWait,
+         BackoffStrategy backoff, Object service) {
+      CompletableFuture<?>[] polls = retryConditions.stream()
+            .map(retryCondition -> startPoll(retryCondition, maxWait, backoff, service))
+            .toArray(CompletableFuture[]::new);
+      CompletableFuture<Void> outcome = new CompletableFuture<>();
+      for (CompletableFuture<?> poll : polls) {
+         poll.whenComplete((result, failure) -> {
+            if (failure != null && outcome.completeExceptionally(failure)) {
+               for (CompletableFuture<?> sibling : polls) {
+                  sibling.cancel(false);
+               }
+            }
+         });
+      }
+      CompletableFuture.allOf(polls).thenRun(() -> outcome.complete(null));
+      try {
+         outcome.join();
+      } catch (CompletionException e) {
+         if (e.getCause() instanceof RuntimeException cause) {
+            throw cause;
+         }
+         if (e.getCause() instanceof Error error) {
+            throw error;
+         }
+         throw e;
+      }
+      return this;
+   }
+
+   private static <T> CompletableFuture<RetryResult<T>> startPoll(RetryCondition<T> retryCondition,
+         Duration maxWait, BackoffStrategy backoff, Object service) {
+      return RetryUtils.retryUntilAsync(maxWait, backoff, () -> retryCondition.function().apply(service),
+            retryCondition.condition(), AllureStepHelper.inCurrentStep(POLL_ATTEMPT_STEP));
+   }
+
    /**
     * Assigns a {@code SuperQuest} instance to this service.
     *
@@ -68,29 +147,59 @@ public class FluentService implements FluentChain {
     * Performs validation on a list of assertion results.
     *
     * <p>This method logs, reports, and evaluates assertions, supporting both
-    * soft and hard validations.
+    * soft and hard validations. When {@code validation.summary} is enabled in the
+    * framework configuration, passing results are reported as a single summary step.
     *
     * @param assertionResults The list of assertion results to be validated.
     */
-   @SuppressWarnings("java:S5960")
    protected void validation(List<AssertionResult<Object>> assertionResults) {
-      assertionResults.forEach(assertionResult -> {
-         String message = assertionResult.toString();
+      validation(assertionResults, getFrameworkConfig().validationSummary());
+   }
+
+   /**
+    * Performs validation on a list of assertion results, optionally summarizing the passing ones.
+    *
+    * <p>In summary mode all passing results are reported as one aggregated log line and Allure step,
+    * and only failures are formatted and reported individually. Otherwise every result is reported.
+    *
+    * @param assertionResults The list of assertion results to be validated.
+    * @param summary          Whether passing results should be aggregated.
+    */
+   protected void validation(List<AssertionResult<Object>> assertionResults, boolean summary) {
+      if (!summary) {
+         assertionResults.forEach(this::report);
+         return;
+      }
+
+      long passed = assertionResults.stream().filter(AssertionResult::isPassed).count();
+      if (passed > 0) {
+         String message = String.format("✔ Validation passed: %d of %d assertion(s)", passed,
+               assertionResults.size());
          LogTest.validation(message);
          Allure.step(message);
+      }
+      assertionResults.stream()
+            .filter(assertionResult -> !assertionResult.isPassed())
+            .forEach(this::report);
+   }
 
-         boolean isPassed = assertionResult.isPassed();
-         if (assertionResult.isSoft()) {
-            quest.getSoftAssertions()
-                  .assertThat(isPassed)
-                  .as(message)
-                  .isTrue();
-         } else {
-            Assertions.assertThat(isPassed)
-                  .as(message)
-                  .isTrue();
-         }
-      });
+   @SuppressWarnings("java:S5960")
+   private void report(AssertionResult<Object> assertionResult) {
+      String message = assertionResult.toString();
+      LogTest.validation(message);
+      Allure.step(message);
+
+      boolean isPassed = assertionResult.isPassed();
+      if (assertionResult.isSoft()) {
+         quest.getSoftAssertions()
+               .assertThat(isPassed)
+               .as(message)
+               .isTrue();
+      } else {
+         Assertions.assertThat(isPassed)
+               .as(message)
+               .isTrue();
+      }
    }
 
    /**
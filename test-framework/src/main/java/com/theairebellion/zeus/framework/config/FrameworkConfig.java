@@ -42,4 +42,16 @@ public interface FrameworkConfig extends Config {
    @Key("test.env")
    String testEnv();
 
+   /**
+    * Indicates whether passing assertions are reported as a single summary step.
+    *
+    * <p>When enabled, passing validation results are aggregated into one log line and one Allure step,
+    * and only failures are reported individually.
+    *
+    * @return {@code true} if validation summary mode is enabled.
+    */
+   @Key("validation.summary")
+   @DefaultValue("false")
+   boolean validationSummary();
+
 }
@@ -4,6 +4,7 @@ import com.theairebellion.zeus.framework.allure.CustomAllureListener;
 import com.theairebellion.zeus.framework.quest.SuperQuest;
 import com.theairebellion.zeus.framework.storage.StorageKeysTest;
 import com.theairebellion.zeus.framework.util.ObjectFormatter;
+import com.theairebellion.zeus.logging.LogSegments;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -29,7 +30,7 @@ import static com.theairebellion.zeus.framework.util.TestContextManager.getSuper
  * calculating execution duration, and appending filtered logs to the Allure report.
  * </p>
  *
- * <p>Logs are filtered based on the test name and extracted from the system log file.
+ * <p>Logs are taken from the segment captured for the unique id of the test while the test was running.
  * If logs cannot be retrieved, a fallback message is added to Allure.
  * </p>
  *
@@ -67,8 +68,9 @@ public class Epilogue implements AfterTestExecutionCallback {
          CustomAllureListener.stopStep();
          CustomAllureListener.startStep(TEAR_DOWN);
       }
-      attachFilteredLogsToAllure(ThreadContext.get("testName"));
+      attachFilteredLogsToAllure(ThreadContext.get("testName"), ThreadContext.get(LogSegments.CONTEXT_KEY));
       ThreadContext.remove("testName");
+      ThreadContext.remove(LogSegments.CONTEXT_KEY);
       setDescription(context);
       if (CustomAllureListener.isStepActive(TEAR_DOWN.getDisplayName())) {
          CustomAllureListener.stopStep();
@@ -39,6 +39,27 @@ public final class LogTest extends LogCore {
       getInstance().infoLog(message, args);
    }
 
+   /**
+    * Fixed-arity variant of {@link #info(String, Object...)} that allocates no varargs array.
+    *
+    * @param message The message to log.
+    * @param arg     The argument to format the message.
+    */
+   public static void info(String message, Object arg) {
+      getInstance().infoLog(message, arg);
+   }
+
+   /**
+    * Fixed-arity variant of {@link #info(String, Object...)} that allocates no varargs array.
+    *
+    * @param message The message to log.
+    * @param arg1    The first argument to format the message.
+    * @param arg2    The second argument to format the message.
+    */
+   public static void info(String message, Object arg1, Object arg2) {
+      getInstance().infoLog(message, arg1, arg2);
+   }
+
    /**
     * Logs a warning message.
     *
@@ -49,6 +70,27 @@ public final class LogTest extends LogCore {
       getInstance().warnLog(message, args);
    }
 
+   /**
+    * Fixed-arity variant of {@link #warn(String, Object...)} that allocates no varargs array.
+    *
+    * @param message The message to log.
+    * @param arg     The argument to format the message.
+    */
+   public static void warn(String message, Object arg) {
+      getInstance().warnLog(message, arg);
+   }
+
+   /**
+    * Fixed-arity variant of {@link #warn(String, Object...)} that allocates no varargs array.
+    *
+    * @param message The message to log.
+    * @param arg1    The first argument to format the message.
+    * @param arg2    The second argument to format the message.
+    */
+   public static void warn(String message, Object arg1, Object arg2) {
+      getInstance().warnLog(message, arg1, arg2);
+   }
+
    /**
     * Logs an error message.
     *
@@ -59,6 +101,27 @@ public final class LogTest extends LogCore {
       getInstance().errorLog(message, args);
    }
 
+   /**
+    * Fixed-arity variant of {@link #error(String, Object...)} that allocates no varargs array.
+    *
+    * @param message The message to log.
+    * @param arg     The argument to format the message.
+    */
+   public static void error(String message, Object arg) {
+      getInstance().errorLog(message, arg);
+   }
+
+   /**
+    * Fixed-arity variant of {@link #error(String, Object...)} that allocates no varargs array.
+    *
+    * @param message The message to log.
+    * @param arg1    The first argument to format the message.
+    * @param arg2    The second argument to format the message.
+    */
+   public static void error(String message, Object arg1, Object arg2) {
+      getInstance().errorLog(message, arg1, arg2);
+   }
+
    /**
     * Logs a debug message.
     *
@@ -69,6 +132,27 @@ public final class LogTest extends LogCore {
       getInstance().debugLog(message, args);
    }
 
+   /**
+    * Fixed-arity variant of {@link #debug(String, Object...)} that allocates no varargs array.
+    *
+    * @param message The message to log.
+    * @param arg     The argument to format the message.
+    */
+   public static void debug(String message, Object arg) {
+      getInstance().debugLog(message, arg);
+   }
+
+   /**
+    * Fixed-arity variant of {@link #debug(String, Object...)} that allocates no varargs array.
+    *
+    * @param message The message to log.
+    * @param arg1    The first argument to format the message.
+    * @param arg2    The second argument to format the message.
+    */
+   public static void debug(String message, Object arg1, Object arg2) {
+      getInstance().debugLog(message, arg1, arg2);
+   }
+
    /**
     * Logs a trace-level message.
     *
@@ -79,6 +163,27 @@ public final class LogTest extends LogCore {
       getInstance().traceLog(message, args);
    }
 
+   /**
+    * Fixed-arity variant of {@link #trace(String, Object...)} that allocates no varargs array.
+    *
+    * @param message The message to log.
+    * @param arg     The argument to format the message.
+    */
+   public static void trace(String message, Object arg) {
+      getInstance().traceLog(message, arg);
+   }
+
+   /**
+    * Fixed-arity variant of {@link #trace(String, Object...)} that allocates no varargs array.
+    *
+    * @param message The message to log.
+    * @param arg1    The first argument to format the message.
+    * @param arg2    The second argument to format the message.
+    */
+   public static void trace(String message, Object arg1, Object arg2) {
+      getInstance().traceLog(message, arg1, arg2);
+   }
+
    /**
     * Logs a step in the test execution process.
     *
@@ -89,6 +194,27 @@ public final class LogTest extends LogCore {
       getInstance().stepLog(message, args);
    }
 
+   /**
+    * Fixed-arity variant of {@link #step(String, Object...)} that allocates no varargs array.
+    *
+    * @param message The message to log.
+    * @param arg     The argument to format the message.
+    */
+   public static void step(String message, Object arg) {
+      getInstance().stepLog(message, arg);
+   }
+
+   /**
+    * Fixed-arity variant of {@link #step(String, Object...)} that allocates no varargs array.
+    *
+    * @param message The message to log.
+    * @param arg1    The first argument to format the message.
+    * @param arg2    The second argument to format the message.
+    */
+   public static void step(String message, Object arg1, Object arg2) {
+      getInstance().stepLog(message, arg1, arg2);
+   }
+
    /**
     * Logs a validation-specific message.
     *
@@ -99,6 +225,27 @@ public final class LogTest extends LogCore {
       getInstance().validationLog(message, args);
    }
 
+   /**
+    * Fixed-arity variant of {@link #validation(String, Object...)} that allocates no varargs array.
+    *
+    * @param message The message to log.
+    * @param arg     The argument to format the message.
+    */
+   public static void validation(String message, Object arg) {
+      getInstance().validationLog(message, arg);
+   }
+
+   /**
+    * Fixed-arity variant of {@link #validation(String, Object...)} that allocates no varargs array.
+    *
+    * @param message The message to log.
+    * @param arg1    The first argument to format the message.
+    * @param arg2    The second argument to format the message.
+    */
+   public static void validation(String message, Object arg1, Object arg2) {
+      getInstance().validationLog(message, arg1, arg2);
+   }
+
    /**
     * Logs an extended test execution message.
     *
@@ -109,6 +256,27 @@ public final class LogTest extends LogCore {
       getInstance().extendedLog(message, args);
    }
 
+   /**
+    * Fixed-arity variant of {@link #extended(String, Object...)} that allocates no varargs array.
+    *
+    * @param message The message to log.
+    * @param arg     The argument to format the message.
+    */
+   public static void extended(String message, Object arg) {
+      getInstance().extendedLog(message, arg);
+   }
+
+   /**
+    * Fixed-arity variant of {@link #extended(String, Object...)} that allocates no varargs array.
+    *
+    * @param message The message to log.
+    * @param arg1    The first argument to format the message.
+    * @param arg2    The second argument to format the message.
+    */
+   public static void extended(String message, Object arg1, Object arg2) {
+      getInstance().extendedLog(message, arg1, arg2);
+   }
+
    /**
     * Retrieves the singleton instance of {@code LogTest}.
     *
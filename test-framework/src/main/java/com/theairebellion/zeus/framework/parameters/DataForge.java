@@ -1,5 +1,7 @@
 package com.theairebellion.zeus.framework.parameters;
 
+import com.theairebellion.zeus.util.reflections.index.IndexedType;
+
 /**
  * Defines a contract for dynamically generating test data within the framework.
  *
@@ -13,6 +15,7 @@ package com.theairebellion.zeus.framework.parameters;
  *
  * @author Cyborg Code Syndicate 💍👨💻
  */
+@IndexedType
 public interface DataForge<T extends Enum<T>> {
 
    /**
@@ -1,6 +1,7 @@
 package com.theairebellion.zeus.framework.parameters;
 
 import com.theairebellion.zeus.framework.quest.SuperQuest;
+import com.theairebellion.zeus.util.reflections.index.IndexedType;
 import java.util.function.Consumer;
 
 /**
@@ -14,6 +15,7 @@ import java.util.function.Consumer;
  *
  * @author Cyborg Code Syndicate 💍👨💻
  */
+@IndexedType
 public interface DataRipper<T extends Enum<T>> {
 
    /**
@@ -1,6 +1,7 @@
 package com.theairebellion.zeus.framework.parameters;
 
 import com.theairebellion.zeus.framework.quest.SuperQuest;
+import com.theairebellion.zeus.util.reflections.index.IndexedType;
 import java.util.function.BiConsumer;
 
 /**
@@ -15,6 +16,7 @@ import java.util.function.BiConsumer;
  *
  * @author Cyborg Code Syndicate 💍👨💻
  */
+@IndexedType
 public interface PreQuestJourney<T extends Enum<T>> {
 
    /**
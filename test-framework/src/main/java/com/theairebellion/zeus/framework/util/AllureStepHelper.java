@@ -3,8 +3,14 @@ package com.theairebellion.zeus.framework.util;
 import com.theairebellion.zeus.config.ConfigSource;
 import com.theairebellion.zeus.config.PropertyConfig;
 import com.theairebellion.zeus.framework.log.LogTest;
+import com.theairebellion.zeus.logging.LogSegments;
+import com.theairebellion.zeus.util.reflections.ClasspathScanner;
 import com.theairebellion.zeus.util.reflections.ReflectionUtil;
 import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.util.ResultsUtils;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
@@ -22,6 +28,9 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import org.aeonbits.owner.Config;
 import org.aeonbits.owner.ConfigCache;
@@ -50,6 +59,7 @@ import static com.theairebellion.zeus.framework.util.ResourceLoader.loadResource
  *     <li>Generate and inject metadata into test reports.</li>
  *     <li>Initialize the test environment by writing configuration properties and categories.</li>
  *     <li>Set up the test context with start time and a unique test identifier.</li>
+ *     <li>Report work running on other threads in the step of the calling test.</li>
  * </ul>
  *
  * <p>The class leverages Allure for report attachments, the OWNER library for configuration management,
@@ -93,17 +103,33 @@ public class AllureStepHelper {
    /**
     * Attaches filtered logs to Allure based on the test name.
     *
-    * <p>This method reads a system log file and filters for entries containing a test scenario identifier.
-    * If the test name is unavailable or if no matching log entries are found, a fallback message is attached.
+    * <p>The logs are taken from the in-memory segment captured for the test by the {@code TestLogCapture}
+    * appender, which is released right after it is read. Only when no capture appender is configured
+    * does this method fall back to scanning the system log file for entries containing the test scenario
+    * identifier. If the test name is unavailable or if no matching log entries are found, a fallback message
+    * is attached.
     *
     * @param testName The name of the test scenario to filter logs for.
+    * @param testId   The unique id of the test, which keys its captured segment.
     */
-   public static void attachFilteredLogsToAllure(String testName) {
+   public static void attachFilteredLogsToAllure(String testName, String testId) {
+      Optional<String> segment = testId == null ? Optional.empty() : LogSegments.release(testId);
       if (testName == null || testName.isEmpty()) {
          Allure.addAttachment("Filtered Logs", CONTENT_TYPE, "Test name is not available.", ".log");
          return;
       }
 
+      if (segment.isEmpty() && !LogSegments.isCapturing()) {
+         attachLogsFromFile(testName);
+         return;
+      }
+
+      String filteredLogs = segment.map(String::stripTrailing).orElse("");
+      Allure.addAttachment("Filtered Logs for Test: " + testName, CONTENT_TYPE,
+            filteredLogs.isEmpty() ? "No logs found for test: " + testName : filteredLogs, ".log");
+   }
+
+   private static void attachLogsFromFile(String testName) {
       String logFilePath = System.getProperty("logFileName", "logs/zeus.log");
       String testIdentifier = "[scenario=" + testName + "]";
 
@@ -124,6 +150,42 @@ public class AllureStepHelper {
       }
    }
 
+   /**
+    * Captures the Allure step that is current on the calling thread, so work on other threads can be reported
+    * under it.
+    *
+    * <p>Allure tracks the current test and step per thread, so steps created on a worker thread would otherwise
+    * be lost or end up in another test. Every task wrapped by the returned operator runs in a step named
+    * {@code stepName}, nested under the captured step. Outside a test the tasks run unchanged.
+    *
+    * @param stepName The name of the step each task runs in.
+    * @return An operator wrapping tasks to run in a step of the calling test.
+    */
+   public static UnaryOperator<Runnable> inCurrentStep(String stepName) {
+      AllureLifecycle lifecycle = Allure.getLifecycle();
+      Optional<String> parent = lifecycle.getCurrentTestCaseOrStep();
+      if (parent.isEmpty()) {
+         return UnaryOperator.identity();
+      }
+
+      String parentUuid = parent.get();
+      return task -> () -> {
+         String uuid = UUID.randomUUID().toString();
+         lifecycle.startStep(parentUuid, uuid, new StepResult().setName(stepName));
+         try {
+            task.run();
+            lifecycle.updateStep(uuid, step -> step.setStatus(Status.PASSED));
+         } catch (RuntimeException | Error e) {
+            lifecycle.updateStep(uuid, step -> step
+                  .setStatus(ResultsUtils.getStatus(e).orElse(Status.BROKEN))
+                  .setStatusDetails(ResultsUtils.getStatusDetails(e).orElse(null)));
+            throw e;
+         } finally {
+            lifecycle.stopStep(uuid);
+         }
+      };
+   }
+
    /**
     * Logs the test outcome after execution.
     *
@@ -186,12 +248,15 @@ public class AllureStepHelper {
     *
     * <p>This method performs the following actions:
     * <ul>
+    *     <li>Bootstraps a single classpath scan of the framework and project packages, reused by all later
+    *     reflection lookups.</li>
     *     <li>Collects configuration properties from all implementations of {@link PropertyConfig}.</li>
     *     <li>Writes the collected properties to an environment properties file.</li>
     *     <li>Writes a JSON file containing category definitions for Allure reports.</li>
     * </ul>
     */
    public static void initializeTestEnvironment() {
+      ClasspathScanner.bootstrap(FRAMEWORK_PACKAGE, getFrameworkConfig().projectPackage());
       Map<String, List<String>> propertiesMap = collectConfigurationProperties();
       writeEnvironmentProperties(propertiesMap);
       writeCategoriesJson();
@@ -324,7 +389,8 @@ public class AllureStepHelper {
     * Sets up the test context by storing the test name and start time.
     *
     * <p>This method extracts the simple names of the test class and method from the provided
-    * {@link ExtensionContext} and stores them in the {@link ThreadContext} under the key "testName".
+    * {@link ExtensionContext} and stores them in the {@link ThreadContext} under the key "testName". The unique
+    * id of the test is stored under {@link LogSegments#CONTEXT_KEY} and a log segment is opened for it.
     * Additionally, it stores the current system time in milliseconds as the test start time in the global store.
     *
     * @param context The test execution context.
@@ -338,6 +404,8 @@ public class AllureStepHelper {
             .orElse("UnknownMethod");
 
       ThreadContext.put("testName", className + "." + methodName);
+      ThreadContext.put(LogSegments.CONTEXT_KEY, context.getUniqueId());
+      LogSegments.open(context.getUniqueId());
       context.getStore(ExtensionContext.Namespace.GLOBAL).put(START_TIME, System.currentTimeMillis());
    }
 
@@ -1,17 +1,32 @@
 package com.theairebellion.zeus.framework.chain;
 
 import com.theairebellion.zeus.framework.assertion.CustomSoftAssertion;
+import com.theairebellion.zeus.framework.config.FrameworkConfig;
+import com.theairebellion.zeus.framework.config.FrameworkConfigHolder;
 import com.theairebellion.zeus.framework.log.LogTest;
 import com.theairebellion.zeus.framework.quest.Quest;
 import com.theairebellion.zeus.framework.quest.SuperQuest;
 import com.theairebellion.zeus.framework.retry.RetryCondition;
+import com.theairebellion.zeus.util.reflections.BackoffStrategy;
+import com.theairebellion.zeus.util.reflections.RetryResult;
 import com.theairebellion.zeus.util.reflections.RetryUtils;
+import com.theairebellion.zeus.util.reflections.exceptions.RetryTimeoutException;
 import com.theairebellion.zeus.validator.core.AssertionResult;
 import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.AllureResultsWriter;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+import java.io.InputStream;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -20,13 +35,16 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -140,6 +158,156 @@ class FluentServiceTest {
             assertSame(service, result, "Should return this for chaining");
          }
       }
+
+      @Test
+      @DisplayName("retryUntil with backoff should use RetryUtils.retry and return self")
+      void testRetryUntilWithBackoff() {
+         try (MockedStatic<RetryUtils> retryUtilsMock = mockStatic(RetryUtils.class);
+              MockedStatic<LogTest> logTestMock = mockStatic(LogTest.class)) {
+            // Given
+            when(retryCondition.function()).thenReturn(function);
+            when(retryCondition.condition()).thenReturn(predicate);
+
+            Object testService = new Object();
+            Duration maxWait = Duration.ofMillis(10);
+            BackoffStrategy backoff = BackoffStrategy.fixed(Duration.ofMillis(5));
+            Object functionResult = new Object();
+            when(function.apply(testService)).thenReturn(functionResult);
+
+            retryUtilsMock.when(() -> RetryUtils.retry(any(), any(), any(), any()))
+                  .thenAnswer(invocation -> {
+                     Supplier<?> supplier = invocation.getArgument(2);
+                     return new RetryResult<>(supplier.get(), 1, Duration.ZERO, Duration.ZERO);
+                  });
+
+            // When
+            FluentService result = service.retryUntil(retryCondition, maxWait, backoff, testService);
+
+            // Then
+            retryUtilsMock.verify(() -> RetryUtils.retry(eq(maxWait), eq(backoff), any(), eq(predicate)),
+                  times(1));
+            verify(function).apply(testService);
+            assertSame(service, result, "Should return this for chaining");
+         }
+      }
+
+      @Test
+      @DisplayName("retryUntilAll should poll every condition and return self")
+      void testRetryUntilAll() {
+         // Given
+         Object testService = new Object();
+         when(retryCondition.function()).thenReturn(function);
+         when(retryCondition.condition()).thenReturn(predicate);
+         when(function.apply(testService)).thenReturn("ready");
+         when(predicate.test("ready")).thenReturn(true);
+
+         // When
+         FluentService result = service.retryUntilAll(List.of(retryCondition, retryCondition),
+               Duration.ofSeconds(1), BackoffStrategy.fixed(Duration.ofMillis(5)), testService);
+
+         // Then
+         verify(function, times(2)).apply(testService);
+         assertSame(service, result, "Should return this for chaining");
+      }
+
+      @Test
+      @DisplayName("retryUntilAll should rethrow the timeout of a condition that is never met")
+      void testRetryUntilAllTimeout() {
+         // Given
+         Object testService = new Object();
+         when(retryCondition.function()).thenReturn(function);
+         when(retryCondition.condition()).thenReturn(predicate);
+
+         // When / Then
+         assertThrows(RetryTimeoutException.class, () -> service.retryUntilAll(List.of(retryCondition),
+               Duration.ofMillis(30), BackoffStrategy.fixed(Duration.ofMillis(5)), testService));
+      }
+
+      @Test
+      @Timeout(5)
+      @DisplayName("retryUntilAll should fail fast and cancel the other polls when one condition fails")
+      void testRetryUntilAllCancelsSiblings() throws InterruptedException {
+         // Given
+         AtomicInteger attempts = new AtomicInteger();
+         RetryCondition<Integer> pending = condition(testService -> attempts.incrementAndGet(), value -> false);
+         RetryCondition<String> failing = condition(testService -> "broken", value -> {
+            throw new AssertionError("broken");
+         });
+
+         // When
+         assertThrows(AssertionError.class, () -> service.retryUntilAll(List.of(pending, failing),
+               Duration.ofSeconds(30), BackoffStrategy.fixed(Duration.ofMillis(5)), new Object()));
+         Thread.sleep(50);
+         int attemptsAfterFailure = attempts.get();
+         Thread.sleep(50);
+
+         // Then
+         assertEquals(attemptsAfterFailure, attempts.get(), "The pending poll should have been cancelled");
+      }
+
+      @Test
+      @Timeout(5)
+      @DisplayName("retryUntilAll should report the steps of an attempt under the calling test")
+      void testRetryUntilAllKeepsAllureSteps() {
+         // Given
+         List<TestResult> written = new CopyOnWriteArrayList<>();
+         AllureLifecycle lifecycle = new AllureLifecycle(new AllureResultsWriter() {
+            @Override
+            public void write(TestResult testResult) {
+               written.add(testResult);
+            }
+
+            @Override
+            public void write(TestResultContainer testResultContainer) {
+            }
+
+            @Override
+            public void write(String source, InputStream attachment) {
+            }
+         });
+         String testUuid = UUID.randomUUID().toString();
+         RetryCondition<String> ready = condition(testService -> {
+            Allure.step("Checking readiness");
+            return "ready";
+         }, "ready"::equals);
+         AllureLifecycle previous = Allure.getLifecycle();
+         Allure.setLifecycle(lifecycle);
+
+         try {
+            lifecycle.scheduleTestCase(new TestResult().setUuid(testUuid).setName("polling test"));
+            lifecycle.startTestCase(testUuid);
+
+            // When
+            service.retryUntilAll(List.of(ready), Duration.ofSeconds(1),
+                  BackoffStrategy.fixed(Duration.ofMillis(5)), new Object());
+            lifecycle.stopTestCase(testUuid);
+            lifecycle.writeTestCase(testUuid);
+         } finally {
+            Allure.setLifecycle(previous);
+         }
+
+         // Then
+         assertEquals(1, written.size());
+         List<StepResult> steps = written.get(0).getSteps();
+         assertEquals(1, steps.size(), "The attempt should be a step of the calling test");
+         assertEquals("Polling attempt", steps.get(0).getName());
+         assertEquals(Status.PASSED, steps.get(0).getStatus());
+         assertEquals("Checking readiness", steps.get(0).getSteps().get(0).getName());
+      }
+   }
+
+   private static <T> RetryCondition<T> condition(Function<Object, T> function, Predicate<T> condition) {
+      return new RetryCondition<>() {
+         @Override
+         public Function<Object, T> function() {
+            return function;
+         }
+
+         @Override
+         public Predicate<T> condition() {
+            return condition;
+         }
+      };
    }
 
    @Test
@@ -337,6 +505,61 @@ class FluentServiceTest {
             verify(hardBooleanAssert).isTrue();
          }
       }
+
+      @Test
+      @DisplayName("validation in summary mode should aggregate passing results and report failures")
+      void testValidationSummaryMode() {
+         try (MockedStatic<LogTest> logTestMock = mockStatic(LogTest.class);
+              MockedStatic<Allure> allureMock = mockStatic(Allure.class)) {
+            // Given
+            AssertionResult<Object> passing =
+                  new AssertionResult<>(true, "Passing", "expected", "expected", true);
+            AssertionResult<Object> failing =
+                  new AssertionResult<>(false, "Failing", "expected", "actual", true);
+            String summary = "✔ Validation passed: 1 of 2 assertion(s)";
+
+            BooleanAssert failingAssert = mock(BooleanAssert.class);
+            when(failingAssert.as(anyString())).thenReturn(failingAssert);
+            when(superQuest.getSoftAssertions()).thenReturn(customSoftAssertions);
+            when(customSoftAssertions.assertThat(false)).thenReturn(failingAssert);
+
+            // When
+            service.validation(List.of(passing, failing), true);
+
+            // Then
+            logTestMock.verify(() -> LogTest.validation(summary));
+            allureMock.verify(() -> Allure.step(summary));
+            logTestMock.verify(() -> LogTest.validation(failing.toString()));
+            allureMock.verify(() -> Allure.step(failing.toString()));
+            logTestMock.verify(() -> LogTest.validation(passing.toString()), times(0));
+            verify(customSoftAssertions, times(0)).assertThat(true);
+            verify(failingAssert).as(failing.toString());
+            verify(failingAssert).isTrue();
+         }
+      }
+
+      @Test
+      @DisplayName("validation should use summary mode when enabled in the framework configuration")
+      void testValidationSummaryModeFromConfig() {
+         try (MockedStatic<LogTest> logTestMock = mockStatic(LogTest.class);
+              MockedStatic<Allure> allureMock = mockStatic(Allure.class);
+              MockedStatic<FrameworkConfigHolder> configMock = mockStatic(FrameworkConfigHolder.class)) {
+            // Given
+            FrameworkConfig frameworkConfig = mock(FrameworkConfig.class);
+            when(frameworkConfig.validationSummary()).thenReturn(true);
+            configMock.when(FrameworkConfigHolder::getFrameworkConfig).thenReturn(frameworkConfig);
+            AssertionResult<Object> passing =
+                  new AssertionResult<>(true, "Passing", "expected", "expected", false);
+
+            // When
+            service.validation(List.of(passing));
+
+            // Then
+            logTestMock.verify(() -> LogTest.validation("✔ Validation passed: 1 of 1 assertion(s)"));
+            allureMock.verify(() -> Allure.step("✔ Validation passed: 1 of 1 assertion(s)"));
+            verifyNoInteractions(superQuest);
+         }
+      }
    }
 
    @Test
@@ -5,6 +5,7 @@ import com.theairebellion.zeus.framework.config.FrameworkConfig;
 import com.theairebellion.zeus.framework.config.FrameworkConfigHolder;
 import com.theairebellion.zeus.framework.log.LogTest;
 import com.theairebellion.zeus.framework.util.AllureStepHelperTest;
+import com.theairebellion.zeus.logging.LogSegments;
 import com.theairebellion.zeus.util.reflections.ReflectionUtil;
 import org.aeonbits.owner.ConfigCache;
 import org.apache.logging.log4j.ThreadContext;
@@ -28,6 +29,7 @@ import static org.mockito.Mockito.*;
 class PrologueTest {
 
     private static final String TEST_NAME = "testName";
+    private static final String TEST_ID = "[engine:junit-jupiter]/[method:unknown()]";
     private static final String DEFAULT_DISPLAY_NAME = "DefaultDisplayName";
     private static final String TEST_DISPLAY_NAME = "TestDisplayName";
 
@@ -49,6 +51,7 @@ class PrologueTest {
             when(context.getTestClass()).thenReturn(Optional.empty());
             when(context.getTestMethod()).thenReturn(Optional.empty());
             when(context.getDisplayName()).thenReturn(DEFAULT_DISPLAY_NAME);
+            when(context.getUniqueId()).thenReturn(TEST_ID);
 
             // Act & Assert
             try (MockedStatic<ReflectionUtil> mockedReflectionUtil = mockStatic(ReflectionUtil.class);
@@ -77,6 +80,8 @@ class PrologueTest {
 
                 // Verify start time is still stored
                 verify(store).put(eq(START_TIME), anyLong());
+            } finally {
+                LogSegments.release(TEST_ID);
             }
         }
     }
@@ -34,9 +34,6 @@ class LogTestTest {
     static final String VALIDATION_MESSAGE = "validation message";
     static final String EXTENDED_MESSAGE = "extended message";
 
-    static final String EXTENDED_LOGGING = "extended.logging";
-    static final String TRUE = "true";
-
     static final String ARG_1 = "arg1";
     static final String ARG_2 = "arg2";
     static final String ARG_3 = "arg3";
@@ -54,14 +51,11 @@ class LogTestTest {
     @BeforeEach
     void setUp() throws Exception {
         clearLogTestInstance();
-        clearExtendedLogging();
     }
 
     @AfterEach
     void tearDown() throws Exception {
         clearLogTestInstance();
-        clearExtendedLogging();
-        System.clearProperty(EXTENDED_LOGGING);
     }
 
     @Test
@@ -181,10 +175,11 @@ class LogTestTest {
     @Test
     @DisplayName("Test extended log method when disabled")
     void testExtendedLogDisabled() {
-        try (MockedStatic<LogZeus> mockedZeus = Mockito.mockStatic(LogZeus.class)) {
+        try (MockedStatic<LogZeus> mockedZeus = Mockito.mockStatic(LogZeus.class);
+             MockedStatic<LogCore> mockedCore = Mockito.mockStatic(LogCore.class, Mockito.CALLS_REAL_METHODS)) {
             // Given: Mock logger and marker are setup, and extended logging is disabled
             setupLoggerMocks(mockedZeus, mockLogger, mockMarker);
-            System.clearProperty(EXTENDED_LOGGING);
+            mockedCore.when(LogCore::isExtendedEnabled).thenReturn(false);
             Object[] args = {ARG_8, 800};
 
             // When: extended log is called
@@ -203,10 +198,11 @@ class LogTestTest {
     @Test
     @DisplayName("Test extended log method when enabled")
     void testExtendedLogEnabled() {
-        try (MockedStatic<LogZeus> mockedZeus = Mockito.mockStatic(LogZeus.class)) {
+        try (MockedStatic<LogZeus> mockedZeus = Mockito.mockStatic(LogZeus.class);
+             MockedStatic<LogCore> mockedCore = Mockito.mockStatic(LogCore.class, Mockito.CALLS_REAL_METHODS)) {
             // Given: Mock logger and marker are setup, extended logging is enabled, and EXTENDED level exists
             setupLoggerMocks(mockedZeus, mockLogger, mockMarker);
-            System.setProperty(EXTENDED_LOGGING, TRUE);
+            mockedCore.when(LogCore::isExtendedEnabled).thenReturn(true);
             Object[] args = {ARG_8, 800};
             Level extendedLevel = Level.forName("EXTENDED", 450);
 
@@ -225,12 +221,6 @@ class LogTestTest {
         instanceField.set(null, null);
     }
 
-    private void clearExtendedLogging() throws Exception {
-        Field extendedField = LogCore.class.getDeclaredField("extendedLogging");
-        extendedField.setAccessible(true);
-        extendedField.set(null, null);
-    }
-
     private void setupLoggerMocks(MockedStatic<LogZeus> mockedZeus, Logger mockLogger, Marker mockMarker) {
         mockedZeus.when(() -> LogZeus.getLogger("Zeus.TEST")).thenReturn(mockLogger);
         mockedZeus.when(() -> LogZeus.registerMarker("TEST")).thenReturn(mockMarker);
@@ -59,7 +59,7 @@ class QuestFactoryTest {
 
             verify(mockDecorator).setQuest(any(SuperQuest.class));
             verify(mockDecorator).postQuestSetupInitialization();
-            logMock.verify(() -> LogTest.extended(anyString(), any()), times(1));
+            logMock.verify(() -> LogTest.extended(anyString(), (Object) any()), times(1));
         }
     }
 
@@ -110,7 +110,7 @@ class QuestFactoryTest {
             verify(decorator2).setQuest(any(SuperQuest.class));
             verify(decorator2).postQuestSetupInitialization();
 
-            logMock.verify(() -> LogTest.extended(anyString(), any()), times(2));
+            logMock.verify(() -> LogTest.extended(anyString(), (Object) any()), times(2));
         }
     }
 
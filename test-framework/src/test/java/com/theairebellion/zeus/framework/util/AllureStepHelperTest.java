@@ -5,6 +5,7 @@ import com.theairebellion.zeus.config.PropertyConfig;
 import com.theairebellion.zeus.framework.config.FrameworkConfig;
 import com.theairebellion.zeus.framework.config.FrameworkConfigHolder;
 import com.theairebellion.zeus.framework.log.LogTest;
+import com.theairebellion.zeus.logging.LogSegments;
 import com.theairebellion.zeus.util.reflections.ReflectionUtil;
 import io.qameta.allure.Allure;
 import org.aeonbits.owner.Config;
@@ -23,8 +24,6 @@ import java.io.*;
 import java.lang.annotation.*;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.*;
 
 import static com.theairebellion.zeus.framework.storage.StoreKeys.HTML;
@@ -158,10 +157,11 @@ public class AllureStepHelperTest {
     void shouldAttachFilteredLogsToAllureWhenTestNameProvided() {
         // Given
         String testName = "testScenario";
+        String testId = "[engine:junit-jupiter]/[method:testScenario()]";
 
         // When
         try (MockedStatic<Allure> mockedAllure = mockStatic(Allure.class)) {
-            AllureStepHelper.attachFilteredLogsToAllure(testName);
+            AllureStepHelper.attachFilteredLogsToAllure(testName, testId);
 
             // Then
             mockedAllure.verify(() ->
@@ -176,7 +176,7 @@ public class AllureStepHelperTest {
     void shouldAttachMessageWhenTestNameIsNull() {
         // When
         try (MockedStatic<Allure> mockedAllure = mockStatic(Allure.class)) {
-            AllureStepHelper.attachFilteredLogsToAllure(null);
+            AllureStepHelper.attachFilteredLogsToAllure(null, null);
 
             // Then
             mockedAllure.verify(() ->
@@ -196,7 +196,7 @@ public class AllureStepHelperTest {
     void shouldAttachMessageWhenTestNameIsEmpty() {
         // When
         try (MockedStatic<Allure> mockedAllure = mockStatic(Allure.class)) {
-            AllureStepHelper.attachFilteredLogsToAllure("");
+            AllureStepHelper.attachFilteredLogsToAllure("", null);
 
             // Then
             mockedAllure.verify(() ->
@@ -216,11 +216,12 @@ public class AllureStepHelperTest {
     void shouldAttachFallbackMessageWhenNoLogsAreFound() {
         // Given
         String testName = "nonExistentScenario";
+        String testId = "[engine:junit-jupiter]/[method:nonExistentScenario()]";
         System.clearProperty("logFileName");
 
         // When
         try (MockedStatic<Allure> mockedAllure = mockStatic(Allure.class)) {
-            AllureStepHelper.attachFilteredLogsToAllure(testName);
+            AllureStepHelper.attachFilteredLogsToAllure(testName, testId);
 
             // Then
             mockedAllure.verify(() ->
@@ -236,25 +237,26 @@ public class AllureStepHelperTest {
     }
 
     @Test
-    @DisplayName("Should attach only matching log lines when logs exist for the test")
-    void shouldAttachOnlyMatchingLogLines() throws IOException {
+    @DisplayName("Should attach only the log segment captured for the test")
+    void shouldAttachOnlyMatchingLogLines() {
         // Given
         String testName = "myScenario";
+        String testId = "[engine:junit-jupiter]/[method:myScenario()]";
+        String otherTestId = "[engine:junit-jupiter]/[method:someOtherScenario()]";
         String testIdentifier = "[scenario=" + testName + "]";
         String matchingLine1 = testIdentifier + " Log line 1";
         String matchingLine2 = testIdentifier + " Log line 2";
 
-        Path tempLogFile = Files.createTempFile("logfile", ".log");
-        Files.write(tempLogFile, List.of(
-                "[scenario=someOtherScenario] Not related log",
-                matchingLine1,
-                matchingLine2
-        ));
-        System.setProperty("logFileName", tempLogFile.toAbsolutePath().toString());
+        LogSegments.open(testId);
+        LogSegments.open(otherTestId);
+        LogSegments.append(otherTestId, "[scenario=someOtherScenario] Not related log"
+                + System.lineSeparator());
+        LogSegments.append(testId, matchingLine1 + System.lineSeparator());
+        LogSegments.append(testId, matchingLine2 + System.lineSeparator());
 
         // When
         try (MockedStatic<Allure> mockedAllure = mockStatic(Allure.class)) {
-            AllureStepHelper.attachFilteredLogsToAllure(testName);
+            AllureStepHelper.attachFilteredLogsToAllure(testName, testId);
 
             // Then
             String expectedAttachment = matchingLine1 + System.lineSeparator() + matchingLine2;
@@ -268,9 +270,27 @@ public class AllureStepHelperTest {
                     )
             );
         } finally {
-            Files.deleteIfExists(tempLogFile);
+            LogSegments.release(otherTestId);
         }
     }
+
+    @Test
+    @DisplayName("Should release the captured log segment once it is attached")
+    void shouldReleaseLogSegmentAfterAttaching() {
+        // Given
+        String testName = "releasedScenario";
+        String testId = "[engine:junit-jupiter]/[method:releasedScenario()]";
+        LogSegments.open(testId);
+        LogSegments.append(testId, "[scenario=releasedScenario] Log line" + System.lineSeparator());
+
+        // When
+        try (MockedStatic<Allure> ignored = mockStatic(Allure.class)) {
+            AllureStepHelper.attachFilteredLogsToAllure(testName, testId);
+        }
+
+        // Then
+        assertTrue(LogSegments.release(testId).isEmpty(), "Segment should be removed after attaching");
+    }
     //attachFilteredLogsToAllure - END
 
 
@@ -280,6 +300,7 @@ public class AllureStepHelperTest {
     void shouldLogSuccessOutcomeWithoutException() {
         // Given
         String testName = "testScenario";
+        String testId = "[engine:junit-jupiter]/[method:testScenario()]";
         long durationInSeconds = 5;
 
         // When
@@ -299,6 +320,7 @@ public class AllureStepHelperTest {
     void shouldLogFailedOutcomeWithException() {
         // Given
         String testName = "testScenario";
+        String testId = "[engine:junit-jupiter]/[method:testScenario()]";
         long durationInSeconds = 5;
         Throwable throwable = new RuntimeException("Test failed");
 
@@ -410,6 +432,8 @@ public class AllureStepHelperTest {
         when(mockContext.getTestMethod())
                 .thenReturn(Optional.of(AllureStepHelperTest.class.getDeclaredMethod("shouldSetAllureHtmlDescriptionFromContext")));
         when(mockContext.getStore(ExtensionContext.Namespace.GLOBAL)).thenReturn(mockStore);
+        String testId = "[engine:junit-jupiter]/[method:shouldSetAllureHtmlDescriptionFromContext()]";
+        when(mockContext.getUniqueId()).thenReturn(testId);
 
         // When
         try (MockedStatic<ThreadContext> mockedThreadContext = mockStatic(ThreadContext.class)) {
@@ -420,6 +444,8 @@ public class AllureStepHelperTest {
                             ThreadContext.put(eq("testName"), eq("AllureStepHelperTest.shouldSetAllureHtmlDescriptionFromContext")),
                     times(1)
             );
+            mockedThreadContext.verify(() -> ThreadContext.put(LogSegments.CONTEXT_KEY, testId), times(1));
+            assertTrue(LogSegments.release(testId).isPresent(), "A log segment should be opened for the test");
         }
     }
     //setupTestContext - END
@@ -299,7 +299,7 @@ public class InsertionServiceElementImplTest {
 
             // The final line in insertData() => LogUI.info("Finished data insertion for ...")
             logUIMock.verify(() ->
-                  LogUi.info(Mockito.contains("Finished data insertion"), any())
+                  LogUi.info(Mockito.contains("Finished data insertion"), (Object) any())
             );
          }
       }
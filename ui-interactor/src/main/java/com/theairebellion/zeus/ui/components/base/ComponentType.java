@@ -1,5 +1,7 @@
 package com.theairebellion.zeus.ui.components.base;
 
+import com.theairebellion.zeus.util.reflections.index.IndexedType;
+
 /**
  * Represents a UI component type.
  *
@@ -11,6 +13,7 @@ package com.theairebellion.zeus.ui.components.base;
  *
  * @author Cyborg Code Syndicate 💍👨💻
  */
+@IndexedType
 public interface ComponentType {
 
    /**
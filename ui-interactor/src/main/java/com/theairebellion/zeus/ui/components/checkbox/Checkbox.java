@@ -2,6 +2,7 @@ package com.theairebellion.zeus.ui.components.checkbox;
 
 import com.theairebellion.zeus.ui.selenium.smart.SmartWebElement;
 import com.theairebellion.zeus.ui.util.strategy.Strategy;
+import com.theairebellion.zeus.util.reflections.index.IndexedType;
 import java.util.List;
 import org.openqa.selenium.By;
 
@@ -13,6 +14,7 @@ import org.openqa.selenium.By;
  *
  * @author Cyborg Code Syndicate 💍👨💻
  */
+@IndexedType
 public interface Checkbox {
 
    /**
@@ -32,6 +32,7 @@ import com.theairebellion.zeus.ui.components.toggle.Toggle;
 import com.theairebellion.zeus.ui.components.toggle.ToggleComponentType;
 import com.theairebellion.zeus.ui.log.LogUi;
 import com.theairebellion.zeus.ui.selenium.smart.SmartWebDriver;
+import com.theairebellion.zeus.util.reflections.ClasspathScanner;
 import com.theairebellion.zeus.util.reflections.ReflectionUtil;
 import java.lang.reflect.InvocationTargetException;
 import java.util.List;
@@ -221,7 +222,8 @@ public class ComponentFactory {
     *
     * <p>The method scans both the user's project package and the framework package
     * for classes that implement the given interface and are annotated
-    * with {@link ImplementationOfType} matching the provided {@code componentType}.
+    * with {@link ImplementationOfType} matching the provided {@code componentType}. Both packages are
+    * covered by one shared {@link ClasspathScanner} bootstrap scan.
     *
     * @param interfaceType  The class object representing the component interface (e.g. {@code Input.class}).
     * @param componentType  The enum-based type identifying the component variant.
@@ -233,6 +235,7 @@ public class ComponentFactory {
     */
    private static <T> T getComponent(Class<T> interfaceType, ComponentType componentType, String projectPackage,
                                      SmartWebDriver smartWebDriver) {
+      ClasspathScanner.bootstrap(projectPackage, FRAMEWORK_PACKAGE);
       List<Class<? extends T>> implementations = ReflectionUtil.findImplementationsOfInterface(interfaceType,
             projectPackage);
       LogUi.debug("Found {} classes implementing {} in package {}.",
@@ -2,6 +2,7 @@ package com.theairebellion.zeus.ui.components.input;
 
 import com.theairebellion.zeus.ui.components.table.filters.FilterStrategy;
 import com.theairebellion.zeus.ui.selenium.smart.SmartWebElement;
+import com.theairebellion.zeus.util.reflections.index.IndexedType;
 import org.openqa.selenium.By;
 
 /**
@@ -12,6 +13,7 @@ import org.openqa.selenium.By;
  *
  * @author Cyborg Code Syndicate 💍👨💻
  */
+@IndexedType
 public interface Input {
 
    /**
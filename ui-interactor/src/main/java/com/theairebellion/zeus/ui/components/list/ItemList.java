@@ -2,6 +2,7 @@ package com.theairebellion.zeus.ui.components.list;
 
 import com.theairebellion.zeus.ui.selenium.smart.SmartWebElement;
 import com.theairebellion.zeus.ui.util.strategy.Strategy;
+import com.theairebellion.zeus.util.reflections.index.IndexedType;
 import java.util.List;
 import org.openqa.selenium.By;
 
@@ -14,6 +15,7 @@ import org.openqa.selenium.By;
  *
  * @author Cyborg Code Syndicate 💍👨💻
  */
+@IndexedType
 public interface ItemList {
 
    /**
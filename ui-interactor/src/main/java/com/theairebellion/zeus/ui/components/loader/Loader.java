@@ -1,6 +1,7 @@
 package com.theairebellion.zeus.ui.components.loader;
 
 import com.theairebellion.zeus.ui.selenium.smart.SmartWebElement;
+import com.theairebellion.zeus.util.reflections.index.IndexedType;
 import org.openqa.selenium.By;
 
 /**
@@ -14,6 +15,7 @@ import org.openqa.selenium.By;
  *
  * @author Cyborg Code Syndicate 💍👨💻
  */
+@IndexedType
 public interface Loader {
 
    /**
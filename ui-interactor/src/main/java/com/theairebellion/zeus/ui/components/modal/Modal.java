@@ -1,6 +1,7 @@
 package com.theairebellion.zeus.ui.components.modal;
 
 import com.theairebellion.zeus.ui.selenium.smart.SmartWebElement;
+import com.theairebellion.zeus.util.reflections.index.IndexedType;
 import org.openqa.selenium.By;
 
 /**
@@ -10,6 +11,7 @@ import org.openqa.selenium.By;
  *
  * @author Cyborg Code Syndicate 💍👨💻
  */
+@IndexedType
 public interface Modal {
 
    /**
@@ -3,6 +3,7 @@ package com.theairebellion.zeus.ui.components.table.service;
 import com.theairebellion.zeus.ui.components.table.base.TableField;
 import com.theairebellion.zeus.ui.components.table.filters.FilterStrategy;
 import com.theairebellion.zeus.ui.components.table.sort.SortingStrategy;
+import com.theairebellion.zeus.util.reflections.index.IndexedType;
 import java.util.List;
 
 /**
@@ -16,6 +17,7 @@ import java.util.List;
  *
  * @author Cyborg Code Syndicate 💍👨💻
  */
+@IndexedType
 public interface Table {
 
    /**
@@ -1,5 +1,6 @@
 package com.theairebellion.zeus.ui.selenium.logging;
 
+import com.theairebellion.zeus.logging.LogCore;
 import com.theairebellion.zeus.ui.log.LogUi;
 import com.theairebellion.zeus.ui.selenium.enums.WebElementAction;
 import com.theairebellion.zeus.ui.selenium.helper.LocatorParser;
@@ -18,6 +19,8 @@ import org.openqa.selenium.WebElement;
  * Provides logging functions for exception handling during Selenium WebDriver interactions.
  * This class logs detailed information for various exceptions encountered while performing
  * actions such as finding elements, clicking, sending keys, and submitting forms.
+ * All details are written as extended logs, so nothing is collected from the browser unless
+ * extended logging is enabled.
  *
  * @author Cyborg Code Syndicate 💍👨💻
  */
@@ -42,6 +45,9 @@ public class LoggingFunctions {
     */
    public static void logFindElementFromRootNoSuchElementException(final Object target, final WebElementAction action,
          final Object[] args, final InvocationTargetException e) {
+      if (!LogCore.isExtendedEnabled()) {
+         return;
+      }
       By locator = LocatorParser.extractLocator(args);
       Throwable cause = e.getCause();
       WebDriver driver = (WebDriver) target;
@@ -64,6 +70,9 @@ public class LoggingFunctions {
     */
    public static void logNoSuchElementException(final Object target, final WebElementAction action,
          final Object[] args, final InvocationTargetException e) {
+      if (!LogCore.isExtendedEnabled()) {
+         return;
+      }
       Throwable cause = e.getCause();
       By locator = LocatorParser.extractLocator(args);
       WebElement element = target instanceof WebElement we ? we : null;
@@ -104,6 +113,9 @@ public class LoggingFunctions {
     */
    public static void logElementNotInteractableException(final Object target, final WebElementAction action,
          final Object[] args, final InvocationTargetException e) {
+      if (!LogCore.isExtendedEnabled()) {
+         return;
+      }
       Throwable cause = e.getCause();
       WebElement element = target instanceof WebElement we ? we : null;
       if (element == null) {
@@ -132,6 +144,9 @@ public class LoggingFunctions {
     */
    public static void logClickInvalidSelectorException(final Object target, final WebElementAction action,
          final Object[] args, final InvocationTargetException e) {
+      if (!LogCore.isExtendedEnabled()) {
+         return;
+      }
       By locator = LocatorParser.extractLocator(args);
       Throwable cause = e.getCause();
       String additionalInfo = String.format("Invalid selector while clicking element. Malformed locator: [%s].",
@@ -149,6 +164,9 @@ public class LoggingFunctions {
     */
    public static void logElementClickInterceptedException(final Object target, final WebElementAction action,
          final Object[] args, final InvocationTargetException e) {
+      if (!LogCore.isExtendedEnabled()) {
+         return;
+      }
       Throwable cause = e.getCause();
       WebElement element = null;
       if (target instanceof WebElement webElement) {
@@ -179,6 +197,9 @@ public class LoggingFunctions {
     */
    public static void logClickTimeoutException(final Object target, final WebElementAction action,
          final Object[] args, final InvocationTargetException e) {
+      if (!LogCore.isExtendedEnabled()) {
+         return;
+      }
       Throwable cause = e.getCause();
       By locator = LocatorParser.extractLocator(args);
       long timeout = 0L;
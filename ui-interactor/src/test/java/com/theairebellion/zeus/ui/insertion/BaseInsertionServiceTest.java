@@ -371,7 +371,7 @@ public class BaseInsertionServiceTest {
          try (var mockedStatic = mockStatic(LogUi.class)) {
             service.insertData(dto);
             // Verify that LogUi.info was called at least once.
-            mockedStatic.verify(() -> LogUi.info(anyString(), any()));
+            mockedStatic.verify(() -> LogUi.info(anyString(), (Object) any()));
          }
       }
    }
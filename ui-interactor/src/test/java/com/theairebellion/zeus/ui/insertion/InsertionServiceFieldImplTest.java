@@ -333,7 +333,7 @@ public class InsertionServiceFieldImplTest {
             insertionService.insertData(dto);
 
             // The final line in insertData() logs "Finished data insertion..."
-            logUIMock.verify(() -> LogUi.info(Mockito.contains("Finished data insertion"), any()));
+            logUIMock.verify(() -> LogUi.info(Mockito.contains("Finished data insertion"), (Object) any()));
          }
       }
    }
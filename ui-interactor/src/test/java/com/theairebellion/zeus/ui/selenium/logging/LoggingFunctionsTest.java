@@ -1,10 +1,12 @@
 package com.theairebellion.zeus.ui.selenium.logging;
 
+import com.theairebellion.zeus.logging.LogCore;
 import com.theairebellion.zeus.ui.log.LogUi;
 import com.theairebellion.zeus.ui.selenium.enums.WebElementAction;
 import com.theairebellion.zeus.ui.selenium.helper.LocatorParser;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
 import org.openqa.selenium.By;
 import org.openqa.selenium.ElementClickInterceptedException;
 import org.openqa.selenium.ElementNotInteractableException;
@@ -27,8 +30,11 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.withSettings;
 
 @ExtendWith(MockitoExtension.class)
 class LoggingFunctionsTest {
@@ -45,9 +51,15 @@ class LoggingFunctionsTest {
    private InvalidSelectorException invalidSelectorException;
    private ElementClickInterceptedException elementClickInterceptedException;
    private TimeoutException timeoutException;
+   private MockedStatic<LogCore> logCoreMock;
 
    @BeforeEach
    void setUp() {
+      // Details are only collected while extended logging is enabled
+      logCoreMock = mockStatic(LogCore.class,
+            withSettings().defaultAnswer(CALLS_REAL_METHODS).strictness(Strictness.LENIENT));
+      logCoreMock.when(LogCore::isExtendedEnabled).thenReturn(true);
+
       // Set up common exception objects
       noSuchElementException = new NoSuchElementException("Element not found");
       exception = new InvocationTargetException(noSuchElementException);
@@ -65,6 +77,36 @@ class LoggingFunctionsTest {
       lenient().when(element.getAttribute("innerHTML")).thenReturn("Test Element");
    }
 
+   @AfterEach
+   void tearDown() {
+      logCoreMock.close();
+   }
+
+   @Nested
+   @DisplayName("Extended logging disabled tests")
+   class ExtendedLoggingDisabledTests {
+
+      @Test
+      @DisplayName("Should skip collecting details when extended logging is disabled")
+      void shouldSkipCollectingDetailsWhenExtendedLoggingDisabled() {
+         // Given
+         logCoreMock.when(LogCore::isExtendedEnabled).thenReturn(false);
+         Object[] args = new Object[] {By.id("testId")};
+
+         try (MockedStatic<LogUi> logUIMock = mockStatic(LogUi.class)) {
+
+            // When
+            LoggingFunctions.logFindElementFromRootNoSuchElementException(driver, WebElementAction.FIND_ELEMENT, args, exception);
+            LoggingFunctions.logElementNotInteractableException(element, WebElementAction.CLICK, args, exception);
+
+            // Then
+            logUIMock.verifyNoInteractions();
+            verifyNoInteractions(driver, element);
+         }
+      }
+
+   }
+
    @Nested
    @DisplayName("logFindElementFromRootNoSuchElementException tests")
    class LogFindElementFromRootNoSuchElementExceptionTests {